@@ -26,7 +26,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfFactorize> factorize(int ctxId, String composite)
       throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.factorize", new Crypto.ParamsOfFactorize(composite), Crypto.ResultOfFactorize.class);
+    return EverSdk.sync(ctxId, "crypto.factorize", new Crypto.ParamsOfFactorize(composite), Crypto.ResultOfFactorize.class);
   }
 
   /**
@@ -39,7 +39,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfModularPower> modularPower(int ctxId, String base,
       String exponent, String modulus) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.modular_power", new Crypto.ParamsOfModularPower(base, exponent, modulus), Crypto.ResultOfModularPower.class);
+    return EverSdk.sync(ctxId, "crypto.modular_power", new Crypto.ParamsOfModularPower(base, exponent, modulus), Crypto.ResultOfModularPower.class);
   }
 
   /**
@@ -49,7 +49,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfTonCrc16> tonCrc16(int ctxId, String data) throws
       EverSdkException {
-    return EverSdk.async(ctxId, "crypto.ton_crc16", new Crypto.ParamsOfTonCrc16(data), Crypto.ResultOfTonCrc16.class);
+    return EverSdk.sync(ctxId, "crypto.ton_crc16", new Crypto.ParamsOfTonCrc16(data), Crypto.ResultOfTonCrc16.class);
   }
 
   /**
@@ -59,7 +59,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfGenerateRandomBytes> generateRandomBytes(int ctxId,
       Long length) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.generate_random_bytes", new Crypto.ParamsOfGenerateRandomBytes(length), Crypto.ResultOfGenerateRandomBytes.class);
+    return EverSdk.sync(ctxId, "crypto.generate_random_bytes", new Crypto.ParamsOfGenerateRandomBytes(length), Crypto.ResultOfGenerateRandomBytes.class);
   }
 
   /**
@@ -69,7 +69,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfConvertPublicKeyToTonSafeFormat> convertPublicKeyToTonSafeFormat(
       int ctxId, String publicKey) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.convert_public_key_to_ton_safe_format", new Crypto.ParamsOfConvertPublicKeyToTonSafeFormat(publicKey), Crypto.ResultOfConvertPublicKeyToTonSafeFormat.class);
+    return EverSdk.sync(ctxId, "crypto.convert_public_key_to_ton_safe_format", new Crypto.ParamsOfConvertPublicKeyToTonSafeFormat(publicKey), Crypto.ResultOfConvertPublicKeyToTonSafeFormat.class);
   }
 
   /**
@@ -77,7 +77,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.KeyPair> generateRandomSignKeys(int ctxId) throws
       EverSdkException {
-    return EverSdk.async(ctxId, "crypto.generate_random_sign_keys", null, Crypto.KeyPair.class);
+    return EverSdk.sync(ctxId, "crypto.generate_random_sign_keys", null, Crypto.KeyPair.class);
   }
 
   /**
@@ -88,7 +88,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfSign> sign(int ctxId, String unsigned,
       Crypto.KeyPair keys) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.sign", new Crypto.ParamsOfSign(unsigned, keys), Crypto.ResultOfSign.class);
+    return EverSdk.sync(ctxId, "crypto.sign", new Crypto.ParamsOfSign(unsigned, keys), Crypto.ResultOfSign.class);
   }
 
   /**
@@ -99,7 +99,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfVerifySignature> verifySignature(int ctxId,
       String signed, @JsonProperty("public") String publicKey) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.verify_signature", new Crypto.ParamsOfVerifySignature(signed, publicKey), Crypto.ResultOfVerifySignature.class);
+    return EverSdk.sync(ctxId, "crypto.verify_signature", new Crypto.ParamsOfVerifySignature(signed, publicKey), Crypto.ResultOfVerifySignature.class);
   }
 
   /**
@@ -109,7 +109,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfHash> sha256(int ctxId, String data) throws
       EverSdkException {
-    return EverSdk.async(ctxId, "crypto.sha256", new Crypto.ParamsOfHash(data), Crypto.ResultOfHash.class);
+    return EverSdk.sync(ctxId, "crypto.sha256", new Crypto.ParamsOfHash(data), Crypto.ResultOfHash.class);
   }
 
   /**
@@ -119,7 +119,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfHash> sha512(int ctxId, String data) throws
       EverSdkException {
-    return EverSdk.async(ctxId, "crypto.sha512", new Crypto.ParamsOfHash(data), Crypto.ResultOfHash.class);
+    return EverSdk.sync(ctxId, "crypto.sha512", new Crypto.ParamsOfHash(data), Crypto.ResultOfHash.class);
   }
 
   /**
@@ -160,7 +160,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.KeyPair> naclSignKeypairFromSecretKey(int ctxId,
       @JsonProperty("secret") String secretKey) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.nacl_sign_keypair_from_secret_key", new Crypto.ParamsOfNaclSignKeyPairFromSecret(secretKey), Crypto.KeyPair.class);
+    return EverSdk.sync(ctxId, "crypto.nacl_sign_keypair_from_secret_key", new Crypto.ParamsOfNaclSignKeyPairFromSecret(secretKey), Crypto.KeyPair.class);
   }
 
   /**
@@ -171,7 +171,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfNaclSign> naclSign(int ctxId, String unsigned,
       @JsonProperty("secret") String secretKey) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.nacl_sign", new Crypto.ParamsOfNaclSign(unsigned, secretKey), Crypto.ResultOfNaclSign.class);
+    return EverSdk.sync(ctxId, "crypto.nacl_sign", new Crypto.ParamsOfNaclSign(unsigned, secretKey), Crypto.ResultOfNaclSign.class);
   }
 
   /**
@@ -185,7 +185,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfNaclSignOpen> naclSignOpen(int ctxId,
       String signed, @JsonProperty("public") String publicKey) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.nacl_sign_open", new Crypto.ParamsOfNaclSignOpen(signed, publicKey), Crypto.ResultOfNaclSignOpen.class);
+    return EverSdk.sync(ctxId, "crypto.nacl_sign_open", new Crypto.ParamsOfNaclSignOpen(signed, publicKey), Crypto.ResultOfNaclSignOpen.class);
   }
 
   /**
@@ -197,7 +197,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfNaclSignDetached> naclSignDetached(int ctxId,
       String unsigned, @JsonProperty("secret") String secretKey) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.nacl_sign_detached", new Crypto.ParamsOfNaclSign(unsigned, secretKey), Crypto.ResultOfNaclSignDetached.class);
+    return EverSdk.sync(ctxId, "crypto.nacl_sign_detached", new Crypto.ParamsOfNaclSign(unsigned, secretKey), Crypto.ResultOfNaclSignDetached.class);
   }
 
   /**
@@ -210,7 +210,7 @@ public final class Crypto {
   public static CompletableFuture<Crypto.ResultOfNaclSignDetachedVerify> naclSignDetachedVerify(
       int ctxId, String unsigned, String signature, @JsonProperty("public") String publicKey) throws
       EverSdkException {
-    return EverSdk.async(ctxId, "crypto.nacl_sign_detached_verify", new Crypto.ParamsOfNaclSignDetachedVerify(unsigned, signature, publicKey), Crypto.ResultOfNaclSignDetachedVerify.class);
+    return EverSdk.sync(ctxId, "crypto.nacl_sign_detached_verify", new Crypto.ParamsOfNaclSignDetachedVerify(unsigned, signature, publicKey), Crypto.ResultOfNaclSignDetachedVerify.class);
   }
 
   /**
@@ -218,7 +218,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.KeyPair> naclBoxKeypair(int ctxId) throws
       EverSdkException {
-    return EverSdk.async(ctxId, "crypto.nacl_box_keypair", null, Crypto.KeyPair.class);
+    return EverSdk.sync(ctxId, "crypto.nacl_box_keypair", null, Crypto.KeyPair.class);
   }
 
   /**
@@ -228,7 +228,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.KeyPair> naclBoxKeypairFromSecretKey(int ctxId,
       @JsonProperty("secret") String secretKey) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.nacl_box_keypair_from_secret_key", new Crypto.ParamsOfNaclBoxKeyPairFromSecret(secretKey), Crypto.KeyPair.class);
+    return EverSdk.sync(ctxId, "crypto.nacl_box_keypair_from_secret_key", new Crypto.ParamsOfNaclBoxKeyPairFromSecret(secretKey), Crypto.KeyPair.class);
   }
 
   /**
@@ -243,7 +243,7 @@ public final class Crypto {
   public static CompletableFuture<Crypto.ResultOfNaclBox> naclBox(int ctxId, String decrypted,
       String nonce, String theirPublic, @JsonProperty("secret") String secretKey) throws
       EverSdkException {
-    return EverSdk.async(ctxId, "crypto.nacl_box", new Crypto.ParamsOfNaclBox(decrypted, nonce, theirPublic, secretKey), Crypto.ResultOfNaclBox.class);
+    return EverSdk.sync(ctxId, "crypto.nacl_box", new Crypto.ParamsOfNaclBox(decrypted, nonce, theirPublic, secretKey), Crypto.ResultOfNaclBox.class);
   }
 
   /**
@@ -257,7 +257,7 @@ public final class Crypto {
   public static CompletableFuture<Crypto.ResultOfNaclBoxOpen> naclBoxOpen(int ctxId,
       String encrypted, String nonce, String theirPublic, @JsonProperty("secret") String secretKey)
       throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.nacl_box_open", new Crypto.ParamsOfNaclBoxOpen(encrypted, nonce, theirPublic, secretKey), Crypto.ResultOfNaclBoxOpen.class);
+    return EverSdk.sync(ctxId, "crypto.nacl_box_open", new Crypto.ParamsOfNaclBoxOpen(encrypted, nonce, theirPublic, secretKey), Crypto.ResultOfNaclBoxOpen.class);
   }
 
   /**
@@ -269,7 +269,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfNaclBox> naclSecretBox(int ctxId, String decrypted,
       String nonce, String key) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.nacl_secret_box", new Crypto.ParamsOfNaclSecretBox(decrypted, nonce, key), Crypto.ResultOfNaclBox.class);
+    return EverSdk.sync(ctxId, "crypto.nacl_secret_box", new Crypto.ParamsOfNaclSecretBox(decrypted, nonce, key), Crypto.ResultOfNaclBox.class);
   }
 
   /**
@@ -281,7 +281,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfNaclBoxOpen> naclSecretBoxOpen(int ctxId,
       String encrypted, String nonce, String key) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.nacl_secret_box_open", new Crypto.ParamsOfNaclSecretBoxOpen(encrypted, nonce, key), Crypto.ResultOfNaclBoxOpen.class);
+    return EverSdk.sync(ctxId, "crypto.nacl_secret_box_open", new Crypto.ParamsOfNaclSecretBoxOpen(encrypted, nonce, key), Crypto.ResultOfNaclBoxOpen.class);
   }
 
   /**
@@ -291,7 +291,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfMnemonicWords> mnemonicWords(int ctxId,
       Crypto.MnemonicDictionary dictionary) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.mnemonic_words", new Crypto.ParamsOfMnemonicWords(dictionary), Crypto.ResultOfMnemonicWords.class);
+    return EverSdk.sync(ctxId, "crypto.mnemonic_words", new Crypto.ParamsOfMnemonicWords(dictionary), Crypto.ResultOfMnemonicWords.class);
   }
 
   /**
@@ -302,7 +302,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfMnemonicFromRandom> mnemonicFromRandom(int ctxId,
       Crypto.MnemonicDictionary dictionary, Integer wordCount) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.mnemonic_from_random", new Crypto.ParamsOfMnemonicFromRandom(dictionary, wordCount), Crypto.ResultOfMnemonicFromRandom.class);
+    return EverSdk.sync(ctxId, "crypto.mnemonic_from_random", new Crypto.ParamsOfMnemonicFromRandom(dictionary, wordCount), Crypto.ResultOfMnemonicFromRandom.class);
   }
 
   /**
@@ -315,7 +315,7 @@ public final class Crypto {
   public static CompletableFuture<Crypto.ResultOfMnemonicFromEntropy> mnemonicFromEntropy(int ctxId,
       String entropy, Crypto.MnemonicDictionary dictionary, Integer wordCount) throws
       EverSdkException {
-    return EverSdk.async(ctxId, "crypto.mnemonic_from_entropy", new Crypto.ParamsOfMnemonicFromEntropy(entropy, dictionary, wordCount), Crypto.ResultOfMnemonicFromEntropy.class);
+    return EverSdk.sync(ctxId, "crypto.mnemonic_from_entropy", new Crypto.ParamsOfMnemonicFromEntropy(entropy, dictionary, wordCount), Crypto.ResultOfMnemonicFromEntropy.class);
   }
 
   /**
@@ -329,7 +329,7 @@ public final class Crypto {
   public static CompletableFuture<Crypto.ResultOfMnemonicVerify> mnemonicVerify(int ctxId,
       String phrase, Crypto.MnemonicDictionary dictionary, Integer wordCount) throws
       EverSdkException {
-    return EverSdk.async(ctxId, "crypto.mnemonic_verify", new Crypto.ParamsOfMnemonicVerify(phrase, dictionary, wordCount), Crypto.ResultOfMnemonicVerify.class);
+    return EverSdk.sync(ctxId, "crypto.mnemonic_verify", new Crypto.ParamsOfMnemonicVerify(phrase, dictionary, wordCount), Crypto.ResultOfMnemonicVerify.class);
   }
 
   /**
@@ -344,7 +344,7 @@ public final class Crypto {
   public static CompletableFuture<Crypto.KeyPair> mnemonicDeriveSignKeys(int ctxId, String phrase,
       String path, Crypto.MnemonicDictionary dictionary, Integer wordCount) throws
       EverSdkException {
-    return EverSdk.async(ctxId, "crypto.mnemonic_derive_sign_keys", new Crypto.ParamsOfMnemonicDeriveSignKeys(phrase, path, dictionary, wordCount), Crypto.KeyPair.class);
+    return EverSdk.sync(ctxId, "crypto.mnemonic_derive_sign_keys", new Crypto.ParamsOfMnemonicDeriveSignKeys(phrase, path, dictionary, wordCount), Crypto.KeyPair.class);
   }
 
   /**
@@ -357,7 +357,7 @@ public final class Crypto {
   public static CompletableFuture<Crypto.ResultOfHDKeyXPrvFromMnemonic> hdkeyXprvFromMnemonic(
       int ctxId, String phrase, Crypto.MnemonicDictionary dictionary, Integer wordCount) throws
       EverSdkException {
-    return EverSdk.async(ctxId, "crypto.hdkey_xprv_from_mnemonic", new Crypto.ParamsOfHDKeyXPrvFromMnemonic(phrase, dictionary, wordCount), Crypto.ResultOfHDKeyXPrvFromMnemonic.class);
+    return EverSdk.sync(ctxId, "crypto.hdkey_xprv_from_mnemonic", new Crypto.ParamsOfHDKeyXPrvFromMnemonic(phrase, dictionary, wordCount), Crypto.ResultOfHDKeyXPrvFromMnemonic.class);
   }
 
   /**
@@ -369,7 +369,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfHDKeyDeriveFromXPrv> hdkeyDeriveFromXprv(int ctxId,
       String xprv, Long childIndex, Boolean hardened) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.hdkey_derive_from_xprv", new Crypto.ParamsOfHDKeyDeriveFromXPrv(xprv, childIndex, hardened), Crypto.ResultOfHDKeyDeriveFromXPrv.class);
+    return EverSdk.sync(ctxId, "crypto.hdkey_derive_from_xprv", new Crypto.ParamsOfHDKeyDeriveFromXPrv(xprv, childIndex, hardened), Crypto.ResultOfHDKeyDeriveFromXPrv.class);
   }
 
   /**
@@ -380,7 +380,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfHDKeyDeriveFromXPrvPath> hdkeyDeriveFromXprvPath(
       int ctxId, String xprv, String path) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.hdkey_derive_from_xprv_path", new Crypto.ParamsOfHDKeyDeriveFromXPrvPath(xprv, path), Crypto.ResultOfHDKeyDeriveFromXPrvPath.class);
+    return EverSdk.sync(ctxId, "crypto.hdkey_derive_from_xprv_path", new Crypto.ParamsOfHDKeyDeriveFromXPrvPath(xprv, path), Crypto.ResultOfHDKeyDeriveFromXPrvPath.class);
   }
 
   /**
@@ -390,7 +390,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfHDKeySecretFromXPrv> hdkeySecretFromXprv(int ctxId,
       String xprv) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.hdkey_secret_from_xprv", new Crypto.ParamsOfHDKeySecretFromXPrv(xprv), Crypto.ResultOfHDKeySecretFromXPrv.class);
+    return EverSdk.sync(ctxId, "crypto.hdkey_secret_from_xprv", new Crypto.ParamsOfHDKeySecretFromXPrv(xprv), Crypto.ResultOfHDKeySecretFromXPrv.class);
   }
 
   /**
@@ -400,7 +400,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfHDKeyPublicFromXPrv> hdkeyPublicFromXprv(int ctxId,
       String xprv) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.hdkey_public_from_xprv", new Crypto.ParamsOfHDKeyPublicFromXPrv(xprv), Crypto.ResultOfHDKeyPublicFromXPrv.class);
+    return EverSdk.sync(ctxId, "crypto.hdkey_public_from_xprv", new Crypto.ParamsOfHDKeyPublicFromXPrv(xprv), Crypto.ResultOfHDKeyPublicFromXPrv.class);
   }
 
   /**
@@ -412,7 +412,7 @@ public final class Crypto {
    */
   public static CompletableFuture<Crypto.ResultOfChaCha20> chacha20(int ctxId, String data,
       String key, String nonce) throws EverSdkException {
-    return EverSdk.async(ctxId, "crypto.chacha20", new Crypto.ParamsOfChaCha20(data, key, nonce), Crypto.ResultOfChaCha20.class);
+    return EverSdk.sync(ctxId, "crypto.chacha20", new Crypto.ParamsOfChaCha20(data, key, nonce), Crypto.ResultOfChaCha20.class);
   }
 
   /**
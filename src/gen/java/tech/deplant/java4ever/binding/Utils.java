@@ -22,7 +22,7 @@ public final class Utils {
    */
   public static CompletableFuture<Utils.ResultOfConvertAddress> convertAddress(int ctxId,
       String address, Utils.AddressStringFormat outputFormat) throws EverSdkException {
-    return EverSdk.async(ctxId, "utils.convert_address", new Utils.ParamsOfConvertAddress(address, outputFormat), Utils.ResultOfConvertAddress.class);
+    return EverSdk.sync(ctxId, "utils.convert_address", new Utils.ParamsOfConvertAddress(address, outputFormat), Utils.ResultOfConvertAddress.class);
   }
 
   /**
@@ -39,7 +39,7 @@ public final class Utils {
    */
   public static CompletableFuture<Utils.ResultOfGetAddressType> getAddressType(int ctxId,
       String address) throws EverSdkException {
-    return EverSdk.async(ctxId, "utils.get_address_type", new Utils.ParamsOfGetAddressType(address), Utils.ResultOfGetAddressType.class);
+    return EverSdk.sync(ctxId, "utils.get_address_type", new Utils.ParamsOfGetAddressType(address), Utils.ResultOfGetAddressType.class);
   }
 
   /**
@@ -58,7 +58,7 @@ public final class Utils {
    */
   public static CompletableFuture<Utils.ResultOfCompressZstd> compressZstd(int ctxId,
       String uncompressed, Long level) throws EverSdkException {
-    return EverSdk.async(ctxId, "utils.compress_zstd", new Utils.ParamsOfCompressZstd(uncompressed, level), Utils.ResultOfCompressZstd.class);
+    return EverSdk.sync(ctxId, "utils.compress_zstd", new Utils.ParamsOfCompressZstd(uncompressed, level), Utils.ResultOfCompressZstd.class);
   }
 
   /**
@@ -68,7 +68,7 @@ public final class Utils {
    */
   public static CompletableFuture<Utils.ResultOfDecompressZstd> decompressZstd(int ctxId,
       String compressed) throws EverSdkException {
-    return EverSdk.async(ctxId, "utils.decompress_zstd", new Utils.ParamsOfDecompressZstd(compressed), Utils.ResultOfDecompressZstd.class);
+    return EverSdk.sync(ctxId, "utils.decompress_zstd", new Utils.ParamsOfDecompressZstd(compressed), Utils.ResultOfDecompressZstd.class);
   }
 
   public record ParamsOfCalcStorageFee(String account, Long period) {
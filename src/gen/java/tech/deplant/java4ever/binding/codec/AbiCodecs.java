@@ -0,0 +1,1107 @@
+package tech.deplant.java4ever.binding.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.lang.Boolean;
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.String;
+import java.math.BigInteger;
+import tech.deplant.java4ever.binding.Abi;
+import tech.deplant.java4ever.binding.Boc;
+
+/**
+ * Streaming Jackson codecs of {@link Abi} records.
+ */
+final class AbiCodecs {
+  static void writeAbiContract(Abi.AbiContract value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "ABI version", value.abiVersionMajor());
+    RecordCodec.writeLong(gen, "abi_version", value.abiVersion());
+    RecordCodec.writeString(gen, "version", value.version());
+    RecordCodec.writeValue(gen, provider, "header", value.header());
+    RecordCodec.writeValue(gen, provider, "functions", value.functions());
+    RecordCodec.writeValue(gen, provider, "events", value.events());
+    RecordCodec.writeValue(gen, provider, "data", value.data());
+    RecordCodec.writeValue(gen, provider, "fields", value.fields());
+    gen.writeEndObject();
+  }
+
+  static Abi.AbiContract readAbiContract(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    Long abiVersionMajor = null;
+    Long abiVersion = null;
+    String version = null;
+    String[] header = null;
+    Abi.AbiFunction[] functions = null;
+    Abi.AbiEvent[] events = null;
+    Abi.AbiData[] data = null;
+    Abi.AbiParam[] fields = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.AbiContract.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "ABI version" -> abiVersionMajor = RecordCodec.readLong(parser, context);
+        case "abi_version" -> abiVersion = RecordCodec.readLong(parser, context);
+        case "version" -> version = RecordCodec.readString(parser, context);
+        case "header" -> header = RecordCodec.readValue(parser, context, String[].class);
+        case "functions" -> functions = RecordCodec.readValue(parser, context, Abi.AbiFunction[].class);
+        case "events" -> events = RecordCodec.readValue(parser, context, Abi.AbiEvent[].class);
+        case "data" -> data = RecordCodec.readValue(parser, context, Abi.AbiData[].class);
+        case "fields" -> fields = RecordCodec.readValue(parser, context, Abi.AbiParam[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.AbiContract.class, fieldName);
+      }
+    }
+    return new Abi.AbiContract(abiVersionMajor, abiVersion, version, header, functions, events, data, fields);
+  }
+
+  static void writeAbiData(Abi.AbiData value, JsonGenerator gen, SerializerProvider provider) throws
+      IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "key", value.key());
+    RecordCodec.writeString(gen, "name", value.name());
+    RecordCodec.writeString(gen, "type", value.type());
+    RecordCodec.writeValue(gen, provider, "components", value.components());
+    gen.writeEndObject();
+  }
+
+  static Abi.AbiData readAbiData(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    Long key = null;
+    String name = null;
+    String type = null;
+    Abi.AbiParam[] components = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.AbiData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "key" -> key = RecordCodec.readLong(parser, context);
+        case "name" -> name = RecordCodec.readString(parser, context);
+        case "type" -> type = RecordCodec.readString(parser, context);
+        case "components" -> components = RecordCodec.readValue(parser, context, Abi.AbiParam[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.AbiData.class, fieldName);
+      }
+    }
+    return new Abi.AbiData(key, name, type, components);
+  }
+
+  static void writeAbiFunction(Abi.AbiFunction value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "name", value.name());
+    RecordCodec.writeValue(gen, provider, "inputs", value.inputs());
+    RecordCodec.writeValue(gen, provider, "outputs", value.outputs());
+    RecordCodec.writeString(gen, "id", value.id());
+    gen.writeEndObject();
+  }
+
+  static Abi.AbiFunction readAbiFunction(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    String name = null;
+    Abi.AbiParam[] inputs = null;
+    Abi.AbiParam[] outputs = null;
+    String id = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.AbiFunction.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "name" -> name = RecordCodec.readString(parser, context);
+        case "inputs" -> inputs = RecordCodec.readValue(parser, context, Abi.AbiParam[].class);
+        case "outputs" -> outputs = RecordCodec.readValue(parser, context, Abi.AbiParam[].class);
+        case "id" -> id = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.AbiFunction.class, fieldName);
+      }
+    }
+    return new Abi.AbiFunction(name, inputs, outputs, id);
+  }
+
+  static void writeAbiParam(Abi.AbiParam value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "name", value.name());
+    RecordCodec.writeString(gen, "type", value.type());
+    RecordCodec.writeValue(gen, provider, "components", value.components());
+    RecordCodec.writeBoolean(gen, "init", value.init());
+    gen.writeEndObject();
+  }
+
+  static Abi.AbiParam readAbiParam(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    String name = null;
+    String type = null;
+    Abi.AbiParam[] components = null;
+    Boolean init = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.AbiParam.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "name" -> name = RecordCodec.readString(parser, context);
+        case "type" -> type = RecordCodec.readString(parser, context);
+        case "components" -> components = RecordCodec.readValue(parser, context, Abi.AbiParam[].class);
+        case "init" -> init = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.AbiParam.class, fieldName);
+      }
+    }
+    return new Abi.AbiParam(name, type, components, init);
+  }
+
+  static void writeCallSet(Abi.CallSet value, JsonGenerator gen, SerializerProvider provider) throws
+      IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "function_name", value.functionName());
+    RecordCodec.writeValue(gen, provider, "header", value.header());
+    RecordCodec.writeValue(gen, provider, "input", value.input());
+    gen.writeEndObject();
+  }
+
+  static Abi.CallSet readCallSet(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    String functionName = null;
+    Abi.FunctionHeader header = null;
+    JsonNode input = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.CallSet.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "function_name" -> functionName = RecordCodec.readString(parser, context);
+        case "header" -> header = RecordCodec.readValue(parser, context, Abi.FunctionHeader.class);
+        case "input" -> input = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.CallSet.class, fieldName);
+      }
+    }
+    return new Abi.CallSet(functionName, header, input);
+  }
+
+  static void writeDecodedMessageBody(Abi.DecodedMessageBody value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "body_type", value.bodyType());
+    RecordCodec.writeString(gen, "name", value.name());
+    RecordCodec.writeValue(gen, provider, "value", value.value());
+    RecordCodec.writeValue(gen, provider, "header", value.header());
+    gen.writeEndObject();
+  }
+
+  static Abi.DecodedMessageBody readDecodedMessageBody(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.MessageBodyType bodyType = null;
+    String name = null;
+    JsonNode value = null;
+    Abi.FunctionHeader header = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.DecodedMessageBody.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "body_type" -> bodyType = RecordCodec.readValue(parser, context, Abi.MessageBodyType.class);
+        case "name" -> name = RecordCodec.readString(parser, context);
+        case "value" -> value = RecordCodec.readTree(parser, context);
+        case "header" -> header = RecordCodec.readValue(parser, context, Abi.FunctionHeader.class);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.DecodedMessageBody.class, fieldName);
+      }
+    }
+    return new Abi.DecodedMessageBody(bodyType, name, value, header);
+  }
+
+  static void writeDeploySet(Abi.DeploySet value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "tvc", value.tvc());
+    RecordCodec.writeString(gen, "code", value.code());
+    RecordCodec.writeString(gen, "state_init", value.stateInit());
+    RecordCodec.writeLong(gen, "workchain_id", value.workchainId());
+    RecordCodec.writeValue(gen, provider, "initial_data", value.initialData());
+    RecordCodec.writeString(gen, "initial_pubkey", value.initialPubkey());
+    gen.writeEndObject();
+  }
+
+  static Abi.DeploySet readDeploySet(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    String tvc = null;
+    String code = null;
+    String stateInit = null;
+    Long workchainId = null;
+    JsonNode initialData = null;
+    String initialPubkey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.DeploySet.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "tvc" -> tvc = RecordCodec.readString(parser, context);
+        case "code" -> code = RecordCodec.readString(parser, context);
+        case "state_init" -> stateInit = RecordCodec.readString(parser, context);
+        case "workchain_id" -> workchainId = RecordCodec.readLong(parser, context);
+        case "initial_data" -> initialData = RecordCodec.readTree(parser, context);
+        case "initial_pubkey" -> initialPubkey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.DeploySet.class, fieldName);
+      }
+    }
+    return new Abi.DeploySet(tvc, code, stateInit, workchainId, initialData, initialPubkey);
+  }
+
+  static void writeFunctionHeader(Abi.FunctionHeader value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "expire", value.expire());
+    RecordCodec.writeBigInteger(gen, "time", value.time());
+    RecordCodec.writeString(gen, "pubkey", value.pubkey());
+    gen.writeEndObject();
+  }
+
+  static Abi.FunctionHeader readFunctionHeader(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long expire = null;
+    BigInteger time = null;
+    String pubkey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.FunctionHeader.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "expire" -> expire = RecordCodec.readLong(parser, context);
+        case "time" -> time = RecordCodec.readBigInteger(parser, context);
+        case "pubkey" -> pubkey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.FunctionHeader.class, fieldName);
+      }
+    }
+    return new Abi.FunctionHeader(expire, time, pubkey);
+  }
+
+  static void writeParamsOfAbiEncodeBoc(Abi.ParamsOfAbiEncodeBoc value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "params", value.params());
+    RecordCodec.writeValue(gen, provider, "data", value.data());
+    RecordCodec.writeValue(gen, provider, "boc_cache", value.bocCache());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfAbiEncodeBoc readParamsOfAbiEncodeBoc(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.AbiParam[] params = null;
+    JsonNode data = null;
+    Boc.BocCacheType bocCache = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfAbiEncodeBoc.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "params" -> params = RecordCodec.readValue(parser, context, Abi.AbiParam[].class);
+        case "data" -> data = RecordCodec.readTree(parser, context);
+        case "boc_cache" -> bocCache = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfAbiEncodeBoc.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfAbiEncodeBoc(params, data, bocCache);
+  }
+
+  static void writeParamsOfAttachSignature(Abi.ParamsOfAttachSignature value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeString(gen, "public_key", value.publicKey());
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeString(gen, "signature", value.signature());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfAttachSignature readParamsOfAttachSignature(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    String publicKey = null;
+    String message = null;
+    String signature = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfAttachSignature.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "public_key" -> publicKey = RecordCodec.readString(parser, context);
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "signature" -> signature = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfAttachSignature.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfAttachSignature(abi, publicKey, message, signature);
+  }
+
+  static void writeParamsOfAttachSignatureToMessageBody(Abi.ParamsOfAttachSignatureToMessageBody value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeString(gen, "public_key", value.publicKey());
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeString(gen, "signature", value.signature());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfAttachSignatureToMessageBody readParamsOfAttachSignatureToMessageBody(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    String publicKey = null;
+    String message = null;
+    String signature = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfAttachSignatureToMessageBody.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "public_key" -> publicKey = RecordCodec.readString(parser, context);
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "signature" -> signature = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfAttachSignatureToMessageBody.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfAttachSignatureToMessageBody(abi, publicKey, message, signature);
+  }
+
+  static void writeParamsOfCalcFunctionId(Abi.ParamsOfCalcFunctionId value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeString(gen, "function_name", value.functionName());
+    RecordCodec.writeBoolean(gen, "output", value.output());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfCalcFunctionId readParamsOfCalcFunctionId(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    String functionName = null;
+    Boolean output = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfCalcFunctionId.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "function_name" -> functionName = RecordCodec.readString(parser, context);
+        case "output" -> output = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfCalcFunctionId.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfCalcFunctionId(abi, functionName, output);
+  }
+
+  static void writeParamsOfDecodeAccountData(Abi.ParamsOfDecodeAccountData value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeString(gen, "data", value.data());
+    RecordCodec.writeBoolean(gen, "allow_partial", value.allowPartial());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfDecodeAccountData readParamsOfDecodeAccountData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    String data = null;
+    Boolean allowPartial = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfDecodeAccountData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "data" -> data = RecordCodec.readString(parser, context);
+        case "allow_partial" -> allowPartial = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfDecodeAccountData.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfDecodeAccountData(abi, data, allowPartial);
+  }
+
+  static void writeParamsOfDecodeBoc(Abi.ParamsOfDecodeBoc value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "params", value.params());
+    RecordCodec.writeString(gen, "boc", value.boc());
+    RecordCodec.writeBoolean(gen, "allow_partial", value.allowPartial());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfDecodeBoc readParamsOfDecodeBoc(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.AbiParam[] params = null;
+    String boc = null;
+    Boolean allowPartial = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfDecodeBoc.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "params" -> params = RecordCodec.readValue(parser, context, Abi.AbiParam[].class);
+        case "boc" -> boc = RecordCodec.readString(parser, context);
+        case "allow_partial" -> allowPartial = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfDecodeBoc.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfDecodeBoc(params, boc, allowPartial);
+  }
+
+  static void writeParamsOfDecodeInitialData(Abi.ParamsOfDecodeInitialData value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeString(gen, "data", value.data());
+    RecordCodec.writeBoolean(gen, "allow_partial", value.allowPartial());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfDecodeInitialData readParamsOfDecodeInitialData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    String data = null;
+    Boolean allowPartial = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfDecodeInitialData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "data" -> data = RecordCodec.readString(parser, context);
+        case "allow_partial" -> allowPartial = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfDecodeInitialData.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfDecodeInitialData(abi, data, allowPartial);
+  }
+
+  static void writeParamsOfDecodeMessage(Abi.ParamsOfDecodeMessage value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeBoolean(gen, "allow_partial", value.allowPartial());
+    RecordCodec.writeString(gen, "function_name", value.functionName());
+    RecordCodec.writeValue(gen, provider, "data_layout", value.dataLayout());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfDecodeMessage readParamsOfDecodeMessage(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    String message = null;
+    Boolean allowPartial = null;
+    String functionName = null;
+    Abi.DataLayout dataLayout = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfDecodeMessage.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "allow_partial" -> allowPartial = RecordCodec.readBoolean(parser, context);
+        case "function_name" -> functionName = RecordCodec.readString(parser, context);
+        case "data_layout" -> dataLayout = RecordCodec.readValue(parser, context, Abi.DataLayout.class);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfDecodeMessage.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfDecodeMessage(abi, message, allowPartial, functionName, dataLayout);
+  }
+
+  static void writeParamsOfDecodeMessageBody(Abi.ParamsOfDecodeMessageBody value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeString(gen, "body", value.body());
+    RecordCodec.writeBoolean(gen, "is_internal", value.isInternal());
+    RecordCodec.writeBoolean(gen, "allow_partial", value.allowPartial());
+    RecordCodec.writeString(gen, "function_name", value.functionName());
+    RecordCodec.writeValue(gen, provider, "data_layout", value.dataLayout());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfDecodeMessageBody readParamsOfDecodeMessageBody(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    String body = null;
+    Boolean isInternal = null;
+    Boolean allowPartial = null;
+    String functionName = null;
+    Abi.DataLayout dataLayout = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfDecodeMessageBody.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "body" -> body = RecordCodec.readString(parser, context);
+        case "is_internal" -> isInternal = RecordCodec.readBoolean(parser, context);
+        case "allow_partial" -> allowPartial = RecordCodec.readBoolean(parser, context);
+        case "function_name" -> functionName = RecordCodec.readString(parser, context);
+        case "data_layout" -> dataLayout = RecordCodec.readValue(parser, context, Abi.DataLayout.class);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfDecodeMessageBody.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfDecodeMessageBody(abi, body, isInternal, allowPartial, functionName, dataLayout);
+  }
+
+  static void writeParamsOfEncodeAccount(Abi.ParamsOfEncodeAccount value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "state_init", value.stateInit());
+    RecordCodec.writeBigInteger(gen, "balance", value.balance());
+    RecordCodec.writeBigInteger(gen, "last_trans_lt", value.lastTransLt());
+    RecordCodec.writeLong(gen, "last_paid", value.lastPaid());
+    RecordCodec.writeValue(gen, provider, "boc_cache", value.bocCache());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfEncodeAccount readParamsOfEncodeAccount(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String stateInit = null;
+    BigInteger balance = null;
+    BigInteger lastTransLt = null;
+    Long lastPaid = null;
+    Boc.BocCacheType bocCache = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfEncodeAccount.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "state_init" -> stateInit = RecordCodec.readString(parser, context);
+        case "balance" -> balance = RecordCodec.readBigInteger(parser, context);
+        case "last_trans_lt" -> lastTransLt = RecordCodec.readBigInteger(parser, context);
+        case "last_paid" -> lastPaid = RecordCodec.readLong(parser, context);
+        case "boc_cache" -> bocCache = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfEncodeAccount.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfEncodeAccount(stateInit, balance, lastTransLt, lastPaid, bocCache);
+  }
+
+  static void writeParamsOfEncodeInitialData(Abi.ParamsOfEncodeInitialData value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeValue(gen, provider, "initial_data", value.initialData());
+    RecordCodec.writeString(gen, "initial_pubkey", value.initialPubkey());
+    RecordCodec.writeValue(gen, provider, "boc_cache", value.bocCache());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfEncodeInitialData readParamsOfEncodeInitialData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    JsonNode initialData = null;
+    String initialPubkey = null;
+    Boc.BocCacheType bocCache = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfEncodeInitialData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "initial_data" -> initialData = RecordCodec.readTree(parser, context);
+        case "initial_pubkey" -> initialPubkey = RecordCodec.readString(parser, context);
+        case "boc_cache" -> bocCache = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfEncodeInitialData.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfEncodeInitialData(abi, initialData, initialPubkey, bocCache);
+  }
+
+  static void writeParamsOfEncodeInternalMessage(Abi.ParamsOfEncodeInternalMessage value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeString(gen, "address", value.address());
+    RecordCodec.writeString(gen, "src_address", value.srcAddress());
+    RecordCodec.writeValue(gen, provider, "deploy_set", value.deploySet());
+    RecordCodec.writeValue(gen, provider, "call_set", value.callSet());
+    RecordCodec.writeString(gen, "value", value.value());
+    RecordCodec.writeBoolean(gen, "bounce", value.bounce());
+    RecordCodec.writeBoolean(gen, "enable_ihr", value.enableIhr());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfEncodeInternalMessage readParamsOfEncodeInternalMessage(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    String address = null;
+    String srcAddress = null;
+    Abi.DeploySet deploySet = null;
+    Abi.CallSet callSet = null;
+    String value = null;
+    Boolean bounce = null;
+    Boolean enableIhr = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfEncodeInternalMessage.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "address" -> address = RecordCodec.readString(parser, context);
+        case "src_address" -> srcAddress = RecordCodec.readString(parser, context);
+        case "deploy_set" -> deploySet = RecordCodec.readValue(parser, context, Abi.DeploySet.class);
+        case "call_set" -> callSet = RecordCodec.readValue(parser, context, Abi.CallSet.class);
+        case "value" -> value = RecordCodec.readString(parser, context);
+        case "bounce" -> bounce = RecordCodec.readBoolean(parser, context);
+        case "enable_ihr" -> enableIhr = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfEncodeInternalMessage.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfEncodeInternalMessage(abi, address, srcAddress, deploySet, callSet, value, bounce, enableIhr);
+  }
+
+  static void writeParamsOfEncodeMessage(Abi.ParamsOfEncodeMessage value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeString(gen, "address", value.address());
+    RecordCodec.writeValue(gen, provider, "deploy_set", value.deploySet());
+    RecordCodec.writeValue(gen, provider, "call_set", value.callSet());
+    RecordCodec.writeValue(gen, provider, "signer", value.signer());
+    RecordCodec.writeInteger(gen, "processing_try_index", value.processingTryIndex());
+    RecordCodec.writeLong(gen, "signature_id", value.signatureId());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfEncodeMessage readParamsOfEncodeMessage(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    String address = null;
+    Abi.DeploySet deploySet = null;
+    Abi.CallSet callSet = null;
+    Abi.Signer signer = null;
+    Integer processingTryIndex = null;
+    Long signatureId = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfEncodeMessage.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "address" -> address = RecordCodec.readString(parser, context);
+        case "deploy_set" -> deploySet = RecordCodec.readValue(parser, context, Abi.DeploySet.class);
+        case "call_set" -> callSet = RecordCodec.readValue(parser, context, Abi.CallSet.class);
+        case "signer" -> signer = RecordCodec.readValue(parser, context, Abi.Signer.class);
+        case "processing_try_index" -> processingTryIndex = RecordCodec.readInteger(parser, context);
+        case "signature_id" -> signatureId = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfEncodeMessage.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfEncodeMessage(abi, address, deploySet, callSet, signer, processingTryIndex, signatureId);
+  }
+
+  static void writeParamsOfEncodeMessageBody(Abi.ParamsOfEncodeMessageBody value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeValue(gen, provider, "call_set", value.callSet());
+    RecordCodec.writeBoolean(gen, "is_internal", value.isInternal());
+    RecordCodec.writeValue(gen, provider, "signer", value.signer());
+    RecordCodec.writeInteger(gen, "processing_try_index", value.processingTryIndex());
+    RecordCodec.writeString(gen, "address", value.address());
+    RecordCodec.writeLong(gen, "signature_id", value.signatureId());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfEncodeMessageBody readParamsOfEncodeMessageBody(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    Abi.CallSet callSet = null;
+    Boolean isInternal = null;
+    Abi.Signer signer = null;
+    Integer processingTryIndex = null;
+    String address = null;
+    Long signatureId = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfEncodeMessageBody.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "call_set" -> callSet = RecordCodec.readValue(parser, context, Abi.CallSet.class);
+        case "is_internal" -> isInternal = RecordCodec.readBoolean(parser, context);
+        case "signer" -> signer = RecordCodec.readValue(parser, context, Abi.Signer.class);
+        case "processing_try_index" -> processingTryIndex = RecordCodec.readInteger(parser, context);
+        case "address" -> address = RecordCodec.readString(parser, context);
+        case "signature_id" -> signatureId = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfEncodeMessageBody.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfEncodeMessageBody(abi, callSet, isInternal, signer, processingTryIndex, address, signatureId);
+  }
+
+  static void writeParamsOfGetSignatureData(Abi.ParamsOfGetSignatureData value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeLong(gen, "signature_id", value.signatureId());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfGetSignatureData readParamsOfGetSignatureData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    String message = null;
+    Long signatureId = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfGetSignatureData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "signature_id" -> signatureId = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfGetSignatureData.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfGetSignatureData(abi, message, signatureId);
+  }
+
+  static void writeParamsOfUpdateInitialData(Abi.ParamsOfUpdateInitialData value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeString(gen, "data", value.data());
+    RecordCodec.writeValue(gen, provider, "initial_data", value.initialData());
+    RecordCodec.writeString(gen, "initial_pubkey", value.initialPubkey());
+    RecordCodec.writeValue(gen, provider, "boc_cache", value.bocCache());
+    gen.writeEndObject();
+  }
+
+  static Abi.ParamsOfUpdateInitialData readParamsOfUpdateInitialData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    String data = null;
+    JsonNode initialData = null;
+    String initialPubkey = null;
+    Boc.BocCacheType bocCache = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ParamsOfUpdateInitialData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "data" -> data = RecordCodec.readString(parser, context);
+        case "initial_data" -> initialData = RecordCodec.readTree(parser, context);
+        case "initial_pubkey" -> initialPubkey = RecordCodec.readString(parser, context);
+        case "boc_cache" -> bocCache = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ParamsOfUpdateInitialData.class, fieldName);
+      }
+    }
+    return new Abi.ParamsOfUpdateInitialData(abi, data, initialData, initialPubkey, bocCache);
+  }
+
+  static void writeResultOfAbiEncodeBoc(Abi.ResultOfAbiEncodeBoc value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "boc", value.boc());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfAbiEncodeBoc readResultOfAbiEncodeBoc(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String boc = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfAbiEncodeBoc.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "boc" -> boc = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfAbiEncodeBoc.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfAbiEncodeBoc(boc);
+  }
+
+  static void writeResultOfAttachSignature(Abi.ResultOfAttachSignature value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeString(gen, "message_id", value.messageId());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfAttachSignature readResultOfAttachSignature(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String message = null;
+    String messageId = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfAttachSignature.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "message_id" -> messageId = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfAttachSignature.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfAttachSignature(message, messageId);
+  }
+
+  static void writeResultOfAttachSignatureToMessageBody(Abi.ResultOfAttachSignatureToMessageBody value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "body", value.body());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfAttachSignatureToMessageBody readResultOfAttachSignatureToMessageBody(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String body = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfAttachSignatureToMessageBody.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "body" -> body = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfAttachSignatureToMessageBody.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfAttachSignatureToMessageBody(body);
+  }
+
+  static void writeResultOfCalcFunctionId(Abi.ResultOfCalcFunctionId value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "function_id", value.functionId());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfCalcFunctionId readResultOfCalcFunctionId(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long functionId = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfCalcFunctionId.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "function_id" -> functionId = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfCalcFunctionId.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfCalcFunctionId(functionId);
+  }
+
+  static void writeResultOfDecodeAccountData(Abi.ResultOfDecodeAccountData value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "data", value.data());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfDecodeAccountData readResultOfDecodeAccountData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode data = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfDecodeAccountData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "data" -> data = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfDecodeAccountData.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfDecodeAccountData(data);
+  }
+
+  static void writeResultOfDecodeBoc(Abi.ResultOfDecodeBoc value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "data", value.data());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfDecodeBoc readResultOfDecodeBoc(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode data = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfDecodeBoc.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "data" -> data = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfDecodeBoc.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfDecodeBoc(data);
+  }
+
+  static void writeResultOfDecodeInitialData(Abi.ResultOfDecodeInitialData value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "initial_data", value.initialData());
+    RecordCodec.writeString(gen, "initial_pubkey", value.initialPubkey());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfDecodeInitialData readResultOfDecodeInitialData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode initialData = null;
+    String initialPubkey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfDecodeInitialData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "initial_data" -> initialData = RecordCodec.readTree(parser, context);
+        case "initial_pubkey" -> initialPubkey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfDecodeInitialData.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfDecodeInitialData(initialData, initialPubkey);
+  }
+
+  static void writeResultOfEncodeAccount(Abi.ResultOfEncodeAccount value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "account", value.account());
+    RecordCodec.writeString(gen, "id", value.id());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfEncodeAccount readResultOfEncodeAccount(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String account = null;
+    String id = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfEncodeAccount.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "account" -> account = RecordCodec.readString(parser, context);
+        case "id" -> id = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfEncodeAccount.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfEncodeAccount(account, id);
+  }
+
+  static void writeResultOfEncodeInitialData(Abi.ResultOfEncodeInitialData value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "data", value.data());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfEncodeInitialData readResultOfEncodeInitialData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String data = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfEncodeInitialData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "data" -> data = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfEncodeInitialData.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfEncodeInitialData(data);
+  }
+
+  static void writeResultOfEncodeInternalMessage(Abi.ResultOfEncodeInternalMessage value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeString(gen, "address", value.address());
+    RecordCodec.writeString(gen, "message_id", value.messageId());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfEncodeInternalMessage readResultOfEncodeInternalMessage(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String message = null;
+    String address = null;
+    String messageId = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfEncodeInternalMessage.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "address" -> address = RecordCodec.readString(parser, context);
+        case "message_id" -> messageId = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfEncodeInternalMessage.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfEncodeInternalMessage(message, address, messageId);
+  }
+
+  static void writeResultOfEncodeMessage(Abi.ResultOfEncodeMessage value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeString(gen, "data_to_sign", value.dataToSign());
+    RecordCodec.writeString(gen, "address", value.address());
+    RecordCodec.writeString(gen, "message_id", value.messageId());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfEncodeMessage readResultOfEncodeMessage(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String message = null;
+    String dataToSign = null;
+    String address = null;
+    String messageId = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfEncodeMessage.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "data_to_sign" -> dataToSign = RecordCodec.readString(parser, context);
+        case "address" -> address = RecordCodec.readString(parser, context);
+        case "message_id" -> messageId = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfEncodeMessage.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfEncodeMessage(message, dataToSign, address, messageId);
+  }
+
+  static void writeResultOfEncodeMessageBody(Abi.ResultOfEncodeMessageBody value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "body", value.body());
+    RecordCodec.writeString(gen, "data_to_sign", value.dataToSign());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfEncodeMessageBody readResultOfEncodeMessageBody(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String body = null;
+    String dataToSign = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfEncodeMessageBody.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "body" -> body = RecordCodec.readString(parser, context);
+        case "data_to_sign" -> dataToSign = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfEncodeMessageBody.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfEncodeMessageBody(body, dataToSign);
+  }
+
+  static void writeResultOfGetSignatureData(Abi.ResultOfGetSignatureData value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "signature", value.signature());
+    RecordCodec.writeString(gen, "unsigned", value.unsigned());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfGetSignatureData readResultOfGetSignatureData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String signature = null;
+    String unsigned = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfGetSignatureData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "signature" -> signature = RecordCodec.readString(parser, context);
+        case "unsigned" -> unsigned = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfGetSignatureData.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfGetSignatureData(signature, unsigned);
+  }
+
+  static void writeResultOfUpdateInitialData(Abi.ResultOfUpdateInitialData value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "data", value.data());
+    gen.writeEndObject();
+  }
+
+  static Abi.ResultOfUpdateInitialData readResultOfUpdateInitialData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String data = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Abi.ResultOfUpdateInitialData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "data" -> data = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Abi.ResultOfUpdateInitialData.class, fieldName);
+      }
+    }
+    return new Abi.ResultOfUpdateInitialData(data);
+  }
+
+  static void register(SimpleModule module) {
+    RecordCodec.register(module, Abi.AbiContract.class, AbiCodecs::writeAbiContract, AbiCodecs::readAbiContract);
+    RecordCodec.register(module, Abi.AbiData.class, AbiCodecs::writeAbiData, AbiCodecs::readAbiData);
+    RecordCodec.register(module, Abi.AbiFunction.class, AbiCodecs::writeAbiFunction, AbiCodecs::readAbiFunction);
+    RecordCodec.register(module, Abi.AbiParam.class, AbiCodecs::writeAbiParam, AbiCodecs::readAbiParam);
+    RecordCodec.register(module, Abi.CallSet.class, AbiCodecs::writeCallSet, AbiCodecs::readCallSet);
+    RecordCodec.register(module, Abi.DecodedMessageBody.class, AbiCodecs::writeDecodedMessageBody, AbiCodecs::readDecodedMessageBody);
+    RecordCodec.register(module, Abi.DeploySet.class, AbiCodecs::writeDeploySet, AbiCodecs::readDeploySet);
+    RecordCodec.register(module, Abi.FunctionHeader.class, AbiCodecs::writeFunctionHeader, AbiCodecs::readFunctionHeader);
+    RecordCodec.register(module, Abi.ParamsOfAbiEncodeBoc.class, AbiCodecs::writeParamsOfAbiEncodeBoc, AbiCodecs::readParamsOfAbiEncodeBoc);
+    RecordCodec.register(module, Abi.ParamsOfAttachSignature.class, AbiCodecs::writeParamsOfAttachSignature, AbiCodecs::readParamsOfAttachSignature);
+    RecordCodec.register(module, Abi.ParamsOfAttachSignatureToMessageBody.class, AbiCodecs::writeParamsOfAttachSignatureToMessageBody, AbiCodecs::readParamsOfAttachSignatureToMessageBody);
+    RecordCodec.register(module, Abi.ParamsOfCalcFunctionId.class, AbiCodecs::writeParamsOfCalcFunctionId, AbiCodecs::readParamsOfCalcFunctionId);
+    RecordCodec.register(module, Abi.ParamsOfDecodeAccountData.class, AbiCodecs::writeParamsOfDecodeAccountData, AbiCodecs::readParamsOfDecodeAccountData);
+    RecordCodec.register(module, Abi.ParamsOfDecodeBoc.class, AbiCodecs::writeParamsOfDecodeBoc, AbiCodecs::readParamsOfDecodeBoc);
+    RecordCodec.register(module, Abi.ParamsOfDecodeInitialData.class, AbiCodecs::writeParamsOfDecodeInitialData, AbiCodecs::readParamsOfDecodeInitialData);
+    RecordCodec.register(module, Abi.ParamsOfDecodeMessage.class, AbiCodecs::writeParamsOfDecodeMessage, AbiCodecs::readParamsOfDecodeMessage);
+    RecordCodec.register(module, Abi.ParamsOfDecodeMessageBody.class, AbiCodecs::writeParamsOfDecodeMessageBody, AbiCodecs::readParamsOfDecodeMessageBody);
+    RecordCodec.register(module, Abi.ParamsOfEncodeAccount.class, AbiCodecs::writeParamsOfEncodeAccount, AbiCodecs::readParamsOfEncodeAccount);
+    RecordCodec.register(module, Abi.ParamsOfEncodeInitialData.class, AbiCodecs::writeParamsOfEncodeInitialData, AbiCodecs::readParamsOfEncodeInitialData);
+    RecordCodec.register(module, Abi.ParamsOfEncodeInternalMessage.class, AbiCodecs::writeParamsOfEncodeInternalMessage, AbiCodecs::readParamsOfEncodeInternalMessage);
+    RecordCodec.register(module, Abi.ParamsOfEncodeMessage.class, AbiCodecs::writeParamsOfEncodeMessage, AbiCodecs::readParamsOfEncodeMessage);
+    RecordCodec.register(module, Abi.ParamsOfEncodeMessageBody.class, AbiCodecs::writeParamsOfEncodeMessageBody, AbiCodecs::readParamsOfEncodeMessageBody);
+    RecordCodec.register(module, Abi.ParamsOfGetSignatureData.class, AbiCodecs::writeParamsOfGetSignatureData, AbiCodecs::readParamsOfGetSignatureData);
+    RecordCodec.register(module, Abi.ParamsOfUpdateInitialData.class, AbiCodecs::writeParamsOfUpdateInitialData, AbiCodecs::readParamsOfUpdateInitialData);
+    RecordCodec.register(module, Abi.ResultOfAbiEncodeBoc.class, AbiCodecs::writeResultOfAbiEncodeBoc, AbiCodecs::readResultOfAbiEncodeBoc);
+    RecordCodec.register(module, Abi.ResultOfAttachSignature.class, AbiCodecs::writeResultOfAttachSignature, AbiCodecs::readResultOfAttachSignature);
+    RecordCodec.register(module, Abi.ResultOfAttachSignatureToMessageBody.class, AbiCodecs::writeResultOfAttachSignatureToMessageBody, AbiCodecs::readResultOfAttachSignatureToMessageBody);
+    RecordCodec.register(module, Abi.ResultOfCalcFunctionId.class, AbiCodecs::writeResultOfCalcFunctionId, AbiCodecs::readResultOfCalcFunctionId);
+    RecordCodec.register(module, Abi.ResultOfDecodeAccountData.class, AbiCodecs::writeResultOfDecodeAccountData, AbiCodecs::readResultOfDecodeAccountData);
+    RecordCodec.register(module, Abi.ResultOfDecodeBoc.class, AbiCodecs::writeResultOfDecodeBoc, AbiCodecs::readResultOfDecodeBoc);
+    RecordCodec.register(module, Abi.ResultOfDecodeInitialData.class, AbiCodecs::writeResultOfDecodeInitialData, AbiCodecs::readResultOfDecodeInitialData);
+    RecordCodec.register(module, Abi.ResultOfEncodeAccount.class, AbiCodecs::writeResultOfEncodeAccount, AbiCodecs::readResultOfEncodeAccount);
+    RecordCodec.register(module, Abi.ResultOfEncodeInitialData.class, AbiCodecs::writeResultOfEncodeInitialData, AbiCodecs::readResultOfEncodeInitialData);
+    RecordCodec.register(module, Abi.ResultOfEncodeInternalMessage.class, AbiCodecs::writeResultOfEncodeInternalMessage, AbiCodecs::readResultOfEncodeInternalMessage);
+    RecordCodec.register(module, Abi.ResultOfEncodeMessage.class, AbiCodecs::writeResultOfEncodeMessage, AbiCodecs::readResultOfEncodeMessage);
+    RecordCodec.register(module, Abi.ResultOfEncodeMessageBody.class, AbiCodecs::writeResultOfEncodeMessageBody, AbiCodecs::readResultOfEncodeMessageBody);
+    RecordCodec.register(module, Abi.ResultOfGetSignatureData.class, AbiCodecs::writeResultOfGetSignatureData, AbiCodecs::readResultOfGetSignatureData);
+    RecordCodec.register(module, Abi.ResultOfUpdateInitialData.class, AbiCodecs::writeResultOfUpdateInitialData, AbiCodecs::readResultOfUpdateInitialData);
+  }
+}
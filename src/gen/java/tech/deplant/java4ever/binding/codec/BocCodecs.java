@@ -0,0 +1,806 @@
+package tech.deplant.java4ever.binding.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.lang.Boolean;
+import java.lang.Long;
+import java.lang.String;
+import tech.deplant.java4ever.binding.Boc;
+
+/**
+ * Streaming Jackson codecs of {@link Boc} records.
+ */
+final class BocCodecs {
+  static void writeParamsOfBocCacheGet(Boc.ParamsOfBocCacheGet value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "boc_ref", value.bocRef());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfBocCacheGet readParamsOfBocCacheGet(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String bocRef = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfBocCacheGet.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "boc_ref" -> bocRef = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfBocCacheGet.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfBocCacheGet(bocRef);
+  }
+
+  static void writeParamsOfBocCacheSet(Boc.ParamsOfBocCacheSet value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "boc", value.boc());
+    RecordCodec.writeValue(gen, provider, "cache_type", value.cacheType());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfBocCacheSet readParamsOfBocCacheSet(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String boc = null;
+    Boc.BocCacheType cacheType = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfBocCacheSet.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "boc" -> boc = RecordCodec.readString(parser, context);
+        case "cache_type" -> cacheType = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfBocCacheSet.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfBocCacheSet(boc, cacheType);
+  }
+
+  static void writeParamsOfBocCacheUnpin(Boc.ParamsOfBocCacheUnpin value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "pin", value.pin());
+    RecordCodec.writeString(gen, "boc_ref", value.bocRef());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfBocCacheUnpin readParamsOfBocCacheUnpin(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String pin = null;
+    String bocRef = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfBocCacheUnpin.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "pin" -> pin = RecordCodec.readString(parser, context);
+        case "boc_ref" -> bocRef = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfBocCacheUnpin.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfBocCacheUnpin(pin, bocRef);
+  }
+
+  static void writeParamsOfDecodeStateInit(Boc.ParamsOfDecodeStateInit value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "state_init", value.stateInit());
+    RecordCodec.writeValue(gen, provider, "boc_cache", value.bocCache());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfDecodeStateInit readParamsOfDecodeStateInit(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String stateInit = null;
+    Boc.BocCacheType bocCache = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfDecodeStateInit.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "state_init" -> stateInit = RecordCodec.readString(parser, context);
+        case "boc_cache" -> bocCache = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfDecodeStateInit.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfDecodeStateInit(stateInit, bocCache);
+  }
+
+  static void writeParamsOfDecodeTvc(Boc.ParamsOfDecodeTvc value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "tvc", value.tvc());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfDecodeTvc readParamsOfDecodeTvc(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String tvc = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfDecodeTvc.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "tvc" -> tvc = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfDecodeTvc.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfDecodeTvc(tvc);
+  }
+
+  static void writeParamsOfEncodeBoc(Boc.ParamsOfEncodeBoc value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "builder", value.builder());
+    RecordCodec.writeValue(gen, provider, "boc_cache", value.bocCache());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfEncodeBoc readParamsOfEncodeBoc(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Boc.BuilderOp[] builder = null;
+    Boc.BocCacheType bocCache = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfEncodeBoc.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "builder" -> builder = RecordCodec.readValue(parser, context, Boc.BuilderOp[].class);
+        case "boc_cache" -> bocCache = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfEncodeBoc.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfEncodeBoc(builder, bocCache);
+  }
+
+  static void writeParamsOfEncodeExternalInMessage(Boc.ParamsOfEncodeExternalInMessage value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "src", value.src());
+    RecordCodec.writeString(gen, "dst", value.dst());
+    RecordCodec.writeString(gen, "init", value.init());
+    RecordCodec.writeString(gen, "body", value.body());
+    RecordCodec.writeValue(gen, provider, "boc_cache", value.bocCache());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfEncodeExternalInMessage readParamsOfEncodeExternalInMessage(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String src = null;
+    String dst = null;
+    String init = null;
+    String body = null;
+    Boc.BocCacheType bocCache = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfEncodeExternalInMessage.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "src" -> src = RecordCodec.readString(parser, context);
+        case "dst" -> dst = RecordCodec.readString(parser, context);
+        case "init" -> init = RecordCodec.readString(parser, context);
+        case "body" -> body = RecordCodec.readString(parser, context);
+        case "boc_cache" -> bocCache = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfEncodeExternalInMessage.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfEncodeExternalInMessage(src, dst, init, body, bocCache);
+  }
+
+  static void writeParamsOfEncodeStateInit(Boc.ParamsOfEncodeStateInit value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "code", value.code());
+    RecordCodec.writeString(gen, "data", value.data());
+    RecordCodec.writeString(gen, "library", value.library());
+    RecordCodec.writeBoolean(gen, "tick", value.tick());
+    RecordCodec.writeBoolean(gen, "tock", value.tock());
+    RecordCodec.writeLong(gen, "split_depth", value.splitDepth());
+    RecordCodec.writeValue(gen, provider, "boc_cache", value.bocCache());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfEncodeStateInit readParamsOfEncodeStateInit(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String code = null;
+    String data = null;
+    String library = null;
+    Boolean tick = null;
+    Boolean tock = null;
+    Long splitDepth = null;
+    Boc.BocCacheType bocCache = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfEncodeStateInit.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "code" -> code = RecordCodec.readString(parser, context);
+        case "data" -> data = RecordCodec.readString(parser, context);
+        case "library" -> library = RecordCodec.readString(parser, context);
+        case "tick" -> tick = RecordCodec.readBoolean(parser, context);
+        case "tock" -> tock = RecordCodec.readBoolean(parser, context);
+        case "split_depth" -> splitDepth = RecordCodec.readLong(parser, context);
+        case "boc_cache" -> bocCache = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfEncodeStateInit.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfEncodeStateInit(code, data, library, tick, tock, splitDepth, bocCache);
+  }
+
+  static void writeParamsOfGetBlockchainConfig(Boc.ParamsOfGetBlockchainConfig value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "block_boc", value.blockBoc());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfGetBlockchainConfig readParamsOfGetBlockchainConfig(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String blockBoc = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfGetBlockchainConfig.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "block_boc" -> blockBoc = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfGetBlockchainConfig.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfGetBlockchainConfig(blockBoc);
+  }
+
+  static void writeParamsOfGetBocDepth(Boc.ParamsOfGetBocDepth value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "boc", value.boc());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfGetBocDepth readParamsOfGetBocDepth(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String boc = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfGetBocDepth.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "boc" -> boc = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfGetBocDepth.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfGetBocDepth(boc);
+  }
+
+  static void writeParamsOfGetBocHash(Boc.ParamsOfGetBocHash value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "boc", value.boc());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfGetBocHash readParamsOfGetBocHash(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String boc = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfGetBocHash.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "boc" -> boc = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfGetBocHash.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfGetBocHash(boc);
+  }
+
+  static void writeParamsOfGetCodeFromTvc(Boc.ParamsOfGetCodeFromTvc value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "tvc", value.tvc());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfGetCodeFromTvc readParamsOfGetCodeFromTvc(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String tvc = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfGetCodeFromTvc.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "tvc" -> tvc = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfGetCodeFromTvc.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfGetCodeFromTvc(tvc);
+  }
+
+  static void writeParamsOfGetCodeSalt(Boc.ParamsOfGetCodeSalt value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "code", value.code());
+    RecordCodec.writeValue(gen, provider, "boc_cache", value.bocCache());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfGetCodeSalt readParamsOfGetCodeSalt(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String code = null;
+    Boc.BocCacheType bocCache = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfGetCodeSalt.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "code" -> code = RecordCodec.readString(parser, context);
+        case "boc_cache" -> bocCache = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfGetCodeSalt.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfGetCodeSalt(code, bocCache);
+  }
+
+  static void writeParamsOfGetCompilerVersion(Boc.ParamsOfGetCompilerVersion value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "code", value.code());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfGetCompilerVersion readParamsOfGetCompilerVersion(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String code = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfGetCompilerVersion.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "code" -> code = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfGetCompilerVersion.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfGetCompilerVersion(code);
+  }
+
+  static void writeParamsOfParse(Boc.ParamsOfParse value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "boc", value.boc());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfParse readParamsOfParse(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String boc = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfParse.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "boc" -> boc = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfParse.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfParse(boc);
+  }
+
+  static void writeParamsOfParseShardstate(Boc.ParamsOfParseShardstate value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "boc", value.boc());
+    RecordCodec.writeString(gen, "id", value.id());
+    RecordCodec.writeLong(gen, "workchain_id", value.workchainId());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfParseShardstate readParamsOfParseShardstate(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String boc = null;
+    String id = null;
+    Long workchainId = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfParseShardstate.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "boc" -> boc = RecordCodec.readString(parser, context);
+        case "id" -> id = RecordCodec.readString(parser, context);
+        case "workchain_id" -> workchainId = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfParseShardstate.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfParseShardstate(boc, id, workchainId);
+  }
+
+  static void writeParamsOfSetCodeSalt(Boc.ParamsOfSetCodeSalt value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "code", value.code());
+    RecordCodec.writeString(gen, "salt", value.salt());
+    RecordCodec.writeValue(gen, provider, "boc_cache", value.bocCache());
+    gen.writeEndObject();
+  }
+
+  static Boc.ParamsOfSetCodeSalt readParamsOfSetCodeSalt(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String code = null;
+    String salt = null;
+    Boc.BocCacheType bocCache = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ParamsOfSetCodeSalt.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "code" -> code = RecordCodec.readString(parser, context);
+        case "salt" -> salt = RecordCodec.readString(parser, context);
+        case "boc_cache" -> bocCache = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ParamsOfSetCodeSalt.class, fieldName);
+      }
+    }
+    return new Boc.ParamsOfSetCodeSalt(code, salt, bocCache);
+  }
+
+  static void writeResultOfBocCacheGet(Boc.ResultOfBocCacheGet value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "boc", value.boc());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfBocCacheGet readResultOfBocCacheGet(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String boc = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfBocCacheGet.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "boc" -> boc = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfBocCacheGet.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfBocCacheGet(boc);
+  }
+
+  static void writeResultOfBocCacheSet(Boc.ResultOfBocCacheSet value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "boc_ref", value.bocRef());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfBocCacheSet readResultOfBocCacheSet(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String bocRef = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfBocCacheSet.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "boc_ref" -> bocRef = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfBocCacheSet.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfBocCacheSet(bocRef);
+  }
+
+  static void writeResultOfDecodeStateInit(Boc.ResultOfDecodeStateInit value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "code", value.code());
+    RecordCodec.writeString(gen, "code_hash", value.codeHash());
+    RecordCodec.writeLong(gen, "code_depth", value.codeDepth());
+    RecordCodec.writeString(gen, "data", value.data());
+    RecordCodec.writeString(gen, "data_hash", value.dataHash());
+    RecordCodec.writeLong(gen, "data_depth", value.dataDepth());
+    RecordCodec.writeString(gen, "library", value.library());
+    RecordCodec.writeBoolean(gen, "tick", value.tick());
+    RecordCodec.writeBoolean(gen, "tock", value.tock());
+    RecordCodec.writeLong(gen, "split_depth", value.splitDepth());
+    RecordCodec.writeString(gen, "compiler_version", value.compilerVersion());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfDecodeStateInit readResultOfDecodeStateInit(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String code = null;
+    String codeHash = null;
+    Long codeDepth = null;
+    String data = null;
+    String dataHash = null;
+    Long dataDepth = null;
+    String library = null;
+    Boolean tick = null;
+    Boolean tock = null;
+    Long splitDepth = null;
+    String compilerVersion = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfDecodeStateInit.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "code" -> code = RecordCodec.readString(parser, context);
+        case "code_hash" -> codeHash = RecordCodec.readString(parser, context);
+        case "code_depth" -> codeDepth = RecordCodec.readLong(parser, context);
+        case "data" -> data = RecordCodec.readString(parser, context);
+        case "data_hash" -> dataHash = RecordCodec.readString(parser, context);
+        case "data_depth" -> dataDepth = RecordCodec.readLong(parser, context);
+        case "library" -> library = RecordCodec.readString(parser, context);
+        case "tick" -> tick = RecordCodec.readBoolean(parser, context);
+        case "tock" -> tock = RecordCodec.readBoolean(parser, context);
+        case "split_depth" -> splitDepth = RecordCodec.readLong(parser, context);
+        case "compiler_version" -> compilerVersion = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfDecodeStateInit.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfDecodeStateInit(code, codeHash, codeDepth, data, dataHash, dataDepth, library, tick, tock, splitDepth, compilerVersion);
+  }
+
+  static void writeResultOfDecodeTvc(Boc.ResultOfDecodeTvc value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "tvc", value.tvc());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfDecodeTvc readResultOfDecodeTvc(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Boc.Tvc tvc = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfDecodeTvc.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "tvc" -> tvc = RecordCodec.readValue(parser, context, Boc.Tvc.class);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfDecodeTvc.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfDecodeTvc(tvc);
+  }
+
+  static void writeResultOfEncodeBoc(Boc.ResultOfEncodeBoc value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "boc", value.boc());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfEncodeBoc readResultOfEncodeBoc(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String boc = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfEncodeBoc.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "boc" -> boc = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfEncodeBoc.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfEncodeBoc(boc);
+  }
+
+  static void writeResultOfEncodeExternalInMessage(Boc.ResultOfEncodeExternalInMessage value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeString(gen, "message_id", value.messageId());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfEncodeExternalInMessage readResultOfEncodeExternalInMessage(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String message = null;
+    String messageId = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfEncodeExternalInMessage.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "message_id" -> messageId = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfEncodeExternalInMessage.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfEncodeExternalInMessage(message, messageId);
+  }
+
+  static void writeResultOfEncodeStateInit(Boc.ResultOfEncodeStateInit value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "state_init", value.stateInit());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfEncodeStateInit readResultOfEncodeStateInit(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String stateInit = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfEncodeStateInit.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "state_init" -> stateInit = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfEncodeStateInit.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfEncodeStateInit(stateInit);
+  }
+
+  static void writeResultOfGetBlockchainConfig(Boc.ResultOfGetBlockchainConfig value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "config_boc", value.configBoc());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfGetBlockchainConfig readResultOfGetBlockchainConfig(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String configBoc = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfGetBlockchainConfig.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "config_boc" -> configBoc = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfGetBlockchainConfig.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfGetBlockchainConfig(configBoc);
+  }
+
+  static void writeResultOfGetBocDepth(Boc.ResultOfGetBocDepth value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "depth", value.depth());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfGetBocDepth readResultOfGetBocDepth(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long depth = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfGetBocDepth.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "depth" -> depth = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfGetBocDepth.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfGetBocDepth(depth);
+  }
+
+  static void writeResultOfGetBocHash(Boc.ResultOfGetBocHash value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "hash", value.hash());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfGetBocHash readResultOfGetBocHash(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String hash = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfGetBocHash.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "hash" -> hash = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfGetBocHash.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfGetBocHash(hash);
+  }
+
+  static void writeResultOfGetCodeFromTvc(Boc.ResultOfGetCodeFromTvc value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "code", value.code());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfGetCodeFromTvc readResultOfGetCodeFromTvc(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String code = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfGetCodeFromTvc.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "code" -> code = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfGetCodeFromTvc.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfGetCodeFromTvc(code);
+  }
+
+  static void writeResultOfGetCodeSalt(Boc.ResultOfGetCodeSalt value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "salt", value.salt());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfGetCodeSalt readResultOfGetCodeSalt(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String salt = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfGetCodeSalt.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "salt" -> salt = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfGetCodeSalt.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfGetCodeSalt(salt);
+  }
+
+  static void writeResultOfGetCompilerVersion(Boc.ResultOfGetCompilerVersion value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "version", value.version());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfGetCompilerVersion readResultOfGetCompilerVersion(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String version = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfGetCompilerVersion.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "version" -> version = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfGetCompilerVersion.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfGetCompilerVersion(version);
+  }
+
+  static void writeResultOfParse(Boc.ResultOfParse value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "parsed", value.parsed());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfParse readResultOfParse(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode parsed = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfParse.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "parsed" -> parsed = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfParse.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfParse(parsed);
+  }
+
+  static void writeResultOfSetCodeSalt(Boc.ResultOfSetCodeSalt value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "code", value.code());
+    gen.writeEndObject();
+  }
+
+  static Boc.ResultOfSetCodeSalt readResultOfSetCodeSalt(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String code = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.ResultOfSetCodeSalt.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "code" -> code = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.ResultOfSetCodeSalt.class, fieldName);
+      }
+    }
+    return new Boc.ResultOfSetCodeSalt(code);
+  }
+
+  static void writeTvcV1(Boc.TvcV1 value, JsonGenerator gen, SerializerProvider provider) throws
+      IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "code", value.code());
+    RecordCodec.writeString(gen, "description", value.description());
+    gen.writeEndObject();
+  }
+
+  static Boc.TvcV1 readTvcV1(JsonParser parser, DeserializationContext context) throws IOException {
+    String code = null;
+    String description = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Boc.TvcV1.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "code" -> code = RecordCodec.readString(parser, context);
+        case "description" -> description = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Boc.TvcV1.class, fieldName);
+      }
+    }
+    return new Boc.TvcV1(code, description);
+  }
+
+  static void register(SimpleModule module) {
+    RecordCodec.register(module, Boc.ParamsOfBocCacheGet.class, BocCodecs::writeParamsOfBocCacheGet, BocCodecs::readParamsOfBocCacheGet);
+    RecordCodec.register(module, Boc.ParamsOfBocCacheSet.class, BocCodecs::writeParamsOfBocCacheSet, BocCodecs::readParamsOfBocCacheSet);
+    RecordCodec.register(module, Boc.ParamsOfBocCacheUnpin.class, BocCodecs::writeParamsOfBocCacheUnpin, BocCodecs::readParamsOfBocCacheUnpin);
+    RecordCodec.register(module, Boc.ParamsOfDecodeStateInit.class, BocCodecs::writeParamsOfDecodeStateInit, BocCodecs::readParamsOfDecodeStateInit);
+    RecordCodec.register(module, Boc.ParamsOfDecodeTvc.class, BocCodecs::writeParamsOfDecodeTvc, BocCodecs::readParamsOfDecodeTvc);
+    RecordCodec.register(module, Boc.ParamsOfEncodeBoc.class, BocCodecs::writeParamsOfEncodeBoc, BocCodecs::readParamsOfEncodeBoc);
+    RecordCodec.register(module, Boc.ParamsOfEncodeExternalInMessage.class, BocCodecs::writeParamsOfEncodeExternalInMessage, BocCodecs::readParamsOfEncodeExternalInMessage);
+    RecordCodec.register(module, Boc.ParamsOfEncodeStateInit.class, BocCodecs::writeParamsOfEncodeStateInit, BocCodecs::readParamsOfEncodeStateInit);
+    RecordCodec.register(module, Boc.ParamsOfGetBlockchainConfig.class, BocCodecs::writeParamsOfGetBlockchainConfig, BocCodecs::readParamsOfGetBlockchainConfig);
+    RecordCodec.register(module, Boc.ParamsOfGetBocDepth.class, BocCodecs::writeParamsOfGetBocDepth, BocCodecs::readParamsOfGetBocDepth);
+    RecordCodec.register(module, Boc.ParamsOfGetBocHash.class, BocCodecs::writeParamsOfGetBocHash, BocCodecs::readParamsOfGetBocHash);
+    RecordCodec.register(module, Boc.ParamsOfGetCodeFromTvc.class, BocCodecs::writeParamsOfGetCodeFromTvc, BocCodecs::readParamsOfGetCodeFromTvc);
+    RecordCodec.register(module, Boc.ParamsOfGetCodeSalt.class, BocCodecs::writeParamsOfGetCodeSalt, BocCodecs::readParamsOfGetCodeSalt);
+    RecordCodec.register(module, Boc.ParamsOfGetCompilerVersion.class, BocCodecs::writeParamsOfGetCompilerVersion, BocCodecs::readParamsOfGetCompilerVersion);
+    RecordCodec.register(module, Boc.ParamsOfParse.class, BocCodecs::writeParamsOfParse, BocCodecs::readParamsOfParse);
+    RecordCodec.register(module, Boc.ParamsOfParseShardstate.class, BocCodecs::writeParamsOfParseShardstate, BocCodecs::readParamsOfParseShardstate);
+    RecordCodec.register(module, Boc.ParamsOfSetCodeSalt.class, BocCodecs::writeParamsOfSetCodeSalt, BocCodecs::readParamsOfSetCodeSalt);
+    RecordCodec.register(module, Boc.ResultOfBocCacheGet.class, BocCodecs::writeResultOfBocCacheGet, BocCodecs::readResultOfBocCacheGet);
+    RecordCodec.register(module, Boc.ResultOfBocCacheSet.class, BocCodecs::writeResultOfBocCacheSet, BocCodecs::readResultOfBocCacheSet);
+    RecordCodec.register(module, Boc.ResultOfDecodeStateInit.class, BocCodecs::writeResultOfDecodeStateInit, BocCodecs::readResultOfDecodeStateInit);
+    RecordCodec.register(module, Boc.ResultOfDecodeTvc.class, BocCodecs::writeResultOfDecodeTvc, BocCodecs::readResultOfDecodeTvc);
+    RecordCodec.register(module, Boc.ResultOfEncodeBoc.class, BocCodecs::writeResultOfEncodeBoc, BocCodecs::readResultOfEncodeBoc);
+    RecordCodec.register(module, Boc.ResultOfEncodeExternalInMessage.class, BocCodecs::writeResultOfEncodeExternalInMessage, BocCodecs::readResultOfEncodeExternalInMessage);
+    RecordCodec.register(module, Boc.ResultOfEncodeStateInit.class, BocCodecs::writeResultOfEncodeStateInit, BocCodecs::readResultOfEncodeStateInit);
+    RecordCodec.register(module, Boc.ResultOfGetBlockchainConfig.class, BocCodecs::writeResultOfGetBlockchainConfig, BocCodecs::readResultOfGetBlockchainConfig);
+    RecordCodec.register(module, Boc.ResultOfGetBocDepth.class, BocCodecs::writeResultOfGetBocDepth, BocCodecs::readResultOfGetBocDepth);
+    RecordCodec.register(module, Boc.ResultOfGetBocHash.class, BocCodecs::writeResultOfGetBocHash, BocCodecs::readResultOfGetBocHash);
+    RecordCodec.register(module, Boc.ResultOfGetCodeFromTvc.class, BocCodecs::writeResultOfGetCodeFromTvc, BocCodecs::readResultOfGetCodeFromTvc);
+    RecordCodec.register(module, Boc.ResultOfGetCodeSalt.class, BocCodecs::writeResultOfGetCodeSalt, BocCodecs::readResultOfGetCodeSalt);
+    RecordCodec.register(module, Boc.ResultOfGetCompilerVersion.class, BocCodecs::writeResultOfGetCompilerVersion, BocCodecs::readResultOfGetCompilerVersion);
+    RecordCodec.register(module, Boc.ResultOfParse.class, BocCodecs::writeResultOfParse, BocCodecs::readResultOfParse);
+    RecordCodec.register(module, Boc.ResultOfSetCodeSalt.class, BocCodecs::writeResultOfSetCodeSalt, BocCodecs::readResultOfSetCodeSalt);
+    RecordCodec.register(module, Boc.TvcV1.class, BocCodecs::writeTvcV1, BocCodecs::readTvcV1);
+  }
+}
@@ -0,0 +1,419 @@
+package tech.deplant.java4ever.binding.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.lang.Boolean;
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.String;
+import tech.deplant.java4ever.binding.Client;
+import tech.deplant.java4ever.binding.Crypto;
+
+/**
+ * Streaming Jackson codecs of {@link Client} records.
+ */
+final class ClientCodecs {
+  static void writeAbiConfig(Client.AbiConfig value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "workchain", value.workchain());
+    RecordCodec.writeLong(gen, "message_expiration_timeout", value.messageExpirationTimeout());
+    RecordCodec.writeLong(gen, "message_expiration_timeout_grow_factor", value.messageExpirationTimeoutGrowFactor());
+    gen.writeEndObject();
+  }
+
+  static Client.AbiConfig readAbiConfig(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    Long workchain = null;
+    Long messageExpirationTimeout = null;
+    Long messageExpirationTimeoutGrowFactor = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.AbiConfig.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "workchain" -> workchain = RecordCodec.readLong(parser, context);
+        case "message_expiration_timeout" -> messageExpirationTimeout = RecordCodec.readLong(parser, context);
+        case "message_expiration_timeout_grow_factor" -> messageExpirationTimeoutGrowFactor = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Client.AbiConfig.class, fieldName);
+      }
+    }
+    return new Client.AbiConfig(workchain, messageExpirationTimeout, messageExpirationTimeoutGrowFactor);
+  }
+
+  static void writeBindingConfig(Client.BindingConfig value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "library", value.library());
+    RecordCodec.writeString(gen, "version", value.version());
+    gen.writeEndObject();
+  }
+
+  static Client.BindingConfig readBindingConfig(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String library = null;
+    String version = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.BindingConfig.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "library" -> library = RecordCodec.readString(parser, context);
+        case "version" -> version = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Client.BindingConfig.class, fieldName);
+      }
+    }
+    return new Client.BindingConfig(library, version);
+  }
+
+  static void writeBocConfig(Client.BocConfig value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "cache_max_size", value.cacheMaxSize());
+    gen.writeEndObject();
+  }
+
+  static Client.BocConfig readBocConfig(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    Long cacheMaxSize = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.BocConfig.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "cache_max_size" -> cacheMaxSize = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Client.BocConfig.class, fieldName);
+      }
+    }
+    return new Client.BocConfig(cacheMaxSize);
+  }
+
+  static void writeBuildInfoDependency(Client.BuildInfoDependency value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "name", value.name());
+    RecordCodec.writeString(gen, "git_commit", value.gitCommit());
+    gen.writeEndObject();
+  }
+
+  static Client.BuildInfoDependency readBuildInfoDependency(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String name = null;
+    String gitCommit = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.BuildInfoDependency.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "name" -> name = RecordCodec.readString(parser, context);
+        case "git_commit" -> gitCommit = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Client.BuildInfoDependency.class, fieldName);
+      }
+    }
+    return new Client.BuildInfoDependency(name, gitCommit);
+  }
+
+  static void writeClientConfig(Client.ClientConfig value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "binding", value.binding());
+    RecordCodec.writeValue(gen, provider, "network", value.network());
+    RecordCodec.writeValue(gen, provider, "crypto", value.crypto());
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeValue(gen, provider, "boc", value.boc());
+    RecordCodec.writeValue(gen, provider, "proofs", value.proofs());
+    RecordCodec.writeString(gen, "local_storage_path", value.localStoragePath());
+    gen.writeEndObject();
+  }
+
+  static Client.ClientConfig readClientConfig(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Client.BindingConfig binding = null;
+    Client.NetworkConfig network = null;
+    Client.CryptoConfig crypto = null;
+    Client.AbiConfig abi = null;
+    Client.BocConfig boc = null;
+    Client.ProofsConfig proofs = null;
+    String localStoragePath = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.ClientConfig.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "binding" -> binding = RecordCodec.readValue(parser, context, Client.BindingConfig.class);
+        case "network" -> network = RecordCodec.readValue(parser, context, Client.NetworkConfig.class);
+        case "crypto" -> crypto = RecordCodec.readValue(parser, context, Client.CryptoConfig.class);
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Client.AbiConfig.class);
+        case "boc" -> boc = RecordCodec.readValue(parser, context, Client.BocConfig.class);
+        case "proofs" -> proofs = RecordCodec.readValue(parser, context, Client.ProofsConfig.class);
+        case "local_storage_path" -> localStoragePath = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Client.ClientConfig.class, fieldName);
+      }
+    }
+    return new Client.ClientConfig(binding, network, crypto, abi, boc, proofs, localStoragePath);
+  }
+
+  static void writeClientError(Client.ClientError value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "code", value.code());
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeValue(gen, provider, "data", value.data());
+    gen.writeEndObject();
+  }
+
+  static Client.ClientError readClientError(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long code = null;
+    String message = null;
+    JsonNode data = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.ClientError.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "code" -> code = RecordCodec.readLong(parser, context);
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "data" -> data = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Client.ClientError.class, fieldName);
+      }
+    }
+    return new Client.ClientError(code, message, data);
+  }
+
+  static void writeCryptoConfig(Client.CryptoConfig value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "mnemonic_dictionary", value.mnemonicDictionary());
+    RecordCodec.writeInteger(gen, "mnemonic_word_count", value.mnemonicWordCount());
+    RecordCodec.writeString(gen, "hdkey_derivation_path", value.hdkeyDerivationPath());
+    gen.writeEndObject();
+  }
+
+  static Client.CryptoConfig readCryptoConfig(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Crypto.MnemonicDictionary mnemonicDictionary = null;
+    Integer mnemonicWordCount = null;
+    String hdkeyDerivationPath = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.CryptoConfig.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "mnemonic_dictionary" -> mnemonicDictionary = RecordCodec.readValue(parser, context, Crypto.MnemonicDictionary.class);
+        case "mnemonic_word_count" -> mnemonicWordCount = RecordCodec.readInteger(parser, context);
+        case "hdkey_derivation_path" -> hdkeyDerivationPath = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Client.CryptoConfig.class, fieldName);
+      }
+    }
+    return new Client.CryptoConfig(mnemonicDictionary, mnemonicWordCount, hdkeyDerivationPath);
+  }
+
+  static void writeNetworkConfig(Client.NetworkConfig value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "server_address", value.serverAddress());
+    RecordCodec.writeValue(gen, provider, "endpoints", value.endpoints());
+    RecordCodec.writeInteger(gen, "network_retries_count", value.networkRetriesCount());
+    RecordCodec.writeLong(gen, "max_reconnect_timeout", value.maxReconnectTimeout());
+    RecordCodec.writeLong(gen, "reconnect_timeout", value.reconnectTimeout());
+    RecordCodec.writeInteger(gen, "message_retries_count", value.messageRetriesCount());
+    RecordCodec.writeLong(gen, "message_processing_timeout", value.messageProcessingTimeout());
+    RecordCodec.writeLong(gen, "wait_for_timeout", value.waitForTimeout());
+    RecordCodec.writeLong(gen, "out_of_sync_threshold", value.outOfSyncThreshold());
+    RecordCodec.writeInteger(gen, "sending_endpoint_count", value.sendingEndpointCount());
+    RecordCodec.writeLong(gen, "latency_detection_interval", value.latencyDetectionInterval());
+    RecordCodec.writeLong(gen, "max_latency", value.maxLatency());
+    RecordCodec.writeLong(gen, "query_timeout", value.queryTimeout());
+    RecordCodec.writeValue(gen, provider, "queries_protocol", value.queriesProtocol());
+    RecordCodec.writeLong(gen, "first_remp_status_timeout", value.firstRempStatusTimeout());
+    RecordCodec.writeLong(gen, "next_remp_status_timeout", value.nextRempStatusTimeout());
+    RecordCodec.writeLong(gen, "signature_id", value.signatureId());
+    RecordCodec.writeString(gen, "access_key", value.accessKey());
+    gen.writeEndObject();
+  }
+
+  static Client.NetworkConfig readNetworkConfig(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String serverAddress = null;
+    String[] endpoints = null;
+    Integer networkRetriesCount = null;
+    Long maxReconnectTimeout = null;
+    Long reconnectTimeout = null;
+    Integer messageRetriesCount = null;
+    Long messageProcessingTimeout = null;
+    Long waitForTimeout = null;
+    Long outOfSyncThreshold = null;
+    Integer sendingEndpointCount = null;
+    Long latencyDetectionInterval = null;
+    Long maxLatency = null;
+    Long queryTimeout = null;
+    Client.NetworkQueriesProtocol queriesProtocol = null;
+    Long firstRempStatusTimeout = null;
+    Long nextRempStatusTimeout = null;
+    Long signatureId = null;
+    String accessKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.NetworkConfig.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "server_address" -> serverAddress = RecordCodec.readString(parser, context);
+        case "endpoints" -> endpoints = RecordCodec.readValue(parser, context, String[].class);
+        case "network_retries_count" -> networkRetriesCount = RecordCodec.readInteger(parser, context);
+        case "max_reconnect_timeout" -> maxReconnectTimeout = RecordCodec.readLong(parser, context);
+        case "reconnect_timeout" -> reconnectTimeout = RecordCodec.readLong(parser, context);
+        case "message_retries_count" -> messageRetriesCount = RecordCodec.readInteger(parser, context);
+        case "message_processing_timeout" -> messageProcessingTimeout = RecordCodec.readLong(parser, context);
+        case "wait_for_timeout" -> waitForTimeout = RecordCodec.readLong(parser, context);
+        case "out_of_sync_threshold" -> outOfSyncThreshold = RecordCodec.readLong(parser, context);
+        case "sending_endpoint_count" -> sendingEndpointCount = RecordCodec.readInteger(parser, context);
+        case "latency_detection_interval" -> latencyDetectionInterval = RecordCodec.readLong(parser, context);
+        case "max_latency" -> maxLatency = RecordCodec.readLong(parser, context);
+        case "query_timeout" -> queryTimeout = RecordCodec.readLong(parser, context);
+        case "queries_protocol" -> queriesProtocol = RecordCodec.readValue(parser, context, Client.NetworkQueriesProtocol.class);
+        case "first_remp_status_timeout" -> firstRempStatusTimeout = RecordCodec.readLong(parser, context);
+        case "next_remp_status_timeout" -> nextRempStatusTimeout = RecordCodec.readLong(parser, context);
+        case "signature_id" -> signatureId = RecordCodec.readLong(parser, context);
+        case "access_key" -> accessKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Client.NetworkConfig.class, fieldName);
+      }
+    }
+    return new Client.NetworkConfig(serverAddress, endpoints, networkRetriesCount, maxReconnectTimeout, reconnectTimeout, messageRetriesCount, messageProcessingTimeout, waitForTimeout, outOfSyncThreshold, sendingEndpointCount, latencyDetectionInterval, maxLatency, queryTimeout, queriesProtocol, firstRempStatusTimeout, nextRempStatusTimeout, signatureId, accessKey);
+  }
+
+  static void writeParamsOfAppRequest(Client.ParamsOfAppRequest value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "app_request_id", value.appRequestId());
+    RecordCodec.writeValue(gen, provider, "request_data", value.requestData());
+    gen.writeEndObject();
+  }
+
+  static Client.ParamsOfAppRequest readParamsOfAppRequest(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long appRequestId = null;
+    JsonNode requestData = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.ParamsOfAppRequest.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "app_request_id" -> appRequestId = RecordCodec.readLong(parser, context);
+        case "request_data" -> requestData = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Client.ParamsOfAppRequest.class, fieldName);
+      }
+    }
+    return new Client.ParamsOfAppRequest(appRequestId, requestData);
+  }
+
+  static void writeParamsOfResolveAppRequest(Client.ParamsOfResolveAppRequest value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "app_request_id", value.appRequestId());
+    RecordCodec.writeValue(gen, provider, "result", value.result());
+    gen.writeEndObject();
+  }
+
+  static Client.ParamsOfResolveAppRequest readParamsOfResolveAppRequest(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long appRequestId = null;
+    Client.AppRequestResult result = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.ParamsOfResolveAppRequest.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "app_request_id" -> appRequestId = RecordCodec.readLong(parser, context);
+        case "result" -> result = RecordCodec.readValue(parser, context, Client.AppRequestResult.class);
+        default -> RecordCodec.skipUnknown(parser, context, Client.ParamsOfResolveAppRequest.class, fieldName);
+      }
+    }
+    return new Client.ParamsOfResolveAppRequest(appRequestId, result);
+  }
+
+  static void writeProofsConfig(Client.ProofsConfig value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeBoolean(gen, "cache_in_local_storage", value.cacheInLocalStorage());
+    gen.writeEndObject();
+  }
+
+  static Client.ProofsConfig readProofsConfig(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Boolean cacheInLocalStorage = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.ProofsConfig.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "cache_in_local_storage" -> cacheInLocalStorage = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Client.ProofsConfig.class, fieldName);
+      }
+    }
+    return new Client.ProofsConfig(cacheInLocalStorage);
+  }
+
+  static void writeResultOfBuildInfo(Client.ResultOfBuildInfo value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "build_number", value.buildNumber());
+    RecordCodec.writeValue(gen, provider, "dependencies", value.dependencies());
+    gen.writeEndObject();
+  }
+
+  static Client.ResultOfBuildInfo readResultOfBuildInfo(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long buildNumber = null;
+    Client.BuildInfoDependency[] dependencies = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.ResultOfBuildInfo.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "build_number" -> buildNumber = RecordCodec.readLong(parser, context);
+        case "dependencies" -> dependencies = RecordCodec.readValue(parser, context, Client.BuildInfoDependency[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Client.ResultOfBuildInfo.class, fieldName);
+      }
+    }
+    return new Client.ResultOfBuildInfo(buildNumber, dependencies);
+  }
+
+  static void writeResultOfGetApiReference(Client.ResultOfGetApiReference value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "api", value.api());
+    gen.writeEndObject();
+  }
+
+  static Client.ResultOfGetApiReference readResultOfGetApiReference(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode api = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.ResultOfGetApiReference.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "api" -> api = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Client.ResultOfGetApiReference.class, fieldName);
+      }
+    }
+    return new Client.ResultOfGetApiReference(api);
+  }
+
+  static void writeResultOfVersion(Client.ResultOfVersion value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "version", value.version());
+    gen.writeEndObject();
+  }
+
+  static Client.ResultOfVersion readResultOfVersion(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String version = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Client.ResultOfVersion.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "version" -> version = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Client.ResultOfVersion.class, fieldName);
+      }
+    }
+    return new Client.ResultOfVersion(version);
+  }
+
+  static void register(SimpleModule module) {
+    RecordCodec.register(module, Client.AbiConfig.class, ClientCodecs::writeAbiConfig, ClientCodecs::readAbiConfig);
+    RecordCodec.register(module, Client.BindingConfig.class, ClientCodecs::writeBindingConfig, ClientCodecs::readBindingConfig);
+    RecordCodec.register(module, Client.BocConfig.class, ClientCodecs::writeBocConfig, ClientCodecs::readBocConfig);
+    RecordCodec.register(module, Client.BuildInfoDependency.class, ClientCodecs::writeBuildInfoDependency, ClientCodecs::readBuildInfoDependency);
+    RecordCodec.register(module, Client.ClientConfig.class, ClientCodecs::writeClientConfig, ClientCodecs::readClientConfig);
+    RecordCodec.register(module, Client.ClientError.class, ClientCodecs::writeClientError, ClientCodecs::readClientError);
+    RecordCodec.register(module, Client.CryptoConfig.class, ClientCodecs::writeCryptoConfig, ClientCodecs::readCryptoConfig);
+    RecordCodec.register(module, Client.NetworkConfig.class, ClientCodecs::writeNetworkConfig, ClientCodecs::readNetworkConfig);
+    RecordCodec.register(module, Client.ParamsOfAppRequest.class, ClientCodecs::writeParamsOfAppRequest, ClientCodecs::readParamsOfAppRequest);
+    RecordCodec.register(module, Client.ParamsOfResolveAppRequest.class, ClientCodecs::writeParamsOfResolveAppRequest, ClientCodecs::readParamsOfResolveAppRequest);
+    RecordCodec.register(module, Client.ProofsConfig.class, ClientCodecs::writeProofsConfig, ClientCodecs::readProofsConfig);
+    RecordCodec.register(module, Client.ResultOfBuildInfo.class, ClientCodecs::writeResultOfBuildInfo, ClientCodecs::readResultOfBuildInfo);
+    RecordCodec.register(module, Client.ResultOfGetApiReference.class, ClientCodecs::writeResultOfGetApiReference, ClientCodecs::readResultOfGetApiReference);
+    RecordCodec.register(module, Client.ResultOfVersion.class, ClientCodecs::writeResultOfVersion, ClientCodecs::readResultOfVersion);
+  }
+}
@@ -0,0 +1,1930 @@
+package tech.deplant.java4ever.binding.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.lang.Boolean;
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.String;
+import tech.deplant.java4ever.binding.Crypto;
+
+/**
+ * Streaming Jackson codecs of {@link Crypto} records.
+ */
+final class CryptoCodecs {
+  static void writeAesInfo(Crypto.AesInfo value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "mode", value.mode());
+    RecordCodec.writeString(gen, "iv", value.iv());
+    gen.writeEndObject();
+  }
+
+  static Crypto.AesInfo readAesInfo(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    Crypto.CipherMode mode = null;
+    String iv = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.AesInfo.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "mode" -> mode = RecordCodec.readValue(parser, context, Crypto.CipherMode.class);
+        case "iv" -> iv = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.AesInfo.class, fieldName);
+      }
+    }
+    return new Crypto.AesInfo(mode, iv);
+  }
+
+  static void writeAesParamsEB(Crypto.AesParamsEB value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "mode", value.mode());
+    RecordCodec.writeString(gen, "key", value.key());
+    RecordCodec.writeString(gen, "iv", value.iv());
+    gen.writeEndObject();
+  }
+
+  static Crypto.AesParamsEB readAesParamsEB(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Crypto.CipherMode mode = null;
+    String key = null;
+    String iv = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.AesParamsEB.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "mode" -> mode = RecordCodec.readValue(parser, context, Crypto.CipherMode.class);
+        case "key" -> key = RecordCodec.readString(parser, context);
+        case "iv" -> iv = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.AesParamsEB.class, fieldName);
+      }
+    }
+    return new Crypto.AesParamsEB(mode, key, iv);
+  }
+
+  static void writeChaCha20ParamsCB(Crypto.ChaCha20ParamsCB value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "nonce", value.nonce());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ChaCha20ParamsCB readChaCha20ParamsCB(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String nonce = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ChaCha20ParamsCB.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "nonce" -> nonce = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ChaCha20ParamsCB.class, fieldName);
+      }
+    }
+    return new Crypto.ChaCha20ParamsCB(nonce);
+  }
+
+  static void writeChaCha20ParamsEB(Crypto.ChaCha20ParamsEB value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "key", value.key());
+    RecordCodec.writeString(gen, "nonce", value.nonce());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ChaCha20ParamsEB readChaCha20ParamsEB(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String key = null;
+    String nonce = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ChaCha20ParamsEB.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "key" -> key = RecordCodec.readString(parser, context);
+        case "nonce" -> nonce = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ChaCha20ParamsEB.class, fieldName);
+      }
+    }
+    return new Crypto.ChaCha20ParamsEB(key, nonce);
+  }
+
+  static void writeEncryptionBoxInfo(Crypto.EncryptionBoxInfo value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "hdpath", value.hdpath());
+    RecordCodec.writeString(gen, "algorithm", value.algorithm());
+    RecordCodec.writeValue(gen, provider, "options", value.options());
+    RecordCodec.writeValue(gen, provider, "public", value.publicKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.EncryptionBoxInfo readEncryptionBoxInfo(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String hdpath = null;
+    String algorithm = null;
+    JsonNode options = null;
+    JsonNode publicKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.EncryptionBoxInfo.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "hdpath" -> hdpath = RecordCodec.readString(parser, context);
+        case "algorithm" -> algorithm = RecordCodec.readString(parser, context);
+        case "options" -> options = RecordCodec.readTree(parser, context);
+        case "public" -> publicKey = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.EncryptionBoxInfo.class, fieldName);
+      }
+    }
+    return new Crypto.EncryptionBoxInfo(hdpath, algorithm, options, publicKey);
+  }
+
+  static void writeKeyPair(Crypto.KeyPair value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "public", value.publicKey());
+    RecordCodec.writeString(gen, "secret", value.secretKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.KeyPair readKeyPair(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    String publicKey = null;
+    String secretKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.KeyPair.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "public" -> publicKey = RecordCodec.readString(parser, context);
+        case "secret" -> secretKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.KeyPair.class, fieldName);
+      }
+    }
+    return new Crypto.KeyPair(publicKey, secretKey);
+  }
+
+  static void writeNaclBoxParamsCB(Crypto.NaclBoxParamsCB value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "their_public", value.theirPublic());
+    RecordCodec.writeString(gen, "nonce", value.nonce());
+    gen.writeEndObject();
+  }
+
+  static Crypto.NaclBoxParamsCB readNaclBoxParamsCB(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String theirPublic = null;
+    String nonce = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.NaclBoxParamsCB.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "their_public" -> theirPublic = RecordCodec.readString(parser, context);
+        case "nonce" -> nonce = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.NaclBoxParamsCB.class, fieldName);
+      }
+    }
+    return new Crypto.NaclBoxParamsCB(theirPublic, nonce);
+  }
+
+  static void writeNaclBoxParamsEB(Crypto.NaclBoxParamsEB value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "their_public", value.theirPublic());
+    RecordCodec.writeString(gen, "secret", value.secretKey());
+    RecordCodec.writeString(gen, "nonce", value.nonce());
+    gen.writeEndObject();
+  }
+
+  static Crypto.NaclBoxParamsEB readNaclBoxParamsEB(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String theirPublic = null;
+    String secretKey = null;
+    String nonce = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.NaclBoxParamsEB.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "their_public" -> theirPublic = RecordCodec.readString(parser, context);
+        case "secret" -> secretKey = RecordCodec.readString(parser, context);
+        case "nonce" -> nonce = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.NaclBoxParamsEB.class, fieldName);
+      }
+    }
+    return new Crypto.NaclBoxParamsEB(theirPublic, secretKey, nonce);
+  }
+
+  static void writeNaclSecretBoxParamsCB(Crypto.NaclSecretBoxParamsCB value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "nonce", value.nonce());
+    gen.writeEndObject();
+  }
+
+  static Crypto.NaclSecretBoxParamsCB readNaclSecretBoxParamsCB(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String nonce = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.NaclSecretBoxParamsCB.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "nonce" -> nonce = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.NaclSecretBoxParamsCB.class, fieldName);
+      }
+    }
+    return new Crypto.NaclSecretBoxParamsCB(nonce);
+  }
+
+  static void writeNaclSecretBoxParamsEB(Crypto.NaclSecretBoxParamsEB value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "key", value.key());
+    RecordCodec.writeString(gen, "nonce", value.nonce());
+    gen.writeEndObject();
+  }
+
+  static Crypto.NaclSecretBoxParamsEB readNaclSecretBoxParamsEB(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String key = null;
+    String nonce = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.NaclSecretBoxParamsEB.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "key" -> key = RecordCodec.readString(parser, context);
+        case "nonce" -> nonce = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.NaclSecretBoxParamsEB.class, fieldName);
+      }
+    }
+    return new Crypto.NaclSecretBoxParamsEB(key, nonce);
+  }
+
+  static void writeParamsOfChaCha20(Crypto.ParamsOfChaCha20 value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "data", value.data());
+    RecordCodec.writeString(gen, "key", value.key());
+    RecordCodec.writeString(gen, "nonce", value.nonce());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfChaCha20 readParamsOfChaCha20(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String data = null;
+    String key = null;
+    String nonce = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfChaCha20.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "data" -> data = RecordCodec.readString(parser, context);
+        case "key" -> key = RecordCodec.readString(parser, context);
+        case "nonce" -> nonce = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfChaCha20.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfChaCha20(data, key, nonce);
+  }
+
+  static void writeParamsOfConvertPublicKeyToTonSafeFormat(Crypto.ParamsOfConvertPublicKeyToTonSafeFormat value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "public_key", value.publicKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfConvertPublicKeyToTonSafeFormat readParamsOfConvertPublicKeyToTonSafeFormat(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String publicKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfConvertPublicKeyToTonSafeFormat.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "public_key" -> publicKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfConvertPublicKeyToTonSafeFormat.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfConvertPublicKeyToTonSafeFormat(publicKey);
+  }
+
+  static void writeParamsOfCreateCryptoBox(Crypto.ParamsOfCreateCryptoBox value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "secret_encryption_salt", value.secretEncryptionSalt());
+    RecordCodec.writeValue(gen, provider, "secret", value.secretKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfCreateCryptoBox readParamsOfCreateCryptoBox(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String secretEncryptionSalt = null;
+    Crypto.CryptoBoxSecret secretKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfCreateCryptoBox.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "secret_encryption_salt" -> secretEncryptionSalt = RecordCodec.readString(parser, context);
+        case "secret" -> secretKey = RecordCodec.readValue(parser, context, Crypto.CryptoBoxSecret.class);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfCreateCryptoBox.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfCreateCryptoBox(secretEncryptionSalt, secretKey);
+  }
+
+  static void writeParamsOfCreateEncryptionBox(Crypto.ParamsOfCreateEncryptionBox value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "algorithm", value.algorithm());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfCreateEncryptionBox readParamsOfCreateEncryptionBox(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Crypto.EncryptionAlgorithm algorithm = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfCreateEncryptionBox.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "algorithm" -> algorithm = RecordCodec.readValue(parser, context, Crypto.EncryptionAlgorithm.class);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfCreateEncryptionBox.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfCreateEncryptionBox(algorithm);
+  }
+
+  static void writeParamsOfEncryptionBoxDecrypt(Crypto.ParamsOfEncryptionBoxDecrypt value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "encryption_box", value.encryptionBox());
+    RecordCodec.writeString(gen, "data", value.data());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfEncryptionBoxDecrypt readParamsOfEncryptionBoxDecrypt(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long encryptionBox = null;
+    String data = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfEncryptionBoxDecrypt.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "encryption_box" -> encryptionBox = RecordCodec.readLong(parser, context);
+        case "data" -> data = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfEncryptionBoxDecrypt.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfEncryptionBoxDecrypt(encryptionBox, data);
+  }
+
+  static void writeParamsOfEncryptionBoxEncrypt(Crypto.ParamsOfEncryptionBoxEncrypt value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "encryption_box", value.encryptionBox());
+    RecordCodec.writeString(gen, "data", value.data());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfEncryptionBoxEncrypt readParamsOfEncryptionBoxEncrypt(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long encryptionBox = null;
+    String data = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfEncryptionBoxEncrypt.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "encryption_box" -> encryptionBox = RecordCodec.readLong(parser, context);
+        case "data" -> data = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfEncryptionBoxEncrypt.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfEncryptionBoxEncrypt(encryptionBox, data);
+  }
+
+  static void writeParamsOfEncryptionBoxGetInfo(Crypto.ParamsOfEncryptionBoxGetInfo value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "encryption_box", value.encryptionBox());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfEncryptionBoxGetInfo readParamsOfEncryptionBoxGetInfo(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long encryptionBox = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfEncryptionBoxGetInfo.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "encryption_box" -> encryptionBox = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfEncryptionBoxGetInfo.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfEncryptionBoxGetInfo(encryptionBox);
+  }
+
+  static void writeParamsOfFactorize(Crypto.ParamsOfFactorize value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "composite", value.composite());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfFactorize readParamsOfFactorize(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String composite = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfFactorize.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "composite" -> composite = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfFactorize.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfFactorize(composite);
+  }
+
+  static void writeParamsOfGenerateRandomBytes(Crypto.ParamsOfGenerateRandomBytes value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "length", value.length());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfGenerateRandomBytes readParamsOfGenerateRandomBytes(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long length = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfGenerateRandomBytes.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "length" -> length = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfGenerateRandomBytes.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfGenerateRandomBytes(length);
+  }
+
+  static void writeParamsOfGetEncryptionBoxFromCryptoBox(Crypto.ParamsOfGetEncryptionBoxFromCryptoBox value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "handle", value.handle());
+    RecordCodec.writeString(gen, "hdpath", value.hdpath());
+    RecordCodec.writeValue(gen, provider, "algorithm", value.algorithm());
+    RecordCodec.writeLong(gen, "secret_lifetime", value.secretLifetime());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfGetEncryptionBoxFromCryptoBox readParamsOfGetEncryptionBoxFromCryptoBox(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long handle = null;
+    String hdpath = null;
+    Crypto.BoxEncryptionAlgorithm algorithm = null;
+    Long secretLifetime = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfGetEncryptionBoxFromCryptoBox.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "handle" -> handle = RecordCodec.readLong(parser, context);
+        case "hdpath" -> hdpath = RecordCodec.readString(parser, context);
+        case "algorithm" -> algorithm = RecordCodec.readValue(parser, context, Crypto.BoxEncryptionAlgorithm.class);
+        case "secret_lifetime" -> secretLifetime = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfGetEncryptionBoxFromCryptoBox.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfGetEncryptionBoxFromCryptoBox(handle, hdpath, algorithm, secretLifetime);
+  }
+
+  static void writeParamsOfGetSigningBoxFromCryptoBox(Crypto.ParamsOfGetSigningBoxFromCryptoBox value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "handle", value.handle());
+    RecordCodec.writeString(gen, "hdpath", value.hdpath());
+    RecordCodec.writeLong(gen, "secret_lifetime", value.secretLifetime());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfGetSigningBoxFromCryptoBox readParamsOfGetSigningBoxFromCryptoBox(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long handle = null;
+    String hdpath = null;
+    Long secretLifetime = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfGetSigningBoxFromCryptoBox.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "handle" -> handle = RecordCodec.readLong(parser, context);
+        case "hdpath" -> hdpath = RecordCodec.readString(parser, context);
+        case "secret_lifetime" -> secretLifetime = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfGetSigningBoxFromCryptoBox.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfGetSigningBoxFromCryptoBox(handle, hdpath, secretLifetime);
+  }
+
+  static void writeParamsOfHDKeyDeriveFromXPrv(Crypto.ParamsOfHDKeyDeriveFromXPrv value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "xprv", value.xprv());
+    RecordCodec.writeLong(gen, "child_index", value.childIndex());
+    RecordCodec.writeBoolean(gen, "hardened", value.hardened());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfHDKeyDeriveFromXPrv readParamsOfHDKeyDeriveFromXPrv(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String xprv = null;
+    Long childIndex = null;
+    Boolean hardened = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfHDKeyDeriveFromXPrv.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "xprv" -> xprv = RecordCodec.readString(parser, context);
+        case "child_index" -> childIndex = RecordCodec.readLong(parser, context);
+        case "hardened" -> hardened = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfHDKeyDeriveFromXPrv.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfHDKeyDeriveFromXPrv(xprv, childIndex, hardened);
+  }
+
+  static void writeParamsOfHDKeyDeriveFromXPrvPath(Crypto.ParamsOfHDKeyDeriveFromXPrvPath value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "xprv", value.xprv());
+    RecordCodec.writeString(gen, "path", value.path());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfHDKeyDeriveFromXPrvPath readParamsOfHDKeyDeriveFromXPrvPath(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String xprv = null;
+    String path = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfHDKeyDeriveFromXPrvPath.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "xprv" -> xprv = RecordCodec.readString(parser, context);
+        case "path" -> path = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfHDKeyDeriveFromXPrvPath.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfHDKeyDeriveFromXPrvPath(xprv, path);
+  }
+
+  static void writeParamsOfHDKeyPublicFromXPrv(Crypto.ParamsOfHDKeyPublicFromXPrv value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "xprv", value.xprv());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfHDKeyPublicFromXPrv readParamsOfHDKeyPublicFromXPrv(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String xprv = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfHDKeyPublicFromXPrv.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "xprv" -> xprv = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfHDKeyPublicFromXPrv.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfHDKeyPublicFromXPrv(xprv);
+  }
+
+  static void writeParamsOfHDKeySecretFromXPrv(Crypto.ParamsOfHDKeySecretFromXPrv value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "xprv", value.xprv());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfHDKeySecretFromXPrv readParamsOfHDKeySecretFromXPrv(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String xprv = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfHDKeySecretFromXPrv.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "xprv" -> xprv = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfHDKeySecretFromXPrv.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfHDKeySecretFromXPrv(xprv);
+  }
+
+  static void writeParamsOfHDKeyXPrvFromMnemonic(Crypto.ParamsOfHDKeyXPrvFromMnemonic value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "phrase", value.phrase());
+    RecordCodec.writeValue(gen, provider, "dictionary", value.dictionary());
+    RecordCodec.writeInteger(gen, "word_count", value.wordCount());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfHDKeyXPrvFromMnemonic readParamsOfHDKeyXPrvFromMnemonic(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String phrase = null;
+    Crypto.MnemonicDictionary dictionary = null;
+    Integer wordCount = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfHDKeyXPrvFromMnemonic.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "phrase" -> phrase = RecordCodec.readString(parser, context);
+        case "dictionary" -> dictionary = RecordCodec.readValue(parser, context, Crypto.MnemonicDictionary.class);
+        case "word_count" -> wordCount = RecordCodec.readInteger(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfHDKeyXPrvFromMnemonic.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfHDKeyXPrvFromMnemonic(phrase, dictionary, wordCount);
+  }
+
+  static void writeParamsOfHash(Crypto.ParamsOfHash value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "data", value.data());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfHash readParamsOfHash(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String data = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfHash.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "data" -> data = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfHash.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfHash(data);
+  }
+
+  static void writeParamsOfMnemonicDeriveSignKeys(Crypto.ParamsOfMnemonicDeriveSignKeys value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "phrase", value.phrase());
+    RecordCodec.writeString(gen, "path", value.path());
+    RecordCodec.writeValue(gen, provider, "dictionary", value.dictionary());
+    RecordCodec.writeInteger(gen, "word_count", value.wordCount());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfMnemonicDeriveSignKeys readParamsOfMnemonicDeriveSignKeys(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String phrase = null;
+    String path = null;
+    Crypto.MnemonicDictionary dictionary = null;
+    Integer wordCount = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfMnemonicDeriveSignKeys.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "phrase" -> phrase = RecordCodec.readString(parser, context);
+        case "path" -> path = RecordCodec.readString(parser, context);
+        case "dictionary" -> dictionary = RecordCodec.readValue(parser, context, Crypto.MnemonicDictionary.class);
+        case "word_count" -> wordCount = RecordCodec.readInteger(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfMnemonicDeriveSignKeys.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfMnemonicDeriveSignKeys(phrase, path, dictionary, wordCount);
+  }
+
+  static void writeParamsOfMnemonicFromEntropy(Crypto.ParamsOfMnemonicFromEntropy value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "entropy", value.entropy());
+    RecordCodec.writeValue(gen, provider, "dictionary", value.dictionary());
+    RecordCodec.writeInteger(gen, "word_count", value.wordCount());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfMnemonicFromEntropy readParamsOfMnemonicFromEntropy(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String entropy = null;
+    Crypto.MnemonicDictionary dictionary = null;
+    Integer wordCount = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfMnemonicFromEntropy.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "entropy" -> entropy = RecordCodec.readString(parser, context);
+        case "dictionary" -> dictionary = RecordCodec.readValue(parser, context, Crypto.MnemonicDictionary.class);
+        case "word_count" -> wordCount = RecordCodec.readInteger(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfMnemonicFromEntropy.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfMnemonicFromEntropy(entropy, dictionary, wordCount);
+  }
+
+  static void writeParamsOfMnemonicFromRandom(Crypto.ParamsOfMnemonicFromRandom value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "dictionary", value.dictionary());
+    RecordCodec.writeInteger(gen, "word_count", value.wordCount());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfMnemonicFromRandom readParamsOfMnemonicFromRandom(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Crypto.MnemonicDictionary dictionary = null;
+    Integer wordCount = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfMnemonicFromRandom.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "dictionary" -> dictionary = RecordCodec.readValue(parser, context, Crypto.MnemonicDictionary.class);
+        case "word_count" -> wordCount = RecordCodec.readInteger(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfMnemonicFromRandom.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfMnemonicFromRandom(dictionary, wordCount);
+  }
+
+  static void writeParamsOfMnemonicVerify(Crypto.ParamsOfMnemonicVerify value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "phrase", value.phrase());
+    RecordCodec.writeValue(gen, provider, "dictionary", value.dictionary());
+    RecordCodec.writeInteger(gen, "word_count", value.wordCount());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfMnemonicVerify readParamsOfMnemonicVerify(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String phrase = null;
+    Crypto.MnemonicDictionary dictionary = null;
+    Integer wordCount = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfMnemonicVerify.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "phrase" -> phrase = RecordCodec.readString(parser, context);
+        case "dictionary" -> dictionary = RecordCodec.readValue(parser, context, Crypto.MnemonicDictionary.class);
+        case "word_count" -> wordCount = RecordCodec.readInteger(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfMnemonicVerify.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfMnemonicVerify(phrase, dictionary, wordCount);
+  }
+
+  static void writeParamsOfMnemonicWords(Crypto.ParamsOfMnemonicWords value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "dictionary", value.dictionary());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfMnemonicWords readParamsOfMnemonicWords(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Crypto.MnemonicDictionary dictionary = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfMnemonicWords.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "dictionary" -> dictionary = RecordCodec.readValue(parser, context, Crypto.MnemonicDictionary.class);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfMnemonicWords.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfMnemonicWords(dictionary);
+  }
+
+  static void writeParamsOfModularPower(Crypto.ParamsOfModularPower value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "base", value.base());
+    RecordCodec.writeString(gen, "exponent", value.exponent());
+    RecordCodec.writeString(gen, "modulus", value.modulus());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfModularPower readParamsOfModularPower(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String base = null;
+    String exponent = null;
+    String modulus = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfModularPower.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "base" -> base = RecordCodec.readString(parser, context);
+        case "exponent" -> exponent = RecordCodec.readString(parser, context);
+        case "modulus" -> modulus = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfModularPower.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfModularPower(base, exponent, modulus);
+  }
+
+  static void writeParamsOfNaclBox(Crypto.ParamsOfNaclBox value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "decrypted", value.decrypted());
+    RecordCodec.writeString(gen, "nonce", value.nonce());
+    RecordCodec.writeString(gen, "their_public", value.theirPublic());
+    RecordCodec.writeString(gen, "secret", value.secretKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfNaclBox readParamsOfNaclBox(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String decrypted = null;
+    String nonce = null;
+    String theirPublic = null;
+    String secretKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfNaclBox.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "decrypted" -> decrypted = RecordCodec.readString(parser, context);
+        case "nonce" -> nonce = RecordCodec.readString(parser, context);
+        case "their_public" -> theirPublic = RecordCodec.readString(parser, context);
+        case "secret" -> secretKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfNaclBox.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfNaclBox(decrypted, nonce, theirPublic, secretKey);
+  }
+
+  static void writeParamsOfNaclBoxKeyPairFromSecret(Crypto.ParamsOfNaclBoxKeyPairFromSecret value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "secret", value.secretKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfNaclBoxKeyPairFromSecret readParamsOfNaclBoxKeyPairFromSecret(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String secretKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfNaclBoxKeyPairFromSecret.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "secret" -> secretKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfNaclBoxKeyPairFromSecret.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfNaclBoxKeyPairFromSecret(secretKey);
+  }
+
+  static void writeParamsOfNaclBoxOpen(Crypto.ParamsOfNaclBoxOpen value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "encrypted", value.encrypted());
+    RecordCodec.writeString(gen, "nonce", value.nonce());
+    RecordCodec.writeString(gen, "their_public", value.theirPublic());
+    RecordCodec.writeString(gen, "secret", value.secretKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfNaclBoxOpen readParamsOfNaclBoxOpen(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String encrypted = null;
+    String nonce = null;
+    String theirPublic = null;
+    String secretKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfNaclBoxOpen.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "encrypted" -> encrypted = RecordCodec.readString(parser, context);
+        case "nonce" -> nonce = RecordCodec.readString(parser, context);
+        case "their_public" -> theirPublic = RecordCodec.readString(parser, context);
+        case "secret" -> secretKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfNaclBoxOpen.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfNaclBoxOpen(encrypted, nonce, theirPublic, secretKey);
+  }
+
+  static void writeParamsOfNaclSecretBox(Crypto.ParamsOfNaclSecretBox value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "decrypted", value.decrypted());
+    RecordCodec.writeString(gen, "nonce", value.nonce());
+    RecordCodec.writeString(gen, "key", value.key());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfNaclSecretBox readParamsOfNaclSecretBox(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String decrypted = null;
+    String nonce = null;
+    String key = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfNaclSecretBox.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "decrypted" -> decrypted = RecordCodec.readString(parser, context);
+        case "nonce" -> nonce = RecordCodec.readString(parser, context);
+        case "key" -> key = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfNaclSecretBox.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfNaclSecretBox(decrypted, nonce, key);
+  }
+
+  static void writeParamsOfNaclSecretBoxOpen(Crypto.ParamsOfNaclSecretBoxOpen value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "encrypted", value.encrypted());
+    RecordCodec.writeString(gen, "nonce", value.nonce());
+    RecordCodec.writeString(gen, "key", value.key());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfNaclSecretBoxOpen readParamsOfNaclSecretBoxOpen(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String encrypted = null;
+    String nonce = null;
+    String key = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfNaclSecretBoxOpen.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "encrypted" -> encrypted = RecordCodec.readString(parser, context);
+        case "nonce" -> nonce = RecordCodec.readString(parser, context);
+        case "key" -> key = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfNaclSecretBoxOpen.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfNaclSecretBoxOpen(encrypted, nonce, key);
+  }
+
+  static void writeParamsOfNaclSign(Crypto.ParamsOfNaclSign value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "unsigned", value.unsigned());
+    RecordCodec.writeString(gen, "secret", value.secretKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfNaclSign readParamsOfNaclSign(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String unsigned = null;
+    String secretKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfNaclSign.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "unsigned" -> unsigned = RecordCodec.readString(parser, context);
+        case "secret" -> secretKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfNaclSign.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfNaclSign(unsigned, secretKey);
+  }
+
+  static void writeParamsOfNaclSignDetachedVerify(Crypto.ParamsOfNaclSignDetachedVerify value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "unsigned", value.unsigned());
+    RecordCodec.writeString(gen, "signature", value.signature());
+    RecordCodec.writeString(gen, "public", value.publicKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfNaclSignDetachedVerify readParamsOfNaclSignDetachedVerify(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String unsigned = null;
+    String signature = null;
+    String publicKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfNaclSignDetachedVerify.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "unsigned" -> unsigned = RecordCodec.readString(parser, context);
+        case "signature" -> signature = RecordCodec.readString(parser, context);
+        case "public" -> publicKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfNaclSignDetachedVerify.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfNaclSignDetachedVerify(unsigned, signature, publicKey);
+  }
+
+  static void writeParamsOfNaclSignKeyPairFromSecret(Crypto.ParamsOfNaclSignKeyPairFromSecret value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "secret", value.secretKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfNaclSignKeyPairFromSecret readParamsOfNaclSignKeyPairFromSecret(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String secretKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfNaclSignKeyPairFromSecret.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "secret" -> secretKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfNaclSignKeyPairFromSecret.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfNaclSignKeyPairFromSecret(secretKey);
+  }
+
+  static void writeParamsOfNaclSignOpen(Crypto.ParamsOfNaclSignOpen value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "signed", value.signed());
+    RecordCodec.writeString(gen, "public", value.publicKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfNaclSignOpen readParamsOfNaclSignOpen(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String signed = null;
+    String publicKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfNaclSignOpen.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "signed" -> signed = RecordCodec.readString(parser, context);
+        case "public" -> publicKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfNaclSignOpen.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfNaclSignOpen(signed, publicKey);
+  }
+
+  static void writeParamsOfScrypt(Crypto.ParamsOfScrypt value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "password", value.password());
+    RecordCodec.writeString(gen, "salt", value.salt());
+    RecordCodec.writeInteger(gen, "log_n", value.logN());
+    RecordCodec.writeLong(gen, "r", value.r());
+    RecordCodec.writeLong(gen, "p", value.p());
+    RecordCodec.writeLong(gen, "dk_len", value.dkLen());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfScrypt readParamsOfScrypt(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String password = null;
+    String salt = null;
+    Integer logN = null;
+    Long r = null;
+    Long p = null;
+    Long dkLen = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfScrypt.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "password" -> password = RecordCodec.readString(parser, context);
+        case "salt" -> salt = RecordCodec.readString(parser, context);
+        case "log_n" -> logN = RecordCodec.readInteger(parser, context);
+        case "r" -> r = RecordCodec.readLong(parser, context);
+        case "p" -> p = RecordCodec.readLong(parser, context);
+        case "dk_len" -> dkLen = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfScrypt.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfScrypt(password, salt, logN, r, p, dkLen);
+  }
+
+  static void writeParamsOfSign(Crypto.ParamsOfSign value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "unsigned", value.unsigned());
+    RecordCodec.writeValue(gen, provider, "keys", value.keys());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfSign readParamsOfSign(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String unsigned = null;
+    Crypto.KeyPair keys = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfSign.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "unsigned" -> unsigned = RecordCodec.readString(parser, context);
+        case "keys" -> keys = RecordCodec.readValue(parser, context, Crypto.KeyPair.class);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfSign.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfSign(unsigned, keys);
+  }
+
+  static void writeParamsOfSigningBoxSign(Crypto.ParamsOfSigningBoxSign value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "signing_box", value.signingBox());
+    RecordCodec.writeString(gen, "unsigned", value.unsigned());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfSigningBoxSign readParamsOfSigningBoxSign(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long signingBox = null;
+    String unsigned = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfSigningBoxSign.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "signing_box" -> signingBox = RecordCodec.readLong(parser, context);
+        case "unsigned" -> unsigned = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfSigningBoxSign.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfSigningBoxSign(signingBox, unsigned);
+  }
+
+  static void writeParamsOfTonCrc16(Crypto.ParamsOfTonCrc16 value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "data", value.data());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfTonCrc16 readParamsOfTonCrc16(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String data = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfTonCrc16.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "data" -> data = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfTonCrc16.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfTonCrc16(data);
+  }
+
+  static void writeParamsOfVerifySignature(Crypto.ParamsOfVerifySignature value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "signed", value.signed());
+    RecordCodec.writeString(gen, "public", value.publicKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ParamsOfVerifySignature readParamsOfVerifySignature(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String signed = null;
+    String publicKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ParamsOfVerifySignature.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "signed" -> signed = RecordCodec.readString(parser, context);
+        case "public" -> publicKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ParamsOfVerifySignature.class, fieldName);
+      }
+    }
+    return new Crypto.ParamsOfVerifySignature(signed, publicKey);
+  }
+
+  static void writeRegisteredCryptoBox(Crypto.RegisteredCryptoBox value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "handle", value.handle());
+    gen.writeEndObject();
+  }
+
+  static Crypto.RegisteredCryptoBox readRegisteredCryptoBox(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long handle = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.RegisteredCryptoBox.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "handle" -> handle = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.RegisteredCryptoBox.class, fieldName);
+      }
+    }
+    return new Crypto.RegisteredCryptoBox(handle);
+  }
+
+  static void writeRegisteredEncryptionBox(Crypto.RegisteredEncryptionBox value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "handle", value.handle());
+    gen.writeEndObject();
+  }
+
+  static Crypto.RegisteredEncryptionBox readRegisteredEncryptionBox(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long handle = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.RegisteredEncryptionBox.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "handle" -> handle = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.RegisteredEncryptionBox.class, fieldName);
+      }
+    }
+    return new Crypto.RegisteredEncryptionBox(handle);
+  }
+
+  static void writeRegisteredSigningBox(Crypto.RegisteredSigningBox value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "handle", value.handle());
+    gen.writeEndObject();
+  }
+
+  static Crypto.RegisteredSigningBox readRegisteredSigningBox(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long handle = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.RegisteredSigningBox.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "handle" -> handle = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.RegisteredSigningBox.class, fieldName);
+      }
+    }
+    return new Crypto.RegisteredSigningBox(handle);
+  }
+
+  static void writeResultOfChaCha20(Crypto.ResultOfChaCha20 value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "data", value.data());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfChaCha20 readResultOfChaCha20(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String data = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfChaCha20.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "data" -> data = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfChaCha20.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfChaCha20(data);
+  }
+
+  static void writeResultOfConvertPublicKeyToTonSafeFormat(Crypto.ResultOfConvertPublicKeyToTonSafeFormat value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "ton_public_key", value.tonPublicKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfConvertPublicKeyToTonSafeFormat readResultOfConvertPublicKeyToTonSafeFormat(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String tonPublicKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfConvertPublicKeyToTonSafeFormat.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "ton_public_key" -> tonPublicKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfConvertPublicKeyToTonSafeFormat.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfConvertPublicKeyToTonSafeFormat(tonPublicKey);
+  }
+
+  static void writeResultOfEncryptionBoxDecrypt(Crypto.ResultOfEncryptionBoxDecrypt value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "data", value.data());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfEncryptionBoxDecrypt readResultOfEncryptionBoxDecrypt(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String data = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfEncryptionBoxDecrypt.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "data" -> data = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfEncryptionBoxDecrypt.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfEncryptionBoxDecrypt(data);
+  }
+
+  static void writeResultOfEncryptionBoxEncrypt(Crypto.ResultOfEncryptionBoxEncrypt value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "data", value.data());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfEncryptionBoxEncrypt readResultOfEncryptionBoxEncrypt(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String data = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfEncryptionBoxEncrypt.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "data" -> data = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfEncryptionBoxEncrypt.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfEncryptionBoxEncrypt(data);
+  }
+
+  static void writeResultOfEncryptionBoxGetInfo(Crypto.ResultOfEncryptionBoxGetInfo value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "info", value.info());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfEncryptionBoxGetInfo readResultOfEncryptionBoxGetInfo(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Crypto.EncryptionBoxInfo info = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfEncryptionBoxGetInfo.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "info" -> info = RecordCodec.readValue(parser, context, Crypto.EncryptionBoxInfo.class);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfEncryptionBoxGetInfo.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfEncryptionBoxGetInfo(info);
+  }
+
+  static void writeResultOfFactorize(Crypto.ResultOfFactorize value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "factors", value.factors());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfFactorize readResultOfFactorize(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String[] factors = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfFactorize.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "factors" -> factors = RecordCodec.readValue(parser, context, String[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfFactorize.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfFactorize(factors);
+  }
+
+  static void writeResultOfGenerateRandomBytes(Crypto.ResultOfGenerateRandomBytes value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "bytes", value.bytes());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfGenerateRandomBytes readResultOfGenerateRandomBytes(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String bytes = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfGenerateRandomBytes.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "bytes" -> bytes = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfGenerateRandomBytes.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfGenerateRandomBytes(bytes);
+  }
+
+  static void writeResultOfGetCryptoBoxInfo(Crypto.ResultOfGetCryptoBoxInfo value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "encrypted_secret", value.encryptedSecret());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfGetCryptoBoxInfo readResultOfGetCryptoBoxInfo(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String encryptedSecret = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfGetCryptoBoxInfo.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "encrypted_secret" -> encryptedSecret = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfGetCryptoBoxInfo.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfGetCryptoBoxInfo(encryptedSecret);
+  }
+
+  static void writeResultOfGetCryptoBoxSeedPhrase(Crypto.ResultOfGetCryptoBoxSeedPhrase value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "phrase", value.phrase());
+    RecordCodec.writeValue(gen, provider, "dictionary", value.dictionary());
+    RecordCodec.writeInteger(gen, "wordcount", value.wordcount());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfGetCryptoBoxSeedPhrase readResultOfGetCryptoBoxSeedPhrase(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String phrase = null;
+    Crypto.MnemonicDictionary dictionary = null;
+    Integer wordcount = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfGetCryptoBoxSeedPhrase.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "phrase" -> phrase = RecordCodec.readString(parser, context);
+        case "dictionary" -> dictionary = RecordCodec.readValue(parser, context, Crypto.MnemonicDictionary.class);
+        case "wordcount" -> wordcount = RecordCodec.readInteger(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfGetCryptoBoxSeedPhrase.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfGetCryptoBoxSeedPhrase(phrase, dictionary, wordcount);
+  }
+
+  static void writeResultOfHDKeyDeriveFromXPrv(Crypto.ResultOfHDKeyDeriveFromXPrv value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "xprv", value.xprv());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfHDKeyDeriveFromXPrv readResultOfHDKeyDeriveFromXPrv(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String xprv = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfHDKeyDeriveFromXPrv.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "xprv" -> xprv = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfHDKeyDeriveFromXPrv.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfHDKeyDeriveFromXPrv(xprv);
+  }
+
+  static void writeResultOfHDKeyDeriveFromXPrvPath(Crypto.ResultOfHDKeyDeriveFromXPrvPath value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "xprv", value.xprv());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfHDKeyDeriveFromXPrvPath readResultOfHDKeyDeriveFromXPrvPath(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String xprv = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfHDKeyDeriveFromXPrvPath.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "xprv" -> xprv = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfHDKeyDeriveFromXPrvPath.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfHDKeyDeriveFromXPrvPath(xprv);
+  }
+
+  static void writeResultOfHDKeyPublicFromXPrv(Crypto.ResultOfHDKeyPublicFromXPrv value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "public", value.publicKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfHDKeyPublicFromXPrv readResultOfHDKeyPublicFromXPrv(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String publicKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfHDKeyPublicFromXPrv.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "public" -> publicKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfHDKeyPublicFromXPrv.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfHDKeyPublicFromXPrv(publicKey);
+  }
+
+  static void writeResultOfHDKeySecretFromXPrv(Crypto.ResultOfHDKeySecretFromXPrv value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "secret", value.secretKey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfHDKeySecretFromXPrv readResultOfHDKeySecretFromXPrv(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String secretKey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfHDKeySecretFromXPrv.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "secret" -> secretKey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfHDKeySecretFromXPrv.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfHDKeySecretFromXPrv(secretKey);
+  }
+
+  static void writeResultOfHDKeyXPrvFromMnemonic(Crypto.ResultOfHDKeyXPrvFromMnemonic value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "xprv", value.xprv());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfHDKeyXPrvFromMnemonic readResultOfHDKeyXPrvFromMnemonic(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String xprv = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfHDKeyXPrvFromMnemonic.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "xprv" -> xprv = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfHDKeyXPrvFromMnemonic.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfHDKeyXPrvFromMnemonic(xprv);
+  }
+
+  static void writeResultOfHash(Crypto.ResultOfHash value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "hash", value.hash());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfHash readResultOfHash(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String hash = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfHash.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "hash" -> hash = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfHash.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfHash(hash);
+  }
+
+  static void writeResultOfMnemonicFromEntropy(Crypto.ResultOfMnemonicFromEntropy value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "phrase", value.phrase());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfMnemonicFromEntropy readResultOfMnemonicFromEntropy(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String phrase = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfMnemonicFromEntropy.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "phrase" -> phrase = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfMnemonicFromEntropy.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfMnemonicFromEntropy(phrase);
+  }
+
+  static void writeResultOfMnemonicFromRandom(Crypto.ResultOfMnemonicFromRandom value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "phrase", value.phrase());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfMnemonicFromRandom readResultOfMnemonicFromRandom(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String phrase = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfMnemonicFromRandom.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "phrase" -> phrase = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfMnemonicFromRandom.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfMnemonicFromRandom(phrase);
+  }
+
+  static void writeResultOfMnemonicVerify(Crypto.ResultOfMnemonicVerify value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeBoolean(gen, "valid", value.valid());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfMnemonicVerify readResultOfMnemonicVerify(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Boolean valid = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfMnemonicVerify.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "valid" -> valid = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfMnemonicVerify.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfMnemonicVerify(valid);
+  }
+
+  static void writeResultOfMnemonicWords(Crypto.ResultOfMnemonicWords value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "words", value.words());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfMnemonicWords readResultOfMnemonicWords(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String words = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfMnemonicWords.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "words" -> words = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfMnemonicWords.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfMnemonicWords(words);
+  }
+
+  static void writeResultOfModularPower(Crypto.ResultOfModularPower value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "modular_power", value.modularPower());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfModularPower readResultOfModularPower(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String modularPower = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfModularPower.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "modular_power" -> modularPower = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfModularPower.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfModularPower(modularPower);
+  }
+
+  static void writeResultOfNaclBox(Crypto.ResultOfNaclBox value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "encrypted", value.encrypted());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfNaclBox readResultOfNaclBox(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String encrypted = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfNaclBox.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "encrypted" -> encrypted = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfNaclBox.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfNaclBox(encrypted);
+  }
+
+  static void writeResultOfNaclBoxOpen(Crypto.ResultOfNaclBoxOpen value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "decrypted", value.decrypted());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfNaclBoxOpen readResultOfNaclBoxOpen(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String decrypted = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfNaclBoxOpen.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "decrypted" -> decrypted = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfNaclBoxOpen.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfNaclBoxOpen(decrypted);
+  }
+
+  static void writeResultOfNaclSign(Crypto.ResultOfNaclSign value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "signed", value.signed());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfNaclSign readResultOfNaclSign(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String signed = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfNaclSign.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "signed" -> signed = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfNaclSign.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfNaclSign(signed);
+  }
+
+  static void writeResultOfNaclSignDetached(Crypto.ResultOfNaclSignDetached value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "signature", value.signature());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfNaclSignDetached readResultOfNaclSignDetached(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String signature = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfNaclSignDetached.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "signature" -> signature = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfNaclSignDetached.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfNaclSignDetached(signature);
+  }
+
+  static void writeResultOfNaclSignDetachedVerify(Crypto.ResultOfNaclSignDetachedVerify value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeBoolean(gen, "succeeded", value.succeeded());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfNaclSignDetachedVerify readResultOfNaclSignDetachedVerify(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Boolean succeeded = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfNaclSignDetachedVerify.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "succeeded" -> succeeded = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfNaclSignDetachedVerify.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfNaclSignDetachedVerify(succeeded);
+  }
+
+  static void writeResultOfNaclSignOpen(Crypto.ResultOfNaclSignOpen value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "unsigned", value.unsigned());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfNaclSignOpen readResultOfNaclSignOpen(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String unsigned = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfNaclSignOpen.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "unsigned" -> unsigned = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfNaclSignOpen.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfNaclSignOpen(unsigned);
+  }
+
+  static void writeResultOfScrypt(Crypto.ResultOfScrypt value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "key", value.key());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfScrypt readResultOfScrypt(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String key = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfScrypt.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "key" -> key = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfScrypt.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfScrypt(key);
+  }
+
+  static void writeResultOfSign(Crypto.ResultOfSign value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "signed", value.signed());
+    RecordCodec.writeString(gen, "signature", value.signature());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfSign readResultOfSign(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String signed = null;
+    String signature = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfSign.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "signed" -> signed = RecordCodec.readString(parser, context);
+        case "signature" -> signature = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfSign.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfSign(signed, signature);
+  }
+
+  static void writeResultOfSigningBoxGetPublicKey(Crypto.ResultOfSigningBoxGetPublicKey value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "pubkey", value.pubkey());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfSigningBoxGetPublicKey readResultOfSigningBoxGetPublicKey(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String pubkey = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfSigningBoxGetPublicKey.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "pubkey" -> pubkey = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfSigningBoxGetPublicKey.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfSigningBoxGetPublicKey(pubkey);
+  }
+
+  static void writeResultOfSigningBoxSign(Crypto.ResultOfSigningBoxSign value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "signature", value.signature());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfSigningBoxSign readResultOfSigningBoxSign(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String signature = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfSigningBoxSign.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "signature" -> signature = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfSigningBoxSign.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfSigningBoxSign(signature);
+  }
+
+  static void writeResultOfTonCrc16(Crypto.ResultOfTonCrc16 value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeInteger(gen, "crc", value.crc());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfTonCrc16 readResultOfTonCrc16(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Integer crc = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfTonCrc16.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "crc" -> crc = RecordCodec.readInteger(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfTonCrc16.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfTonCrc16(crc);
+  }
+
+  static void writeResultOfVerifySignature(Crypto.ResultOfVerifySignature value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "unsigned", value.unsigned());
+    gen.writeEndObject();
+  }
+
+  static Crypto.ResultOfVerifySignature readResultOfVerifySignature(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String unsigned = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Crypto.ResultOfVerifySignature.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "unsigned" -> unsigned = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Crypto.ResultOfVerifySignature.class, fieldName);
+      }
+    }
+    return new Crypto.ResultOfVerifySignature(unsigned);
+  }
+
+  static void register(SimpleModule module) {
+    RecordCodec.register(module, Crypto.AesInfo.class, CryptoCodecs::writeAesInfo, CryptoCodecs::readAesInfo);
+    RecordCodec.register(module, Crypto.AesParamsEB.class, CryptoCodecs::writeAesParamsEB, CryptoCodecs::readAesParamsEB);
+    RecordCodec.register(module, Crypto.ChaCha20ParamsCB.class, CryptoCodecs::writeChaCha20ParamsCB, CryptoCodecs::readChaCha20ParamsCB);
+    RecordCodec.register(module, Crypto.ChaCha20ParamsEB.class, CryptoCodecs::writeChaCha20ParamsEB, CryptoCodecs::readChaCha20ParamsEB);
+    RecordCodec.register(module, Crypto.EncryptionBoxInfo.class, CryptoCodecs::writeEncryptionBoxInfo, CryptoCodecs::readEncryptionBoxInfo);
+    RecordCodec.register(module, Crypto.KeyPair.class, CryptoCodecs::writeKeyPair, CryptoCodecs::readKeyPair);
+    RecordCodec.register(module, Crypto.NaclBoxParamsCB.class, CryptoCodecs::writeNaclBoxParamsCB, CryptoCodecs::readNaclBoxParamsCB);
+    RecordCodec.register(module, Crypto.NaclBoxParamsEB.class, CryptoCodecs::writeNaclBoxParamsEB, CryptoCodecs::readNaclBoxParamsEB);
+    RecordCodec.register(module, Crypto.NaclSecretBoxParamsCB.class, CryptoCodecs::writeNaclSecretBoxParamsCB, CryptoCodecs::readNaclSecretBoxParamsCB);
+    RecordCodec.register(module, Crypto.NaclSecretBoxParamsEB.class, CryptoCodecs::writeNaclSecretBoxParamsEB, CryptoCodecs::readNaclSecretBoxParamsEB);
+    RecordCodec.register(module, Crypto.ParamsOfChaCha20.class, CryptoCodecs::writeParamsOfChaCha20, CryptoCodecs::readParamsOfChaCha20);
+    RecordCodec.register(module, Crypto.ParamsOfConvertPublicKeyToTonSafeFormat.class, CryptoCodecs::writeParamsOfConvertPublicKeyToTonSafeFormat, CryptoCodecs::readParamsOfConvertPublicKeyToTonSafeFormat);
+    RecordCodec.register(module, Crypto.ParamsOfCreateCryptoBox.class, CryptoCodecs::writeParamsOfCreateCryptoBox, CryptoCodecs::readParamsOfCreateCryptoBox);
+    RecordCodec.register(module, Crypto.ParamsOfCreateEncryptionBox.class, CryptoCodecs::writeParamsOfCreateEncryptionBox, CryptoCodecs::readParamsOfCreateEncryptionBox);
+    RecordCodec.register(module, Crypto.ParamsOfEncryptionBoxDecrypt.class, CryptoCodecs::writeParamsOfEncryptionBoxDecrypt, CryptoCodecs::readParamsOfEncryptionBoxDecrypt);
+    RecordCodec.register(module, Crypto.ParamsOfEncryptionBoxEncrypt.class, CryptoCodecs::writeParamsOfEncryptionBoxEncrypt, CryptoCodecs::readParamsOfEncryptionBoxEncrypt);
+    RecordCodec.register(module, Crypto.ParamsOfEncryptionBoxGetInfo.class, CryptoCodecs::writeParamsOfEncryptionBoxGetInfo, CryptoCodecs::readParamsOfEncryptionBoxGetInfo);
+    RecordCodec.register(module, Crypto.ParamsOfFactorize.class, CryptoCodecs::writeParamsOfFactorize, CryptoCodecs::readParamsOfFactorize);
+    RecordCodec.register(module, Crypto.ParamsOfGenerateRandomBytes.class, CryptoCodecs::writeParamsOfGenerateRandomBytes, CryptoCodecs::readParamsOfGenerateRandomBytes);
+    RecordCodec.register(module, Crypto.ParamsOfGetEncryptionBoxFromCryptoBox.class, CryptoCodecs::writeParamsOfGetEncryptionBoxFromCryptoBox, CryptoCodecs::readParamsOfGetEncryptionBoxFromCryptoBox);
+    RecordCodec.register(module, Crypto.ParamsOfGetSigningBoxFromCryptoBox.class, CryptoCodecs::writeParamsOfGetSigningBoxFromCryptoBox, CryptoCodecs::readParamsOfGetSigningBoxFromCryptoBox);
+    RecordCodec.register(module, Crypto.ParamsOfHDKeyDeriveFromXPrv.class, CryptoCodecs::writeParamsOfHDKeyDeriveFromXPrv, CryptoCodecs::readParamsOfHDKeyDeriveFromXPrv);
+    RecordCodec.register(module, Crypto.ParamsOfHDKeyDeriveFromXPrvPath.class, CryptoCodecs::writeParamsOfHDKeyDeriveFromXPrvPath, CryptoCodecs::readParamsOfHDKeyDeriveFromXPrvPath);
+    RecordCodec.register(module, Crypto.ParamsOfHDKeyPublicFromXPrv.class, CryptoCodecs::writeParamsOfHDKeyPublicFromXPrv, CryptoCodecs::readParamsOfHDKeyPublicFromXPrv);
+    RecordCodec.register(module, Crypto.ParamsOfHDKeySecretFromXPrv.class, CryptoCodecs::writeParamsOfHDKeySecretFromXPrv, CryptoCodecs::readParamsOfHDKeySecretFromXPrv);
+    RecordCodec.register(module, Crypto.ParamsOfHDKeyXPrvFromMnemonic.class, CryptoCodecs::writeParamsOfHDKeyXPrvFromMnemonic, CryptoCodecs::readParamsOfHDKeyXPrvFromMnemonic);
+    RecordCodec.register(module, Crypto.ParamsOfHash.class, CryptoCodecs::writeParamsOfHash, CryptoCodecs::readParamsOfHash);
+    RecordCodec.register(module, Crypto.ParamsOfMnemonicDeriveSignKeys.class, CryptoCodecs::writeParamsOfMnemonicDeriveSignKeys, CryptoCodecs::readParamsOfMnemonicDeriveSignKeys);
+    RecordCodec.register(module, Crypto.ParamsOfMnemonicFromEntropy.class, CryptoCodecs::writeParamsOfMnemonicFromEntropy, CryptoCodecs::readParamsOfMnemonicFromEntropy);
+    RecordCodec.register(module, Crypto.ParamsOfMnemonicFromRandom.class, CryptoCodecs::writeParamsOfMnemonicFromRandom, CryptoCodecs::readParamsOfMnemonicFromRandom);
+    RecordCodec.register(module, Crypto.ParamsOfMnemonicVerify.class, CryptoCodecs::writeParamsOfMnemonicVerify, CryptoCodecs::readParamsOfMnemonicVerify);
+    RecordCodec.register(module, Crypto.ParamsOfMnemonicWords.class, CryptoCodecs::writeParamsOfMnemonicWords, CryptoCodecs::readParamsOfMnemonicWords);
+    RecordCodec.register(module, Crypto.ParamsOfModularPower.class, CryptoCodecs::writeParamsOfModularPower, CryptoCodecs::readParamsOfModularPower);
+    RecordCodec.register(module, Crypto.ParamsOfNaclBox.class, CryptoCodecs::writeParamsOfNaclBox, CryptoCodecs::readParamsOfNaclBox);
+    RecordCodec.register(module, Crypto.ParamsOfNaclBoxKeyPairFromSecret.class, CryptoCodecs::writeParamsOfNaclBoxKeyPairFromSecret, CryptoCodecs::readParamsOfNaclBoxKeyPairFromSecret);
+    RecordCodec.register(module, Crypto.ParamsOfNaclBoxOpen.class, CryptoCodecs::writeParamsOfNaclBoxOpen, CryptoCodecs::readParamsOfNaclBoxOpen);
+    RecordCodec.register(module, Crypto.ParamsOfNaclSecretBox.class, CryptoCodecs::writeParamsOfNaclSecretBox, CryptoCodecs::readParamsOfNaclSecretBox);
+    RecordCodec.register(module, Crypto.ParamsOfNaclSecretBoxOpen.class, CryptoCodecs::writeParamsOfNaclSecretBoxOpen, CryptoCodecs::readParamsOfNaclSecretBoxOpen);
+    RecordCodec.register(module, Crypto.ParamsOfNaclSign.class, CryptoCodecs::writeParamsOfNaclSign, CryptoCodecs::readParamsOfNaclSign);
+    RecordCodec.register(module, Crypto.ParamsOfNaclSignDetachedVerify.class, CryptoCodecs::writeParamsOfNaclSignDetachedVerify, CryptoCodecs::readParamsOfNaclSignDetachedVerify);
+    RecordCodec.register(module, Crypto.ParamsOfNaclSignKeyPairFromSecret.class, CryptoCodecs::writeParamsOfNaclSignKeyPairFromSecret, CryptoCodecs::readParamsOfNaclSignKeyPairFromSecret);
+    RecordCodec.register(module, Crypto.ParamsOfNaclSignOpen.class, CryptoCodecs::writeParamsOfNaclSignOpen, CryptoCodecs::readParamsOfNaclSignOpen);
+    RecordCodec.register(module, Crypto.ParamsOfScrypt.class, CryptoCodecs::writeParamsOfScrypt, CryptoCodecs::readParamsOfScrypt);
+    RecordCodec.register(module, Crypto.ParamsOfSign.class, CryptoCodecs::writeParamsOfSign, CryptoCodecs::readParamsOfSign);
+    RecordCodec.register(module, Crypto.ParamsOfSigningBoxSign.class, CryptoCodecs::writeParamsOfSigningBoxSign, CryptoCodecs::readParamsOfSigningBoxSign);
+    RecordCodec.register(module, Crypto.ParamsOfTonCrc16.class, CryptoCodecs::writeParamsOfTonCrc16, CryptoCodecs::readParamsOfTonCrc16);
+    RecordCodec.register(module, Crypto.ParamsOfVerifySignature.class, CryptoCodecs::writeParamsOfVerifySignature, CryptoCodecs::readParamsOfVerifySignature);
+    RecordCodec.register(module, Crypto.RegisteredCryptoBox.class, CryptoCodecs::writeRegisteredCryptoBox, CryptoCodecs::readRegisteredCryptoBox);
+    RecordCodec.register(module, Crypto.RegisteredEncryptionBox.class, CryptoCodecs::writeRegisteredEncryptionBox, CryptoCodecs::readRegisteredEncryptionBox);
+    RecordCodec.register(module, Crypto.RegisteredSigningBox.class, CryptoCodecs::writeRegisteredSigningBox, CryptoCodecs::readRegisteredSigningBox);
+    RecordCodec.register(module, Crypto.ResultOfChaCha20.class, CryptoCodecs::writeResultOfChaCha20, CryptoCodecs::readResultOfChaCha20);
+    RecordCodec.register(module, Crypto.ResultOfConvertPublicKeyToTonSafeFormat.class, CryptoCodecs::writeResultOfConvertPublicKeyToTonSafeFormat, CryptoCodecs::readResultOfConvertPublicKeyToTonSafeFormat);
+    RecordCodec.register(module, Crypto.ResultOfEncryptionBoxDecrypt.class, CryptoCodecs::writeResultOfEncryptionBoxDecrypt, CryptoCodecs::readResultOfEncryptionBoxDecrypt);
+    RecordCodec.register(module, Crypto.ResultOfEncryptionBoxEncrypt.class, CryptoCodecs::writeResultOfEncryptionBoxEncrypt, CryptoCodecs::readResultOfEncryptionBoxEncrypt);
+    RecordCodec.register(module, Crypto.ResultOfEncryptionBoxGetInfo.class, CryptoCodecs::writeResultOfEncryptionBoxGetInfo, CryptoCodecs::readResultOfEncryptionBoxGetInfo);
+    RecordCodec.register(module, Crypto.ResultOfFactorize.class, CryptoCodecs::writeResultOfFactorize, CryptoCodecs::readResultOfFactorize);
+    RecordCodec.register(module, Crypto.ResultOfGenerateRandomBytes.class, CryptoCodecs::writeResultOfGenerateRandomBytes, CryptoCodecs::readResultOfGenerateRandomBytes);
+    RecordCodec.register(module, Crypto.ResultOfGetCryptoBoxInfo.class, CryptoCodecs::writeResultOfGetCryptoBoxInfo, CryptoCodecs::readResultOfGetCryptoBoxInfo);
+    RecordCodec.register(module, Crypto.ResultOfGetCryptoBoxSeedPhrase.class, CryptoCodecs::writeResultOfGetCryptoBoxSeedPhrase, CryptoCodecs::readResultOfGetCryptoBoxSeedPhrase);
+    RecordCodec.register(module, Crypto.ResultOfHDKeyDeriveFromXPrv.class, CryptoCodecs::writeResultOfHDKeyDeriveFromXPrv, CryptoCodecs::readResultOfHDKeyDeriveFromXPrv);
+    RecordCodec.register(module, Crypto.ResultOfHDKeyDeriveFromXPrvPath.class, CryptoCodecs::writeResultOfHDKeyDeriveFromXPrvPath, CryptoCodecs::readResultOfHDKeyDeriveFromXPrvPath);
+    RecordCodec.register(module, Crypto.ResultOfHDKeyPublicFromXPrv.class, CryptoCodecs::writeResultOfHDKeyPublicFromXPrv, CryptoCodecs::readResultOfHDKeyPublicFromXPrv);
+    RecordCodec.register(module, Crypto.ResultOfHDKeySecretFromXPrv.class, CryptoCodecs::writeResultOfHDKeySecretFromXPrv, CryptoCodecs::readResultOfHDKeySecretFromXPrv);
+    RecordCodec.register(module, Crypto.ResultOfHDKeyXPrvFromMnemonic.class, CryptoCodecs::writeResultOfHDKeyXPrvFromMnemonic, CryptoCodecs::readResultOfHDKeyXPrvFromMnemonic);
+    RecordCodec.register(module, Crypto.ResultOfHash.class, CryptoCodecs::writeResultOfHash, CryptoCodecs::readResultOfHash);
+    RecordCodec.register(module, Crypto.ResultOfMnemonicFromEntropy.class, CryptoCodecs::writeResultOfMnemonicFromEntropy, CryptoCodecs::readResultOfMnemonicFromEntropy);
+    RecordCodec.register(module, Crypto.ResultOfMnemonicFromRandom.class, CryptoCodecs::writeResultOfMnemonicFromRandom, CryptoCodecs::readResultOfMnemonicFromRandom);
+    RecordCodec.register(module, Crypto.ResultOfMnemonicVerify.class, CryptoCodecs::writeResultOfMnemonicVerify, CryptoCodecs::readResultOfMnemonicVerify);
+    RecordCodec.register(module, Crypto.ResultOfMnemonicWords.class, CryptoCodecs::writeResultOfMnemonicWords, CryptoCodecs::readResultOfMnemonicWords);
+    RecordCodec.register(module, Crypto.ResultOfModularPower.class, CryptoCodecs::writeResultOfModularPower, CryptoCodecs::readResultOfModularPower);
+    RecordCodec.register(module, Crypto.ResultOfNaclBox.class, CryptoCodecs::writeResultOfNaclBox, CryptoCodecs::readResultOfNaclBox);
+    RecordCodec.register(module, Crypto.ResultOfNaclBoxOpen.class, CryptoCodecs::writeResultOfNaclBoxOpen, CryptoCodecs::readResultOfNaclBoxOpen);
+    RecordCodec.register(module, Crypto.ResultOfNaclSign.class, CryptoCodecs::writeResultOfNaclSign, CryptoCodecs::readResultOfNaclSign);
+    RecordCodec.register(module, Crypto.ResultOfNaclSignDetached.class, CryptoCodecs::writeResultOfNaclSignDetached, CryptoCodecs::readResultOfNaclSignDetached);
+    RecordCodec.register(module, Crypto.ResultOfNaclSignDetachedVerify.class, CryptoCodecs::writeResultOfNaclSignDetachedVerify, CryptoCodecs::readResultOfNaclSignDetachedVerify);
+    RecordCodec.register(module, Crypto.ResultOfNaclSignOpen.class, CryptoCodecs::writeResultOfNaclSignOpen, CryptoCodecs::readResultOfNaclSignOpen);
+    RecordCodec.register(module, Crypto.ResultOfScrypt.class, CryptoCodecs::writeResultOfScrypt, CryptoCodecs::readResultOfScrypt);
+    RecordCodec.register(module, Crypto.ResultOfSign.class, CryptoCodecs::writeResultOfSign, CryptoCodecs::readResultOfSign);
+    RecordCodec.register(module, Crypto.ResultOfSigningBoxGetPublicKey.class, CryptoCodecs::writeResultOfSigningBoxGetPublicKey, CryptoCodecs::readResultOfSigningBoxGetPublicKey);
+    RecordCodec.register(module, Crypto.ResultOfSigningBoxSign.class, CryptoCodecs::writeResultOfSigningBoxSign, CryptoCodecs::readResultOfSigningBoxSign);
+    RecordCodec.register(module, Crypto.ResultOfTonCrc16.class, CryptoCodecs::writeResultOfTonCrc16, CryptoCodecs::readResultOfTonCrc16);
+    RecordCodec.register(module, Crypto.ResultOfVerifySignature.class, CryptoCodecs::writeResultOfVerifySignature, CryptoCodecs::readResultOfVerifySignature);
+  }
+}
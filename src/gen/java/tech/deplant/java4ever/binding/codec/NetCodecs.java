@@ -0,0 +1,721 @@
+package tech.deplant.java4ever.binding.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.lang.Boolean;
+import java.lang.Long;
+import java.lang.String;
+import tech.deplant.java4ever.binding.Abi;
+import tech.deplant.java4ever.binding.Net;
+
+/**
+ * Streaming Jackson codecs of {@link Net} records.
+ */
+final class NetCodecs {
+  static void writeEndpointsSet(Net.EndpointsSet value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "endpoints", value.endpoints());
+    gen.writeEndObject();
+  }
+
+  static Net.EndpointsSet readEndpointsSet(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    String[] endpoints = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.EndpointsSet.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "endpoints" -> endpoints = RecordCodec.readValue(parser, context, String[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Net.EndpointsSet.class, fieldName);
+      }
+    }
+    return new Net.EndpointsSet(endpoints);
+  }
+
+  static void writeFieldAggregation(Net.FieldAggregation value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "field", value.field());
+    RecordCodec.writeValue(gen, provider, "fn", value.fn());
+    gen.writeEndObject();
+  }
+
+  static Net.FieldAggregation readFieldAggregation(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String field = null;
+    Net.AggregationFn fn = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.FieldAggregation.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "field" -> field = RecordCodec.readString(parser, context);
+        case "fn" -> fn = RecordCodec.readValue(parser, context, Net.AggregationFn.class);
+        default -> RecordCodec.skipUnknown(parser, context, Net.FieldAggregation.class, fieldName);
+      }
+    }
+    return new Net.FieldAggregation(field, fn);
+  }
+
+  static void writeMessageNode(Net.MessageNode value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "id", value.id());
+    RecordCodec.writeString(gen, "src_transaction_id", value.srcTransactionId());
+    RecordCodec.writeString(gen, "dst_transaction_id", value.dstTransactionId());
+    RecordCodec.writeString(gen, "src", value.src());
+    RecordCodec.writeString(gen, "dst", value.dst());
+    RecordCodec.writeString(gen, "value", value.value());
+    RecordCodec.writeBoolean(gen, "bounce", value.bounce());
+    RecordCodec.writeValue(gen, provider, "decoded_body", value.decodedBody());
+    gen.writeEndObject();
+  }
+
+  static Net.MessageNode readMessageNode(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    String id = null;
+    String srcTransactionId = null;
+    String dstTransactionId = null;
+    String src = null;
+    String dst = null;
+    String value = null;
+    Boolean bounce = null;
+    Abi.DecodedMessageBody decodedBody = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.MessageNode.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "id" -> id = RecordCodec.readString(parser, context);
+        case "src_transaction_id" -> srcTransactionId = RecordCodec.readString(parser, context);
+        case "dst_transaction_id" -> dstTransactionId = RecordCodec.readString(parser, context);
+        case "src" -> src = RecordCodec.readString(parser, context);
+        case "dst" -> dst = RecordCodec.readString(parser, context);
+        case "value" -> value = RecordCodec.readString(parser, context);
+        case "bounce" -> bounce = RecordCodec.readBoolean(parser, context);
+        case "decoded_body" -> decodedBody = RecordCodec.readValue(parser, context, Abi.DecodedMessageBody.class);
+        default -> RecordCodec.skipUnknown(parser, context, Net.MessageNode.class, fieldName);
+      }
+    }
+    return new Net.MessageNode(id, srcTransactionId, dstTransactionId, src, dst, value, bounce, decodedBody);
+  }
+
+  static void writeOrderBy(Net.OrderBy value, JsonGenerator gen, SerializerProvider provider) throws
+      IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "path", value.path());
+    RecordCodec.writeValue(gen, provider, "direction", value.direction());
+    gen.writeEndObject();
+  }
+
+  static Net.OrderBy readOrderBy(JsonParser parser, DeserializationContext context) throws
+      IOException {
+    String path = null;
+    Net.SortDirection direction = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.OrderBy.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "path" -> path = RecordCodec.readString(parser, context);
+        case "direction" -> direction = RecordCodec.readValue(parser, context, Net.SortDirection.class);
+        default -> RecordCodec.skipUnknown(parser, context, Net.OrderBy.class, fieldName);
+      }
+    }
+    return new Net.OrderBy(path, direction);
+  }
+
+  static void writeParamsOfBatchQuery(Net.ParamsOfBatchQuery value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "operations", value.operations());
+    gen.writeEndObject();
+  }
+
+  static Net.ParamsOfBatchQuery readParamsOfBatchQuery(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Net.ParamsOfQueryOperation[] operations = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ParamsOfBatchQuery.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "operations" -> operations = RecordCodec.readValue(parser, context, Net.ParamsOfQueryOperation[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ParamsOfBatchQuery.class, fieldName);
+      }
+    }
+    return new Net.ParamsOfBatchQuery(operations);
+  }
+
+  static void writeParamsOfCreateBlockIterator(Net.ParamsOfCreateBlockIterator value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "start_time", value.startTime());
+    RecordCodec.writeLong(gen, "end_time", value.endTime());
+    RecordCodec.writeValue(gen, provider, "shard_filter", value.shardFilter());
+    RecordCodec.writeString(gen, "result", value.result());
+    gen.writeEndObject();
+  }
+
+  static Net.ParamsOfCreateBlockIterator readParamsOfCreateBlockIterator(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long startTime = null;
+    Long endTime = null;
+    String[] shardFilter = null;
+    String result = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ParamsOfCreateBlockIterator.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "start_time" -> startTime = RecordCodec.readLong(parser, context);
+        case "end_time" -> endTime = RecordCodec.readLong(parser, context);
+        case "shard_filter" -> shardFilter = RecordCodec.readValue(parser, context, String[].class);
+        case "result" -> result = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ParamsOfCreateBlockIterator.class, fieldName);
+      }
+    }
+    return new Net.ParamsOfCreateBlockIterator(startTime, endTime, shardFilter, result);
+  }
+
+  static void writeParamsOfCreateTransactionIterator(Net.ParamsOfCreateTransactionIterator value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "start_time", value.startTime());
+    RecordCodec.writeLong(gen, "end_time", value.endTime());
+    RecordCodec.writeValue(gen, provider, "shard_filter", value.shardFilter());
+    RecordCodec.writeValue(gen, provider, "accounts_filter", value.accountsFilter());
+    RecordCodec.writeString(gen, "result", value.result());
+    RecordCodec.writeBoolean(gen, "include_transfers", value.includeTransfers());
+    gen.writeEndObject();
+  }
+
+  static Net.ParamsOfCreateTransactionIterator readParamsOfCreateTransactionIterator(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long startTime = null;
+    Long endTime = null;
+    String[] shardFilter = null;
+    String[] accountsFilter = null;
+    String result = null;
+    Boolean includeTransfers = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ParamsOfCreateTransactionIterator.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "start_time" -> startTime = RecordCodec.readLong(parser, context);
+        case "end_time" -> endTime = RecordCodec.readLong(parser, context);
+        case "shard_filter" -> shardFilter = RecordCodec.readValue(parser, context, String[].class);
+        case "accounts_filter" -> accountsFilter = RecordCodec.readValue(parser, context, String[].class);
+        case "result" -> result = RecordCodec.readString(parser, context);
+        case "include_transfers" -> includeTransfers = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ParamsOfCreateTransactionIterator.class, fieldName);
+      }
+    }
+    return new Net.ParamsOfCreateTransactionIterator(startTime, endTime, shardFilter, accountsFilter, result, includeTransfers);
+  }
+
+  static void writeParamsOfFindLastShardBlock(Net.ParamsOfFindLastShardBlock value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "address", value.address());
+    gen.writeEndObject();
+  }
+
+  static Net.ParamsOfFindLastShardBlock readParamsOfFindLastShardBlock(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String address = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ParamsOfFindLastShardBlock.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "address" -> address = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ParamsOfFindLastShardBlock.class, fieldName);
+      }
+    }
+    return new Net.ParamsOfFindLastShardBlock(address);
+  }
+
+  static void writeParamsOfIteratorNext(Net.ParamsOfIteratorNext value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "iterator", value.iterator());
+    RecordCodec.writeLong(gen, "limit", value.limit());
+    RecordCodec.writeBoolean(gen, "return_resume_state", value.returnResumeState());
+    gen.writeEndObject();
+  }
+
+  static Net.ParamsOfIteratorNext readParamsOfIteratorNext(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long iterator = null;
+    Long limit = null;
+    Boolean returnResumeState = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ParamsOfIteratorNext.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "iterator" -> iterator = RecordCodec.readLong(parser, context);
+        case "limit" -> limit = RecordCodec.readLong(parser, context);
+        case "return_resume_state" -> returnResumeState = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ParamsOfIteratorNext.class, fieldName);
+      }
+    }
+    return new Net.ParamsOfIteratorNext(iterator, limit, returnResumeState);
+  }
+
+  static void writeParamsOfQuery(Net.ParamsOfQuery value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "query", value.query());
+    RecordCodec.writeValue(gen, provider, "variables", value.variables());
+    gen.writeEndObject();
+  }
+
+  static Net.ParamsOfQuery readParamsOfQuery(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String query = null;
+    JsonNode variables = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ParamsOfQuery.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "query" -> query = RecordCodec.readString(parser, context);
+        case "variables" -> variables = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ParamsOfQuery.class, fieldName);
+      }
+    }
+    return new Net.ParamsOfQuery(query, variables);
+  }
+
+  static void writeParamsOfQueryTransactionTree(Net.ParamsOfQueryTransactionTree value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "in_msg", value.inMsg());
+    RecordCodec.writeValue(gen, provider, "abi_registry", value.abiRegistry());
+    RecordCodec.writeLong(gen, "timeout", value.timeout());
+    RecordCodec.writeLong(gen, "transaction_max_count", value.transactionMaxCount());
+    gen.writeEndObject();
+  }
+
+  static Net.ParamsOfQueryTransactionTree readParamsOfQueryTransactionTree(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String inMsg = null;
+    Abi.ABI[] abiRegistry = null;
+    Long timeout = null;
+    Long transactionMaxCount = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ParamsOfQueryTransactionTree.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "in_msg" -> inMsg = RecordCodec.readString(parser, context);
+        case "abi_registry" -> abiRegistry = RecordCodec.readValue(parser, context, Abi.ABI[].class);
+        case "timeout" -> timeout = RecordCodec.readLong(parser, context);
+        case "transaction_max_count" -> transactionMaxCount = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ParamsOfQueryTransactionTree.class, fieldName);
+      }
+    }
+    return new Net.ParamsOfQueryTransactionTree(inMsg, abiRegistry, timeout, transactionMaxCount);
+  }
+
+  static void writeParamsOfResumeBlockIterator(Net.ParamsOfResumeBlockIterator value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "resume_state", value.resumeState());
+    gen.writeEndObject();
+  }
+
+  static Net.ParamsOfResumeBlockIterator readParamsOfResumeBlockIterator(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode resumeState = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ParamsOfResumeBlockIterator.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "resume_state" -> resumeState = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ParamsOfResumeBlockIterator.class, fieldName);
+      }
+    }
+    return new Net.ParamsOfResumeBlockIterator(resumeState);
+  }
+
+  static void writeParamsOfResumeTransactionIterator(Net.ParamsOfResumeTransactionIterator value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "resume_state", value.resumeState());
+    RecordCodec.writeValue(gen, provider, "accounts_filter", value.accountsFilter());
+    gen.writeEndObject();
+  }
+
+  static Net.ParamsOfResumeTransactionIterator readParamsOfResumeTransactionIterator(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode resumeState = null;
+    String[] accountsFilter = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ParamsOfResumeTransactionIterator.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "resume_state" -> resumeState = RecordCodec.readTree(parser, context);
+        case "accounts_filter" -> accountsFilter = RecordCodec.readValue(parser, context, String[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ParamsOfResumeTransactionIterator.class, fieldName);
+      }
+    }
+    return new Net.ParamsOfResumeTransactionIterator(resumeState, accountsFilter);
+  }
+
+  static void writeParamsOfSubscribe(Net.ParamsOfSubscribe value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "subscription", value.subscription());
+    RecordCodec.writeValue(gen, provider, "variables", value.variables());
+    gen.writeEndObject();
+  }
+
+  static Net.ParamsOfSubscribe readParamsOfSubscribe(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String subscription = null;
+    JsonNode variables = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ParamsOfSubscribe.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "subscription" -> subscription = RecordCodec.readString(parser, context);
+        case "variables" -> variables = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ParamsOfSubscribe.class, fieldName);
+      }
+    }
+    return new Net.ParamsOfSubscribe(subscription, variables);
+  }
+
+  static void writeParamsOfSubscribeCollection(Net.ParamsOfSubscribeCollection value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "collection", value.collection());
+    RecordCodec.writeValue(gen, provider, "filter", value.filter());
+    RecordCodec.writeString(gen, "result", value.result());
+    gen.writeEndObject();
+  }
+
+  static Net.ParamsOfSubscribeCollection readParamsOfSubscribeCollection(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String collection = null;
+    JsonNode filter = null;
+    String result = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ParamsOfSubscribeCollection.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "collection" -> collection = RecordCodec.readString(parser, context);
+        case "filter" -> filter = RecordCodec.readTree(parser, context);
+        case "result" -> result = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ParamsOfSubscribeCollection.class, fieldName);
+      }
+    }
+    return new Net.ParamsOfSubscribeCollection(collection, filter, result);
+  }
+
+  static void writeRegisteredIterator(Net.RegisteredIterator value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "handle", value.handle());
+    gen.writeEndObject();
+  }
+
+  static Net.RegisteredIterator readRegisteredIterator(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long handle = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.RegisteredIterator.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "handle" -> handle = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.RegisteredIterator.class, fieldName);
+      }
+    }
+    return new Net.RegisteredIterator(handle);
+  }
+
+  static void writeResultOfAggregateCollection(Net.ResultOfAggregateCollection value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "values", value.values());
+    gen.writeEndObject();
+  }
+
+  static Net.ResultOfAggregateCollection readResultOfAggregateCollection(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode values = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ResultOfAggregateCollection.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "values" -> values = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ResultOfAggregateCollection.class, fieldName);
+      }
+    }
+    return new Net.ResultOfAggregateCollection(values);
+  }
+
+  static void writeResultOfBatchQuery(Net.ResultOfBatchQuery value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "results", value.results());
+    gen.writeEndObject();
+  }
+
+  static Net.ResultOfBatchQuery readResultOfBatchQuery(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode[] results = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ResultOfBatchQuery.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "results" -> results = RecordCodec.readValue(parser, context, JsonNode[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ResultOfBatchQuery.class, fieldName);
+      }
+    }
+    return new Net.ResultOfBatchQuery(results);
+  }
+
+  static void writeResultOfFindLastShardBlock(Net.ResultOfFindLastShardBlock value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "block_id", value.blockId());
+    gen.writeEndObject();
+  }
+
+  static Net.ResultOfFindLastShardBlock readResultOfFindLastShardBlock(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String blockId = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ResultOfFindLastShardBlock.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "block_id" -> blockId = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ResultOfFindLastShardBlock.class, fieldName);
+      }
+    }
+    return new Net.ResultOfFindLastShardBlock(blockId);
+  }
+
+  static void writeResultOfGetEndpoints(Net.ResultOfGetEndpoints value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "query", value.query());
+    RecordCodec.writeValue(gen, provider, "endpoints", value.endpoints());
+    gen.writeEndObject();
+  }
+
+  static Net.ResultOfGetEndpoints readResultOfGetEndpoints(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String query = null;
+    String[] endpoints = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ResultOfGetEndpoints.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "query" -> query = RecordCodec.readString(parser, context);
+        case "endpoints" -> endpoints = RecordCodec.readValue(parser, context, String[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ResultOfGetEndpoints.class, fieldName);
+      }
+    }
+    return new Net.ResultOfGetEndpoints(query, endpoints);
+  }
+
+  static void writeResultOfGetSignatureId(Net.ResultOfGetSignatureId value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "signature_id", value.signatureId());
+    gen.writeEndObject();
+  }
+
+  static Net.ResultOfGetSignatureId readResultOfGetSignatureId(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long signatureId = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ResultOfGetSignatureId.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "signature_id" -> signatureId = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ResultOfGetSignatureId.class, fieldName);
+      }
+    }
+    return new Net.ResultOfGetSignatureId(signatureId);
+  }
+
+  static void writeResultOfIteratorNext(Net.ResultOfIteratorNext value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "items", value.items());
+    RecordCodec.writeBoolean(gen, "has_more", value.hasMore());
+    RecordCodec.writeValue(gen, provider, "resume_state", value.resumeState());
+    gen.writeEndObject();
+  }
+
+  static Net.ResultOfIteratorNext readResultOfIteratorNext(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode[] items = null;
+    Boolean hasMore = null;
+    JsonNode resumeState = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ResultOfIteratorNext.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "items" -> items = RecordCodec.readValue(parser, context, JsonNode[].class);
+        case "has_more" -> hasMore = RecordCodec.readBoolean(parser, context);
+        case "resume_state" -> resumeState = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ResultOfIteratorNext.class, fieldName);
+      }
+    }
+    return new Net.ResultOfIteratorNext(items, hasMore, resumeState);
+  }
+
+  static void writeResultOfQuery(Net.ResultOfQuery value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "result", value.result());
+    gen.writeEndObject();
+  }
+
+  static Net.ResultOfQuery readResultOfQuery(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode result = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ResultOfQuery.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "result" -> result = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ResultOfQuery.class, fieldName);
+      }
+    }
+    return new Net.ResultOfQuery(result);
+  }
+
+  static void writeResultOfQueryCollection(Net.ResultOfQueryCollection value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "result", value.result());
+    gen.writeEndObject();
+  }
+
+  static Net.ResultOfQueryCollection readResultOfQueryCollection(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode[] result = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ResultOfQueryCollection.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "result" -> result = RecordCodec.readValue(parser, context, JsonNode[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ResultOfQueryCollection.class, fieldName);
+      }
+    }
+    return new Net.ResultOfQueryCollection(result);
+  }
+
+  static void writeResultOfQueryTransactionTree(Net.ResultOfQueryTransactionTree value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "messages", value.messages());
+    RecordCodec.writeValue(gen, provider, "transactions", value.transactions());
+    gen.writeEndObject();
+  }
+
+  static Net.ResultOfQueryTransactionTree readResultOfQueryTransactionTree(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Net.MessageNode[] messages = null;
+    Net.TransactionNode[] transactions = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ResultOfQueryTransactionTree.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "messages" -> messages = RecordCodec.readValue(parser, context, Net.MessageNode[].class);
+        case "transactions" -> transactions = RecordCodec.readValue(parser, context, Net.TransactionNode[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ResultOfQueryTransactionTree.class, fieldName);
+      }
+    }
+    return new Net.ResultOfQueryTransactionTree(messages, transactions);
+  }
+
+  static void writeResultOfSubscribeCollection(Net.ResultOfSubscribeCollection value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "handle", value.handle());
+    gen.writeEndObject();
+  }
+
+  static Net.ResultOfSubscribeCollection readResultOfSubscribeCollection(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long handle = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ResultOfSubscribeCollection.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "handle" -> handle = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ResultOfSubscribeCollection.class, fieldName);
+      }
+    }
+    return new Net.ResultOfSubscribeCollection(handle);
+  }
+
+  static void writeResultOfWaitForCollection(Net.ResultOfWaitForCollection value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "result", value.result());
+    gen.writeEndObject();
+  }
+
+  static Net.ResultOfWaitForCollection readResultOfWaitForCollection(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode result = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.ResultOfWaitForCollection.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "result" -> result = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.ResultOfWaitForCollection.class, fieldName);
+      }
+    }
+    return new Net.ResultOfWaitForCollection(result);
+  }
+
+  static void writeTransactionNode(Net.TransactionNode value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "id", value.id());
+    RecordCodec.writeString(gen, "in_msg", value.inMsg());
+    RecordCodec.writeValue(gen, provider, "out_msgs", value.outMsgs());
+    RecordCodec.writeString(gen, "account_addr", value.accountAddr());
+    RecordCodec.writeString(gen, "total_fees", value.totalFees());
+    RecordCodec.writeBoolean(gen, "aborted", value.aborted());
+    RecordCodec.writeLong(gen, "exit_code", value.exitCode());
+    gen.writeEndObject();
+  }
+
+  static Net.TransactionNode readTransactionNode(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String id = null;
+    String inMsg = null;
+    String[] outMsgs = null;
+    String accountAddr = null;
+    String totalFees = null;
+    Boolean aborted = null;
+    Long exitCode = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Net.TransactionNode.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "id" -> id = RecordCodec.readString(parser, context);
+        case "in_msg" -> inMsg = RecordCodec.readString(parser, context);
+        case "out_msgs" -> outMsgs = RecordCodec.readValue(parser, context, String[].class);
+        case "account_addr" -> accountAddr = RecordCodec.readString(parser, context);
+        case "total_fees" -> totalFees = RecordCodec.readString(parser, context);
+        case "aborted" -> aborted = RecordCodec.readBoolean(parser, context);
+        case "exit_code" -> exitCode = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Net.TransactionNode.class, fieldName);
+      }
+    }
+    return new Net.TransactionNode(id, inMsg, outMsgs, accountAddr, totalFees, aborted, exitCode);
+  }
+
+  static void register(SimpleModule module) {
+    RecordCodec.register(module, Net.EndpointsSet.class, NetCodecs::writeEndpointsSet, NetCodecs::readEndpointsSet);
+    RecordCodec.register(module, Net.FieldAggregation.class, NetCodecs::writeFieldAggregation, NetCodecs::readFieldAggregation);
+    RecordCodec.register(module, Net.MessageNode.class, NetCodecs::writeMessageNode, NetCodecs::readMessageNode);
+    RecordCodec.register(module, Net.OrderBy.class, NetCodecs::writeOrderBy, NetCodecs::readOrderBy);
+    RecordCodec.register(module, Net.ParamsOfBatchQuery.class, NetCodecs::writeParamsOfBatchQuery, NetCodecs::readParamsOfBatchQuery);
+    RecordCodec.register(module, Net.ParamsOfCreateBlockIterator.class, NetCodecs::writeParamsOfCreateBlockIterator, NetCodecs::readParamsOfCreateBlockIterator);
+    RecordCodec.register(module, Net.ParamsOfCreateTransactionIterator.class, NetCodecs::writeParamsOfCreateTransactionIterator, NetCodecs::readParamsOfCreateTransactionIterator);
+    RecordCodec.register(module, Net.ParamsOfFindLastShardBlock.class, NetCodecs::writeParamsOfFindLastShardBlock, NetCodecs::readParamsOfFindLastShardBlock);
+    RecordCodec.register(module, Net.ParamsOfIteratorNext.class, NetCodecs::writeParamsOfIteratorNext, NetCodecs::readParamsOfIteratorNext);
+    RecordCodec.register(module, Net.ParamsOfQuery.class, NetCodecs::writeParamsOfQuery, NetCodecs::readParamsOfQuery);
+    RecordCodec.register(module, Net.ParamsOfQueryTransactionTree.class, NetCodecs::writeParamsOfQueryTransactionTree, NetCodecs::readParamsOfQueryTransactionTree);
+    RecordCodec.register(module, Net.ParamsOfResumeBlockIterator.class, NetCodecs::writeParamsOfResumeBlockIterator, NetCodecs::readParamsOfResumeBlockIterator);
+    RecordCodec.register(module, Net.ParamsOfResumeTransactionIterator.class, NetCodecs::writeParamsOfResumeTransactionIterator, NetCodecs::readParamsOfResumeTransactionIterator);
+    RecordCodec.register(module, Net.ParamsOfSubscribe.class, NetCodecs::writeParamsOfSubscribe, NetCodecs::readParamsOfSubscribe);
+    RecordCodec.register(module, Net.ParamsOfSubscribeCollection.class, NetCodecs::writeParamsOfSubscribeCollection, NetCodecs::readParamsOfSubscribeCollection);
+    RecordCodec.register(module, Net.RegisteredIterator.class, NetCodecs::writeRegisteredIterator, NetCodecs::readRegisteredIterator);
+    RecordCodec.register(module, Net.ResultOfAggregateCollection.class, NetCodecs::writeResultOfAggregateCollection, NetCodecs::readResultOfAggregateCollection);
+    RecordCodec.register(module, Net.ResultOfBatchQuery.class, NetCodecs::writeResultOfBatchQuery, NetCodecs::readResultOfBatchQuery);
+    RecordCodec.register(module, Net.ResultOfFindLastShardBlock.class, NetCodecs::writeResultOfFindLastShardBlock, NetCodecs::readResultOfFindLastShardBlock);
+    RecordCodec.register(module, Net.ResultOfGetEndpoints.class, NetCodecs::writeResultOfGetEndpoints, NetCodecs::readResultOfGetEndpoints);
+    RecordCodec.register(module, Net.ResultOfGetSignatureId.class, NetCodecs::writeResultOfGetSignatureId, NetCodecs::readResultOfGetSignatureId);
+    RecordCodec.register(module, Net.ResultOfIteratorNext.class, NetCodecs::writeResultOfIteratorNext, NetCodecs::readResultOfIteratorNext);
+    RecordCodec.register(module, Net.ResultOfQuery.class, NetCodecs::writeResultOfQuery, NetCodecs::readResultOfQuery);
+    RecordCodec.register(module, Net.ResultOfQueryCollection.class, NetCodecs::writeResultOfQueryCollection, NetCodecs::readResultOfQueryCollection);
+    RecordCodec.register(module, Net.ResultOfQueryTransactionTree.class, NetCodecs::writeResultOfQueryTransactionTree, NetCodecs::readResultOfQueryTransactionTree);
+    RecordCodec.register(module, Net.ResultOfSubscribeCollection.class, NetCodecs::writeResultOfSubscribeCollection, NetCodecs::readResultOfSubscribeCollection);
+    RecordCodec.register(module, Net.ResultOfWaitForCollection.class, NetCodecs::writeResultOfWaitForCollection, NetCodecs::readResultOfWaitForCollection);
+    RecordCodec.register(module, Net.TransactionNode.class, NetCodecs::writeTransactionNode, NetCodecs::readTransactionNode);
+  }
+}
@@ -0,0 +1,500 @@
+package tech.deplant.java4ever.binding.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.lang.Boolean;
+import java.lang.Long;
+import java.lang.String;
+import tech.deplant.java4ever.binding.Abi;
+import tech.deplant.java4ever.binding.Processing;
+import tech.deplant.java4ever.binding.Tvm;
+
+/**
+ * Streaming Jackson codecs of {@link Processing} records.
+ */
+final class ProcessingCodecs {
+  static void writeDecodedOutput(Processing.DecodedOutput value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "out_messages", value.outMessages());
+    RecordCodec.writeValue(gen, provider, "output", value.output());
+    gen.writeEndObject();
+  }
+
+  static Processing.DecodedOutput readDecodedOutput(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.DecodedMessageBody[] outMessages = null;
+    JsonNode output = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.DecodedOutput.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "out_messages" -> outMessages = RecordCodec.readValue(parser, context, Abi.DecodedMessageBody[].class);
+        case "output" -> output = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.DecodedOutput.class, fieldName);
+      }
+    }
+    return new Processing.DecodedOutput(outMessages, output);
+  }
+
+  static void writeMessageMonitoringParams(Processing.MessageMonitoringParams value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "message", value.message());
+    RecordCodec.writeLong(gen, "wait_until", value.waitUntil());
+    RecordCodec.writeValue(gen, provider, "user_data", value.userData());
+    gen.writeEndObject();
+  }
+
+  static Processing.MessageMonitoringParams readMessageMonitoringParams(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Processing.MonitoredMessage message = null;
+    Long waitUntil = null;
+    JsonNode userData = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.MessageMonitoringParams.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "message" -> message = RecordCodec.readValue(parser, context, Processing.MonitoredMessage.class);
+        case "wait_until" -> waitUntil = RecordCodec.readLong(parser, context);
+        case "user_data" -> userData = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.MessageMonitoringParams.class, fieldName);
+      }
+    }
+    return new Processing.MessageMonitoringParams(message, waitUntil, userData);
+  }
+
+  static void writeMessageMonitoringResult(Processing.MessageMonitoringResult value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "hash", value.hash());
+    RecordCodec.writeValue(gen, provider, "status", value.status());
+    RecordCodec.writeValue(gen, provider, "transaction", value.transaction());
+    RecordCodec.writeString(gen, "error", value.error());
+    RecordCodec.writeValue(gen, provider, "user_data", value.userData());
+    gen.writeEndObject();
+  }
+
+  static Processing.MessageMonitoringResult readMessageMonitoringResult(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String hash = null;
+    Processing.MessageMonitoringStatus status = null;
+    Processing.MessageMonitoringTransaction transaction = null;
+    String error = null;
+    JsonNode userData = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.MessageMonitoringResult.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "hash" -> hash = RecordCodec.readString(parser, context);
+        case "status" -> status = RecordCodec.readValue(parser, context, Processing.MessageMonitoringStatus.class);
+        case "transaction" -> transaction = RecordCodec.readValue(parser, context, Processing.MessageMonitoringTransaction.class);
+        case "error" -> error = RecordCodec.readString(parser, context);
+        case "user_data" -> userData = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.MessageMonitoringResult.class, fieldName);
+      }
+    }
+    return new Processing.MessageMonitoringResult(hash, status, transaction, error, userData);
+  }
+
+  static void writeMessageMonitoringTransaction(Processing.MessageMonitoringTransaction value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "hash", value.hash());
+    RecordCodec.writeBoolean(gen, "aborted", value.aborted());
+    RecordCodec.writeValue(gen, provider, "compute", value.compute());
+    gen.writeEndObject();
+  }
+
+  static Processing.MessageMonitoringTransaction readMessageMonitoringTransaction(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String hash = null;
+    Boolean aborted = null;
+    Processing.MessageMonitoringTransactionCompute compute = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.MessageMonitoringTransaction.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "hash" -> hash = RecordCodec.readString(parser, context);
+        case "aborted" -> aborted = RecordCodec.readBoolean(parser, context);
+        case "compute" -> compute = RecordCodec.readValue(parser, context, Processing.MessageMonitoringTransactionCompute.class);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.MessageMonitoringTransaction.class, fieldName);
+      }
+    }
+    return new Processing.MessageMonitoringTransaction(hash, aborted, compute);
+  }
+
+  static void writeMessageMonitoringTransactionCompute(Processing.MessageMonitoringTransactionCompute value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "exit_code", value.exitCode());
+    gen.writeEndObject();
+  }
+
+  static Processing.MessageMonitoringTransactionCompute readMessageMonitoringTransactionCompute(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long exitCode = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.MessageMonitoringTransactionCompute.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "exit_code" -> exitCode = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.MessageMonitoringTransactionCompute.class, fieldName);
+      }
+    }
+    return new Processing.MessageMonitoringTransactionCompute(exitCode);
+  }
+
+  static void writeMessageSendingParams(Processing.MessageSendingParams value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "boc", value.boc());
+    RecordCodec.writeLong(gen, "wait_until", value.waitUntil());
+    RecordCodec.writeValue(gen, provider, "user_data", value.userData());
+    gen.writeEndObject();
+  }
+
+  static Processing.MessageSendingParams readMessageSendingParams(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String boc = null;
+    Long waitUntil = null;
+    JsonNode userData = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.MessageSendingParams.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "boc" -> boc = RecordCodec.readString(parser, context);
+        case "wait_until" -> waitUntil = RecordCodec.readLong(parser, context);
+        case "user_data" -> userData = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.MessageSendingParams.class, fieldName);
+      }
+    }
+    return new Processing.MessageSendingParams(boc, waitUntil, userData);
+  }
+
+  static void writeMonitoringQueueInfo(Processing.MonitoringQueueInfo value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeLong(gen, "unresolved", value.unresolved());
+    RecordCodec.writeLong(gen, "resolved", value.resolved());
+    gen.writeEndObject();
+  }
+
+  static Processing.MonitoringQueueInfo readMonitoringQueueInfo(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Long unresolved = null;
+    Long resolved = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.MonitoringQueueInfo.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "unresolved" -> unresolved = RecordCodec.readLong(parser, context);
+        case "resolved" -> resolved = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.MonitoringQueueInfo.class, fieldName);
+      }
+    }
+    return new Processing.MonitoringQueueInfo(unresolved, resolved);
+  }
+
+  static void writeParamsOfCancelMonitor(Processing.ParamsOfCancelMonitor value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "queue", value.queue());
+    gen.writeEndObject();
+  }
+
+  static Processing.ParamsOfCancelMonitor readParamsOfCancelMonitor(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String queue = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.ParamsOfCancelMonitor.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "queue" -> queue = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.ParamsOfCancelMonitor.class, fieldName);
+      }
+    }
+    return new Processing.ParamsOfCancelMonitor(queue);
+  }
+
+  static void writeParamsOfFetchNextMonitorResults(Processing.ParamsOfFetchNextMonitorResults value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "queue", value.queue());
+    RecordCodec.writeValue(gen, provider, "wait_mode", value.waitMode());
+    gen.writeEndObject();
+  }
+
+  static Processing.ParamsOfFetchNextMonitorResults readParamsOfFetchNextMonitorResults(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String queue = null;
+    Processing.MonitorFetchWaitMode waitMode = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.ParamsOfFetchNextMonitorResults.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "queue" -> queue = RecordCodec.readString(parser, context);
+        case "wait_mode" -> waitMode = RecordCodec.readValue(parser, context, Processing.MonitorFetchWaitMode.class);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.ParamsOfFetchNextMonitorResults.class, fieldName);
+      }
+    }
+    return new Processing.ParamsOfFetchNextMonitorResults(queue, waitMode);
+  }
+
+  static void writeParamsOfGetMonitorInfo(Processing.ParamsOfGetMonitorInfo value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "queue", value.queue());
+    gen.writeEndObject();
+  }
+
+  static Processing.ParamsOfGetMonitorInfo readParamsOfGetMonitorInfo(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String queue = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.ParamsOfGetMonitorInfo.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "queue" -> queue = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.ParamsOfGetMonitorInfo.class, fieldName);
+      }
+    }
+    return new Processing.ParamsOfGetMonitorInfo(queue);
+  }
+
+  static void writeParamsOfMonitorMessages(Processing.ParamsOfMonitorMessages value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "queue", value.queue());
+    RecordCodec.writeValue(gen, provider, "messages", value.messages());
+    gen.writeEndObject();
+  }
+
+  static Processing.ParamsOfMonitorMessages readParamsOfMonitorMessages(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String queue = null;
+    Processing.MessageMonitoringParams[] messages = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.ParamsOfMonitorMessages.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "queue" -> queue = RecordCodec.readString(parser, context);
+        case "messages" -> messages = RecordCodec.readValue(parser, context, Processing.MessageMonitoringParams[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.ParamsOfMonitorMessages.class, fieldName);
+      }
+    }
+    return new Processing.ParamsOfMonitorMessages(queue, messages);
+  }
+
+  static void writeParamsOfProcessMessage(Processing.ParamsOfProcessMessage value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "message_encode_params", value.messageEncodeParams());
+    RecordCodec.writeBoolean(gen, "send_events", value.sendEvents());
+    gen.writeEndObject();
+  }
+
+  static Processing.ParamsOfProcessMessage readParamsOfProcessMessage(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ParamsOfEncodeMessage messageEncodeParams = null;
+    Boolean sendEvents = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.ParamsOfProcessMessage.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "message_encode_params" -> messageEncodeParams = RecordCodec.readValue(parser, context, Abi.ParamsOfEncodeMessage.class);
+        case "send_events" -> sendEvents = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.ParamsOfProcessMessage.class, fieldName);
+      }
+    }
+    return new Processing.ParamsOfProcessMessage(messageEncodeParams, sendEvents);
+  }
+
+  static void writeParamsOfSendMessage(Processing.ParamsOfSendMessage value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeBoolean(gen, "send_events", value.sendEvents());
+    gen.writeEndObject();
+  }
+
+  static Processing.ParamsOfSendMessage readParamsOfSendMessage(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String message = null;
+    Abi.ABI abi = null;
+    Boolean sendEvents = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.ParamsOfSendMessage.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "send_events" -> sendEvents = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.ParamsOfSendMessage.class, fieldName);
+      }
+    }
+    return new Processing.ParamsOfSendMessage(message, abi, sendEvents);
+  }
+
+  static void writeParamsOfSendMessages(Processing.ParamsOfSendMessages value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "messages", value.messages());
+    RecordCodec.writeString(gen, "monitor_queue", value.monitorQueue());
+    gen.writeEndObject();
+  }
+
+  static Processing.ParamsOfSendMessages readParamsOfSendMessages(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Processing.MessageSendingParams[] messages = null;
+    String monitorQueue = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.ParamsOfSendMessages.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "messages" -> messages = RecordCodec.readValue(parser, context, Processing.MessageSendingParams[].class);
+        case "monitor_queue" -> monitorQueue = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.ParamsOfSendMessages.class, fieldName);
+      }
+    }
+    return new Processing.ParamsOfSendMessages(messages, monitorQueue);
+  }
+
+  static void writeParamsOfWaitForTransaction(Processing.ParamsOfWaitForTransaction value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeString(gen, "shard_block_id", value.shardBlockId());
+    RecordCodec.writeBoolean(gen, "send_events", value.sendEvents());
+    RecordCodec.writeValue(gen, provider, "sending_endpoints", value.sendingEndpoints());
+    gen.writeEndObject();
+  }
+
+  static Processing.ParamsOfWaitForTransaction readParamsOfWaitForTransaction(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Abi.ABI abi = null;
+    String message = null;
+    String shardBlockId = null;
+    Boolean sendEvents = null;
+    String[] sendingEndpoints = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.ParamsOfWaitForTransaction.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "shard_block_id" -> shardBlockId = RecordCodec.readString(parser, context);
+        case "send_events" -> sendEvents = RecordCodec.readBoolean(parser, context);
+        case "sending_endpoints" -> sendingEndpoints = RecordCodec.readValue(parser, context, String[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.ParamsOfWaitForTransaction.class, fieldName);
+      }
+    }
+    return new Processing.ParamsOfWaitForTransaction(abi, message, shardBlockId, sendEvents, sendingEndpoints);
+  }
+
+  static void writeResultOfFetchNextMonitorResults(Processing.ResultOfFetchNextMonitorResults value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "results", value.results());
+    gen.writeEndObject();
+  }
+
+  static Processing.ResultOfFetchNextMonitorResults readResultOfFetchNextMonitorResults(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Processing.MessageMonitoringResult[] results = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.ResultOfFetchNextMonitorResults.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "results" -> results = RecordCodec.readValue(parser, context, Processing.MessageMonitoringResult[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.ResultOfFetchNextMonitorResults.class, fieldName);
+      }
+    }
+    return new Processing.ResultOfFetchNextMonitorResults(results);
+  }
+
+  static void writeResultOfProcessMessage(Processing.ResultOfProcessMessage value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "transaction", value.transaction());
+    RecordCodec.writeValue(gen, provider, "out_messages", value.outMessages());
+    RecordCodec.writeValue(gen, provider, "decoded", value.decoded());
+    RecordCodec.writeValue(gen, provider, "fees", value.fees());
+    gen.writeEndObject();
+  }
+
+  static Processing.ResultOfProcessMessage readResultOfProcessMessage(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode transaction = null;
+    String[] outMessages = null;
+    Processing.DecodedOutput decoded = null;
+    Tvm.TransactionFees fees = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.ResultOfProcessMessage.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "transaction" -> transaction = RecordCodec.readTree(parser, context);
+        case "out_messages" -> outMessages = RecordCodec.readValue(parser, context, String[].class);
+        case "decoded" -> decoded = RecordCodec.readValue(parser, context, Processing.DecodedOutput.class);
+        case "fees" -> fees = RecordCodec.readValue(parser, context, Tvm.TransactionFees.class);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.ResultOfProcessMessage.class, fieldName);
+      }
+    }
+    return new Processing.ResultOfProcessMessage(transaction, outMessages, decoded, fees);
+  }
+
+  static void writeResultOfSendMessage(Processing.ResultOfSendMessage value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "shard_block_id", value.shardBlockId());
+    RecordCodec.writeValue(gen, provider, "sending_endpoints", value.sendingEndpoints());
+    gen.writeEndObject();
+  }
+
+  static Processing.ResultOfSendMessage readResultOfSendMessage(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String shardBlockId = null;
+    String[] sendingEndpoints = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.ResultOfSendMessage.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "shard_block_id" -> shardBlockId = RecordCodec.readString(parser, context);
+        case "sending_endpoints" -> sendingEndpoints = RecordCodec.readValue(parser, context, String[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.ResultOfSendMessage.class, fieldName);
+      }
+    }
+    return new Processing.ResultOfSendMessage(shardBlockId, sendingEndpoints);
+  }
+
+  static void writeResultOfSendMessages(Processing.ResultOfSendMessages value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "messages", value.messages());
+    gen.writeEndObject();
+  }
+
+  static Processing.ResultOfSendMessages readResultOfSendMessages(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Processing.MessageMonitoringParams[] messages = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Processing.ResultOfSendMessages.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "messages" -> messages = RecordCodec.readValue(parser, context, Processing.MessageMonitoringParams[].class);
+        default -> RecordCodec.skipUnknown(parser, context, Processing.ResultOfSendMessages.class, fieldName);
+      }
+    }
+    return new Processing.ResultOfSendMessages(messages);
+  }
+
+  static void register(SimpleModule module) {
+    RecordCodec.register(module, Processing.DecodedOutput.class, ProcessingCodecs::writeDecodedOutput, ProcessingCodecs::readDecodedOutput);
+    RecordCodec.register(module, Processing.MessageMonitoringParams.class, ProcessingCodecs::writeMessageMonitoringParams, ProcessingCodecs::readMessageMonitoringParams);
+    RecordCodec.register(module, Processing.MessageMonitoringResult.class, ProcessingCodecs::writeMessageMonitoringResult, ProcessingCodecs::readMessageMonitoringResult);
+    RecordCodec.register(module, Processing.MessageMonitoringTransaction.class, ProcessingCodecs::writeMessageMonitoringTransaction, ProcessingCodecs::readMessageMonitoringTransaction);
+    RecordCodec.register(module, Processing.MessageMonitoringTransactionCompute.class, ProcessingCodecs::writeMessageMonitoringTransactionCompute, ProcessingCodecs::readMessageMonitoringTransactionCompute);
+    RecordCodec.register(module, Processing.MessageSendingParams.class, ProcessingCodecs::writeMessageSendingParams, ProcessingCodecs::readMessageSendingParams);
+    RecordCodec.register(module, Processing.MonitoringQueueInfo.class, ProcessingCodecs::writeMonitoringQueueInfo, ProcessingCodecs::readMonitoringQueueInfo);
+    RecordCodec.register(module, Processing.ParamsOfCancelMonitor.class, ProcessingCodecs::writeParamsOfCancelMonitor, ProcessingCodecs::readParamsOfCancelMonitor);
+    RecordCodec.register(module, Processing.ParamsOfFetchNextMonitorResults.class, ProcessingCodecs::writeParamsOfFetchNextMonitorResults, ProcessingCodecs::readParamsOfFetchNextMonitorResults);
+    RecordCodec.register(module, Processing.ParamsOfGetMonitorInfo.class, ProcessingCodecs::writeParamsOfGetMonitorInfo, ProcessingCodecs::readParamsOfGetMonitorInfo);
+    RecordCodec.register(module, Processing.ParamsOfMonitorMessages.class, ProcessingCodecs::writeParamsOfMonitorMessages, ProcessingCodecs::readParamsOfMonitorMessages);
+    RecordCodec.register(module, Processing.ParamsOfProcessMessage.class, ProcessingCodecs::writeParamsOfProcessMessage, ProcessingCodecs::readParamsOfProcessMessage);
+    RecordCodec.register(module, Processing.ParamsOfSendMessage.class, ProcessingCodecs::writeParamsOfSendMessage, ProcessingCodecs::readParamsOfSendMessage);
+    RecordCodec.register(module, Processing.ParamsOfSendMessages.class, ProcessingCodecs::writeParamsOfSendMessages, ProcessingCodecs::readParamsOfSendMessages);
+    RecordCodec.register(module, Processing.ParamsOfWaitForTransaction.class, ProcessingCodecs::writeParamsOfWaitForTransaction, ProcessingCodecs::readParamsOfWaitForTransaction);
+    RecordCodec.register(module, Processing.ResultOfFetchNextMonitorResults.class, ProcessingCodecs::writeResultOfFetchNextMonitorResults, ProcessingCodecs::readResultOfFetchNextMonitorResults);
+    RecordCodec.register(module, Processing.ResultOfProcessMessage.class, ProcessingCodecs::writeResultOfProcessMessage, ProcessingCodecs::readResultOfProcessMessage);
+    RecordCodec.register(module, Processing.ResultOfSendMessage.class, ProcessingCodecs::writeResultOfSendMessage, ProcessingCodecs::readResultOfSendMessage);
+    RecordCodec.register(module, Processing.ResultOfSendMessages.class, ProcessingCodecs::writeResultOfSendMessages, ProcessingCodecs::readResultOfSendMessages);
+  }
+}
@@ -0,0 +1,81 @@
+package tech.deplant.java4ever.binding.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import tech.deplant.java4ever.binding.Proofs;
+
+/**
+ * Streaming Jackson codecs of {@link Proofs} records.
+ */
+final class ProofsCodecs {
+  static void writeParamsOfProofBlockData(Proofs.ParamsOfProofBlockData value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "block", value.block());
+    gen.writeEndObject();
+  }
+
+  static Proofs.ParamsOfProofBlockData readParamsOfProofBlockData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode block = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Proofs.ParamsOfProofBlockData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "block" -> block = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Proofs.ParamsOfProofBlockData.class, fieldName);
+      }
+    }
+    return new Proofs.ParamsOfProofBlockData(block);
+  }
+
+  static void writeParamsOfProofMessageData(Proofs.ParamsOfProofMessageData value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "message", value.message());
+    gen.writeEndObject();
+  }
+
+  static Proofs.ParamsOfProofMessageData readParamsOfProofMessageData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode message = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Proofs.ParamsOfProofMessageData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "message" -> message = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Proofs.ParamsOfProofMessageData.class, fieldName);
+      }
+    }
+    return new Proofs.ParamsOfProofMessageData(message);
+  }
+
+  static void writeParamsOfProofTransactionData(Proofs.ParamsOfProofTransactionData value,
+      JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "transaction", value.transaction());
+    gen.writeEndObject();
+  }
+
+  static Proofs.ParamsOfProofTransactionData readParamsOfProofTransactionData(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode transaction = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Proofs.ParamsOfProofTransactionData.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "transaction" -> transaction = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Proofs.ParamsOfProofTransactionData.class, fieldName);
+      }
+    }
+    return new Proofs.ParamsOfProofTransactionData(transaction);
+  }
+
+  static void register(SimpleModule module) {
+    RecordCodec.register(module, Proofs.ParamsOfProofBlockData.class, ProofsCodecs::writeParamsOfProofBlockData, ProofsCodecs::readParamsOfProofBlockData);
+    RecordCodec.register(module, Proofs.ParamsOfProofMessageData.class, ProofsCodecs::writeParamsOfProofMessageData, ProofsCodecs::readParamsOfProofMessageData);
+    RecordCodec.register(module, Proofs.ParamsOfProofTransactionData.class, ProofsCodecs::writeParamsOfProofTransactionData, ProofsCodecs::readParamsOfProofTransactionData);
+  }
+}
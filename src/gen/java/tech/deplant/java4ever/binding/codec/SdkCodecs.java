@@ -0,0 +1,28 @@
+package tech.deplant.java4ever.binding.codec;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Registry of streaming codecs generated from api.json.
+ */
+public final class SdkCodecs {
+  private SdkCodecs() {
+  }
+
+  /**
+   * Jackson module with codecs of all generated EVER-SDK records.
+   */
+  public static SimpleModule module() {
+    SimpleModule module = new SimpleModule("EverSdkCodecs");
+    ClientCodecs.register(module);
+    CryptoCodecs.register(module);
+    AbiCodecs.register(module);
+    BocCodecs.register(module);
+    ProcessingCodecs.register(module);
+    UtilsCodecs.register(module);
+    TvmCodecs.register(module);
+    NetCodecs.register(module);
+    ProofsCodecs.register(module);
+    return module;
+  }
+}
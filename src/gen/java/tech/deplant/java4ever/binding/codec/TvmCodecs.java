@@ -0,0 +1,295 @@
+package tech.deplant.java4ever.binding.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.lang.Boolean;
+import java.lang.Long;
+import java.lang.String;
+import java.math.BigInteger;
+import tech.deplant.java4ever.binding.Abi;
+import tech.deplant.java4ever.binding.Boc;
+import tech.deplant.java4ever.binding.Processing;
+import tech.deplant.java4ever.binding.Tvm;
+
+/**
+ * Streaming Jackson codecs of {@link Tvm} records.
+ */
+final class TvmCodecs {
+  static void writeExecutionOptions(Tvm.ExecutionOptions value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "blockchain_config", value.blockchainConfig());
+    RecordCodec.writeLong(gen, "block_time", value.blockTime());
+    RecordCodec.writeBigInteger(gen, "block_lt", value.blockLt());
+    RecordCodec.writeBigInteger(gen, "transaction_lt", value.transactionLt());
+    RecordCodec.writeBoolean(gen, "chksig_always_succeed", value.chksigAlwaysSucceed());
+    RecordCodec.writeLong(gen, "signature_id", value.signatureId());
+    gen.writeEndObject();
+  }
+
+  static Tvm.ExecutionOptions readExecutionOptions(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String blockchainConfig = null;
+    Long blockTime = null;
+    BigInteger blockLt = null;
+    BigInteger transactionLt = null;
+    Boolean chksigAlwaysSucceed = null;
+    Long signatureId = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Tvm.ExecutionOptions.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "blockchain_config" -> blockchainConfig = RecordCodec.readString(parser, context);
+        case "block_time" -> blockTime = RecordCodec.readLong(parser, context);
+        case "block_lt" -> blockLt = RecordCodec.readBigInteger(parser, context);
+        case "transaction_lt" -> transactionLt = RecordCodec.readBigInteger(parser, context);
+        case "chksig_always_succeed" -> chksigAlwaysSucceed = RecordCodec.readBoolean(parser, context);
+        case "signature_id" -> signatureId = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Tvm.ExecutionOptions.class, fieldName);
+      }
+    }
+    return new Tvm.ExecutionOptions(blockchainConfig, blockTime, blockLt, transactionLt, chksigAlwaysSucceed, signatureId);
+  }
+
+  static void writeParamsOfRunExecutor(Tvm.ParamsOfRunExecutor value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeValue(gen, provider, "account", value.account());
+    RecordCodec.writeValue(gen, provider, "execution_options", value.executionOptions());
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeBoolean(gen, "skip_transaction_check", value.skipTransactionCheck());
+    RecordCodec.writeValue(gen, provider, "boc_cache", value.bocCache());
+    RecordCodec.writeBoolean(gen, "return_updated_account", value.returnUpdatedAccount());
+    gen.writeEndObject();
+  }
+
+  static Tvm.ParamsOfRunExecutor readParamsOfRunExecutor(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String message = null;
+    Tvm.AccountForExecutor account = null;
+    Tvm.ExecutionOptions executionOptions = null;
+    Abi.ABI abi = null;
+    Boolean skipTransactionCheck = null;
+    Boc.BocCacheType bocCache = null;
+    Boolean returnUpdatedAccount = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Tvm.ParamsOfRunExecutor.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "account" -> account = RecordCodec.readValue(parser, context, Tvm.AccountForExecutor.class);
+        case "execution_options" -> executionOptions = RecordCodec.readValue(parser, context, Tvm.ExecutionOptions.class);
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "skip_transaction_check" -> skipTransactionCheck = RecordCodec.readBoolean(parser, context);
+        case "boc_cache" -> bocCache = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        case "return_updated_account" -> returnUpdatedAccount = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Tvm.ParamsOfRunExecutor.class, fieldName);
+      }
+    }
+    return new Tvm.ParamsOfRunExecutor(message, account, executionOptions, abi, skipTransactionCheck, bocCache, returnUpdatedAccount);
+  }
+
+  static void writeParamsOfRunGet(Tvm.ParamsOfRunGet value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "account", value.account());
+    RecordCodec.writeString(gen, "function_name", value.functionName());
+    RecordCodec.writeValue(gen, provider, "input", value.input());
+    RecordCodec.writeValue(gen, provider, "execution_options", value.executionOptions());
+    RecordCodec.writeBoolean(gen, "tuple_list_as_array", value.tupleListAsArray());
+    gen.writeEndObject();
+  }
+
+  static Tvm.ParamsOfRunGet readParamsOfRunGet(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String account = null;
+    String functionName = null;
+    JsonNode input = null;
+    Tvm.ExecutionOptions executionOptions = null;
+    Boolean tupleListAsArray = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Tvm.ParamsOfRunGet.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "account" -> account = RecordCodec.readString(parser, context);
+        case "function_name" -> functionName = RecordCodec.readString(parser, context);
+        case "input" -> input = RecordCodec.readTree(parser, context);
+        case "execution_options" -> executionOptions = RecordCodec.readValue(parser, context, Tvm.ExecutionOptions.class);
+        case "tuple_list_as_array" -> tupleListAsArray = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Tvm.ParamsOfRunGet.class, fieldName);
+      }
+    }
+    return new Tvm.ParamsOfRunGet(account, functionName, input, executionOptions, tupleListAsArray);
+  }
+
+  static void writeParamsOfRunTvm(Tvm.ParamsOfRunTvm value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "message", value.message());
+    RecordCodec.writeString(gen, "account", value.account());
+    RecordCodec.writeValue(gen, provider, "execution_options", value.executionOptions());
+    RecordCodec.writeValue(gen, provider, "abi", value.abi());
+    RecordCodec.writeValue(gen, provider, "boc_cache", value.bocCache());
+    RecordCodec.writeBoolean(gen, "return_updated_account", value.returnUpdatedAccount());
+    gen.writeEndObject();
+  }
+
+  static Tvm.ParamsOfRunTvm readParamsOfRunTvm(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String message = null;
+    String account = null;
+    Tvm.ExecutionOptions executionOptions = null;
+    Abi.ABI abi = null;
+    Boc.BocCacheType bocCache = null;
+    Boolean returnUpdatedAccount = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Tvm.ParamsOfRunTvm.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "message" -> message = RecordCodec.readString(parser, context);
+        case "account" -> account = RecordCodec.readString(parser, context);
+        case "execution_options" -> executionOptions = RecordCodec.readValue(parser, context, Tvm.ExecutionOptions.class);
+        case "abi" -> abi = RecordCodec.readValue(parser, context, Abi.ABI.class);
+        case "boc_cache" -> bocCache = RecordCodec.readValue(parser, context, Boc.BocCacheType.class);
+        case "return_updated_account" -> returnUpdatedAccount = RecordCodec.readBoolean(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Tvm.ParamsOfRunTvm.class, fieldName);
+      }
+    }
+    return new Tvm.ParamsOfRunTvm(message, account, executionOptions, abi, bocCache, returnUpdatedAccount);
+  }
+
+  static void writeResultOfRunExecutor(Tvm.ResultOfRunExecutor value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "transaction", value.transaction());
+    RecordCodec.writeValue(gen, provider, "out_messages", value.outMessages());
+    RecordCodec.writeValue(gen, provider, "decoded", value.decoded());
+    RecordCodec.writeString(gen, "account", value.account());
+    RecordCodec.writeValue(gen, provider, "fees", value.fees());
+    gen.writeEndObject();
+  }
+
+  static Tvm.ResultOfRunExecutor readResultOfRunExecutor(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode transaction = null;
+    String[] outMessages = null;
+    Processing.DecodedOutput decoded = null;
+    String account = null;
+    Tvm.TransactionFees fees = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Tvm.ResultOfRunExecutor.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "transaction" -> transaction = RecordCodec.readTree(parser, context);
+        case "out_messages" -> outMessages = RecordCodec.readValue(parser, context, String[].class);
+        case "decoded" -> decoded = RecordCodec.readValue(parser, context, Processing.DecodedOutput.class);
+        case "account" -> account = RecordCodec.readString(parser, context);
+        case "fees" -> fees = RecordCodec.readValue(parser, context, Tvm.TransactionFees.class);
+        default -> RecordCodec.skipUnknown(parser, context, Tvm.ResultOfRunExecutor.class, fieldName);
+      }
+    }
+    return new Tvm.ResultOfRunExecutor(transaction, outMessages, decoded, account, fees);
+  }
+
+  static void writeResultOfRunGet(Tvm.ResultOfRunGet value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "output", value.output());
+    gen.writeEndObject();
+  }
+
+  static Tvm.ResultOfRunGet readResultOfRunGet(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    JsonNode output = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Tvm.ResultOfRunGet.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "output" -> output = RecordCodec.readTree(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Tvm.ResultOfRunGet.class, fieldName);
+      }
+    }
+    return new Tvm.ResultOfRunGet(output);
+  }
+
+  static void writeResultOfRunTvm(Tvm.ResultOfRunTvm value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "out_messages", value.outMessages());
+    RecordCodec.writeValue(gen, provider, "decoded", value.decoded());
+    RecordCodec.writeString(gen, "account", value.account());
+    gen.writeEndObject();
+  }
+
+  static Tvm.ResultOfRunTvm readResultOfRunTvm(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String[] outMessages = null;
+    Processing.DecodedOutput decoded = null;
+    String account = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Tvm.ResultOfRunTvm.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "out_messages" -> outMessages = RecordCodec.readValue(parser, context, String[].class);
+        case "decoded" -> decoded = RecordCodec.readValue(parser, context, Processing.DecodedOutput.class);
+        case "account" -> account = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Tvm.ResultOfRunTvm.class, fieldName);
+      }
+    }
+    return new Tvm.ResultOfRunTvm(outMessages, decoded, account);
+  }
+
+  static void writeTransactionFees(Tvm.TransactionFees value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeBigInteger(gen, "in_msg_fwd_fee", value.inMsgFwdFee());
+    RecordCodec.writeBigInteger(gen, "storage_fee", value.storageFee());
+    RecordCodec.writeBigInteger(gen, "gas_fee", value.gasFee());
+    RecordCodec.writeBigInteger(gen, "out_msgs_fwd_fee", value.outMsgsFwdFee());
+    RecordCodec.writeBigInteger(gen, "total_account_fees", value.totalAccountFees());
+    RecordCodec.writeBigInteger(gen, "total_output", value.totalOutput());
+    RecordCodec.writeBigInteger(gen, "ext_in_msg_fee", value.extInMsgFee());
+    RecordCodec.writeBigInteger(gen, "total_fwd_fees", value.totalFwdFees());
+    RecordCodec.writeBigInteger(gen, "account_fees", value.accountFees());
+    gen.writeEndObject();
+  }
+
+  static Tvm.TransactionFees readTransactionFees(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    BigInteger inMsgFwdFee = null;
+    BigInteger storageFee = null;
+    BigInteger gasFee = null;
+    BigInteger outMsgsFwdFee = null;
+    BigInteger totalAccountFees = null;
+    BigInteger totalOutput = null;
+    BigInteger extInMsgFee = null;
+    BigInteger totalFwdFees = null;
+    BigInteger accountFees = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Tvm.TransactionFees.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "in_msg_fwd_fee" -> inMsgFwdFee = RecordCodec.readBigInteger(parser, context);
+        case "storage_fee" -> storageFee = RecordCodec.readBigInteger(parser, context);
+        case "gas_fee" -> gasFee = RecordCodec.readBigInteger(parser, context);
+        case "out_msgs_fwd_fee" -> outMsgsFwdFee = RecordCodec.readBigInteger(parser, context);
+        case "total_account_fees" -> totalAccountFees = RecordCodec.readBigInteger(parser, context);
+        case "total_output" -> totalOutput = RecordCodec.readBigInteger(parser, context);
+        case "ext_in_msg_fee" -> extInMsgFee = RecordCodec.readBigInteger(parser, context);
+        case "total_fwd_fees" -> totalFwdFees = RecordCodec.readBigInteger(parser, context);
+        case "account_fees" -> accountFees = RecordCodec.readBigInteger(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Tvm.TransactionFees.class, fieldName);
+      }
+    }
+    return new Tvm.TransactionFees(inMsgFwdFee, storageFee, gasFee, outMsgsFwdFee, totalAccountFees, totalOutput, extInMsgFee, totalFwdFees, accountFees);
+  }
+
+  static void register(SimpleModule module) {
+    RecordCodec.register(module, Tvm.ExecutionOptions.class, TvmCodecs::writeExecutionOptions, TvmCodecs::readExecutionOptions);
+    RecordCodec.register(module, Tvm.ParamsOfRunExecutor.class, TvmCodecs::writeParamsOfRunExecutor, TvmCodecs::readParamsOfRunExecutor);
+    RecordCodec.register(module, Tvm.ParamsOfRunGet.class, TvmCodecs::writeParamsOfRunGet, TvmCodecs::readParamsOfRunGet);
+    RecordCodec.register(module, Tvm.ParamsOfRunTvm.class, TvmCodecs::writeParamsOfRunTvm, TvmCodecs::readParamsOfRunTvm);
+    RecordCodec.register(module, Tvm.ResultOfRunExecutor.class, TvmCodecs::writeResultOfRunExecutor, TvmCodecs::readResultOfRunExecutor);
+    RecordCodec.register(module, Tvm.ResultOfRunGet.class, TvmCodecs::writeResultOfRunGet, TvmCodecs::readResultOfRunGet);
+    RecordCodec.register(module, Tvm.ResultOfRunTvm.class, TvmCodecs::writeResultOfRunTvm, TvmCodecs::readResultOfRunTvm);
+    RecordCodec.register(module, Tvm.TransactionFees.class, TvmCodecs::writeTransactionFees, TvmCodecs::readTransactionFees);
+  }
+}
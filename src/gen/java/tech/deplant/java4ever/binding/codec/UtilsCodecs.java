@@ -0,0 +1,238 @@
+package tech.deplant.java4ever.binding.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.lang.Long;
+import java.lang.String;
+import tech.deplant.java4ever.binding.Utils;
+
+/**
+ * Streaming Jackson codecs of {@link Utils} records.
+ */
+final class UtilsCodecs {
+  static void writeParamsOfCalcStorageFee(Utils.ParamsOfCalcStorageFee value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "account", value.account());
+    RecordCodec.writeLong(gen, "period", value.period());
+    gen.writeEndObject();
+  }
+
+  static Utils.ParamsOfCalcStorageFee readParamsOfCalcStorageFee(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String account = null;
+    Long period = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Utils.ParamsOfCalcStorageFee.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "account" -> account = RecordCodec.readString(parser, context);
+        case "period" -> period = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Utils.ParamsOfCalcStorageFee.class, fieldName);
+      }
+    }
+    return new Utils.ParamsOfCalcStorageFee(account, period);
+  }
+
+  static void writeParamsOfCompressZstd(Utils.ParamsOfCompressZstd value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "uncompressed", value.uncompressed());
+    RecordCodec.writeLong(gen, "level", value.level());
+    gen.writeEndObject();
+  }
+
+  static Utils.ParamsOfCompressZstd readParamsOfCompressZstd(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String uncompressed = null;
+    Long level = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Utils.ParamsOfCompressZstd.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "uncompressed" -> uncompressed = RecordCodec.readString(parser, context);
+        case "level" -> level = RecordCodec.readLong(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Utils.ParamsOfCompressZstd.class, fieldName);
+      }
+    }
+    return new Utils.ParamsOfCompressZstd(uncompressed, level);
+  }
+
+  static void writeParamsOfConvertAddress(Utils.ParamsOfConvertAddress value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "address", value.address());
+    RecordCodec.writeValue(gen, provider, "output_format", value.outputFormat());
+    gen.writeEndObject();
+  }
+
+  static Utils.ParamsOfConvertAddress readParamsOfConvertAddress(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String address = null;
+    Utils.AddressStringFormat outputFormat = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Utils.ParamsOfConvertAddress.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "address" -> address = RecordCodec.readString(parser, context);
+        case "output_format" -> outputFormat = RecordCodec.readValue(parser, context, Utils.AddressStringFormat.class);
+        default -> RecordCodec.skipUnknown(parser, context, Utils.ParamsOfConvertAddress.class, fieldName);
+      }
+    }
+    return new Utils.ParamsOfConvertAddress(address, outputFormat);
+  }
+
+  static void writeParamsOfDecompressZstd(Utils.ParamsOfDecompressZstd value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "compressed", value.compressed());
+    gen.writeEndObject();
+  }
+
+  static Utils.ParamsOfDecompressZstd readParamsOfDecompressZstd(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String compressed = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Utils.ParamsOfDecompressZstd.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "compressed" -> compressed = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Utils.ParamsOfDecompressZstd.class, fieldName);
+      }
+    }
+    return new Utils.ParamsOfDecompressZstd(compressed);
+  }
+
+  static void writeParamsOfGetAddressType(Utils.ParamsOfGetAddressType value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "address", value.address());
+    gen.writeEndObject();
+  }
+
+  static Utils.ParamsOfGetAddressType readParamsOfGetAddressType(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String address = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Utils.ParamsOfGetAddressType.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "address" -> address = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Utils.ParamsOfGetAddressType.class, fieldName);
+      }
+    }
+    return new Utils.ParamsOfGetAddressType(address);
+  }
+
+  static void writeResultOfCalcStorageFee(Utils.ResultOfCalcStorageFee value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "fee", value.fee());
+    gen.writeEndObject();
+  }
+
+  static Utils.ResultOfCalcStorageFee readResultOfCalcStorageFee(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String fee = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Utils.ResultOfCalcStorageFee.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "fee" -> fee = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Utils.ResultOfCalcStorageFee.class, fieldName);
+      }
+    }
+    return new Utils.ResultOfCalcStorageFee(fee);
+  }
+
+  static void writeResultOfCompressZstd(Utils.ResultOfCompressZstd value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "compressed", value.compressed());
+    gen.writeEndObject();
+  }
+
+  static Utils.ResultOfCompressZstd readResultOfCompressZstd(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String compressed = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Utils.ResultOfCompressZstd.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "compressed" -> compressed = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Utils.ResultOfCompressZstd.class, fieldName);
+      }
+    }
+    return new Utils.ResultOfCompressZstd(compressed);
+  }
+
+  static void writeResultOfConvertAddress(Utils.ResultOfConvertAddress value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "address", value.address());
+    gen.writeEndObject();
+  }
+
+  static Utils.ResultOfConvertAddress readResultOfConvertAddress(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String address = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Utils.ResultOfConvertAddress.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "address" -> address = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Utils.ResultOfConvertAddress.class, fieldName);
+      }
+    }
+    return new Utils.ResultOfConvertAddress(address);
+  }
+
+  static void writeResultOfDecompressZstd(Utils.ResultOfDecompressZstd value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeString(gen, "decompressed", value.decompressed());
+    gen.writeEndObject();
+  }
+
+  static Utils.ResultOfDecompressZstd readResultOfDecompressZstd(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    String decompressed = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Utils.ResultOfDecompressZstd.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "decompressed" -> decompressed = RecordCodec.readString(parser, context);
+        default -> RecordCodec.skipUnknown(parser, context, Utils.ResultOfDecompressZstd.class, fieldName);
+      }
+    }
+    return new Utils.ResultOfDecompressZstd(decompressed);
+  }
+
+  static void writeResultOfGetAddressType(Utils.ResultOfGetAddressType value, JsonGenerator gen,
+      SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    RecordCodec.writeValue(gen, provider, "address_type", value.addressType());
+    gen.writeEndObject();
+  }
+
+  static Utils.ResultOfGetAddressType readResultOfGetAddressType(JsonParser parser,
+      DeserializationContext context) throws IOException {
+    Utils.AccountAddressType addressType = null;
+    for (String fieldName = RecordCodec.firstField(parser, context, Utils.ResultOfGetAddressType.class); fieldName != null; fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case "address_type" -> addressType = RecordCodec.readValue(parser, context, Utils.AccountAddressType.class);
+        default -> RecordCodec.skipUnknown(parser, context, Utils.ResultOfGetAddressType.class, fieldName);
+      }
+    }
+    return new Utils.ResultOfGetAddressType(addressType);
+  }
+
+  static void register(SimpleModule module) {
+    RecordCodec.register(module, Utils.ParamsOfCalcStorageFee.class, UtilsCodecs::writeParamsOfCalcStorageFee, UtilsCodecs::readParamsOfCalcStorageFee);
+    RecordCodec.register(module, Utils.ParamsOfCompressZstd.class, UtilsCodecs::writeParamsOfCompressZstd, UtilsCodecs::readParamsOfCompressZstd);
+    RecordCodec.register(module, Utils.ParamsOfConvertAddress.class, UtilsCodecs::writeParamsOfConvertAddress, UtilsCodecs::readParamsOfConvertAddress);
+    RecordCodec.register(module, Utils.ParamsOfDecompressZstd.class, UtilsCodecs::writeParamsOfDecompressZstd, UtilsCodecs::readParamsOfDecompressZstd);
+    RecordCodec.register(module, Utils.ParamsOfGetAddressType.class, UtilsCodecs::writeParamsOfGetAddressType, UtilsCodecs::readParamsOfGetAddressType);
+    RecordCodec.register(module, Utils.ResultOfCalcStorageFee.class, UtilsCodecs::writeResultOfCalcStorageFee, UtilsCodecs::readResultOfCalcStorageFee);
+    RecordCodec.register(module, Utils.ResultOfCompressZstd.class, UtilsCodecs::writeResultOfCompressZstd, UtilsCodecs::readResultOfCompressZstd);
+    RecordCodec.register(module, Utils.ResultOfConvertAddress.class, UtilsCodecs::writeResultOfConvertAddress, UtilsCodecs::readResultOfConvertAddress);
+    RecordCodec.register(module, Utils.ResultOfDecompressZstd.class, UtilsCodecs::writeResultOfDecompressZstd, UtilsCodecs::readResultOfDecompressZstd);
+    RecordCodec.register(module, Utils.ResultOfGetAddressType.class, UtilsCodecs::writeResultOfGetAddressType, UtilsCodecs::readResultOfGetAddressType);
+  }
+}
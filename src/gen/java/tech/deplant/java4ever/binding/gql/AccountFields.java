@@ -0,0 +1,125 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link Account} fields.
+ */
+public final class AccountFields extends GqlFields<AccountFields> {
+  private AccountFields() {
+  }
+
+  public static AccountFields select() {
+    return new AccountFields();
+  }
+
+  @Override
+  protected AccountFields self() {
+    return this;
+  }
+
+  public AccountFields id() {
+    return field("id");
+  }
+
+  public AccountFields accType() {
+    return field("acc_type");
+  }
+
+  public AccountFields accTypeName() {
+    return field("acc_type_name");
+  }
+
+  public AccountFields balance() {
+    return field("balance");
+  }
+
+  public AccountFields balanceOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("balance_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public AccountFields bits() {
+    return field("bits");
+  }
+
+  public AccountFields boc() {
+    return field("boc");
+  }
+
+  public AccountFields cells() {
+    return field("cells");
+  }
+
+  public AccountFields code() {
+    return field("code");
+  }
+
+  public AccountFields codeHash() {
+    return field("code_hash");
+  }
+
+  public AccountFields data() {
+    return field("data");
+  }
+
+  public AccountFields dataHash() {
+    return field("data_hash");
+  }
+
+  public AccountFields duePayment() {
+    return field("due_payment");
+  }
+
+  public AccountFields initCodeHash() {
+    return field("init_code_hash");
+  }
+
+  public AccountFields lastPaid() {
+    return field("last_paid");
+  }
+
+  public AccountFields lastTransLt() {
+    return field("last_trans_lt");
+  }
+
+  public AccountFields library() {
+    return field("library");
+  }
+
+  public AccountFields libraryHash() {
+    return field("library_hash");
+  }
+
+  public AccountFields prevCodeHash() {
+    return field("prev_code_hash");
+  }
+
+  public AccountFields proof() {
+    return field("proof");
+  }
+
+  public AccountFields publicCells() {
+    return field("public_cells");
+  }
+
+  public AccountFields splitDepth() {
+    return field("split_depth");
+  }
+
+  public AccountFields stateHash() {
+    return field("state_hash");
+  }
+
+  public AccountFields tick() {
+    return field("tick");
+  }
+
+  public AccountFields tock() {
+    return field("tock");
+  }
+
+  public AccountFields workchainId() {
+    return field("workchain_id");
+  }
+}
@@ -0,0 +1,42 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockAccountBlocks} fields.
+ */
+public final class BlockAccountBlocksFields extends GqlFields<BlockAccountBlocksFields> {
+  private BlockAccountBlocksFields() {
+  }
+
+  public static BlockAccountBlocksFields select() {
+    return new BlockAccountBlocksFields();
+  }
+
+  @Override
+  protected BlockAccountBlocksFields self() {
+    return this;
+  }
+
+  public BlockAccountBlocksFields accountAddr() {
+    return field("account_addr");
+  }
+
+  public BlockAccountBlocksFields newHash() {
+    return field("new_hash");
+  }
+
+  public BlockAccountBlocksFields oldHash() {
+    return field("old_hash");
+  }
+
+  public BlockAccountBlocksFields trCount() {
+    return field("tr_count");
+  }
+
+  public BlockAccountBlocksFields transactions(
+      UnaryOperator<BlockAccountBlocksTransactionsFields> selector) {
+    return object("transactions", selector.apply(BlockAccountBlocksTransactionsFields.select()));
+  }
+}
@@ -0,0 +1,38 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockAccountBlocksTransactions} fields.
+ */
+public final class BlockAccountBlocksTransactionsFields extends GqlFields<BlockAccountBlocksTransactionsFields> {
+  private BlockAccountBlocksTransactionsFields() {
+  }
+
+  public static BlockAccountBlocksTransactionsFields select() {
+    return new BlockAccountBlocksTransactionsFields();
+  }
+
+  @Override
+  protected BlockAccountBlocksTransactionsFields self() {
+    return this;
+  }
+
+  public BlockAccountBlocksTransactionsFields lt() {
+    return field("lt");
+  }
+
+  public BlockAccountBlocksTransactionsFields totalFees() {
+    return field("total_fees");
+  }
+
+  public BlockAccountBlocksTransactionsFields totalFeesOther(
+      UnaryOperator<OtherCurrencyFields> selector) {
+    return object("total_fees_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockAccountBlocksTransactionsFields transactionId() {
+    return field("transaction_id");
+  }
+}
@@ -0,0 +1,197 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link Block} fields.
+ */
+public final class BlockFields extends GqlFields<BlockFields> {
+  private BlockFields() {
+  }
+
+  public static BlockFields select() {
+    return new BlockFields();
+  }
+
+  @Override
+  protected BlockFields self() {
+    return this;
+  }
+
+  public BlockFields id() {
+    return field("id");
+  }
+
+  public BlockFields accountBlocks(UnaryOperator<BlockAccountBlocksFields> selector) {
+    return object("account_blocks", selector.apply(BlockAccountBlocksFields.select()));
+  }
+
+  public BlockFields afterMerge() {
+    return field("after_merge");
+  }
+
+  public BlockFields afterSplit() {
+    return field("after_split");
+  }
+
+  public BlockFields beforeSplit() {
+    return field("before_split");
+  }
+
+  public BlockFields boc() {
+    return field("boc");
+  }
+
+  public BlockFields chainOrder() {
+    return field("chain_order");
+  }
+
+  public BlockFields createdBy() {
+    return field("created_by");
+  }
+
+  public BlockFields endLt() {
+    return field("end_lt");
+  }
+
+  public BlockFields fileHash() {
+    return field("file_hash");
+  }
+
+  public BlockFields flags() {
+    return field("flags");
+  }
+
+  public BlockFields genCatchainSeqno() {
+    return field("gen_catchain_seqno");
+  }
+
+  public BlockFields genSoftwareCapabilities() {
+    return field("gen_software_capabilities");
+  }
+
+  public BlockFields genSoftwareVersion() {
+    return field("gen_software_version");
+  }
+
+  public BlockFields genUtime() {
+    return field("gen_utime");
+  }
+
+  public BlockFields genUtimeString() {
+    return field("gen_utime_string");
+  }
+
+  public BlockFields genValidatorListHashShort() {
+    return field("gen_validator_list_hash_short");
+  }
+
+  public BlockFields globalId() {
+    return field("global_id");
+  }
+
+  public BlockFields inMsgDescr(UnaryOperator<InMsgFields> selector) {
+    return object("in_msg_descr", selector.apply(InMsgFields.select()));
+  }
+
+  public BlockFields keyBlock() {
+    return field("key_block");
+  }
+
+  public BlockFields master(UnaryOperator<BlockMasterFields> selector) {
+    return object("master", selector.apply(BlockMasterFields.select()));
+  }
+
+  public BlockFields masterRef(UnaryOperator<ExtBlkRefFields> selector) {
+    return object("master_ref", selector.apply(ExtBlkRefFields.select()));
+  }
+
+  public BlockFields minRefMcSeqno() {
+    return field("min_ref_mc_seqno");
+  }
+
+  public BlockFields outMsgDescr(UnaryOperator<OutMsgFields> selector) {
+    return object("out_msg_descr", selector.apply(OutMsgFields.select()));
+  }
+
+  public BlockFields prevAltRef(UnaryOperator<ExtBlkRefFields> selector) {
+    return object("prev_alt_ref", selector.apply(ExtBlkRefFields.select()));
+  }
+
+  public BlockFields prevKeyBlockSeqno() {
+    return field("prev_key_block_seqno");
+  }
+
+  public BlockFields prevRef(UnaryOperator<ExtBlkRefFields> selector) {
+    return object("prev_ref", selector.apply(ExtBlkRefFields.select()));
+  }
+
+  public BlockFields prevVertAltRef(UnaryOperator<ExtBlkRefFields> selector) {
+    return object("prev_vert_alt_ref", selector.apply(ExtBlkRefFields.select()));
+  }
+
+  public BlockFields prevVertRef(UnaryOperator<ExtBlkRefFields> selector) {
+    return object("prev_vert_ref", selector.apply(ExtBlkRefFields.select()));
+  }
+
+  public BlockFields randSeed() {
+    return field("rand_seed");
+  }
+
+  public BlockFields seqNo() {
+    return field("seq_no");
+  }
+
+  public BlockFields shard() {
+    return field("shard");
+  }
+
+  public BlockFields signatures(UnaryOperator<BlockSignaturesFields> selector) {
+    return object("signatures", selector.apply(BlockSignaturesFields.select()));
+  }
+
+  public BlockFields startLt() {
+    return field("start_lt");
+  }
+
+  public BlockFields stateUpdate(UnaryOperator<BlockStateUpdateFields> selector) {
+    return object("state_update", selector.apply(BlockStateUpdateFields.select()));
+  }
+
+  public BlockFields status() {
+    return field("status");
+  }
+
+  public BlockFields statusName() {
+    return field("status_name");
+  }
+
+  public BlockFields trCount() {
+    return field("tr_count");
+  }
+
+  public BlockFields valueFlow(UnaryOperator<BlockValueFlowFields> selector) {
+    return object("value_flow", selector.apply(BlockValueFlowFields.select()));
+  }
+
+  public BlockFields version() {
+    return field("version");
+  }
+
+  public BlockFields vertSeqNo() {
+    return field("vert_seq_no");
+  }
+
+  public BlockFields wantMerge() {
+    return field("want_merge");
+  }
+
+  public BlockFields wantSplit() {
+    return field("want_split");
+  }
+
+  public BlockFields workchainId() {
+    return field("workchain_id");
+  }
+}
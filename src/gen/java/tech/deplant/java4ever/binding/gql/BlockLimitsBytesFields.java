@@ -0,0 +1,32 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link BlockLimitsBytes} fields.
+ */
+public final class BlockLimitsBytesFields extends GqlFields<BlockLimitsBytesFields> {
+  private BlockLimitsBytesFields() {
+  }
+
+  public static BlockLimitsBytesFields select() {
+    return new BlockLimitsBytesFields();
+  }
+
+  @Override
+  protected BlockLimitsBytesFields self() {
+    return this;
+  }
+
+  public BlockLimitsBytesFields hardLimit() {
+    return field("hard_limit");
+  }
+
+  public BlockLimitsBytesFields softLimit() {
+    return field("soft_limit");
+  }
+
+  public BlockLimitsBytesFields underload() {
+    return field("underload");
+  }
+}
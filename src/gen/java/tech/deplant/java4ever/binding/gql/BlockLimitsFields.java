@@ -0,0 +1,33 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockLimits} fields.
+ */
+public final class BlockLimitsFields extends GqlFields<BlockLimitsFields> {
+  private BlockLimitsFields() {
+  }
+
+  public static BlockLimitsFields select() {
+    return new BlockLimitsFields();
+  }
+
+  @Override
+  protected BlockLimitsFields self() {
+    return this;
+  }
+
+  public BlockLimitsFields bytes(UnaryOperator<BlockLimitsBytesFields> selector) {
+    return object("bytes", selector.apply(BlockLimitsBytesFields.select()));
+  }
+
+  public BlockLimitsFields gas(UnaryOperator<BlockLimitsGasFields> selector) {
+    return object("gas", selector.apply(BlockLimitsGasFields.select()));
+  }
+
+  public BlockLimitsFields ltDelta(UnaryOperator<BlockLimitsLtDeltaFields> selector) {
+    return object("lt_delta", selector.apply(BlockLimitsLtDeltaFields.select()));
+  }
+}
@@ -0,0 +1,32 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link BlockLimitsGas} fields.
+ */
+public final class BlockLimitsGasFields extends GqlFields<BlockLimitsGasFields> {
+  private BlockLimitsGasFields() {
+  }
+
+  public static BlockLimitsGasFields select() {
+    return new BlockLimitsGasFields();
+  }
+
+  @Override
+  protected BlockLimitsGasFields self() {
+    return this;
+  }
+
+  public BlockLimitsGasFields hardLimit() {
+    return field("hard_limit");
+  }
+
+  public BlockLimitsGasFields softLimit() {
+    return field("soft_limit");
+  }
+
+  public BlockLimitsGasFields underload() {
+    return field("underload");
+  }
+}
@@ -0,0 +1,32 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link BlockLimitsLtDelta} fields.
+ */
+public final class BlockLimitsLtDeltaFields extends GqlFields<BlockLimitsLtDeltaFields> {
+  private BlockLimitsLtDeltaFields() {
+  }
+
+  public static BlockLimitsLtDeltaFields select() {
+    return new BlockLimitsLtDeltaFields();
+  }
+
+  @Override
+  protected BlockLimitsLtDeltaFields self() {
+    return this;
+  }
+
+  public BlockLimitsLtDeltaFields hardLimit() {
+    return field("hard_limit");
+  }
+
+  public BlockLimitsLtDeltaFields softLimit() {
+    return field("soft_limit");
+  }
+
+  public BlockLimitsLtDeltaFields underload() {
+    return field("underload");
+  }
+}
@@ -0,0 +1,62 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockMaster} fields.
+ */
+public final class BlockMasterFields extends GqlFields<BlockMasterFields> {
+  private BlockMasterFields() {
+  }
+
+  public static BlockMasterFields select() {
+    return new BlockMasterFields();
+  }
+
+  @Override
+  protected BlockMasterFields self() {
+    return this;
+  }
+
+  public BlockMasterFields config(UnaryOperator<ConfigFields> selector) {
+    return object("config", selector.apply(ConfigFields.select()));
+  }
+
+  public BlockMasterFields configAddr() {
+    return field("config_addr");
+  }
+
+  public BlockMasterFields maxShardGenUtime() {
+    return field("max_shard_gen_utime");
+  }
+
+  public BlockMasterFields maxShardGenUtimeString() {
+    return field("max_shard_gen_utime_string");
+  }
+
+  public BlockMasterFields minShardGenUtime() {
+    return field("min_shard_gen_utime");
+  }
+
+  public BlockMasterFields minShardGenUtimeString() {
+    return field("min_shard_gen_utime_string");
+  }
+
+  public BlockMasterFields prevBlkSignatures(
+      UnaryOperator<BlockMasterPrevBlkSignaturesFields> selector) {
+    return object("prev_blk_signatures", selector.apply(BlockMasterPrevBlkSignaturesFields.select()));
+  }
+
+  public BlockMasterFields recoverCreateMsg(UnaryOperator<InMsgFields> selector) {
+    return object("recover_create_msg", selector.apply(InMsgFields.select()));
+  }
+
+  public BlockMasterFields shardFees(UnaryOperator<BlockMasterShardFeesFields> selector) {
+    return object("shard_fees", selector.apply(BlockMasterShardFeesFields.select()));
+  }
+
+  public BlockMasterFields shardHashes(UnaryOperator<BlockMasterShardHashesFields> selector) {
+    return object("shard_hashes", selector.apply(BlockMasterShardHashesFields.select()));
+  }
+}
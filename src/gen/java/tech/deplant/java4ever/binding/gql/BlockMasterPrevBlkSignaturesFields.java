@@ -0,0 +1,32 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link BlockMasterPrevBlkSignatures} fields.
+ */
+public final class BlockMasterPrevBlkSignaturesFields extends GqlFields<BlockMasterPrevBlkSignaturesFields> {
+  private BlockMasterPrevBlkSignaturesFields() {
+  }
+
+  public static BlockMasterPrevBlkSignaturesFields select() {
+    return new BlockMasterPrevBlkSignaturesFields();
+  }
+
+  @Override
+  protected BlockMasterPrevBlkSignaturesFields self() {
+    return this;
+  }
+
+  public BlockMasterPrevBlkSignaturesFields nodeId() {
+    return field("node_id");
+  }
+
+  public BlockMasterPrevBlkSignaturesFields r() {
+    return field("r");
+  }
+
+  public BlockMasterPrevBlkSignaturesFields s() {
+    return field("s");
+  }
+}
@@ -0,0 +1,45 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockMasterShardFees} fields.
+ */
+public final class BlockMasterShardFeesFields extends GqlFields<BlockMasterShardFeesFields> {
+  private BlockMasterShardFeesFields() {
+  }
+
+  public static BlockMasterShardFeesFields select() {
+    return new BlockMasterShardFeesFields();
+  }
+
+  @Override
+  protected BlockMasterShardFeesFields self() {
+    return this;
+  }
+
+  public BlockMasterShardFeesFields create() {
+    return field("create");
+  }
+
+  public BlockMasterShardFeesFields createOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("create_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockMasterShardFeesFields fees() {
+    return field("fees");
+  }
+
+  public BlockMasterShardFeesFields feesOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("fees_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockMasterShardFeesFields shard() {
+    return field("shard");
+  }
+
+  public BlockMasterShardFeesFields workchainId() {
+    return field("workchain_id");
+  }
+}
@@ -0,0 +1,119 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockMasterShardHashesDescr} fields.
+ */
+public final class BlockMasterShardHashesDescrFields extends GqlFields<BlockMasterShardHashesDescrFields> {
+  private BlockMasterShardHashesDescrFields() {
+  }
+
+  public static BlockMasterShardHashesDescrFields select() {
+    return new BlockMasterShardHashesDescrFields();
+  }
+
+  @Override
+  protected BlockMasterShardHashesDescrFields self() {
+    return this;
+  }
+
+  public BlockMasterShardHashesDescrFields beforeMerge() {
+    return field("before_merge");
+  }
+
+  public BlockMasterShardHashesDescrFields beforeSplit() {
+    return field("before_split");
+  }
+
+  public BlockMasterShardHashesDescrFields endLt() {
+    return field("end_lt");
+  }
+
+  public BlockMasterShardHashesDescrFields feesCollected() {
+    return field("fees_collected");
+  }
+
+  public BlockMasterShardHashesDescrFields feesCollectedOther(
+      UnaryOperator<OtherCurrencyFields> selector) {
+    return object("fees_collected_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockMasterShardHashesDescrFields fileHash() {
+    return field("file_hash");
+  }
+
+  public BlockMasterShardHashesDescrFields flags() {
+    return field("flags");
+  }
+
+  public BlockMasterShardHashesDescrFields fundsCreated() {
+    return field("funds_created");
+  }
+
+  public BlockMasterShardHashesDescrFields fundsCreatedOther(
+      UnaryOperator<OtherCurrencyFields> selector) {
+    return object("funds_created_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockMasterShardHashesDescrFields genUtime() {
+    return field("gen_utime");
+  }
+
+  public BlockMasterShardHashesDescrFields genUtimeString() {
+    return field("gen_utime_string");
+  }
+
+  public BlockMasterShardHashesDescrFields minRefMcSeqno() {
+    return field("min_ref_mc_seqno");
+  }
+
+  public BlockMasterShardHashesDescrFields nextCatchainSeqno() {
+    return field("next_catchain_seqno");
+  }
+
+  public BlockMasterShardHashesDescrFields nextValidatorShard() {
+    return field("next_validator_shard");
+  }
+
+  public BlockMasterShardHashesDescrFields nxCcUpdated() {
+    return field("nx_cc_updated");
+  }
+
+  public BlockMasterShardHashesDescrFields regMcSeqno() {
+    return field("reg_mc_seqno");
+  }
+
+  public BlockMasterShardHashesDescrFields rootHash() {
+    return field("root_hash");
+  }
+
+  public BlockMasterShardHashesDescrFields seqNo() {
+    return field("seq_no");
+  }
+
+  public BlockMasterShardHashesDescrFields split() {
+    return field("split");
+  }
+
+  public BlockMasterShardHashesDescrFields splitType() {
+    return field("split_type");
+  }
+
+  public BlockMasterShardHashesDescrFields splitTypeName() {
+    return field("split_type_name");
+  }
+
+  public BlockMasterShardHashesDescrFields startLt() {
+    return field("start_lt");
+  }
+
+  public BlockMasterShardHashesDescrFields wantMerge() {
+    return field("want_merge");
+  }
+
+  public BlockMasterShardHashesDescrFields wantSplit() {
+    return field("want_split");
+  }
+}
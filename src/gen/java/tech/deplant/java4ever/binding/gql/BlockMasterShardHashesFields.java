@@ -0,0 +1,34 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockMasterShardHashes} fields.
+ */
+public final class BlockMasterShardHashesFields extends GqlFields<BlockMasterShardHashesFields> {
+  private BlockMasterShardHashesFields() {
+  }
+
+  public static BlockMasterShardHashesFields select() {
+    return new BlockMasterShardHashesFields();
+  }
+
+  @Override
+  protected BlockMasterShardHashesFields self() {
+    return this;
+  }
+
+  public BlockMasterShardHashesFields descr(
+      UnaryOperator<BlockMasterShardHashesDescrFields> selector) {
+    return object("descr", selector.apply(BlockMasterShardHashesDescrFields.select()));
+  }
+
+  public BlockMasterShardHashesFields shard() {
+    return field("shard");
+  }
+
+  public BlockMasterShardHashesFields workchainId() {
+    return field("workchain_id");
+  }
+}
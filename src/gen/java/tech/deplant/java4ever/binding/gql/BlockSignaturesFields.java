@@ -0,0 +1,69 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockSignatures} fields.
+ */
+public final class BlockSignaturesFields extends GqlFields<BlockSignaturesFields> {
+  private BlockSignaturesFields() {
+  }
+
+  public static BlockSignaturesFields select() {
+    return new BlockSignaturesFields();
+  }
+
+  @Override
+  protected BlockSignaturesFields self() {
+    return this;
+  }
+
+  public BlockSignaturesFields id() {
+    return field("id");
+  }
+
+  public BlockSignaturesFields block(UnaryOperator<BlockFields> selector) {
+    return object("block", selector.apply(BlockFields.select()));
+  }
+
+  public BlockSignaturesFields catchainSeqno() {
+    return field("catchain_seqno");
+  }
+
+  public BlockSignaturesFields genUtime() {
+    return field("gen_utime");
+  }
+
+  public BlockSignaturesFields genUtimeString() {
+    return field("gen_utime_string");
+  }
+
+  public BlockSignaturesFields proof() {
+    return field("proof");
+  }
+
+  public BlockSignaturesFields seqNo() {
+    return field("seq_no");
+  }
+
+  public BlockSignaturesFields shard() {
+    return field("shard");
+  }
+
+  public BlockSignaturesFields sigWeight() {
+    return field("sig_weight");
+  }
+
+  public BlockSignaturesFields signatures(UnaryOperator<BlockSignaturesSignaturesFields> selector) {
+    return object("signatures", selector.apply(BlockSignaturesSignaturesFields.select()));
+  }
+
+  public BlockSignaturesFields validatorListHashShort() {
+    return field("validator_list_hash_short");
+  }
+
+  public BlockSignaturesFields workchainId() {
+    return field("workchain_id");
+  }
+}
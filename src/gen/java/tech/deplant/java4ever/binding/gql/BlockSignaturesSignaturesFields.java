@@ -0,0 +1,32 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link BlockSignaturesSignatures} fields.
+ */
+public final class BlockSignaturesSignaturesFields extends GqlFields<BlockSignaturesSignaturesFields> {
+  private BlockSignaturesSignaturesFields() {
+  }
+
+  public static BlockSignaturesSignaturesFields select() {
+    return new BlockSignaturesSignaturesFields();
+  }
+
+  @Override
+  protected BlockSignaturesSignaturesFields self() {
+    return this;
+  }
+
+  public BlockSignaturesSignaturesFields nodeId() {
+    return field("node_id");
+  }
+
+  public BlockSignaturesSignaturesFields r() {
+    return field("r");
+  }
+
+  public BlockSignaturesSignaturesFields s() {
+    return field("s");
+  }
+}
@@ -0,0 +1,44 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link BlockStateUpdate} fields.
+ */
+public final class BlockStateUpdateFields extends GqlFields<BlockStateUpdateFields> {
+  private BlockStateUpdateFields() {
+  }
+
+  public static BlockStateUpdateFields select() {
+    return new BlockStateUpdateFields();
+  }
+
+  @Override
+  protected BlockStateUpdateFields self() {
+    return this;
+  }
+
+  public BlockStateUpdateFields _new() {
+    return field("new");
+  }
+
+  public BlockStateUpdateFields newDepth() {
+    return field("new_depth");
+  }
+
+  public BlockStateUpdateFields newHash() {
+    return field("new_hash");
+  }
+
+  public BlockStateUpdateFields old() {
+    return field("old");
+  }
+
+  public BlockStateUpdateFields oldDepth() {
+    return field("old_depth");
+  }
+
+  public BlockStateUpdateFields oldHash() {
+    return field("old_hash");
+  }
+}
@@ -0,0 +1,85 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockValueFlow} fields.
+ */
+public final class BlockValueFlowFields extends GqlFields<BlockValueFlowFields> {
+  private BlockValueFlowFields() {
+  }
+
+  public static BlockValueFlowFields select() {
+    return new BlockValueFlowFields();
+  }
+
+  @Override
+  protected BlockValueFlowFields self() {
+    return this;
+  }
+
+  public BlockValueFlowFields created() {
+    return field("created");
+  }
+
+  public BlockValueFlowFields createdOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("created_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockValueFlowFields exported() {
+    return field("exported");
+  }
+
+  public BlockValueFlowFields exportedOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("exported_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockValueFlowFields feesCollected() {
+    return field("fees_collected");
+  }
+
+  public BlockValueFlowFields feesCollectedOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("fees_collected_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockValueFlowFields feesImported() {
+    return field("fees_imported");
+  }
+
+  public BlockValueFlowFields feesImportedOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("fees_imported_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockValueFlowFields fromPrevBlk() {
+    return field("from_prev_blk");
+  }
+
+  public BlockValueFlowFields fromPrevBlkOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("from_prev_blk_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockValueFlowFields imported() {
+    return field("imported");
+  }
+
+  public BlockValueFlowFields importedOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("imported_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockValueFlowFields minted() {
+    return field("minted");
+  }
+
+  public BlockValueFlowFields mintedOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("minted_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockValueFlowFields toNextBlk() {
+    return field("to_next_blk");
+  }
+
+  public BlockValueFlowFields toNextBlkOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("to_next_blk_other", selector.apply(OtherCurrencyFields.select()));
+  }
+}
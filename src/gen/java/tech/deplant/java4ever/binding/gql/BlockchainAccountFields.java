@@ -0,0 +1,129 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link Node.BlockchainAccount} fields.
+ */
+public final class BlockchainAccountFields extends GqlFields<BlockchainAccountFields> {
+  private BlockchainAccountFields() {
+  }
+
+  public static BlockchainAccountFields select() {
+    return new BlockchainAccountFields();
+  }
+
+  @Override
+  protected BlockchainAccountFields self() {
+    return this;
+  }
+
+  public BlockchainAccountFields id() {
+    return field("id");
+  }
+
+  public BlockchainAccountFields address() {
+    return field("address");
+  }
+
+  public BlockchainAccountFields accType() {
+    return field("acc_type");
+  }
+
+  public BlockchainAccountFields accTypeName() {
+    return field("acc_type_name");
+  }
+
+  public BlockchainAccountFields balance() {
+    return field("balance");
+  }
+
+  public BlockchainAccountFields balanceOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("balance_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockchainAccountFields bits() {
+    return field("bits");
+  }
+
+  public BlockchainAccountFields boc() {
+    return field("boc");
+  }
+
+  public BlockchainAccountFields cells() {
+    return field("cells");
+  }
+
+  public BlockchainAccountFields code() {
+    return field("code");
+  }
+
+  public BlockchainAccountFields codeHash() {
+    return field("code_hash");
+  }
+
+  public BlockchainAccountFields data() {
+    return field("data");
+  }
+
+  public BlockchainAccountFields dataHash() {
+    return field("data_hash");
+  }
+
+  public BlockchainAccountFields duePayment() {
+    return field("due_payment");
+  }
+
+  public BlockchainAccountFields initCodeHash() {
+    return field("init_code_hash");
+  }
+
+  public BlockchainAccountFields lastPaid() {
+    return field("last_paid");
+  }
+
+  public BlockchainAccountFields lastTransLt() {
+    return field("last_trans_lt");
+  }
+
+  public BlockchainAccountFields library() {
+    return field("library");
+  }
+
+  public BlockchainAccountFields libraryHash() {
+    return field("library_hash");
+  }
+
+  public BlockchainAccountFields prevCodeHash() {
+    return field("prev_code_hash");
+  }
+
+  public BlockchainAccountFields proof() {
+    return field("proof");
+  }
+
+  public BlockchainAccountFields publicCells() {
+    return field("public_cells");
+  }
+
+  public BlockchainAccountFields splitDepth() {
+    return field("split_depth");
+  }
+
+  public BlockchainAccountFields stateHash() {
+    return field("state_hash");
+  }
+
+  public BlockchainAccountFields tick() {
+    return field("tick");
+  }
+
+  public BlockchainAccountFields tock() {
+    return field("tock");
+  }
+
+  public BlockchainAccountFields workchainId() {
+    return field("workchain_id");
+  }
+}
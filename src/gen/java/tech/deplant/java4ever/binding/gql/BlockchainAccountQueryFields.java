@@ -0,0 +1,35 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockchainAccountQuery} fields.
+ */
+public final class BlockchainAccountQueryFields extends GqlFields<BlockchainAccountQueryFields> {
+  private BlockchainAccountQueryFields() {
+  }
+
+  public static BlockchainAccountQueryFields select() {
+    return new BlockchainAccountQueryFields();
+  }
+
+  @Override
+  protected BlockchainAccountQueryFields self() {
+    return this;
+  }
+
+  public BlockchainAccountQueryFields info(UnaryOperator<BlockchainAccountFields> selector) {
+    return object("info", selector.apply(BlockchainAccountFields.select()));
+  }
+
+  public BlockchainAccountQueryFields transactions(
+      UnaryOperator<BlockchainTransactionsConnectionFields> selector) {
+    return object("transactions", selector.apply(BlockchainTransactionsConnectionFields.select()));
+  }
+
+  public BlockchainAccountQueryFields messages(
+      UnaryOperator<BlockchainMessagesConnectionFields> selector) {
+    return object("messages", selector.apply(BlockchainMessagesConnectionFields.select()));
+  }
+}
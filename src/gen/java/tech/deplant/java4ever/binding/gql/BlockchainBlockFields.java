@@ -0,0 +1,197 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link Node.BlockchainBlock} fields.
+ */
+public final class BlockchainBlockFields extends GqlFields<BlockchainBlockFields> {
+  private BlockchainBlockFields() {
+  }
+
+  public static BlockchainBlockFields select() {
+    return new BlockchainBlockFields();
+  }
+
+  @Override
+  protected BlockchainBlockFields self() {
+    return this;
+  }
+
+  public BlockchainBlockFields id() {
+    return field("id");
+  }
+
+  public BlockchainBlockFields hash() {
+    return field("hash");
+  }
+
+  public BlockchainBlockFields accountBlocks(UnaryOperator<BlockAccountBlocksFields> selector) {
+    return object("account_blocks", selector.apply(BlockAccountBlocksFields.select()));
+  }
+
+  public BlockchainBlockFields afterMerge() {
+    return field("after_merge");
+  }
+
+  public BlockchainBlockFields afterSplit() {
+    return field("after_split");
+  }
+
+  public BlockchainBlockFields beforeSplit() {
+    return field("before_split");
+  }
+
+  public BlockchainBlockFields boc() {
+    return field("boc");
+  }
+
+  public BlockchainBlockFields chainOrder() {
+    return field("chain_order");
+  }
+
+  public BlockchainBlockFields createdBy() {
+    return field("created_by");
+  }
+
+  public BlockchainBlockFields endLt() {
+    return field("end_lt");
+  }
+
+  public BlockchainBlockFields fileHash() {
+    return field("file_hash");
+  }
+
+  public BlockchainBlockFields flags() {
+    return field("flags");
+  }
+
+  public BlockchainBlockFields genCatchainSeqno() {
+    return field("gen_catchain_seqno");
+  }
+
+  public BlockchainBlockFields genSoftwareCapabilities() {
+    return field("gen_software_capabilities");
+  }
+
+  public BlockchainBlockFields genSoftwareVersion() {
+    return field("gen_software_version");
+  }
+
+  public BlockchainBlockFields genUtime() {
+    return field("gen_utime");
+  }
+
+  public BlockchainBlockFields genUtimeString() {
+    return field("gen_utime_string");
+  }
+
+  public BlockchainBlockFields genValidatorListHashShort() {
+    return field("gen_validator_list_hash_short");
+  }
+
+  public BlockchainBlockFields globalId() {
+    return field("global_id");
+  }
+
+  public BlockchainBlockFields inMsgDescr(UnaryOperator<InMsgFields> selector) {
+    return object("in_msg_descr", selector.apply(InMsgFields.select()));
+  }
+
+  public BlockchainBlockFields keyBlock() {
+    return field("key_block");
+  }
+
+  public BlockchainBlockFields master(UnaryOperator<BlockMasterFields> selector) {
+    return object("master", selector.apply(BlockMasterFields.select()));
+  }
+
+  public BlockchainBlockFields masterRef(UnaryOperator<ExtBlkRefFields> selector) {
+    return object("master_ref", selector.apply(ExtBlkRefFields.select()));
+  }
+
+  public BlockchainBlockFields minRefMcSeqno() {
+    return field("min_ref_mc_seqno");
+  }
+
+  public BlockchainBlockFields outMsgDescr(UnaryOperator<OutMsgFields> selector) {
+    return object("out_msg_descr", selector.apply(OutMsgFields.select()));
+  }
+
+  public BlockchainBlockFields prevAltRef(UnaryOperator<ExtBlkRefFields> selector) {
+    return object("prev_alt_ref", selector.apply(ExtBlkRefFields.select()));
+  }
+
+  public BlockchainBlockFields prevKeyBlockSeqno() {
+    return field("prev_key_block_seqno");
+  }
+
+  public BlockchainBlockFields prevRef(UnaryOperator<ExtBlkRefFields> selector) {
+    return object("prev_ref", selector.apply(ExtBlkRefFields.select()));
+  }
+
+  public BlockchainBlockFields prevVertAltRef(UnaryOperator<ExtBlkRefFields> selector) {
+    return object("prev_vert_alt_ref", selector.apply(ExtBlkRefFields.select()));
+  }
+
+  public BlockchainBlockFields prevVertRef(UnaryOperator<ExtBlkRefFields> selector) {
+    return object("prev_vert_ref", selector.apply(ExtBlkRefFields.select()));
+  }
+
+  public BlockchainBlockFields randSeed() {
+    return field("rand_seed");
+  }
+
+  public BlockchainBlockFields seqNo() {
+    return field("seq_no");
+  }
+
+  public BlockchainBlockFields shard() {
+    return field("shard");
+  }
+
+  public BlockchainBlockFields startLt() {
+    return field("start_lt");
+  }
+
+  public BlockchainBlockFields stateUpdate(UnaryOperator<BlockStateUpdateFields> selector) {
+    return object("state_update", selector.apply(BlockStateUpdateFields.select()));
+  }
+
+  public BlockchainBlockFields status() {
+    return field("status");
+  }
+
+  public BlockchainBlockFields statusName() {
+    return field("status_name");
+  }
+
+  public BlockchainBlockFields trCount() {
+    return field("tr_count");
+  }
+
+  public BlockchainBlockFields valueFlow(UnaryOperator<BlockValueFlowFields> selector) {
+    return object("value_flow", selector.apply(BlockValueFlowFields.select()));
+  }
+
+  public BlockchainBlockFields version() {
+    return field("version");
+  }
+
+  public BlockchainBlockFields vertSeqNo() {
+    return field("vert_seq_no");
+  }
+
+  public BlockchainBlockFields wantMerge() {
+    return field("want_merge");
+  }
+
+  public BlockchainBlockFields wantSplit() {
+    return field("want_split");
+  }
+
+  public BlockchainBlockFields workchainId() {
+    return field("workchain_id");
+  }
+}
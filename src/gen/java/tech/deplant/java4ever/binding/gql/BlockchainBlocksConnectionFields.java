@@ -0,0 +1,30 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockchainBlocksConnection} fields.
+ */
+public final class BlockchainBlocksConnectionFields extends GqlFields<BlockchainBlocksConnectionFields> {
+  private BlockchainBlocksConnectionFields() {
+  }
+
+  public static BlockchainBlocksConnectionFields select() {
+    return new BlockchainBlocksConnectionFields();
+  }
+
+  @Override
+  protected BlockchainBlocksConnectionFields self() {
+    return this;
+  }
+
+  public BlockchainBlocksConnectionFields edges(
+      UnaryOperator<BlockchainBlocksEdgeFields> selector) {
+    return object("edges", selector.apply(BlockchainBlocksEdgeFields.select()));
+  }
+
+  public BlockchainBlocksConnectionFields pageInfo(UnaryOperator<PageInfoFields> selector) {
+    return object("pageInfo", selector.apply(PageInfoFields.select()));
+  }
+}
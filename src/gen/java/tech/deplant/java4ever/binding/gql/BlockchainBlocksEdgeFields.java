@@ -0,0 +1,29 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockchainBlocksEdge} fields.
+ */
+public final class BlockchainBlocksEdgeFields extends GqlFields<BlockchainBlocksEdgeFields> {
+  private BlockchainBlocksEdgeFields() {
+  }
+
+  public static BlockchainBlocksEdgeFields select() {
+    return new BlockchainBlocksEdgeFields();
+  }
+
+  @Override
+  protected BlockchainBlocksEdgeFields self() {
+    return this;
+  }
+
+  public BlockchainBlocksEdgeFields node(UnaryOperator<BlockchainBlockFields> selector) {
+    return object("node", selector.apply(BlockchainBlockFields.select()));
+  }
+
+  public BlockchainBlocksEdgeFields cursor() {
+    return field("cursor");
+  }
+}
@@ -0,0 +1,28 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link BlockchainMasterSeqNoRange} fields.
+ */
+public final class BlockchainMasterSeqNoRangeFields extends GqlFields<BlockchainMasterSeqNoRangeFields> {
+  private BlockchainMasterSeqNoRangeFields() {
+  }
+
+  public static BlockchainMasterSeqNoRangeFields select() {
+    return new BlockchainMasterSeqNoRangeFields();
+  }
+
+  @Override
+  protected BlockchainMasterSeqNoRangeFields self() {
+    return this;
+  }
+
+  public BlockchainMasterSeqNoRangeFields start() {
+    return field("start");
+  }
+
+  public BlockchainMasterSeqNoRangeFields end() {
+    return field("end");
+  }
+}
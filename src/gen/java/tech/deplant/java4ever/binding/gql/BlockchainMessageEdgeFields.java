@@ -0,0 +1,29 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockchainMessageEdge} fields.
+ */
+public final class BlockchainMessageEdgeFields extends GqlFields<BlockchainMessageEdgeFields> {
+  private BlockchainMessageEdgeFields() {
+  }
+
+  public static BlockchainMessageEdgeFields select() {
+    return new BlockchainMessageEdgeFields();
+  }
+
+  @Override
+  protected BlockchainMessageEdgeFields self() {
+    return this;
+  }
+
+  public BlockchainMessageEdgeFields node(UnaryOperator<BlockchainMessageFields> selector) {
+    return object("node", selector.apply(BlockchainMessageFields.select()));
+  }
+
+  public BlockchainMessageEdgeFields cursor() {
+    return field("cursor");
+  }
+}
@@ -0,0 +1,175 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link Node.BlockchainMessage} fields.
+ */
+public final class BlockchainMessageFields extends GqlFields<BlockchainMessageFields> {
+  private BlockchainMessageFields() {
+  }
+
+  public static BlockchainMessageFields select() {
+    return new BlockchainMessageFields();
+  }
+
+  @Override
+  protected BlockchainMessageFields self() {
+    return this;
+  }
+
+  public BlockchainMessageFields id() {
+    return field("id");
+  }
+
+  public BlockchainMessageFields hash() {
+    return field("hash");
+  }
+
+  public BlockchainMessageFields blockId() {
+    return field("block_id");
+  }
+
+  public BlockchainMessageFields boc() {
+    return field("boc");
+  }
+
+  public BlockchainMessageFields body() {
+    return field("body");
+  }
+
+  public BlockchainMessageFields bodyHash() {
+    return field("body_hash");
+  }
+
+  public BlockchainMessageFields bounce() {
+    return field("bounce");
+  }
+
+  public BlockchainMessageFields bounced() {
+    return field("bounced");
+  }
+
+  public BlockchainMessageFields chainOrder() {
+    return field("chain_order");
+  }
+
+  public BlockchainMessageFields code() {
+    return field("code");
+  }
+
+  public BlockchainMessageFields codeHash() {
+    return field("code_hash");
+  }
+
+  public BlockchainMessageFields createdAt() {
+    return field("created_at");
+  }
+
+  public BlockchainMessageFields createdAtString() {
+    return field("created_at_string");
+  }
+
+  public BlockchainMessageFields createdLt() {
+    return field("created_lt");
+  }
+
+  public BlockchainMessageFields data() {
+    return field("data");
+  }
+
+  public BlockchainMessageFields dataHash() {
+    return field("data_hash");
+  }
+
+  public BlockchainMessageFields dst() {
+    return field("dst");
+  }
+
+  public BlockchainMessageFields dstTransaction(
+      UnaryOperator<BlockchainTransactionFields> selector) {
+    return object("dst_transaction", selector.apply(BlockchainTransactionFields.select()));
+  }
+
+  public BlockchainMessageFields dstWorkchainId() {
+    return field("dst_workchain_id");
+  }
+
+  public BlockchainMessageFields fwdFee() {
+    return field("fwd_fee");
+  }
+
+  public BlockchainMessageFields ihrDisabled() {
+    return field("ihr_disabled");
+  }
+
+  public BlockchainMessageFields ihrFee() {
+    return field("ihr_fee");
+  }
+
+  public BlockchainMessageFields importFee() {
+    return field("import_fee");
+  }
+
+  public BlockchainMessageFields library() {
+    return field("library");
+  }
+
+  public BlockchainMessageFields libraryHash() {
+    return field("library_hash");
+  }
+
+  public BlockchainMessageFields msgType() {
+    return field("msg_type");
+  }
+
+  public BlockchainMessageFields msgTypeName() {
+    return field("msg_type_name");
+  }
+
+  public BlockchainMessageFields proof() {
+    return field("proof");
+  }
+
+  public BlockchainMessageFields splitDepth() {
+    return field("split_depth");
+  }
+
+  public BlockchainMessageFields src() {
+    return field("src");
+  }
+
+  public BlockchainMessageFields srcTransaction(
+      UnaryOperator<BlockchainTransactionFields> selector) {
+    return object("src_transaction", selector.apply(BlockchainTransactionFields.select()));
+  }
+
+  public BlockchainMessageFields srcWorkchainId() {
+    return field("src_workchain_id");
+  }
+
+  public BlockchainMessageFields status() {
+    return field("status");
+  }
+
+  public BlockchainMessageFields statusName() {
+    return field("status_name");
+  }
+
+  public BlockchainMessageFields tick() {
+    return field("tick");
+  }
+
+  public BlockchainMessageFields tock() {
+    return field("tock");
+  }
+
+  public BlockchainMessageFields value() {
+    return field("value");
+  }
+
+  public BlockchainMessageFields valueOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("value_other", selector.apply(OtherCurrencyFields.select()));
+  }
+}
@@ -0,0 +1,30 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockchainMessagesConnection} fields.
+ */
+public final class BlockchainMessagesConnectionFields extends GqlFields<BlockchainMessagesConnectionFields> {
+  private BlockchainMessagesConnectionFields() {
+  }
+
+  public static BlockchainMessagesConnectionFields select() {
+    return new BlockchainMessagesConnectionFields();
+  }
+
+  @Override
+  protected BlockchainMessagesConnectionFields self() {
+    return this;
+  }
+
+  public BlockchainMessagesConnectionFields edges(
+      UnaryOperator<BlockchainMessageEdgeFields> selector) {
+    return object("edges", selector.apply(BlockchainMessageEdgeFields.select()));
+  }
+
+  public BlockchainMessagesConnectionFields pageInfo(UnaryOperator<PageInfoFields> selector) {
+    return object("pageInfo", selector.apply(PageInfoFields.select()));
+  }
+}
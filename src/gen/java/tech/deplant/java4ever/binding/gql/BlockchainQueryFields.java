@@ -0,0 +1,59 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockchainQuery} fields.
+ */
+public final class BlockchainQueryFields extends GqlFields<BlockchainQueryFields> {
+  private BlockchainQueryFields() {
+  }
+
+  public static BlockchainQueryFields select() {
+    return new BlockchainQueryFields();
+  }
+
+  @Override
+  protected BlockchainQueryFields self() {
+    return this;
+  }
+
+  public BlockchainQueryFields account(UnaryOperator<BlockchainAccountQueryFields> selector) {
+    return object("account", selector.apply(BlockchainAccountQueryFields.select()));
+  }
+
+  public BlockchainQueryFields block(UnaryOperator<BlockchainBlockFields> selector) {
+    return object("block", selector.apply(BlockchainBlockFields.select()));
+  }
+
+  public BlockchainQueryFields blockBySeqNo(UnaryOperator<BlockchainBlockFields> selector) {
+    return object("block_by_seq_no", selector.apply(BlockchainBlockFields.select()));
+  }
+
+  public BlockchainQueryFields transaction(UnaryOperator<BlockchainTransactionFields> selector) {
+    return object("transaction", selector.apply(BlockchainTransactionFields.select()));
+  }
+
+  public BlockchainQueryFields message(UnaryOperator<BlockchainMessageFields> selector) {
+    return object("message", selector.apply(BlockchainMessageFields.select()));
+  }
+
+  public BlockchainQueryFields masterSeqNoRange(
+      UnaryOperator<BlockchainMasterSeqNoRangeFields> selector) {
+    return object("master_seq_no_range", selector.apply(BlockchainMasterSeqNoRangeFields.select()));
+  }
+
+  public BlockchainQueryFields keyBlocks(UnaryOperator<BlockchainBlocksConnectionFields> selector) {
+    return object("key_blocks", selector.apply(BlockchainBlocksConnectionFields.select()));
+  }
+
+  public BlockchainQueryFields blocks(UnaryOperator<BlockchainBlocksConnectionFields> selector) {
+    return object("blocks", selector.apply(BlockchainBlocksConnectionFields.select()));
+  }
+
+  public BlockchainQueryFields transactions(
+      UnaryOperator<BlockchainTransactionsConnectionFields> selector) {
+    return object("transactions", selector.apply(BlockchainTransactionsConnectionFields.select()));
+  }
+}
@@ -0,0 +1,29 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockchainTransactionEdge} fields.
+ */
+public final class BlockchainTransactionEdgeFields extends GqlFields<BlockchainTransactionEdgeFields> {
+  private BlockchainTransactionEdgeFields() {
+  }
+
+  public static BlockchainTransactionEdgeFields select() {
+    return new BlockchainTransactionEdgeFields();
+  }
+
+  @Override
+  protected BlockchainTransactionEdgeFields self() {
+    return this;
+  }
+
+  public BlockchainTransactionEdgeFields node(UnaryOperator<BlockchainTransactionFields> selector) {
+    return object("node", selector.apply(BlockchainTransactionFields.select()));
+  }
+
+  public BlockchainTransactionEdgeFields cursor() {
+    return field("cursor");
+  }
+}
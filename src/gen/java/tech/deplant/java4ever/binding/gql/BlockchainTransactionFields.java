@@ -0,0 +1,206 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link Node.BlockchainTransaction} fields.
+ */
+public final class BlockchainTransactionFields extends GqlFields<BlockchainTransactionFields> {
+  private BlockchainTransactionFields() {
+  }
+
+  public static BlockchainTransactionFields select() {
+    return new BlockchainTransactionFields();
+  }
+
+  @Override
+  protected BlockchainTransactionFields self() {
+    return this;
+  }
+
+  public BlockchainTransactionFields id() {
+    return field("id");
+  }
+
+  public BlockchainTransactionFields hash() {
+    return field("hash");
+  }
+
+  public BlockchainTransactionFields aborted() {
+    return field("aborted");
+  }
+
+  public BlockchainTransactionFields account(UnaryOperator<BlockchainAccountFields> selector) {
+    return object("account", selector.apply(BlockchainAccountFields.select()));
+  }
+
+  public BlockchainTransactionFields accountAddr() {
+    return field("account_addr");
+  }
+
+  public BlockchainTransactionFields action(UnaryOperator<TransactionActionFields> selector) {
+    return object("action", selector.apply(TransactionActionFields.select()));
+  }
+
+  public BlockchainTransactionFields balanceDelta() {
+    return field("balance_delta");
+  }
+
+  public BlockchainTransactionFields balanceDeltaOther(
+      UnaryOperator<OtherCurrencyFields> selector) {
+    return object("balance_delta_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockchainTransactionFields blockId() {
+    return field("block_id");
+  }
+
+  public BlockchainTransactionFields boc() {
+    return field("boc");
+  }
+
+  public BlockchainTransactionFields bounce(UnaryOperator<TransactionBounceFields> selector) {
+    return object("bounce", selector.apply(TransactionBounceFields.select()));
+  }
+
+  public BlockchainTransactionFields chainOrder() {
+    return field("chain_order");
+  }
+
+  public BlockchainTransactionFields compute(UnaryOperator<TransactionComputeFields> selector) {
+    return object("compute", selector.apply(TransactionComputeFields.select()));
+  }
+
+  public BlockchainTransactionFields credit(UnaryOperator<TransactionCreditFields> selector) {
+    return object("credit", selector.apply(TransactionCreditFields.select()));
+  }
+
+  public BlockchainTransactionFields creditFirst() {
+    return field("credit_first");
+  }
+
+  public BlockchainTransactionFields destroyed() {
+    return field("destroyed");
+  }
+
+  public BlockchainTransactionFields endStatus() {
+    return field("end_status");
+  }
+
+  public BlockchainTransactionFields endStatusName() {
+    return field("end_status_name");
+  }
+
+  public BlockchainTransactionFields extInMsgFee() {
+    return field("ext_in_msg_fee");
+  }
+
+  public BlockchainTransactionFields inMessage(UnaryOperator<BlockchainMessageFields> selector) {
+    return object("in_message", selector.apply(BlockchainMessageFields.select()));
+  }
+
+  public BlockchainTransactionFields inMsg() {
+    return field("in_msg");
+  }
+
+  public BlockchainTransactionFields installed() {
+    return field("installed");
+  }
+
+  public BlockchainTransactionFields lt() {
+    return field("lt");
+  }
+
+  public BlockchainTransactionFields newHash() {
+    return field("new_hash");
+  }
+
+  public BlockchainTransactionFields now() {
+    return field("now");
+  }
+
+  public BlockchainTransactionFields nowString() {
+    return field("now_string");
+  }
+
+  public BlockchainTransactionFields oldHash() {
+    return field("old_hash");
+  }
+
+  public BlockchainTransactionFields origStatus() {
+    return field("orig_status");
+  }
+
+  public BlockchainTransactionFields origStatusName() {
+    return field("orig_status_name");
+  }
+
+  public BlockchainTransactionFields outMessages(UnaryOperator<BlockchainMessageFields> selector) {
+    return object("out_messages", selector.apply(BlockchainMessageFields.select()));
+  }
+
+  public BlockchainTransactionFields outMsgs() {
+    return field("out_msgs");
+  }
+
+  public BlockchainTransactionFields outmsgCnt() {
+    return field("outmsg_cnt");
+  }
+
+  public BlockchainTransactionFields prepareTransaction() {
+    return field("prepare_transaction");
+  }
+
+  public BlockchainTransactionFields prevTransHash() {
+    return field("prev_trans_hash");
+  }
+
+  public BlockchainTransactionFields prevTransLt() {
+    return field("prev_trans_lt");
+  }
+
+  public BlockchainTransactionFields proof() {
+    return field("proof");
+  }
+
+  public BlockchainTransactionFields splitInfo(UnaryOperator<TransactionSplitInfoFields> selector) {
+    return object("split_info", selector.apply(TransactionSplitInfoFields.select()));
+  }
+
+  public BlockchainTransactionFields status() {
+    return field("status");
+  }
+
+  public BlockchainTransactionFields statusName() {
+    return field("status_name");
+  }
+
+  public BlockchainTransactionFields storage(UnaryOperator<TransactionStorageFields> selector) {
+    return object("storage", selector.apply(TransactionStorageFields.select()));
+  }
+
+  public BlockchainTransactionFields totalFees() {
+    return field("total_fees");
+  }
+
+  public BlockchainTransactionFields totalFeesOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("total_fees_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public BlockchainTransactionFields trType() {
+    return field("tr_type");
+  }
+
+  public BlockchainTransactionFields trTypeName() {
+    return field("tr_type_name");
+  }
+
+  public BlockchainTransactionFields tt() {
+    return field("tt");
+  }
+
+  public BlockchainTransactionFields workchainId() {
+    return field("workchain_id");
+  }
+}
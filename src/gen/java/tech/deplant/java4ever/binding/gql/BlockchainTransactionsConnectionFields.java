@@ -0,0 +1,30 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link BlockchainTransactionsConnection} fields.
+ */
+public final class BlockchainTransactionsConnectionFields extends GqlFields<BlockchainTransactionsConnectionFields> {
+  private BlockchainTransactionsConnectionFields() {
+  }
+
+  public static BlockchainTransactionsConnectionFields select() {
+    return new BlockchainTransactionsConnectionFields();
+  }
+
+  @Override
+  protected BlockchainTransactionsConnectionFields self() {
+    return this;
+  }
+
+  public BlockchainTransactionsConnectionFields edges(
+      UnaryOperator<BlockchainTransactionEdgeFields> selector) {
+    return object("edges", selector.apply(BlockchainTransactionEdgeFields.select()));
+  }
+
+  public BlockchainTransactionsConnectionFields pageInfo(UnaryOperator<PageInfoFields> selector) {
+    return object("pageInfo", selector.apply(PageInfoFields.select()));
+  }
+}
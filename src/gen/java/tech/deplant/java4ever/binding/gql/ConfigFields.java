@@ -0,0 +1,165 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link Config} fields.
+ */
+public final class ConfigFields extends GqlFields<ConfigFields> {
+  private ConfigFields() {
+  }
+
+  public static ConfigFields select() {
+    return new ConfigFields();
+  }
+
+  @Override
+  protected ConfigFields self() {
+    return this;
+  }
+
+  public ConfigFields p0() {
+    return field("p0");
+  }
+
+  public ConfigFields p1() {
+    return field("p1");
+  }
+
+  public ConfigFields p10() {
+    return field("p10");
+  }
+
+  public ConfigFields p11(UnaryOperator<ConfigP11Fields> selector) {
+    return object("p11", selector.apply(ConfigP11Fields.select()));
+  }
+
+  public ConfigFields p12(UnaryOperator<ConfigP12Fields> selector) {
+    return object("p12", selector.apply(ConfigP12Fields.select()));
+  }
+
+  public ConfigFields p14(UnaryOperator<ConfigP14Fields> selector) {
+    return object("p14", selector.apply(ConfigP14Fields.select()));
+  }
+
+  public ConfigFields p15(UnaryOperator<ConfigP15Fields> selector) {
+    return object("p15", selector.apply(ConfigP15Fields.select()));
+  }
+
+  public ConfigFields p16(UnaryOperator<ConfigP16Fields> selector) {
+    return object("p16", selector.apply(ConfigP16Fields.select()));
+  }
+
+  public ConfigFields p17(UnaryOperator<ConfigP17Fields> selector) {
+    return object("p17", selector.apply(ConfigP17Fields.select()));
+  }
+
+  public ConfigFields p18(UnaryOperator<ConfigP18Fields> selector) {
+    return object("p18", selector.apply(ConfigP18Fields.select()));
+  }
+
+  public ConfigFields p2() {
+    return field("p2");
+  }
+
+  public ConfigFields p20(UnaryOperator<GasLimitsPricesFields> selector) {
+    return object("p20", selector.apply(GasLimitsPricesFields.select()));
+  }
+
+  public ConfigFields p21(UnaryOperator<GasLimitsPricesFields> selector) {
+    return object("p21", selector.apply(GasLimitsPricesFields.select()));
+  }
+
+  public ConfigFields p22(UnaryOperator<BlockLimitsFields> selector) {
+    return object("p22", selector.apply(BlockLimitsFields.select()));
+  }
+
+  public ConfigFields p23(UnaryOperator<BlockLimitsFields> selector) {
+    return object("p23", selector.apply(BlockLimitsFields.select()));
+  }
+
+  public ConfigFields p24(UnaryOperator<MsgForwardPricesFields> selector) {
+    return object("p24", selector.apply(MsgForwardPricesFields.select()));
+  }
+
+  public ConfigFields p25(UnaryOperator<MsgForwardPricesFields> selector) {
+    return object("p25", selector.apply(MsgForwardPricesFields.select()));
+  }
+
+  public ConfigFields p28(UnaryOperator<ConfigP28Fields> selector) {
+    return object("p28", selector.apply(ConfigP28Fields.select()));
+  }
+
+  public ConfigFields p29(UnaryOperator<ConfigP29Fields> selector) {
+    return object("p29", selector.apply(ConfigP29Fields.select()));
+  }
+
+  public ConfigFields p3() {
+    return field("p3");
+  }
+
+  public ConfigFields p30(UnaryOperator<ConfigP30Fields> selector) {
+    return object("p30", selector.apply(ConfigP30Fields.select()));
+  }
+
+  public ConfigFields p31() {
+    return field("p31");
+  }
+
+  public ConfigFields p32(UnaryOperator<ValidatorSetFields> selector) {
+    return object("p32", selector.apply(ValidatorSetFields.select()));
+  }
+
+  public ConfigFields p33(UnaryOperator<ValidatorSetFields> selector) {
+    return object("p33", selector.apply(ValidatorSetFields.select()));
+  }
+
+  public ConfigFields p34(UnaryOperator<ValidatorSetFields> selector) {
+    return object("p34", selector.apply(ValidatorSetFields.select()));
+  }
+
+  public ConfigFields p35(UnaryOperator<ValidatorSetFields> selector) {
+    return object("p35", selector.apply(ValidatorSetFields.select()));
+  }
+
+  public ConfigFields p36(UnaryOperator<ValidatorSetFields> selector) {
+    return object("p36", selector.apply(ValidatorSetFields.select()));
+  }
+
+  public ConfigFields p37(UnaryOperator<ValidatorSetFields> selector) {
+    return object("p37", selector.apply(ValidatorSetFields.select()));
+  }
+
+  public ConfigFields p39(UnaryOperator<ConfigP39Fields> selector) {
+    return object("p39", selector.apply(ConfigP39Fields.select()));
+  }
+
+  public ConfigFields p4() {
+    return field("p4");
+  }
+
+  public ConfigFields p40(UnaryOperator<ConfigP40Fields> selector) {
+    return object("p40", selector.apply(ConfigP40Fields.select()));
+  }
+
+  public ConfigFields p42(UnaryOperator<ConfigP42Fields> selector) {
+    return object("p42", selector.apply(ConfigP42Fields.select()));
+  }
+
+  public ConfigFields p6(UnaryOperator<ConfigP6Fields> selector) {
+    return object("p6", selector.apply(ConfigP6Fields.select()));
+  }
+
+  public ConfigFields p7(UnaryOperator<ConfigP7Fields> selector) {
+    return object("p7", selector.apply(ConfigP7Fields.select()));
+  }
+
+  public ConfigFields p8(UnaryOperator<ConfigP8Fields> selector) {
+    return object("p8", selector.apply(ConfigP8Fields.select()));
+  }
+
+  public ConfigFields p9() {
+    return field("p9");
+  }
+}
@@ -0,0 +1,29 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link ConfigP11} fields.
+ */
+public final class ConfigP11Fields extends GqlFields<ConfigP11Fields> {
+  private ConfigP11Fields() {
+  }
+
+  public static ConfigP11Fields select() {
+    return new ConfigP11Fields();
+  }
+
+  @Override
+  protected ConfigP11Fields self() {
+    return this;
+  }
+
+  public ConfigP11Fields criticalParams(UnaryOperator<ConfigProposalSetupFields> selector) {
+    return object("critical_params", selector.apply(ConfigProposalSetupFields.select()));
+  }
+
+  public ConfigP11Fields normalParams(UnaryOperator<ConfigProposalSetupFields> selector) {
+    return object("normal_params", selector.apply(ConfigProposalSetupFields.select()));
+  }
+}
@@ -0,0 +1,92 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP12} fields.
+ */
+public final class ConfigP12Fields extends GqlFields<ConfigP12Fields> {
+  private ConfigP12Fields() {
+  }
+
+  public static ConfigP12Fields select() {
+    return new ConfigP12Fields();
+  }
+
+  @Override
+  protected ConfigP12Fields self() {
+    return this;
+  }
+
+  public ConfigP12Fields acceptMsgs() {
+    return field("accept_msgs");
+  }
+
+  public ConfigP12Fields active() {
+    return field("active");
+  }
+
+  public ConfigP12Fields actualMinSplit() {
+    return field("actual_min_split");
+  }
+
+  public ConfigP12Fields addrLenStep() {
+    return field("addr_len_step");
+  }
+
+  public ConfigP12Fields basic() {
+    return field("basic");
+  }
+
+  public ConfigP12Fields enabledSince() {
+    return field("enabled_since");
+  }
+
+  public ConfigP12Fields flags() {
+    return field("flags");
+  }
+
+  public ConfigP12Fields maxAddrLen() {
+    return field("max_addr_len");
+  }
+
+  public ConfigP12Fields maxSplit() {
+    return field("max_split");
+  }
+
+  public ConfigP12Fields minAddrLen() {
+    return field("min_addr_len");
+  }
+
+  public ConfigP12Fields minSplit() {
+    return field("min_split");
+  }
+
+  public ConfigP12Fields version() {
+    return field("version");
+  }
+
+  public ConfigP12Fields vmMode() {
+    return field("vm_mode");
+  }
+
+  public ConfigP12Fields vmVersion() {
+    return field("vm_version");
+  }
+
+  public ConfigP12Fields workchainId() {
+    return field("workchain_id");
+  }
+
+  public ConfigP12Fields workchainTypeId() {
+    return field("workchain_type_id");
+  }
+
+  public ConfigP12Fields zerostateFileHash() {
+    return field("zerostate_file_hash");
+  }
+
+  public ConfigP12Fields zerostateRootHash() {
+    return field("zerostate_root_hash");
+  }
+}
@@ -0,0 +1,28 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP14} fields.
+ */
+public final class ConfigP14Fields extends GqlFields<ConfigP14Fields> {
+  private ConfigP14Fields() {
+  }
+
+  public static ConfigP14Fields select() {
+    return new ConfigP14Fields();
+  }
+
+  @Override
+  protected ConfigP14Fields self() {
+    return this;
+  }
+
+  public ConfigP14Fields basechainBlockFee() {
+    return field("basechain_block_fee");
+  }
+
+  public ConfigP14Fields masterchainBlockFee() {
+    return field("masterchain_block_fee");
+  }
+}
@@ -0,0 +1,36 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP15} fields.
+ */
+public final class ConfigP15Fields extends GqlFields<ConfigP15Fields> {
+  private ConfigP15Fields() {
+  }
+
+  public static ConfigP15Fields select() {
+    return new ConfigP15Fields();
+  }
+
+  @Override
+  protected ConfigP15Fields self() {
+    return this;
+  }
+
+  public ConfigP15Fields electionsEndBefore() {
+    return field("elections_end_before");
+  }
+
+  public ConfigP15Fields electionsStartBefore() {
+    return field("elections_start_before");
+  }
+
+  public ConfigP15Fields stakeHeldFor() {
+    return field("stake_held_for");
+  }
+
+  public ConfigP15Fields validatorsElectedFor() {
+    return field("validators_elected_for");
+  }
+}
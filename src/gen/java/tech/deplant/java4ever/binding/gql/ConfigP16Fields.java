@@ -0,0 +1,32 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP16} fields.
+ */
+public final class ConfigP16Fields extends GqlFields<ConfigP16Fields> {
+  private ConfigP16Fields() {
+  }
+
+  public static ConfigP16Fields select() {
+    return new ConfigP16Fields();
+  }
+
+  @Override
+  protected ConfigP16Fields self() {
+    return this;
+  }
+
+  public ConfigP16Fields maxMainValidators() {
+    return field("max_main_validators");
+  }
+
+  public ConfigP16Fields maxValidators() {
+    return field("max_validators");
+  }
+
+  public ConfigP16Fields minValidators() {
+    return field("min_validators");
+  }
+}
@@ -0,0 +1,36 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP17} fields.
+ */
+public final class ConfigP17Fields extends GqlFields<ConfigP17Fields> {
+  private ConfigP17Fields() {
+  }
+
+  public static ConfigP17Fields select() {
+    return new ConfigP17Fields();
+  }
+
+  @Override
+  protected ConfigP17Fields self() {
+    return this;
+  }
+
+  public ConfigP17Fields maxStake() {
+    return field("max_stake");
+  }
+
+  public ConfigP17Fields maxStakeFactor() {
+    return field("max_stake_factor");
+  }
+
+  public ConfigP17Fields minStake() {
+    return field("min_stake");
+  }
+
+  public ConfigP17Fields minTotalStake() {
+    return field("min_total_stake");
+  }
+}
@@ -0,0 +1,44 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP18} fields.
+ */
+public final class ConfigP18Fields extends GqlFields<ConfigP18Fields> {
+  private ConfigP18Fields() {
+  }
+
+  public static ConfigP18Fields select() {
+    return new ConfigP18Fields();
+  }
+
+  @Override
+  protected ConfigP18Fields self() {
+    return this;
+  }
+
+  public ConfigP18Fields bitPricePs() {
+    return field("bit_price_ps");
+  }
+
+  public ConfigP18Fields cellPricePs() {
+    return field("cell_price_ps");
+  }
+
+  public ConfigP18Fields mcBitPricePs() {
+    return field("mc_bit_price_ps");
+  }
+
+  public ConfigP18Fields mcCellPricePs() {
+    return field("mc_cell_price_ps");
+  }
+
+  public ConfigP18Fields utimeSince() {
+    return field("utime_since");
+  }
+
+  public ConfigP18Fields utimeSinceString() {
+    return field("utime_since_string");
+  }
+}
@@ -0,0 +1,40 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP28} fields.
+ */
+public final class ConfigP28Fields extends GqlFields<ConfigP28Fields> {
+  private ConfigP28Fields() {
+  }
+
+  public static ConfigP28Fields select() {
+    return new ConfigP28Fields();
+  }
+
+  @Override
+  protected ConfigP28Fields self() {
+    return this;
+  }
+
+  public ConfigP28Fields mcCatchainLifetime() {
+    return field("mc_catchain_lifetime");
+  }
+
+  public ConfigP28Fields shardCatchainLifetime() {
+    return field("shard_catchain_lifetime");
+  }
+
+  public ConfigP28Fields shardValidatorsLifetime() {
+    return field("shard_validators_lifetime");
+  }
+
+  public ConfigP28Fields shardValidatorsNum() {
+    return field("shard_validators_num");
+  }
+
+  public ConfigP28Fields shuffleMcValidators() {
+    return field("shuffle_mc_validators");
+  }
+}
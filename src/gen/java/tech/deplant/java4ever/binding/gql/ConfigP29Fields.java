@@ -0,0 +1,56 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP29} fields.
+ */
+public final class ConfigP29Fields extends GqlFields<ConfigP29Fields> {
+  private ConfigP29Fields() {
+  }
+
+  public static ConfigP29Fields select() {
+    return new ConfigP29Fields();
+  }
+
+  @Override
+  protected ConfigP29Fields self() {
+    return this;
+  }
+
+  public ConfigP29Fields attemptDuration() {
+    return field("attempt_duration");
+  }
+
+  public ConfigP29Fields catchainMaxDeps() {
+    return field("catchain_max_deps");
+  }
+
+  public ConfigP29Fields consensusTimeoutMs() {
+    return field("consensus_timeout_ms");
+  }
+
+  public ConfigP29Fields fastAttempts() {
+    return field("fast_attempts");
+  }
+
+  public ConfigP29Fields maxBlockBytes() {
+    return field("max_block_bytes");
+  }
+
+  public ConfigP29Fields maxCollatedBytes() {
+    return field("max_collated_bytes");
+  }
+
+  public ConfigP29Fields newCatchainIds() {
+    return field("new_catchain_ids");
+  }
+
+  public ConfigP29Fields nextCandidateDelayMs() {
+    return field("next_candidate_delay_ms");
+  }
+
+  public ConfigP29Fields roundCandidates() {
+    return field("round_candidates");
+  }
+}
@@ -0,0 +1,32 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP30} fields.
+ */
+public final class ConfigP30Fields extends GqlFields<ConfigP30Fields> {
+  private ConfigP30Fields() {
+  }
+
+  public static ConfigP30Fields select() {
+    return new ConfigP30Fields();
+  }
+
+  @Override
+  protected ConfigP30Fields self() {
+    return this;
+  }
+
+  public ConfigP30Fields delectionsStep() {
+    return field("delections_step");
+  }
+
+  public ConfigP30Fields stakerInitCodeHash() {
+    return field("staker_init_code_hash");
+  }
+
+  public ConfigP30Fields validatorInitCodeHash() {
+    return field("validator_init_code_hash");
+  }
+}
@@ -0,0 +1,48 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP39} fields.
+ */
+public final class ConfigP39Fields extends GqlFields<ConfigP39Fields> {
+  private ConfigP39Fields() {
+  }
+
+  public static ConfigP39Fields select() {
+    return new ConfigP39Fields();
+  }
+
+  @Override
+  protected ConfigP39Fields self() {
+    return this;
+  }
+
+  public ConfigP39Fields adnlAddr() {
+    return field("adnl_addr");
+  }
+
+  public ConfigP39Fields mapKey() {
+    return field("map_key");
+  }
+
+  public ConfigP39Fields seqno() {
+    return field("seqno");
+  }
+
+  public ConfigP39Fields signatureR() {
+    return field("signature_r");
+  }
+
+  public ConfigP39Fields signatureS() {
+    return field("signature_s");
+  }
+
+  public ConfigP39Fields tempPublicKey() {
+    return field("temp_public_key");
+  }
+
+  public ConfigP39Fields validUntil() {
+    return field("valid_until");
+  }
+}
@@ -0,0 +1,52 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP40} fields.
+ */
+public final class ConfigP40Fields extends GqlFields<ConfigP40Fields> {
+  private ConfigP40Fields() {
+  }
+
+  public static ConfigP40Fields select() {
+    return new ConfigP40Fields();
+  }
+
+  @Override
+  protected ConfigP40Fields self() {
+    return this;
+  }
+
+  public ConfigP40Fields collationsScoreWeight() {
+    return field("collations_score_weight");
+  }
+
+  public ConfigP40Fields minSamplesCount() {
+    return field("min_samples_count");
+  }
+
+  public ConfigP40Fields minSlashingProtectionScore() {
+    return field("min_slashing_protection_score");
+  }
+
+  public ConfigP40Fields resendMcBlocksCount() {
+    return field("resend_mc_blocks_count");
+  }
+
+  public ConfigP40Fields signingScoreWeight() {
+    return field("signing_score_weight");
+  }
+
+  public ConfigP40Fields slashingPeriodMcBlocksCount() {
+    return field("slashing_period_mc_blocks_count");
+  }
+
+  public ConfigP40Fields zParamDenominator() {
+    return field("z_param_denominator");
+  }
+
+  public ConfigP40Fields zParamNumerator() {
+    return field("z_param_numerator");
+  }
+}
@@ -0,0 +1,29 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link ConfigP42} fields.
+ */
+public final class ConfigP42Fields extends GqlFields<ConfigP42Fields> {
+  private ConfigP42Fields() {
+  }
+
+  public static ConfigP42Fields select() {
+    return new ConfigP42Fields();
+  }
+
+  @Override
+  protected ConfigP42Fields self() {
+    return this;
+  }
+
+  public ConfigP42Fields payouts(UnaryOperator<ConfigP42PayoutsFields> selector) {
+    return object("payouts", selector.apply(ConfigP42PayoutsFields.select()));
+  }
+
+  public ConfigP42Fields threshold() {
+    return field("threshold");
+  }
+}
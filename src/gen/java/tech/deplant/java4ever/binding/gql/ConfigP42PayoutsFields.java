@@ -0,0 +1,28 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP42Payouts} fields.
+ */
+public final class ConfigP42PayoutsFields extends GqlFields<ConfigP42PayoutsFields> {
+  private ConfigP42PayoutsFields() {
+  }
+
+  public static ConfigP42PayoutsFields select() {
+    return new ConfigP42PayoutsFields();
+  }
+
+  @Override
+  protected ConfigP42PayoutsFields self() {
+    return this;
+  }
+
+  public ConfigP42PayoutsFields licenseType() {
+    return field("license_type");
+  }
+
+  public ConfigP42PayoutsFields payoutPercent() {
+    return field("payout_percent");
+  }
+}
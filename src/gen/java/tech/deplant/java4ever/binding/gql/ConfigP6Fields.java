@@ -0,0 +1,28 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP6} fields.
+ */
+public final class ConfigP6Fields extends GqlFields<ConfigP6Fields> {
+  private ConfigP6Fields() {
+  }
+
+  public static ConfigP6Fields select() {
+    return new ConfigP6Fields();
+  }
+
+  @Override
+  protected ConfigP6Fields self() {
+    return this;
+  }
+
+  public ConfigP6Fields mintAddPrice() {
+    return field("mint_add_price");
+  }
+
+  public ConfigP6Fields mintNewPrice() {
+    return field("mint_new_price");
+  }
+}
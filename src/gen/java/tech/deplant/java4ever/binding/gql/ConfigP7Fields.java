@@ -0,0 +1,28 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP7} fields.
+ */
+public final class ConfigP7Fields extends GqlFields<ConfigP7Fields> {
+  private ConfigP7Fields() {
+  }
+
+  public static ConfigP7Fields select() {
+    return new ConfigP7Fields();
+  }
+
+  @Override
+  protected ConfigP7Fields self() {
+    return this;
+  }
+
+  public ConfigP7Fields currency() {
+    return field("currency");
+  }
+
+  public ConfigP7Fields value() {
+    return field("value");
+  }
+}
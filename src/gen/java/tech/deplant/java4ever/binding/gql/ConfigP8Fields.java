@@ -0,0 +1,28 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigP8} fields.
+ */
+public final class ConfigP8Fields extends GqlFields<ConfigP8Fields> {
+  private ConfigP8Fields() {
+  }
+
+  public static ConfigP8Fields select() {
+    return new ConfigP8Fields();
+  }
+
+  @Override
+  protected ConfigP8Fields self() {
+    return this;
+  }
+
+  public ConfigP8Fields capabilities() {
+    return field("capabilities");
+  }
+
+  public ConfigP8Fields version() {
+    return field("version");
+  }
+}
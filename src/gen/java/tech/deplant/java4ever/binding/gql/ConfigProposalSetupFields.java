@@ -0,0 +1,52 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ConfigProposalSetup} fields.
+ */
+public final class ConfigProposalSetupFields extends GqlFields<ConfigProposalSetupFields> {
+  private ConfigProposalSetupFields() {
+  }
+
+  public static ConfigProposalSetupFields select() {
+    return new ConfigProposalSetupFields();
+  }
+
+  @Override
+  protected ConfigProposalSetupFields self() {
+    return this;
+  }
+
+  public ConfigProposalSetupFields bitPrice() {
+    return field("bit_price");
+  }
+
+  public ConfigProposalSetupFields cellPrice() {
+    return field("cell_price");
+  }
+
+  public ConfigProposalSetupFields maxLosses() {
+    return field("max_losses");
+  }
+
+  public ConfigProposalSetupFields maxStoreSec() {
+    return field("max_store_sec");
+  }
+
+  public ConfigProposalSetupFields maxTotRounds() {
+    return field("max_tot_rounds");
+  }
+
+  public ConfigProposalSetupFields minStoreSec() {
+    return field("min_store_sec");
+  }
+
+  public ConfigProposalSetupFields minTotRounds() {
+    return field("min_tot_rounds");
+  }
+
+  public ConfigProposalSetupFields minWins() {
+    return field("min_wins");
+  }
+}
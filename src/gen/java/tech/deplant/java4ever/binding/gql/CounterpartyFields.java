@@ -0,0 +1,48 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link Counterparty} fields.
+ */
+public final class CounterpartyFields extends GqlFields<CounterpartyFields> {
+  private CounterpartyFields() {
+  }
+
+  public static CounterpartyFields select() {
+    return new CounterpartyFields();
+  }
+
+  @Override
+  protected CounterpartyFields self() {
+    return this;
+  }
+
+  public CounterpartyFields account() {
+    return field("account");
+  }
+
+  public CounterpartyFields counterparty() {
+    return field("counterparty");
+  }
+
+  public CounterpartyFields lastMessageAt() {
+    return field("last_message_at");
+  }
+
+  public CounterpartyFields lastMessageId() {
+    return field("last_message_id");
+  }
+
+  public CounterpartyFields lastMessageIsReverse() {
+    return field("last_message_is_reverse");
+  }
+
+  public CounterpartyFields lastMessageValue() {
+    return field("last_message_value");
+  }
+
+  public CounterpartyFields cursor() {
+    return field("cursor");
+  }
+}
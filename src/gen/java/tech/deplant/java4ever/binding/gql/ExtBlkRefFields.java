@@ -0,0 +1,36 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ExtBlkRef} fields.
+ */
+public final class ExtBlkRefFields extends GqlFields<ExtBlkRefFields> {
+  private ExtBlkRefFields() {
+  }
+
+  public static ExtBlkRefFields select() {
+    return new ExtBlkRefFields();
+  }
+
+  @Override
+  protected ExtBlkRefFields self() {
+    return this;
+  }
+
+  public ExtBlkRefFields endLt() {
+    return field("end_lt");
+  }
+
+  public ExtBlkRefFields fileHash() {
+    return field("file_hash");
+  }
+
+  public ExtBlkRefFields rootHash() {
+    return field("root_hash");
+  }
+
+  public ExtBlkRefFields seqNo() {
+    return field("seq_no");
+  }
+}
@@ -0,0 +1,56 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link GasLimitsPrices} fields.
+ */
+public final class GasLimitsPricesFields extends GqlFields<GasLimitsPricesFields> {
+  private GasLimitsPricesFields() {
+  }
+
+  public static GasLimitsPricesFields select() {
+    return new GasLimitsPricesFields();
+  }
+
+  @Override
+  protected GasLimitsPricesFields self() {
+    return this;
+  }
+
+  public GasLimitsPricesFields blockGasLimit() {
+    return field("block_gas_limit");
+  }
+
+  public GasLimitsPricesFields deleteDueLimit() {
+    return field("delete_due_limit");
+  }
+
+  public GasLimitsPricesFields flatGasLimit() {
+    return field("flat_gas_limit");
+  }
+
+  public GasLimitsPricesFields flatGasPrice() {
+    return field("flat_gas_price");
+  }
+
+  public GasLimitsPricesFields freezeDueLimit() {
+    return field("freeze_due_limit");
+  }
+
+  public GasLimitsPricesFields gasCredit() {
+    return field("gas_credit");
+  }
+
+  public GasLimitsPricesFields gasLimit() {
+    return field("gas_limit");
+  }
+
+  public GasLimitsPricesFields gasPrice() {
+    return field("gas_price");
+  }
+
+  public GasLimitsPricesFields specialGasLimit() {
+    return field("special_gas_limit");
+  }
+}
@@ -0,0 +1,65 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link InMsg} fields.
+ */
+public final class InMsgFields extends GqlFields<InMsgFields> {
+  private InMsgFields() {
+  }
+
+  public static InMsgFields select() {
+    return new InMsgFields();
+  }
+
+  @Override
+  protected InMsgFields self() {
+    return this;
+  }
+
+  public InMsgFields fwdFee() {
+    return field("fwd_fee");
+  }
+
+  public InMsgFields ihrFee() {
+    return field("ihr_fee");
+  }
+
+  public InMsgFields inMsg(UnaryOperator<MsgEnvelopeFields> selector) {
+    return object("in_msg", selector.apply(MsgEnvelopeFields.select()));
+  }
+
+  public InMsgFields msgId() {
+    return field("msg_id");
+  }
+
+  public InMsgFields msgType() {
+    return field("msg_type");
+  }
+
+  public InMsgFields msgTypeName() {
+    return field("msg_type_name");
+  }
+
+  public InMsgFields outMsg(UnaryOperator<MsgEnvelopeFields> selector) {
+    return object("out_msg", selector.apply(MsgEnvelopeFields.select()));
+  }
+
+  public InMsgFields proofCreated() {
+    return field("proof_created");
+  }
+
+  public InMsgFields proofDelivered() {
+    return field("proof_delivered");
+  }
+
+  public InMsgFields transactionId() {
+    return field("transaction_id");
+  }
+
+  public InMsgFields transitFee() {
+    return field("transit_fee");
+  }
+}
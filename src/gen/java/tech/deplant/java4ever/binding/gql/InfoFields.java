@@ -0,0 +1,60 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link Info} fields.
+ */
+public final class InfoFields extends GqlFields<InfoFields> {
+  private InfoFields() {
+  }
+
+  public static InfoFields select() {
+    return new InfoFields();
+  }
+
+  @Override
+  protected InfoFields self() {
+    return this;
+  }
+
+  public InfoFields version() {
+    return field("version");
+  }
+
+  public InfoFields time() {
+    return field("time");
+  }
+
+  public InfoFields blocksLatency() {
+    return field("blocksLatency");
+  }
+
+  public InfoFields messagesLatency() {
+    return field("messagesLatency");
+  }
+
+  public InfoFields transactionsLatency() {
+    return field("transactionsLatency");
+  }
+
+  public InfoFields latency() {
+    return field("latency");
+  }
+
+  public InfoFields lastBlockTime() {
+    return field("lastBlockTime");
+  }
+
+  public InfoFields endpoints() {
+    return field("endpoints");
+  }
+
+  public InfoFields chainOrderBoundary() {
+    return field("chainOrderBoundary");
+  }
+
+  public InfoFields rempEnabled() {
+    return field("rempEnabled");
+  }
+}
@@ -0,0 +1,181 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link Message} fields.
+ */
+public final class MessageFields extends GqlFields<MessageFields> {
+  private MessageFields() {
+  }
+
+  public static MessageFields select() {
+    return new MessageFields();
+  }
+
+  @Override
+  protected MessageFields self() {
+    return this;
+  }
+
+  public MessageFields id() {
+    return field("id");
+  }
+
+  public MessageFields block(UnaryOperator<BlockFields> selector) {
+    return object("block", selector.apply(BlockFields.select()));
+  }
+
+  public MessageFields blockId() {
+    return field("block_id");
+  }
+
+  public MessageFields boc() {
+    return field("boc");
+  }
+
+  public MessageFields body() {
+    return field("body");
+  }
+
+  public MessageFields bodyHash() {
+    return field("body_hash");
+  }
+
+  public MessageFields bounce() {
+    return field("bounce");
+  }
+
+  public MessageFields bounced() {
+    return field("bounced");
+  }
+
+  public MessageFields chainOrder() {
+    return field("chain_order");
+  }
+
+  public MessageFields code() {
+    return field("code");
+  }
+
+  public MessageFields codeHash() {
+    return field("code_hash");
+  }
+
+  public MessageFields createdAt() {
+    return field("created_at");
+  }
+
+  public MessageFields createdAtString() {
+    return field("created_at_string");
+  }
+
+  public MessageFields createdLt() {
+    return field("created_lt");
+  }
+
+  public MessageFields data() {
+    return field("data");
+  }
+
+  public MessageFields dataHash() {
+    return field("data_hash");
+  }
+
+  public MessageFields dst() {
+    return field("dst");
+  }
+
+  public MessageFields dstAccount(UnaryOperator<AccountFields> selector) {
+    return object("dst_account", selector.apply(AccountFields.select()));
+  }
+
+  public MessageFields dstTransaction(UnaryOperator<TransactionFields> selector) {
+    return object("dst_transaction", selector.apply(TransactionFields.select()));
+  }
+
+  public MessageFields dstWorkchainId() {
+    return field("dst_workchain_id");
+  }
+
+  public MessageFields fwdFee() {
+    return field("fwd_fee");
+  }
+
+  public MessageFields ihrDisabled() {
+    return field("ihr_disabled");
+  }
+
+  public MessageFields ihrFee() {
+    return field("ihr_fee");
+  }
+
+  public MessageFields importFee() {
+    return field("import_fee");
+  }
+
+  public MessageFields library() {
+    return field("library");
+  }
+
+  public MessageFields libraryHash() {
+    return field("library_hash");
+  }
+
+  public MessageFields msgType() {
+    return field("msg_type");
+  }
+
+  public MessageFields msgTypeName() {
+    return field("msg_type_name");
+  }
+
+  public MessageFields proof() {
+    return field("proof");
+  }
+
+  public MessageFields splitDepth() {
+    return field("split_depth");
+  }
+
+  public MessageFields src() {
+    return field("src");
+  }
+
+  public MessageFields srcAccount(UnaryOperator<AccountFields> selector) {
+    return object("src_account", selector.apply(AccountFields.select()));
+  }
+
+  public MessageFields srcTransaction(UnaryOperator<TransactionFields> selector) {
+    return object("src_transaction", selector.apply(TransactionFields.select()));
+  }
+
+  public MessageFields srcWorkchainId() {
+    return field("src_workchain_id");
+  }
+
+  public MessageFields status() {
+    return field("status");
+  }
+
+  public MessageFields statusName() {
+    return field("status_name");
+  }
+
+  public MessageFields tick() {
+    return field("tick");
+  }
+
+  public MessageFields tock() {
+    return field("tock");
+  }
+
+  public MessageFields value() {
+    return field("value");
+  }
+
+  public MessageFields valueOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("value_other", selector.apply(OtherCurrencyFields.select()));
+  }
+}
@@ -0,0 +1,36 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link MsgEnvelope} fields.
+ */
+public final class MsgEnvelopeFields extends GqlFields<MsgEnvelopeFields> {
+  private MsgEnvelopeFields() {
+  }
+
+  public static MsgEnvelopeFields select() {
+    return new MsgEnvelopeFields();
+  }
+
+  @Override
+  protected MsgEnvelopeFields self() {
+    return this;
+  }
+
+  public MsgEnvelopeFields curAddr() {
+    return field("cur_addr");
+  }
+
+  public MsgEnvelopeFields fwdFeeRemaining() {
+    return field("fwd_fee_remaining");
+  }
+
+  public MsgEnvelopeFields msgId() {
+    return field("msg_id");
+  }
+
+  public MsgEnvelopeFields nextAddr() {
+    return field("next_addr");
+  }
+}
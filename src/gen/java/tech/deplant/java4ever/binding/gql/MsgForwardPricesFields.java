@@ -0,0 +1,44 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link MsgForwardPrices} fields.
+ */
+public final class MsgForwardPricesFields extends GqlFields<MsgForwardPricesFields> {
+  private MsgForwardPricesFields() {
+  }
+
+  public static MsgForwardPricesFields select() {
+    return new MsgForwardPricesFields();
+  }
+
+  @Override
+  protected MsgForwardPricesFields self() {
+    return this;
+  }
+
+  public MsgForwardPricesFields bitPrice() {
+    return field("bit_price");
+  }
+
+  public MsgForwardPricesFields cellPrice() {
+    return field("cell_price");
+  }
+
+  public MsgForwardPricesFields firstFrac() {
+    return field("first_frac");
+  }
+
+  public MsgForwardPricesFields ihrPriceFactor() {
+    return field("ihr_price_factor");
+  }
+
+  public MsgForwardPricesFields lumpPrice() {
+    return field("lump_price");
+  }
+
+  public MsgForwardPricesFields nextFrac() {
+    return field("next_frac");
+  }
+}
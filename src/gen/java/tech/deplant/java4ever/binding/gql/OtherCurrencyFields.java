@@ -0,0 +1,28 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link OtherCurrency} fields.
+ */
+public final class OtherCurrencyFields extends GqlFields<OtherCurrencyFields> {
+  private OtherCurrencyFields() {
+  }
+
+  public static OtherCurrencyFields select() {
+    return new OtherCurrencyFields();
+  }
+
+  @Override
+  protected OtherCurrencyFields self() {
+    return this;
+  }
+
+  public OtherCurrencyFields currency() {
+    return field("currency");
+  }
+
+  public OtherCurrencyFields value() {
+    return field("value");
+  }
+}
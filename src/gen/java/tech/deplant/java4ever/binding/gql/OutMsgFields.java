@@ -0,0 +1,65 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link OutMsg} fields.
+ */
+public final class OutMsgFields extends GqlFields<OutMsgFields> {
+  private OutMsgFields() {
+  }
+
+  public static OutMsgFields select() {
+    return new OutMsgFields();
+  }
+
+  @Override
+  protected OutMsgFields self() {
+    return this;
+  }
+
+  public OutMsgFields importBlockLt() {
+    return field("import_block_lt");
+  }
+
+  public OutMsgFields imported(UnaryOperator<InMsgFields> selector) {
+    return object("imported", selector.apply(InMsgFields.select()));
+  }
+
+  public OutMsgFields msgEnvHash() {
+    return field("msg_env_hash");
+  }
+
+  public OutMsgFields msgId() {
+    return field("msg_id");
+  }
+
+  public OutMsgFields msgType() {
+    return field("msg_type");
+  }
+
+  public OutMsgFields msgTypeName() {
+    return field("msg_type_name");
+  }
+
+  public OutMsgFields nextAddrPfx() {
+    return field("next_addr_pfx");
+  }
+
+  public OutMsgFields nextWorkchain() {
+    return field("next_workchain");
+  }
+
+  public OutMsgFields outMsg(UnaryOperator<MsgEnvelopeFields> selector) {
+    return object("out_msg", selector.apply(MsgEnvelopeFields.select()));
+  }
+
+  public OutMsgFields reimport(UnaryOperator<InMsgFields> selector) {
+    return object("reimport", selector.apply(InMsgFields.select()));
+  }
+
+  public OutMsgFields transactionId() {
+    return field("transaction_id");
+  }
+}
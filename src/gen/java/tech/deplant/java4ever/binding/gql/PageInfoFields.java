@@ -0,0 +1,36 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link PageInfo} fields.
+ */
+public final class PageInfoFields extends GqlFields<PageInfoFields> {
+  private PageInfoFields() {
+  }
+
+  public static PageInfoFields select() {
+    return new PageInfoFields();
+  }
+
+  @Override
+  protected PageInfoFields self() {
+    return this;
+  }
+
+  public PageInfoFields startCursor() {
+    return field("startCursor");
+  }
+
+  public PageInfoFields endCursor() {
+    return field("endCursor");
+  }
+
+  public PageInfoFields hasNextPage() {
+    return field("hasNextPage");
+  }
+
+  public PageInfoFields hasPreviousPage() {
+    return field("hasPreviousPage");
+  }
+}
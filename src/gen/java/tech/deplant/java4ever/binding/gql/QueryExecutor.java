@@ -4,137 +4,178 @@ import java.lang.String;
 import java.util.List;
 import java.util.Optional;
 
-class QueryExecutor {
+public class QueryExecutor {
   public static QueryExecutorBuilder accounts(String objectFieldsTree, AccountFilter filter,
       List<QueryOrderBy> orderBy, Integer limit, Float timeout, String accessKey,
       String operationId) {
     var builder = new QueryExecutorBuilder("accounts", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(orderBy).ifPresent(ar -> builder.addToQuery("orderBy",ar));
-    Optional.ofNullable(limit).ifPresent(ar -> builder.addToQuery("limit",ar));
-    Optional.ofNullable(timeout).ifPresent(ar -> builder.addToQuery("timeout",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
-    Optional.ofNullable(operationId).ifPresent(ar -> builder.addToQuery("operationId",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","AccountFilter",ar));
+    Optional.ofNullable(orderBy).ifPresent(ar -> builder.addVariable("orderBy","[QueryOrderBy]",ar));
+    Optional.ofNullable(limit).ifPresent(ar -> builder.addVariable("limit","Int",ar));
+    Optional.ofNullable(timeout).ifPresent(ar -> builder.addVariable("timeout","Float",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
+    Optional.ofNullable(operationId).ifPresent(ar -> builder.addVariable("operationId","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder accounts(AccountFields fields, AccountFilter filter,
+      List<QueryOrderBy> orderBy, Integer limit, Float timeout, String accessKey,
+      String operationId) {
+    return accounts(fields.toFieldsTree(), filter, orderBy, limit, timeout, accessKey, operationId);
+  }
+
   public static QueryExecutorBuilder transactions(String objectFieldsTree, TransactionFilter filter,
       List<QueryOrderBy> orderBy, Integer limit, Float timeout, String accessKey,
       String operationId) {
     var builder = new QueryExecutorBuilder("transactions", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(orderBy).ifPresent(ar -> builder.addToQuery("orderBy",ar));
-    Optional.ofNullable(limit).ifPresent(ar -> builder.addToQuery("limit",ar));
-    Optional.ofNullable(timeout).ifPresent(ar -> builder.addToQuery("timeout",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
-    Optional.ofNullable(operationId).ifPresent(ar -> builder.addToQuery("operationId",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","TransactionFilter",ar));
+    Optional.ofNullable(orderBy).ifPresent(ar -> builder.addVariable("orderBy","[QueryOrderBy]",ar));
+    Optional.ofNullable(limit).ifPresent(ar -> builder.addVariable("limit","Int",ar));
+    Optional.ofNullable(timeout).ifPresent(ar -> builder.addVariable("timeout","Float",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
+    Optional.ofNullable(operationId).ifPresent(ar -> builder.addVariable("operationId","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder transactions(TransactionFields fields,
+      TransactionFilter filter, List<QueryOrderBy> orderBy, Integer limit, Float timeout,
+      String accessKey, String operationId) {
+    return transactions(fields.toFieldsTree(), filter, orderBy, limit, timeout, accessKey, operationId);
+  }
+
   public static QueryExecutorBuilder messages(String objectFieldsTree, MessageFilter filter,
       List<QueryOrderBy> orderBy, Integer limit, Float timeout, String accessKey,
       String operationId) {
     var builder = new QueryExecutorBuilder("messages", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(orderBy).ifPresent(ar -> builder.addToQuery("orderBy",ar));
-    Optional.ofNullable(limit).ifPresent(ar -> builder.addToQuery("limit",ar));
-    Optional.ofNullable(timeout).ifPresent(ar -> builder.addToQuery("timeout",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
-    Optional.ofNullable(operationId).ifPresent(ar -> builder.addToQuery("operationId",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","MessageFilter",ar));
+    Optional.ofNullable(orderBy).ifPresent(ar -> builder.addVariable("orderBy","[QueryOrderBy]",ar));
+    Optional.ofNullable(limit).ifPresent(ar -> builder.addVariable("limit","Int",ar));
+    Optional.ofNullable(timeout).ifPresent(ar -> builder.addVariable("timeout","Float",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
+    Optional.ofNullable(operationId).ifPresent(ar -> builder.addVariable("operationId","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder messages(MessageFields fields, MessageFilter filter,
+      List<QueryOrderBy> orderBy, Integer limit, Float timeout, String accessKey,
+      String operationId) {
+    return messages(fields.toFieldsTree(), filter, orderBy, limit, timeout, accessKey, operationId);
+  }
+
   public static QueryExecutorBuilder blocks(String objectFieldsTree, BlockFilter filter,
       List<QueryOrderBy> orderBy, Integer limit, Float timeout, String accessKey,
       String operationId) {
     var builder = new QueryExecutorBuilder("blocks", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(orderBy).ifPresent(ar -> builder.addToQuery("orderBy",ar));
-    Optional.ofNullable(limit).ifPresent(ar -> builder.addToQuery("limit",ar));
-    Optional.ofNullable(timeout).ifPresent(ar -> builder.addToQuery("timeout",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
-    Optional.ofNullable(operationId).ifPresent(ar -> builder.addToQuery("operationId",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","BlockFilter",ar));
+    Optional.ofNullable(orderBy).ifPresent(ar -> builder.addVariable("orderBy","[QueryOrderBy]",ar));
+    Optional.ofNullable(limit).ifPresent(ar -> builder.addVariable("limit","Int",ar));
+    Optional.ofNullable(timeout).ifPresent(ar -> builder.addVariable("timeout","Float",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
+    Optional.ofNullable(operationId).ifPresent(ar -> builder.addVariable("operationId","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder blocks(BlockFields fields, BlockFilter filter,
+      List<QueryOrderBy> orderBy, Integer limit, Float timeout, String accessKey,
+      String operationId) {
+    return blocks(fields.toFieldsTree(), filter, orderBy, limit, timeout, accessKey, operationId);
+  }
+
   public static QueryExecutorBuilder blocks_signatures(String objectFieldsTree,
       BlockSignaturesFilter filter, List<QueryOrderBy> orderBy, Integer limit, Float timeout,
       String accessKey, String operationId) {
     var builder = new QueryExecutorBuilder("blocks_signatures", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(orderBy).ifPresent(ar -> builder.addToQuery("orderBy",ar));
-    Optional.ofNullable(limit).ifPresent(ar -> builder.addToQuery("limit",ar));
-    Optional.ofNullable(timeout).ifPresent(ar -> builder.addToQuery("timeout",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
-    Optional.ofNullable(operationId).ifPresent(ar -> builder.addToQuery("operationId",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","BlockSignaturesFilter",ar));
+    Optional.ofNullable(orderBy).ifPresent(ar -> builder.addVariable("orderBy","[QueryOrderBy]",ar));
+    Optional.ofNullable(limit).ifPresent(ar -> builder.addVariable("limit","Int",ar));
+    Optional.ofNullable(timeout).ifPresent(ar -> builder.addVariable("timeout","Float",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
+    Optional.ofNullable(operationId).ifPresent(ar -> builder.addVariable("operationId","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder blocks_signatures(BlockSignaturesFields fields,
+      BlockSignaturesFilter filter, List<QueryOrderBy> orderBy, Integer limit, Float timeout,
+      String accessKey, String operationId) {
+    return blocks_signatures(fields.toFieldsTree(), filter, orderBy, limit, timeout, accessKey, operationId);
+  }
+
   public static QueryExecutorBuilder zerostates(String objectFieldsTree, ZerostateFilter filter,
       List<QueryOrderBy> orderBy, Integer limit, Float timeout, String accessKey,
       String operationId) {
     var builder = new QueryExecutorBuilder("zerostates", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(orderBy).ifPresent(ar -> builder.addToQuery("orderBy",ar));
-    Optional.ofNullable(limit).ifPresent(ar -> builder.addToQuery("limit",ar));
-    Optional.ofNullable(timeout).ifPresent(ar -> builder.addToQuery("timeout",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
-    Optional.ofNullable(operationId).ifPresent(ar -> builder.addToQuery("operationId",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","ZerostateFilter",ar));
+    Optional.ofNullable(orderBy).ifPresent(ar -> builder.addVariable("orderBy","[QueryOrderBy]",ar));
+    Optional.ofNullable(limit).ifPresent(ar -> builder.addVariable("limit","Int",ar));
+    Optional.ofNullable(timeout).ifPresent(ar -> builder.addVariable("timeout","Float",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
+    Optional.ofNullable(operationId).ifPresent(ar -> builder.addVariable("operationId","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder zerostates(ZerostateFields fields, ZerostateFilter filter,
+      List<QueryOrderBy> orderBy, Integer limit, Float timeout, String accessKey,
+      String operationId) {
+    return zerostates(fields.toFieldsTree(), filter, orderBy, limit, timeout, accessKey, operationId);
+  }
+
   public static QueryExecutorBuilder counterparties(String objectFieldsTree, String account,
       Integer first, String after, String accessKey) {
     var builder = new QueryExecutorBuilder("counterparties", objectFieldsTree);
-    Optional.ofNullable(account).ifPresent(ar -> builder.addToQuery("account",ar));
-    Optional.ofNullable(first).ifPresent(ar -> builder.addToQuery("first",ar));
-    Optional.ofNullable(after).ifPresent(ar -> builder.addToQuery("after",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(account).ifPresent(ar -> builder.addVariable("account","String!",ar));
+    Optional.ofNullable(first).ifPresent(ar -> builder.addVariable("first","Int",ar));
+    Optional.ofNullable(after).ifPresent(ar -> builder.addVariable("after","String",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder counterparties(CounterpartyFields fields, String account,
+      Integer first, String after, String accessKey) {
+    return counterparties(fields.toFieldsTree(), account, first, after, accessKey);
+  }
+
   public static QueryExecutorBuilder aggregateAccounts(String objectFieldsTree,
       AccountFilter filter, List<FieldAggregation> fields, String accessKey) {
     var builder = new QueryExecutorBuilder("aggregateAccounts", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(fields).ifPresent(ar -> builder.addToQuery("fields",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","AccountFilter",ar));
+    Optional.ofNullable(fields).ifPresent(ar -> builder.addVariable("fields","[FieldAggregation]",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 
   public static QueryExecutorBuilder aggregateTransactions(String objectFieldsTree,
       TransactionFilter filter, List<FieldAggregation> fields, String accessKey) {
     var builder = new QueryExecutorBuilder("aggregateTransactions", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(fields).ifPresent(ar -> builder.addToQuery("fields",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","TransactionFilter",ar));
+    Optional.ofNullable(fields).ifPresent(ar -> builder.addVariable("fields","[FieldAggregation]",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 
   public static QueryExecutorBuilder aggregateMessages(String objectFieldsTree,
       MessageFilter filter, List<FieldAggregation> fields, String accessKey) {
     var builder = new QueryExecutorBuilder("aggregateMessages", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(fields).ifPresent(ar -> builder.addToQuery("fields",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","MessageFilter",ar));
+    Optional.ofNullable(fields).ifPresent(ar -> builder.addVariable("fields","[FieldAggregation]",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 
   public static QueryExecutorBuilder aggregateBlocks(String objectFieldsTree, BlockFilter filter,
       List<FieldAggregation> fields, String accessKey) {
     var builder = new QueryExecutorBuilder("aggregateBlocks", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(fields).ifPresent(ar -> builder.addToQuery("fields",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","BlockFilter",ar));
+    Optional.ofNullable(fields).ifPresent(ar -> builder.addVariable("fields","[FieldAggregation]",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 
   public static QueryExecutorBuilder aggregateBlockSignatures(String objectFieldsTree,
       BlockSignaturesFilter filter, List<FieldAggregation> fields, String accessKey) {
     var builder = new QueryExecutorBuilder("aggregateBlockSignatures", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(fields).ifPresent(ar -> builder.addToQuery("fields",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","BlockSignaturesFilter",ar));
+    Optional.ofNullable(fields).ifPresent(ar -> builder.addVariable("fields","[FieldAggregation]",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 }
@@ -0,0 +1,36 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link RempReceipt} fields.
+ */
+public final class RempReceiptFields extends GqlFields<RempReceiptFields> {
+  private RempReceiptFields() {
+  }
+
+  public static RempReceiptFields select() {
+    return new RempReceiptFields();
+  }
+
+  @Override
+  protected RempReceiptFields self() {
+    return this;
+  }
+
+  public RempReceiptFields kind() {
+    return field("kind");
+  }
+
+  public RempReceiptFields messageId() {
+    return field("messageId");
+  }
+
+  public RempReceiptFields timestamp() {
+    return field("timestamp");
+  }
+
+  public RempReceiptFields json() {
+    return field("json");
+  }
+}
@@ -3,66 +3,105 @@ package tech.deplant.java4ever.binding.gql;
 import java.lang.String;
 import java.util.Optional;
 
-class SubscriptionExecutor {
+public class SubscriptionExecutor {
   public static QueryExecutorBuilder accounts(String objectFieldsTree, AccountFilter filter,
       String accessKey) {
     var builder = new QueryExecutorBuilder("accounts", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","AccountFilter",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder accounts(AccountFields fields, AccountFilter filter,
+      String accessKey) {
+    return accounts(fields.toFieldsTree(), filter, accessKey);
+  }
+
   public static QueryExecutorBuilder transactions(String objectFieldsTree, TransactionFilter filter,
       String accessKey) {
     var builder = new QueryExecutorBuilder("transactions", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","TransactionFilter",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder transactions(TransactionFields fields,
+      TransactionFilter filter, String accessKey) {
+    return transactions(fields.toFieldsTree(), filter, accessKey);
+  }
+
   public static QueryExecutorBuilder messages(String objectFieldsTree, MessageFilter filter,
       String accessKey) {
     var builder = new QueryExecutorBuilder("messages", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","MessageFilter",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder messages(MessageFields fields, MessageFilter filter,
+      String accessKey) {
+    return messages(fields.toFieldsTree(), filter, accessKey);
+  }
+
   public static QueryExecutorBuilder blocks(String objectFieldsTree, BlockFilter filter,
       String accessKey) {
     var builder = new QueryExecutorBuilder("blocks", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","BlockFilter",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder blocks(BlockFields fields, BlockFilter filter,
+      String accessKey) {
+    return blocks(fields.toFieldsTree(), filter, accessKey);
+  }
+
   public static QueryExecutorBuilder blocks_signatures(String objectFieldsTree,
       BlockSignaturesFilter filter, String accessKey) {
     var builder = new QueryExecutorBuilder("blocks_signatures", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","BlockSignaturesFilter",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder blocks_signatures(BlockSignaturesFields fields,
+      BlockSignaturesFilter filter, String accessKey) {
+    return blocks_signatures(fields.toFieldsTree(), filter, accessKey);
+  }
+
   public static QueryExecutorBuilder zerostates(String objectFieldsTree, ZerostateFilter filter,
       String accessKey) {
     var builder = new QueryExecutorBuilder("zerostates", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","ZerostateFilter",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder zerostates(ZerostateFields fields, ZerostateFilter filter,
+      String accessKey) {
+    return zerostates(fields.toFieldsTree(), filter, accessKey);
+  }
+
   public static QueryExecutorBuilder counterparties(String objectFieldsTree,
       CounterpartyFilter filter, String accessKey) {
     var builder = new QueryExecutorBuilder("counterparties", objectFieldsTree);
-    Optional.ofNullable(filter).ifPresent(ar -> builder.addToQuery("filter",ar));
-    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addToQuery("accessKey",ar));
+    Optional.ofNullable(filter).ifPresent(ar -> builder.addVariable("filter","CounterpartyFilter",ar));
+    Optional.ofNullable(accessKey).ifPresent(ar -> builder.addVariable("accessKey","String",ar));
     return builder;
   }
 
+  public static QueryExecutorBuilder counterparties(CounterpartyFields fields,
+      CounterpartyFilter filter, String accessKey) {
+    return counterparties(fields.toFieldsTree(), filter, accessKey);
+  }
+
   public static QueryExecutorBuilder rempReceipts(String objectFieldsTree, String messageId) {
     var builder = new QueryExecutorBuilder("rempReceipts", objectFieldsTree);
-    Optional.ofNullable(messageId).ifPresent(ar -> builder.addToQuery("messageId",ar));
+    Optional.ofNullable(messageId).ifPresent(ar -> builder.addVariable("messageId","String!",ar));
     return builder;
   }
+
+  public static QueryExecutorBuilder rempReceipts(RempReceiptFields fields, String messageId) {
+    return rempReceipts(fields.toFieldsTree(), messageId);
+  }
 }
@@ -0,0 +1,84 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link TransactionAction} fields.
+ */
+public final class TransactionActionFields extends GqlFields<TransactionActionFields> {
+  private TransactionActionFields() {
+  }
+
+  public static TransactionActionFields select() {
+    return new TransactionActionFields();
+  }
+
+  @Override
+  protected TransactionActionFields self() {
+    return this;
+  }
+
+  public TransactionActionFields actionListHash() {
+    return field("action_list_hash");
+  }
+
+  public TransactionActionFields msgsCreated() {
+    return field("msgs_created");
+  }
+
+  public TransactionActionFields noFunds() {
+    return field("no_funds");
+  }
+
+  public TransactionActionFields resultArg() {
+    return field("result_arg");
+  }
+
+  public TransactionActionFields resultCode() {
+    return field("result_code");
+  }
+
+  public TransactionActionFields skippedActions() {
+    return field("skipped_actions");
+  }
+
+  public TransactionActionFields specActions() {
+    return field("spec_actions");
+  }
+
+  public TransactionActionFields statusChange() {
+    return field("status_change");
+  }
+
+  public TransactionActionFields statusChangeName() {
+    return field("status_change_name");
+  }
+
+  public TransactionActionFields success() {
+    return field("success");
+  }
+
+  public TransactionActionFields totActions() {
+    return field("tot_actions");
+  }
+
+  public TransactionActionFields totalActionFees() {
+    return field("total_action_fees");
+  }
+
+  public TransactionActionFields totalFwdFees() {
+    return field("total_fwd_fees");
+  }
+
+  public TransactionActionFields totalMsgSizeBits() {
+    return field("total_msg_size_bits");
+  }
+
+  public TransactionActionFields totalMsgSizeCells() {
+    return field("total_msg_size_cells");
+  }
+
+  public TransactionActionFields valid() {
+    return field("valid");
+  }
+}
@@ -0,0 +1,48 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link TransactionBounce} fields.
+ */
+public final class TransactionBounceFields extends GqlFields<TransactionBounceFields> {
+  private TransactionBounceFields() {
+  }
+
+  public static TransactionBounceFields select() {
+    return new TransactionBounceFields();
+  }
+
+  @Override
+  protected TransactionBounceFields self() {
+    return this;
+  }
+
+  public TransactionBounceFields bounceType() {
+    return field("bounce_type");
+  }
+
+  public TransactionBounceFields bounceTypeName() {
+    return field("bounce_type_name");
+  }
+
+  public TransactionBounceFields fwdFees() {
+    return field("fwd_fees");
+  }
+
+  public TransactionBounceFields msgFees() {
+    return field("msg_fees");
+  }
+
+  public TransactionBounceFields msgSizeBits() {
+    return field("msg_size_bits");
+  }
+
+  public TransactionBounceFields msgSizeCells() {
+    return field("msg_size_cells");
+  }
+
+  public TransactionBounceFields reqFwdFees() {
+    return field("req_fwd_fees");
+  }
+}
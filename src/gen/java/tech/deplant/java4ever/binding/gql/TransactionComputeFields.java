@@ -0,0 +1,88 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link TransactionCompute} fields.
+ */
+public final class TransactionComputeFields extends GqlFields<TransactionComputeFields> {
+  private TransactionComputeFields() {
+  }
+
+  public static TransactionComputeFields select() {
+    return new TransactionComputeFields();
+  }
+
+  @Override
+  protected TransactionComputeFields self() {
+    return this;
+  }
+
+  public TransactionComputeFields accountActivated() {
+    return field("account_activated");
+  }
+
+  public TransactionComputeFields computeType() {
+    return field("compute_type");
+  }
+
+  public TransactionComputeFields computeTypeName() {
+    return field("compute_type_name");
+  }
+
+  public TransactionComputeFields exitArg() {
+    return field("exit_arg");
+  }
+
+  public TransactionComputeFields exitCode() {
+    return field("exit_code");
+  }
+
+  public TransactionComputeFields gasCredit() {
+    return field("gas_credit");
+  }
+
+  public TransactionComputeFields gasFees() {
+    return field("gas_fees");
+  }
+
+  public TransactionComputeFields gasLimit() {
+    return field("gas_limit");
+  }
+
+  public TransactionComputeFields gasUsed() {
+    return field("gas_used");
+  }
+
+  public TransactionComputeFields mode() {
+    return field("mode");
+  }
+
+  public TransactionComputeFields msgStateUsed() {
+    return field("msg_state_used");
+  }
+
+  public TransactionComputeFields skippedReason() {
+    return field("skipped_reason");
+  }
+
+  public TransactionComputeFields skippedReasonName() {
+    return field("skipped_reason_name");
+  }
+
+  public TransactionComputeFields success() {
+    return field("success");
+  }
+
+  public TransactionComputeFields vmFinalStateHash() {
+    return field("vm_final_state_hash");
+  }
+
+  public TransactionComputeFields vmInitStateHash() {
+    return field("vm_init_state_hash");
+  }
+
+  public TransactionComputeFields vmSteps() {
+    return field("vm_steps");
+  }
+}
@@ -0,0 +1,33 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link TransactionCredit} fields.
+ */
+public final class TransactionCreditFields extends GqlFields<TransactionCreditFields> {
+  private TransactionCreditFields() {
+  }
+
+  public static TransactionCreditFields select() {
+    return new TransactionCreditFields();
+  }
+
+  @Override
+  protected TransactionCreditFields self() {
+    return this;
+  }
+
+  public TransactionCreditFields credit() {
+    return field("credit");
+  }
+
+  public TransactionCreditFields creditOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("credit_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public TransactionCreditFields dueFeesCollected() {
+    return field("due_fees_collected");
+  }
+}
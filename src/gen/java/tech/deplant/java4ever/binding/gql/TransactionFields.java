@@ -0,0 +1,205 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link Transaction} fields.
+ */
+public final class TransactionFields extends GqlFields<TransactionFields> {
+  private TransactionFields() {
+  }
+
+  public static TransactionFields select() {
+    return new TransactionFields();
+  }
+
+  @Override
+  protected TransactionFields self() {
+    return this;
+  }
+
+  public TransactionFields id() {
+    return field("id");
+  }
+
+  public TransactionFields aborted() {
+    return field("aborted");
+  }
+
+  public TransactionFields account(UnaryOperator<AccountFields> selector) {
+    return object("account", selector.apply(AccountFields.select()));
+  }
+
+  public TransactionFields accountAddr() {
+    return field("account_addr");
+  }
+
+  public TransactionFields action(UnaryOperator<TransactionActionFields> selector) {
+    return object("action", selector.apply(TransactionActionFields.select()));
+  }
+
+  public TransactionFields balanceDelta() {
+    return field("balance_delta");
+  }
+
+  public TransactionFields balanceDeltaOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("balance_delta_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public TransactionFields block(UnaryOperator<BlockFields> selector) {
+    return object("block", selector.apply(BlockFields.select()));
+  }
+
+  public TransactionFields blockId() {
+    return field("block_id");
+  }
+
+  public TransactionFields boc() {
+    return field("boc");
+  }
+
+  public TransactionFields bounce(UnaryOperator<TransactionBounceFields> selector) {
+    return object("bounce", selector.apply(TransactionBounceFields.select()));
+  }
+
+  public TransactionFields chainOrder() {
+    return field("chain_order");
+  }
+
+  public TransactionFields compute(UnaryOperator<TransactionComputeFields> selector) {
+    return object("compute", selector.apply(TransactionComputeFields.select()));
+  }
+
+  public TransactionFields credit(UnaryOperator<TransactionCreditFields> selector) {
+    return object("credit", selector.apply(TransactionCreditFields.select()));
+  }
+
+  public TransactionFields creditFirst() {
+    return field("credit_first");
+  }
+
+  public TransactionFields destroyed() {
+    return field("destroyed");
+  }
+
+  public TransactionFields endStatus() {
+    return field("end_status");
+  }
+
+  public TransactionFields endStatusName() {
+    return field("end_status_name");
+  }
+
+  public TransactionFields extInMsgFee() {
+    return field("ext_in_msg_fee");
+  }
+
+  public TransactionFields inMessage(UnaryOperator<MessageFields> selector) {
+    return object("in_message", selector.apply(MessageFields.select()));
+  }
+
+  public TransactionFields inMsg() {
+    return field("in_msg");
+  }
+
+  public TransactionFields installed() {
+    return field("installed");
+  }
+
+  public TransactionFields lt() {
+    return field("lt");
+  }
+
+  public TransactionFields newHash() {
+    return field("new_hash");
+  }
+
+  public TransactionFields now() {
+    return field("now");
+  }
+
+  public TransactionFields nowString() {
+    return field("now_string");
+  }
+
+  public TransactionFields oldHash() {
+    return field("old_hash");
+  }
+
+  public TransactionFields origStatus() {
+    return field("orig_status");
+  }
+
+  public TransactionFields origStatusName() {
+    return field("orig_status_name");
+  }
+
+  public TransactionFields outMessages(UnaryOperator<MessageFields> selector) {
+    return object("out_messages", selector.apply(MessageFields.select()));
+  }
+
+  public TransactionFields outMsgs() {
+    return field("out_msgs");
+  }
+
+  public TransactionFields outmsgCnt() {
+    return field("outmsg_cnt");
+  }
+
+  public TransactionFields prepareTransaction() {
+    return field("prepare_transaction");
+  }
+
+  public TransactionFields prevTransHash() {
+    return field("prev_trans_hash");
+  }
+
+  public TransactionFields prevTransLt() {
+    return field("prev_trans_lt");
+  }
+
+  public TransactionFields proof() {
+    return field("proof");
+  }
+
+  public TransactionFields splitInfo(UnaryOperator<TransactionSplitInfoFields> selector) {
+    return object("split_info", selector.apply(TransactionSplitInfoFields.select()));
+  }
+
+  public TransactionFields status() {
+    return field("status");
+  }
+
+  public TransactionFields statusName() {
+    return field("status_name");
+  }
+
+  public TransactionFields storage(UnaryOperator<TransactionStorageFields> selector) {
+    return object("storage", selector.apply(TransactionStorageFields.select()));
+  }
+
+  public TransactionFields totalFees() {
+    return field("total_fees");
+  }
+
+  public TransactionFields totalFeesOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("total_fees_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public TransactionFields trType() {
+    return field("tr_type");
+  }
+
+  public TransactionFields trTypeName() {
+    return field("tr_type_name");
+  }
+
+  public TransactionFields tt() {
+    return field("tt");
+  }
+
+  public TransactionFields workchainId() {
+    return field("workchain_id");
+  }
+}
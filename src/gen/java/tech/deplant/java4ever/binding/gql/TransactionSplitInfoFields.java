@@ -0,0 +1,36 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link TransactionSplitInfo} fields.
+ */
+public final class TransactionSplitInfoFields extends GqlFields<TransactionSplitInfoFields> {
+  private TransactionSplitInfoFields() {
+  }
+
+  public static TransactionSplitInfoFields select() {
+    return new TransactionSplitInfoFields();
+  }
+
+  @Override
+  protected TransactionSplitInfoFields self() {
+    return this;
+  }
+
+  public TransactionSplitInfoFields accSplitDepth() {
+    return field("acc_split_depth");
+  }
+
+  public TransactionSplitInfoFields curShardPfxLen() {
+    return field("cur_shard_pfx_len");
+  }
+
+  public TransactionSplitInfoFields siblingAddr() {
+    return field("sibling_addr");
+  }
+
+  public TransactionSplitInfoFields thisAddr() {
+    return field("this_addr");
+  }
+}
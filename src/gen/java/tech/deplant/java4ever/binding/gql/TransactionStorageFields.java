@@ -0,0 +1,36 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link TransactionStorage} fields.
+ */
+public final class TransactionStorageFields extends GqlFields<TransactionStorageFields> {
+  private TransactionStorageFields() {
+  }
+
+  public static TransactionStorageFields select() {
+    return new TransactionStorageFields();
+  }
+
+  @Override
+  protected TransactionStorageFields self() {
+    return this;
+  }
+
+  public TransactionStorageFields statusChange() {
+    return field("status_change");
+  }
+
+  public TransactionStorageFields statusChangeName() {
+    return field("status_change_name");
+  }
+
+  public TransactionStorageFields storageFeesCollected() {
+    return field("storage_fees_collected");
+  }
+
+  public TransactionStorageFields storageFeesDue() {
+    return field("storage_fees_due");
+  }
+}
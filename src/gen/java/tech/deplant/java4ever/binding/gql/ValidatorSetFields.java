@@ -0,0 +1,53 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link ValidatorSet} fields.
+ */
+public final class ValidatorSetFields extends GqlFields<ValidatorSetFields> {
+  private ValidatorSetFields() {
+  }
+
+  public static ValidatorSetFields select() {
+    return new ValidatorSetFields();
+  }
+
+  @Override
+  protected ValidatorSetFields self() {
+    return this;
+  }
+
+  public ValidatorSetFields list(UnaryOperator<ValidatorSetListFields> selector) {
+    return object("list", selector.apply(ValidatorSetListFields.select()));
+  }
+
+  public ValidatorSetFields main() {
+    return field("main");
+  }
+
+  public ValidatorSetFields total() {
+    return field("total");
+  }
+
+  public ValidatorSetFields totalWeight() {
+    return field("total_weight");
+  }
+
+  public ValidatorSetFields utimeSince() {
+    return field("utime_since");
+  }
+
+  public ValidatorSetFields utimeSinceString() {
+    return field("utime_since_string");
+  }
+
+  public ValidatorSetFields utimeUntil() {
+    return field("utime_until");
+  }
+
+  public ValidatorSetFields utimeUntilString() {
+    return field("utime_until_string");
+  }
+}
@@ -0,0 +1,32 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ValidatorSetList} fields.
+ */
+public final class ValidatorSetListFields extends GqlFields<ValidatorSetListFields> {
+  private ValidatorSetListFields() {
+  }
+
+  public static ValidatorSetListFields select() {
+    return new ValidatorSetListFields();
+  }
+
+  @Override
+  protected ValidatorSetListFields self() {
+    return this;
+  }
+
+  public ValidatorSetListFields adnlAddr() {
+    return field("adnl_addr");
+  }
+
+  public ValidatorSetListFields publicKey() {
+    return field("public_key");
+  }
+
+  public ValidatorSetListFields weight() {
+    return field("weight");
+  }
+}
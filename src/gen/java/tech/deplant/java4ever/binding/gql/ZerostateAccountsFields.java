@@ -0,0 +1,125 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link ZerostateAccounts} fields.
+ */
+public final class ZerostateAccountsFields extends GqlFields<ZerostateAccountsFields> {
+  private ZerostateAccountsFields() {
+  }
+
+  public static ZerostateAccountsFields select() {
+    return new ZerostateAccountsFields();
+  }
+
+  @Override
+  protected ZerostateAccountsFields self() {
+    return this;
+  }
+
+  public ZerostateAccountsFields id() {
+    return field("id");
+  }
+
+  public ZerostateAccountsFields accType() {
+    return field("acc_type");
+  }
+
+  public ZerostateAccountsFields accTypeName() {
+    return field("acc_type_name");
+  }
+
+  public ZerostateAccountsFields balance() {
+    return field("balance");
+  }
+
+  public ZerostateAccountsFields balanceOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("balance_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public ZerostateAccountsFields bits() {
+    return field("bits");
+  }
+
+  public ZerostateAccountsFields boc() {
+    return field("boc");
+  }
+
+  public ZerostateAccountsFields cells() {
+    return field("cells");
+  }
+
+  public ZerostateAccountsFields code() {
+    return field("code");
+  }
+
+  public ZerostateAccountsFields codeHash() {
+    return field("code_hash");
+  }
+
+  public ZerostateAccountsFields data() {
+    return field("data");
+  }
+
+  public ZerostateAccountsFields dataHash() {
+    return field("data_hash");
+  }
+
+  public ZerostateAccountsFields duePayment() {
+    return field("due_payment");
+  }
+
+  public ZerostateAccountsFields initCodeHash() {
+    return field("init_code_hash");
+  }
+
+  public ZerostateAccountsFields lastPaid() {
+    return field("last_paid");
+  }
+
+  public ZerostateAccountsFields lastTransLt() {
+    return field("last_trans_lt");
+  }
+
+  public ZerostateAccountsFields library() {
+    return field("library");
+  }
+
+  public ZerostateAccountsFields libraryHash() {
+    return field("library_hash");
+  }
+
+  public ZerostateAccountsFields prevCodeHash() {
+    return field("prev_code_hash");
+  }
+
+  public ZerostateAccountsFields proof() {
+    return field("proof");
+  }
+
+  public ZerostateAccountsFields publicCells() {
+    return field("public_cells");
+  }
+
+  public ZerostateAccountsFields splitDepth() {
+    return field("split_depth");
+  }
+
+  public ZerostateAccountsFields stateHash() {
+    return field("state_hash");
+  }
+
+  public ZerostateAccountsFields tick() {
+    return field("tick");
+  }
+
+  public ZerostateAccountsFields tock() {
+    return field("tock");
+  }
+
+  public ZerostateAccountsFields workchainId() {
+    return field("workchain_id");
+  }
+}
@@ -0,0 +1,65 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link Zerostate} fields.
+ */
+public final class ZerostateFields extends GqlFields<ZerostateFields> {
+  private ZerostateFields() {
+  }
+
+  public static ZerostateFields select() {
+    return new ZerostateFields();
+  }
+
+  @Override
+  protected ZerostateFields self() {
+    return this;
+  }
+
+  public ZerostateFields id() {
+    return field("id");
+  }
+
+  public ZerostateFields accounts(UnaryOperator<ZerostateAccountsFields> selector) {
+    return object("accounts", selector.apply(ZerostateAccountsFields.select()));
+  }
+
+  public ZerostateFields boc() {
+    return field("boc");
+  }
+
+  public ZerostateFields fileHash() {
+    return field("file_hash");
+  }
+
+  public ZerostateFields globalId() {
+    return field("global_id");
+  }
+
+  public ZerostateFields libraries(UnaryOperator<ZerostateLibrariesFields> selector) {
+    return object("libraries", selector.apply(ZerostateLibrariesFields.select()));
+  }
+
+  public ZerostateFields master(UnaryOperator<ZerostateMasterFields> selector) {
+    return object("master", selector.apply(ZerostateMasterFields.select()));
+  }
+
+  public ZerostateFields rootHash() {
+    return field("root_hash");
+  }
+
+  public ZerostateFields totalBalance() {
+    return field("total_balance");
+  }
+
+  public ZerostateFields totalBalanceOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("total_balance_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public ZerostateFields workchainId() {
+    return field("workchain_id");
+  }
+}
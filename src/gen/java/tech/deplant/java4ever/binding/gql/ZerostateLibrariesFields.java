@@ -0,0 +1,32 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+
+/**
+ * Selection of {@link ZerostateLibraries} fields.
+ */
+public final class ZerostateLibrariesFields extends GqlFields<ZerostateLibrariesFields> {
+  private ZerostateLibrariesFields() {
+  }
+
+  public static ZerostateLibrariesFields select() {
+    return new ZerostateLibrariesFields();
+  }
+
+  @Override
+  protected ZerostateLibrariesFields self() {
+    return this;
+  }
+
+  public ZerostateLibrariesFields hash() {
+    return field("hash");
+  }
+
+  public ZerostateLibrariesFields lib() {
+    return field("lib");
+  }
+
+  public ZerostateLibrariesFields publishers() {
+    return field("publishers");
+  }
+}
@@ -0,0 +1,41 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.lang.Override;
+import java.util.function.UnaryOperator;
+
+/**
+ * Selection of {@link ZerostateMaster} fields.
+ */
+public final class ZerostateMasterFields extends GqlFields<ZerostateMasterFields> {
+  private ZerostateMasterFields() {
+  }
+
+  public static ZerostateMasterFields select() {
+    return new ZerostateMasterFields();
+  }
+
+  @Override
+  protected ZerostateMasterFields self() {
+    return this;
+  }
+
+  public ZerostateMasterFields config(UnaryOperator<ConfigFields> selector) {
+    return object("config", selector.apply(ConfigFields.select()));
+  }
+
+  public ZerostateMasterFields configAddr() {
+    return field("config_addr");
+  }
+
+  public ZerostateMasterFields globalBalance() {
+    return field("global_balance");
+  }
+
+  public ZerostateMasterFields globalBalanceOther(UnaryOperator<OtherCurrencyFields> selector) {
+    return object("global_balance_other", selector.apply(OtherCurrencyFields.select()));
+  }
+
+  public ZerostateMasterFields validatorListHashShort() {
+    return field("validator_list_hash_short");
+  }
+}
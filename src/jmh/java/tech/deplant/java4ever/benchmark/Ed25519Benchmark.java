@@ -0,0 +1,75 @@
+package tech.deplant.java4ever.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import tech.deplant.java4ever.binding.Crypto;
+import tech.deplant.java4ever.binding.EverSdk;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.crypto.Ed25519;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ed25519 signing and verification through EVER-SDK compared with in-process {@link Ed25519}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class Ed25519Benchmark {
+
+	private static final String DATA = "TWVzc2FnZSB0byBoYXNoIHdpdGggc2hhIDI1Ng==";
+
+	private int ctxId;
+	private Crypto.KeyPair keys;
+	private Ed25519 local;
+	private String signed;
+
+	@Setup(Level.Trial)
+	public void setup() throws EverSdkException {
+		EverSdk.load();
+		this.ctxId = EverSdk.createDefault();
+		this.keys = EverSdk.await(Crypto.generateRandomSignKeys(this.ctxId));
+		this.local = Ed25519.of(this.keys);
+		this.signed = this.local.signAttached(DATA).signed();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		EverSdk.destroy(this.ctxId);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Crypto.ResultOfSign sign_ffi() throws EverSdkException {
+		return EverSdk.await(Crypto.sign(this.ctxId, DATA, this.keys));
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Crypto.ResultOfSign sign_local() {
+		return this.local.signAttached(DATA);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Crypto.ResultOfVerifySignature verify_ffi() throws EverSdkException {
+		return EverSdk.await(Crypto.verifySignature(this.ctxId, this.signed, this.keys.publicKey()));
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String verify_local() throws EverSdkException {
+		return Ed25519.verifySignature(this.signed, this.keys.publicKey());
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Crypto.ResultOfSign sign_ffi_8_callers() throws EverSdkException {
+		return EverSdk.await(Crypto.sign(this.ctxId, DATA, this.keys));
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Crypto.ResultOfSign sign_local_8_callers() {
+		return this.local.signAttached(DATA);
+	}
+}
@@ -0,0 +1,71 @@
+package tech.deplant.java4ever.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import tech.deplant.java4ever.binding.gql.AccountFilter;
+import tech.deplant.java4ever.binding.gql.QueryExecutorBuilder;
+import tech.deplant.java4ever.binding.gql.StringFilter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of GraphQL queries by {@link QueryExecutorBuilder}, including serialization of filter arguments.
+ * Inline rendering writes the whole query every time, template rendering takes cached document of query shape
+ * and serializes only variables.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GraphQLQueryBenchmark {
+
+	private static final String FIELDS = "id balance last_trans_lt code_hash data_hash";
+
+	private AccountFilter filter;
+	private QueryExecutorBuilder prepared;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.filter = new AccountFilter(new StringFilter(null,
+		                                                 null,
+		                                                 null,
+		                                                 null,
+		                                                 null,
+		                                                 null,
+		                                                 List.of("0:" + "1".repeat(64), "0:" + "2".repeat(64)),
+		                                                 null),
+		                                null, null, null, null, null, null, null, null, null, null, null, null,
+		                                null, null, null, null, null, null, null, null, null, null, null, null,
+		                                null, null);
+		this.prepared = newBuilder();
+	}
+
+	private QueryExecutorBuilder newVariablesBuilder() {
+		var builder = new QueryExecutorBuilder("accounts", FIELDS);
+		builder.addVariable("filter", "AccountFilter", this.filter);
+		builder.addVariable("limit", "Int", 50);
+		return builder;
+	}
+
+	private QueryExecutorBuilder newBuilder() {
+		var builder = new QueryExecutorBuilder("accounts", FIELDS);
+		builder.addToQuery("filter", this.filter);
+		builder.addToQuery("limit", 50);
+		return builder;
+	}
+
+	@Benchmark
+	public String build_and_render() {
+		return newBuilder().toGraphQLQuery();
+	}
+
+	@Benchmark
+	public String render_only() {
+		return this.prepared.toGraphQLQuery();
+	}
+
+	@Benchmark
+	public String build_and_render_template() {
+		var builder = newVariablesBuilder();
+		return builder.template().requestBody(builder.variablesJson());
+	}
+}
@@ -0,0 +1,75 @@
+package tech.deplant.java4ever.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import tech.deplant.java4ever.binding.JsonContext;
+import tech.deplant.java4ever.binding.Net;
+import tech.deplant.java4ever.binding.Processing;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Deserialization of large EVER-SDK responses with {@link JsonContext#SDK_JSON_MAPPER()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonReadBenchmark {
+
+	private static final String BOC = "te6ccgEBAQEAAgAAAA==";
+
+	@Param({"1", "50"})
+	public int items;
+
+	private byte[] processMessageJson;
+	private byte[] queryCollectionJson;
+
+	private static String transaction(int i) {
+		return """
+				{"id":"%064x","lt":"0x%x","now":1700000000,"aborted":false,"balance_delta":"-12345678",
+				"account_addr":"0:%064x","in_msg":"%064x","out_msgs":["%064x"],"total_fees":"1234567",
+				"compute":{"success":true,"gas_used":"2599","gas_fees":"2599000","vm_steps":66,"exit_code":0},
+				"action":{"success":true,"valid":true,"total_actions":1,"msgs_created":1},"boc":"%s"}""".formatted(i,
+		                                                                                                   i,
+		                                                                                                   i,
+		                                                                                                   i,
+		                                                                                                   i + 1,
+		                                                                                                   BOC);
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		String outMessages = IntStream.range(0, this.items)
+		                              .mapToObj(i -> "\"" + BOC + "\"")
+		                              .collect(Collectors.joining(","));
+		String decodedMessages = IntStream.range(0, this.items)
+		                                  .mapToObj(i -> """
+				                                  {"body_type":"Output","name":"onTransfer","value":{"amount":"%d","to":"0:%064x"}}""".formatted(
+				                                  i,
+				                                  i))
+		                                  .collect(Collectors.joining(","));
+		this.processMessageJson = """
+				{"transaction":%s,"out_messages":[%s],"decoded":{"out_messages":[%s],"output":{"value0":"1"}},
+				"fees":{"in_msg_fwd_fee":"1","storage_fee":"2","gas_fee":"3","out_msgs_fwd_fee":"4",
+				"total_account_fees":"5","total_output":"6","ext_in_msg_fee":"7","total_fwd_fees":"8","account_fees":"9"}}"""
+				.formatted(transaction(0), outMessages, decodedMessages)
+				.getBytes(StandardCharsets.UTF_8);
+		this.queryCollectionJson = IntStream.range(0, this.items)
+		                                    .mapToObj(JsonReadBenchmark::transaction)
+		                                    .collect(Collectors.joining(",", "{\"result\":[", "]}"))
+		                                    .getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public Processing.ResultOfProcessMessage result_of_process_message() throws IOException {
+		return JsonContext.SDK_JSON_MAPPER().readValue(this.processMessageJson, Processing.ResultOfProcessMessage.class);
+	}
+
+	@Benchmark
+	public Net.ResultOfQueryCollection result_of_query_collection() throws IOException {
+		return JsonContext.SDK_JSON_MAPPER().readValue(this.queryCollectionJson, Net.ResultOfQueryCollection.class);
+	}
+}
@@ -0,0 +1,60 @@
+package tech.deplant.java4ever.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import tech.deplant.java4ever.binding.Client;
+import tech.deplant.java4ever.binding.EverSdk;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.ffi.tc_response_handler_t;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request latency of the async tc_request path. upcall_stub_* benchmarks isolate the cost
+ * of creating tc_response_handler_t per request (previous behaviour) against reusing the
+ * stub cached in the context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.SampleTime, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestLatencyBenchmark {
+
+	private static final tc_response_handler_t.Function NOOP_HANDLER = (requestId, json, type, finished) -> {
+	};
+
+	private int ctxId;
+	private Arena cachedArena;
+	private MemorySegment cachedStub;
+
+	@Setup(Level.Trial)
+	public void setup() throws EverSdkException {
+		EverSdk.load();
+		this.ctxId = EverSdk.createDefault();
+		this.cachedArena = Arena.ofShared();
+		this.cachedStub = tc_response_handler_t.allocate(NOOP_HANDLER, this.cachedArena);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		EverSdk.destroy(this.ctxId);
+		this.cachedArena.close();
+	}
+
+	@Benchmark
+	public Client.ResultOfVersion version_async() throws EverSdkException {
+		return EverSdk.await(Client.version(this.ctxId));
+	}
+
+	@Benchmark
+	public MemorySegment upcall_stub_per_request() {
+		try (Arena arena = Arena.ofConfined()) {
+			return tc_response_handler_t.allocate(NOOP_HANDLER, arena);
+		}
+	}
+
+	@Benchmark
+	public MemorySegment upcall_stub_cached() {
+		return this.cachedStub;
+	}
+}
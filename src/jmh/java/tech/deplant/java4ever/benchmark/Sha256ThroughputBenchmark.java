@@ -0,0 +1,82 @@
+package tech.deplant.java4ever.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import tech.deplant.java4ever.binding.Crypto;
+import tech.deplant.java4ever.binding.EverSdk;
+import tech.deplant.java4ever.binding.EverSdkException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end throughput of a generated module call with growing count of concurrent callers
+ * sharing one context. Generated {@link Crypto#sha256} goes through tc_request_sync, so async variants
+ * call the same function with {@link EverSdk#async} to measure the upcall path: callback stub,
+ * request slots, admission and callback executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class Sha256ThroughputBenchmark {
+
+	private static final String DATA = "TWVzc2FnZSB0byBoYXNoIHdpdGggc2hhIDI1Ng==";
+
+	private int ctxId;
+
+	@Setup(Level.Trial)
+	public void setup() throws EverSdkException {
+		EverSdk.load();
+		this.ctxId = EverSdk.createDefault();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		EverSdk.destroy(this.ctxId);
+	}
+
+	private Crypto.ResultOfHash sha256() throws EverSdkException {
+		return EverSdk.await(Crypto.sha256(this.ctxId, DATA));
+	}
+
+	private Crypto.ResultOfHash sha256Async() throws EverSdkException {
+		return EverSdk.await(EverSdk.async(this.ctxId,
+		                                   "crypto.sha256",
+		                                   new Crypto.ParamsOfHash(DATA),
+		                                   Crypto.ResultOfHash.class));
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Crypto.ResultOfHash sha256_1_caller() throws EverSdkException {
+		return sha256();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Crypto.ResultOfHash sha256_8_callers() throws EverSdkException {
+		return sha256();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public Crypto.ResultOfHash sha256_64_callers() throws EverSdkException {
+		return sha256();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Crypto.ResultOfHash sha256_async_1_caller() throws EverSdkException {
+		return sha256Async();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Crypto.ResultOfHash sha256_async_8_callers() throws EverSdkException {
+		return sha256Async();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public Crypto.ResultOfHash sha256_async_64_callers() throws EverSdkException {
+		return sha256Async();
+	}
+}
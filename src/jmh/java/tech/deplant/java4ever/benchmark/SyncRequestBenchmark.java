@@ -0,0 +1,68 @@
+package tech.deplant.java4ever.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import tech.deplant.java4ever.binding.Crypto;
+import tech.deplant.java4ever.binding.EverSdk;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.Utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares tc_request_sync fast path with the regular tc_request + upcall path
+ * on CPU-only EVER-SDK functions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SyncRequestBenchmark {
+
+	private static final String DATA = "TWVzc2FnZSB0byBoYXNoIHdpdGggc2hhIDI1Ng==";
+	private static final String ADDRESS = "0:919db8e740d50bf349df2eea03fa30c385d846b991ff5542e67098ee833fc7f7";
+	private static final Utils.AddressStringFormat FORMAT = new Utils.AddressStringFormat.AccountId();
+
+	private int ctxId;
+
+	@Setup(Level.Trial)
+	public void setup() throws EverSdkException {
+		EverSdk.load();
+		this.ctxId = EverSdk.createDefault();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		EverSdk.destroy(this.ctxId);
+	}
+
+	@Benchmark
+	public Crypto.ResultOfHash sha256_async() throws EverSdkException {
+		return EverSdk.await(EverSdk.async(this.ctxId,
+		                                   "crypto.sha256",
+		                                   new Crypto.ParamsOfHash(DATA),
+		                                   Crypto.ResultOfHash.class));
+	}
+
+	@Benchmark
+	public Crypto.ResultOfHash sha256_sync() throws EverSdkException {
+		return EverSdk.await(EverSdk.sync(this.ctxId,
+		                                  "crypto.sha256",
+		                                  new Crypto.ParamsOfHash(DATA),
+		                                  Crypto.ResultOfHash.class));
+	}
+
+	@Benchmark
+	public Utils.ResultOfConvertAddress convert_address_async() throws EverSdkException {
+		return EverSdk.await(EverSdk.async(this.ctxId,
+		                                   "utils.convert_address",
+		                                   new Utils.ParamsOfConvertAddress(ADDRESS, FORMAT),
+		                                   Utils.ResultOfConvertAddress.class));
+	}
+
+	@Benchmark
+	public Utils.ResultOfConvertAddress convert_address_sync() throws EverSdkException {
+		return EverSdk.await(EverSdk.sync(this.ctxId,
+		                                  "utils.convert_address",
+		                                  new Utils.ParamsOfConvertAddress(ADDRESS, FORMAT),
+		                                  Utils.ResultOfConvertAddress.class));
+	}
+}
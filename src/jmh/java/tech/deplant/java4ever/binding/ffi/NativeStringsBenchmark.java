@@ -0,0 +1,88 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import org.openjdk.jmh.annotations.*;
+import tech.deplant.java4ever.binding.Abi;
+import tech.deplant.java4ever.binding.Crypto;
+import tech.deplant.java4ever.binding.JsonContext;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marshalling of request strings to native memory and back, and serialization of request params.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NativeStringsBenchmark {
+
+	@Param({"64", "4096", "65536"})
+	public int length;
+
+	private String text;
+	private byte[] utf8;
+	private Arena arena;
+	private MemorySegment target;
+	private MemorySegment stringData;
+
+	private Crypto.ParamsOfHash hashParams;
+	private Abi.ParamsOfEncodeMessage encodeParams;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.text = "x".repeat(this.length);
+		this.utf8 = this.text.getBytes(StandardCharsets.UTF_8);
+		this.arena = Arena.ofConfined();
+		this.target = this.arena.allocate(NativeStrings.byteSize(this.utf8.length), Long.BYTES);
+		this.stringData = NativeStrings.toRust(this.utf8, this.target);
+		this.hashParams = new Crypto.ParamsOfHash(this.text);
+		this.encodeParams = new Abi.ParamsOfEncodeMessage(new Abi.ABI.Json(this.text),
+		                                                  "0:" + "0".repeat(64),
+		                                                  null,
+		                                                  new Abi.CallSet("transfer",
+		                                                                  null,
+		                                                                  JsonContext.EMPTY_NODE()),
+		                                                  new Abi.Signer.None(),
+		                                                  null,
+		                                                  null);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.arena.close();
+	}
+
+	@Benchmark
+	public MemorySegment to_rust_string_arena() {
+		try (Arena local = Arena.ofConfined()) {
+			return NativeStrings.toRust(this.text, local);
+		}
+	}
+
+	@Benchmark
+	public MemorySegment to_rust_bytes_pooled() {
+		var buffer = NativeBufferPool.SHARED.acquire(NativeStrings.byteSize(this.utf8.length));
+		try {
+			return NativeStrings.toRust(this.utf8, buffer.segment());
+		} finally {
+			NativeBufferPool.SHARED.release(buffer);
+		}
+	}
+
+	@Benchmark
+	public String to_java() {
+		return NativeStrings.toJava(this.stringData);
+	}
+
+	@Benchmark
+	public byte[] process_params_hash() {
+		return EverSdkContext.processParams(this.hashParams);
+	}
+
+	@Benchmark
+	public byte[] process_params_encode_message() {
+		return EverSdkContext.processParams(this.encodeParams);
+	}
+}
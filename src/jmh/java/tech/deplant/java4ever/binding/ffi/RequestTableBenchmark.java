@@ -0,0 +1,83 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Register - upcall lookup - finish cycle of a request, as done by {@link EverSdkContext}.
+ * map_* is the former ConcurrentHashMap with ReentrantLock per request,
+ * slots_* is {@link RequestSlotTable} with request monitor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestTableBenchmark {
+
+	private final Map<Integer, MapEntry> map = new ConcurrentHashMap<>();
+	private final AtomicInteger mapIds = new AtomicInteger();
+	private final RequestSlotTable<SlotEntry> slots = new RequestSlotTable<>(4096);
+
+	@Benchmark
+	@Threads(1)
+	public Object map_1_thread() {
+		return mapCycle();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Object map_8_threads() {
+		return mapCycle();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Object slots_1_thread() {
+		return slotsCycle();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Object slots_8_threads() {
+		return slotsCycle();
+	}
+
+	private Object mapCycle() {
+		int id = this.mapIds.incrementAndGet();
+		var entry = new MapEntry(new ReentrantLock());
+		this.map.put(id, entry);
+		entry.lock.lock();
+		entry.lock.unlock();
+		var found = this.map.get(id);
+		found.lock.lock();
+		try {
+			this.map.remove(id);
+		} finally {
+			found.lock.unlock();
+		}
+		return found;
+	}
+
+	private Object slotsCycle() {
+		var entry = new SlotEntry();
+		int id = this.slots.register(entry);
+		synchronized (entry) {
+			// send happens here
+		}
+		var found = this.slots.get(id);
+		synchronized (found) {
+			this.slots.remove(found);
+		}
+		return found;
+	}
+
+	private record MapEntry(ReentrantLock lock) {
+	}
+
+	private static final class SlotEntry extends RequestSlotTable.Entry {
+	}
+}
@@ -14,9 +14,12 @@ module java4ever.binding {
 	opens sdk.win_x86_64;
 
 	exports tech.deplant.java4ever.binding;
+	exports tech.deplant.java4ever.binding.boc;
+	exports tech.deplant.java4ever.binding.crypto;
 	exports tech.deplant.java4ever.binding.gql;
 	exports tech.deplant.java4ever.binding.loader;
 	exports tech.deplant.java4ever.binding.io;
+	exports tech.deplant.java4ever.binding.metrics;
 	exports tech.deplant.java4ever.binding.generator;
 	exports tech.deplant.java4ever.binding.generator.reference;
 	exports tech.deplant.java4ever.binding.generator.jtype;
@@ -0,0 +1,489 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Cache of account states for local get-method execution, kept fresh by subscriptions.
+ * <p>
+ * Account is fetched by {@link Net#queryCollection} when it's requested first, after that its
+ * updates come from {@link Net#subscribeCollection} of {@code accounts}. Accounts are subscribed in groups
+ * of up to {@code groupSize} addresses with one {@code id: {in: [...]}} filter per group, so thousands of
+ * accounts take only a few subscriptions. Group has at most one re-subscription in flight, addresses added
+ * meanwhile are subscribed together by the next one. The old subscription is removed only after the new one
+ * is created.
+ * <p>
+ * Subscription is created before the first fetch and states are replaced only by states with greater
+ * {@code last_trans_lt}, so an update that comes between them isn't lost. Every state keeps the time it was
+ * received, see {@link #staleness(String)}. When SDK reports an error of a group subscription, like a lost
+ * connection, states of the group may miss changes until it's resumed, see {@link #health(String)}.
+ * States of the group are fetched again when subscription is resumed.
+ *
+ * <pre>{@code
+ * try (var accounts = AccountStateCache.create(ctx, 500)) {
+ *     var balance = accounts.runGet(address, "get_balance", null).get().output();
+ * }
+ * }</pre>
+ */
+public final class AccountStateCache implements AutoCloseable {
+
+	private final static System.Logger logger = System.getLogger(AccountStateCache.class.getName());
+
+	private final static String PROJECTION = "id boc last_trans_lt";
+	// EVER-SDK code of the event sent when subscription is resumed after network reconnect
+	private final static int NETWORK_MODULE_RESUMED = 615;
+
+	private final int contextId;
+	private final int groupSize;
+	private final AccountCalls calls;
+	private final Map<String, AccountState> states = new ConcurrentHashMap<>();
+	private final Map<String, CompletableFuture<AccountState>> loading = new ConcurrentHashMap<>();
+	private final ReentrantLock groupsLock = new ReentrantLock();
+	// guarded by groupsLock
+	private final List<Group> groups = new ArrayList<>();
+	private final Map<String, Group> groupOf = new HashMap<>();
+	private boolean closed;
+
+	AccountStateCache(int contextId, int groupSize, AccountCalls calls) {
+		if (groupSize < 1) {
+			throw new IllegalArgumentException("Group size should be positive!");
+		}
+		this.contextId = contextId;
+		this.groupSize = groupSize;
+		this.calls = calls;
+	}
+
+	/**
+	 * Creates the cache.
+	 *
+	 * @param contextId the context id
+	 * @param groupSize max count of addresses in one subscription
+	 * @return the account state cache
+	 */
+	public static AccountStateCache create(int contextId, int groupSize) {
+		return new AccountStateCache(contextId, groupSize, new AccountCalls() {
+			@Override
+			public CompletableFuture<Net.ResultOfSubscribeCollection> subscribe(JsonNode filter,
+			                                                                   Consumer<JsonNode> consumer) throws EverSdkException {
+				return Net.subscribeCollection(contextId, "accounts", filter, PROJECTION, consumer);
+			}
+
+			@Override
+			public void unsubscribe(Net.ResultOfSubscribeCollection handle) throws EverSdkException {
+				Net.unsubscribe(contextId, handle);
+			}
+
+			@Override
+			public CompletableFuture<Net.ResultOfQueryCollection> query(JsonNode filter,
+			                                                            long limit) throws EverSdkException {
+				return Net.queryCollection(contextId, "accounts", filter, PROJECTION, null, limit);
+			}
+		});
+	}
+
+	/**
+	 * State of account, fetched and subscribed if it's requested first.
+	 *
+	 * @param address account address
+	 * @return the future of the state, its boc is null if account doesn't exist
+	 */
+	public CompletableFuture<AccountState> get(String address) {
+		AccountState state = this.states.get(address);
+		if (null != state) {
+			return CompletableFuture.completedFuture(state);
+		}
+		var loaded = new CompletableFuture<AccountState>();
+		var concurrent = this.loading.putIfAbsent(address, loaded);
+		if (null != concurrent) {
+			return concurrent;
+		}
+		load(address).whenComplete((fetched, ex) -> {
+			this.loading.remove(address, loaded);
+			if (null != ex) {
+				loaded.completeExceptionally(ex);
+			} else {
+				loaded.complete(fetched);
+			}
+		});
+		return loaded;
+	}
+
+	/**
+	 * Runs get-method locally on the cached state of account.
+	 *
+	 * @param address      account address
+	 * @param functionName get-method name
+	 * @param input        get-method input, may be null
+	 * @return the future of the result
+	 */
+	public CompletableFuture<Tvm.ResultOfRunGet> runGet(String address, String functionName, JsonNode input) {
+		return get(address).thenCompose(state -> {
+			if (null == state.boc()) {
+				return CompletableFuture.failedFuture(new EverSdkException(new EverSdkException.ErrorResult(-500,
+				                                                                                            "Account %s doesn't exist!".formatted(
+						                                                                                            address))));
+			}
+			try {
+				return Tvm.runGet(this.contextId, state.boc(), functionName, input, null, null);
+			} catch (EverSdkException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		});
+	}
+
+	/**
+	 * Time since the last state of account was received, either fetched or from subscription.
+	 * While subscription of the account is healthy, it sends every change, so it's also the time the state
+	 * is known to be unchanged. Check {@link #health(String)} before relying on it.
+	 *
+	 * @param address account address
+	 * @return the duration or empty if account isn't cached
+	 */
+	public Optional<Duration> staleness(String address) {
+		return Optional.ofNullable(this.states.get(address))
+		               .map(state -> Duration.between(state.receivedAt(), Instant.now()));
+	}
+
+	/**
+	 * Health of subscription that delivers changes of account.
+	 *
+	 * @param address account address
+	 * @return the health or empty if account isn't subscribed
+	 */
+	public Optional<SubscriptionHealth> health(String address) {
+		this.groupsLock.lock();
+		try {
+			return Optional.ofNullable(this.groupOf.get(address)).map(group -> group.health);
+		} finally {
+			this.groupsLock.unlock();
+		}
+	}
+
+	/**
+	 * Count of group subscriptions that reported an error and weren't resumed yet.
+	 *
+	 * @return the int
+	 */
+	public int unhealthyGroups() {
+		this.groupsLock.lock();
+		try {
+			return (int) this.groups.stream().filter(group -> !group.health.healthy()).count();
+		} finally {
+			this.groupsLock.unlock();
+		}
+	}
+
+	/**
+	 * Count of cached accounts.
+	 *
+	 * @return the int
+	 */
+	public int size() {
+		return this.states.size();
+	}
+
+	private CompletableFuture<AccountState> load(String address) {
+		var filter = JsonNodeFactory.instance.objectNode();
+		filter.putObject("id").put("eq", address);
+		return watch(address).thenCompose(ignored -> {
+			try {
+				return this.calls.query(filter, 1L);
+			} catch (EverSdkException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}).thenApply(found -> {
+			if (found.result().length > 0) {
+				return update(found.result()[0]);
+			}
+			// not deployed yet, deployment comes from subscription
+			return this.states.computeIfAbsent(address, a -> new AccountState(a, null, BigInteger.ZERO, Instant.now()));
+		});
+	}
+
+	// adds address to a group, future completes when a subscription that includes it is created
+	private CompletableFuture<Void> watch(String address) {
+		var subscribed = new CompletableFuture<Void>();
+		Resubscription next = null;
+		this.groupsLock.lock();
+		try {
+			if (this.closed) {
+				return CompletableFuture.failedFuture(closedError());
+			}
+			if (this.groupOf.containsKey(address)) {
+				return CompletableFuture.completedFuture(null);
+			}
+			Group group = this.groups.isEmpty() ? null : this.groups.getLast();
+			if (null == group || group.addresses.size() >= this.groupSize) {
+				group = new Group();
+				this.groups.add(group);
+			}
+			group.addresses.add(address);
+			this.groupOf.put(address, group);
+			group.waiting.add(new Waiter(address, subscribed));
+			// addresses added while re-subscription is in flight wait for the next one
+			if (!group.resubscribing) {
+				group.resubscribing = true;
+				next = takeWaiting(group);
+			}
+		} finally {
+			this.groupsLock.unlock();
+		}
+		subscribe(next);
+		return subscribed;
+	}
+
+	// called under groupsLock, the filter has all current addresses of group
+	private static Resubscription takeWaiting(Group group) {
+		final List<Waiter> batch = group.waiting;
+		group.waiting = new ArrayList<>();
+		final var filter = JsonNodeFactory.instance.objectNode();
+		ArrayNode in = filter.putObject("id").putArray("in");
+		group.addresses.forEach(in::add);
+		return new Resubscription(group, batch, filter);
+	}
+
+	// called without groupsLock, so SDK call doesn't stall other callers of the cache
+	private void subscribe(Resubscription next) {
+		if (null == next) {
+			return;
+		}
+		CompletableFuture<Net.ResultOfSubscribeCollection> attempt;
+		try {
+			attempt = this.calls.subscribe(next.filter(), event -> onEvent(next.group(), event));
+		} catch (EverSdkException | RuntimeException e) {
+			attempt = CompletableFuture.failedFuture(e);
+		}
+		attempt.whenComplete((handle, ex) -> subscribed(next.group(), next.batch(), handle, ex));
+	}
+
+	private void subscribed(Group group, List<Waiter> batch, Net.ResultOfSubscribeCollection handle, Throwable ex) {
+		Net.ResultOfSubscribeCollection obsolete = null;
+		Resubscription next = null;
+		Throwable error = ex;
+		this.groupsLock.lock();
+		try {
+			if (null != ex) {
+				// failed attempt keeps the previous subscription, its new addresses are forgotten
+				for (Waiter waiter : batch) {
+					group.addresses.remove(waiter.address());
+					this.groupOf.remove(waiter.address());
+				}
+			} else if (this.closed) {
+				obsolete = handle;
+				error = closedError();
+			} else {
+				obsolete = group.subscription;
+				group.subscription = handle;
+				group.health = SubscriptionHealth.ok();
+			}
+			if (!group.waiting.isEmpty() && !this.closed) {
+				next = takeWaiting(group);
+			} else {
+				group.resubscribing = false;
+			}
+		} finally {
+			this.groupsLock.unlock();
+		}
+		unsubscribe(obsolete);
+		for (Waiter waiter : batch) {
+			if (null != error) {
+				waiter.subscribed().completeExceptionally(error);
+			} else {
+				waiter.subscribed().complete(null);
+			}
+		}
+		subscribe(next);
+	}
+
+	private static EverSdkException closedError() {
+		return new EverSdkException(new EverSdkException.ErrorResult(-500, "Account state cache is closed!"));
+	}
+
+	// subscription errors come without account row, they are ClientError objects with a code
+	private void onEvent(Group group, JsonNode event) {
+		JsonNode row = event.has("result") ? event.get("result") : event;
+		if (row.hasNonNull("id")) {
+			update(row);
+			return;
+		}
+		if (!event.has("code")) {
+			return;
+		}
+		int code = event.path("code").asInt();
+		String message = event.path("message").asText();
+		if (code == NETWORK_MODULE_RESUMED) {
+			logger.log(System.Logger.Level.DEBUG,
+			           () -> "CTX:%d Accounts subscription resumed, refreshing states".formatted(this.contextId));
+			setHealth(group, SubscriptionHealth.ok());
+			refresh(group);
+		} else {
+			logger.log(System.Logger.Level.WARNING,
+			           () -> "CTX:%d Accounts subscription error %d %s".formatted(this.contextId, code, message));
+			setHealth(group, new SubscriptionHealth(false, Instant.now(), code, message));
+		}
+	}
+
+	private void setHealth(Group group, SubscriptionHealth health) {
+		this.groupsLock.lock();
+		try {
+			// the first error is kept, so its time tells since when changes could be missed
+			if (health.healthy() || group.health.healthy()) {
+				group.health = health;
+			}
+		} finally {
+			this.groupsLock.unlock();
+		}
+	}
+
+	// changes could be missed while subscription was suspended, so states of group are fetched again
+	private void refresh(Group group) {
+		final var filter = JsonNodeFactory.instance.objectNode();
+		ArrayNode in = filter.putObject("id").putArray("in");
+		this.groupsLock.lock();
+		try {
+			group.addresses.forEach(in::add);
+		} finally {
+			this.groupsLock.unlock();
+		}
+		if (in.isEmpty()) {
+			return;
+		}
+		CompletableFuture<Net.ResultOfQueryCollection> query;
+		try {
+			query = this.calls.query(filter, in.size());
+		} catch (EverSdkException e) {
+			query = CompletableFuture.failedFuture(e);
+		}
+		query.whenComplete((found, ex) -> {
+			if (null != ex) {
+				logger.log(System.Logger.Level.WARNING,
+				           () -> "CTX:%d Accounts refresh failed! %s".formatted(this.contextId, ex.toString()));
+				setHealth(group, new SubscriptionHealth(false, Instant.now(), -500, "Refresh failed: " + ex));
+			} else {
+				for (JsonNode row : found.result()) {
+					update(row);
+				}
+			}
+		});
+	}
+
+	// newer state is the one with greater last_trans_lt, fetched row may come after subscription event
+	private AccountState update(JsonNode row) {
+		var received = new AccountState(row.get("id").asText(),
+		                                row.hasNonNull("boc") ? row.get("boc").asText() : null,
+		                                lt(row.get("last_trans_lt")),
+		                                Instant.now());
+		return this.states.merge(received.address(),
+		                         received,
+		                         (old, fresh) -> fresh.lastTransLt().compareTo(old.lastTransLt()) >= 0 ? fresh : old);
+	}
+
+	private static BigInteger lt(JsonNode value) {
+		if (null == value || value.isNull()) {
+			return BigInteger.ZERO;
+		}
+		String text = value.asText();
+		return text.startsWith("0x") ? new BigInteger(text.substring(2), 16) : new BigInteger(text);
+	}
+
+	private void unsubscribe(Net.ResultOfSubscribeCollection handle) {
+		if (null == handle) {
+			return;
+		}
+		try {
+			this.calls.unsubscribe(handle);
+		} catch (EverSdkException e) {
+			logger.log(System.Logger.Level.WARNING,
+			           () -> "CTX:%d Accounts unsubscribe failed! %s".formatted(this.contextId, e.toString()));
+		}
+	}
+
+	/**
+	 * Removes all subscriptions, cached states are still readable.
+	 * Subscriptions that are being created are removed as soon as they're created.
+	 */
+	@Override
+	public void close() {
+		List<Net.ResultOfSubscribeCollection> subscribed = new ArrayList<>();
+		this.groupsLock.lock();
+		try {
+			this.closed = true;
+			for (Group group : this.groups) {
+				if (null != group.subscription) {
+					subscribed.add(group.subscription);
+					group.subscription = null;
+				}
+			}
+		} finally {
+			this.groupsLock.unlock();
+		}
+		subscribed.forEach(this::unsubscribe);
+	}
+
+	/**
+	 * Cached state of account.
+	 *
+	 * @param address     account address
+	 * @param boc         account boc, null if account doesn't exist
+	 * @param lastTransLt logical time of the last transaction of account
+	 * @param receivedAt  when this state was received
+	 */
+	public record AccountState(String address, String boc, BigInteger lastTransLt, Instant receivedAt) {
+	}
+
+	/**
+	 * Health of group subscription.
+	 *
+	 * @param healthy   false if SDK reported an error and subscription wasn't resumed since
+	 * @param since     when the current health was reported
+	 * @param errorCode code of the first unresolved error, 0 if healthy
+	 * @param error     message of the first unresolved error, null if healthy
+	 */
+	public record SubscriptionHealth(boolean healthy, Instant since, int errorCode, String error) {
+
+		private static SubscriptionHealth ok() {
+			return new SubscriptionHealth(true, Instant.now(), 0, null);
+		}
+	}
+
+	// net.* calls of the cache, tests replace them
+	interface AccountCalls {
+		CompletableFuture<Net.ResultOfSubscribeCollection> subscribe(JsonNode filter,
+		                                                             Consumer<JsonNode> consumer) throws EverSdkException;
+
+		void unsubscribe(Net.ResultOfSubscribeCollection handle) throws EverSdkException;
+
+		CompletableFuture<Net.ResultOfQueryCollection> query(JsonNode filter, long limit) throws EverSdkException;
+	}
+
+	private record Waiter(String address, CompletableFuture<Void> subscribed) {
+	}
+
+	// waiters of group and the filter of their subscribe call
+	private record Resubscription(Group group, List<Waiter> batch, JsonNode filter) {
+	}
+
+	private static final class Group {
+		// all fields are guarded by groupsLock
+		private final List<String> addresses = new ArrayList<>();
+		// addresses that aren't in a created subscription yet
+		private List<Waiter> waiting = new ArrayList<>();
+		private boolean resubscribing;
+		private Net.ResultOfSubscribeCollection subscription;
+		private SubscriptionHealth health = SubscriptionHealth.ok();
+	}
+}
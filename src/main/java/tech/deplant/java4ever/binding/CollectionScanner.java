@@ -0,0 +1,326 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Scans all rows of a collection in the range of some key, like transactions of a busy account by lt
+ * or blocks by seq_no or gen_utime, without manual cursor loops.
+ * <p>
+ * Range is split into {@link #parallelism()} disjoint sub-ranges that are paged through
+ * {@link Net#queryCollection} concurrently, each on its own virtual thread. Pages use keyset pagination
+ * on (key, id), so rows with equal keys are neither lost nor repeated. Every sub-range keeps at most
+ * {@link #bufferedPages()} pages that are not consumed yet, so memory stays bounded whatever the range size is.
+ * <p>
+ * {@link #scan} returns rows ordered by key, {@link #scanUnordered} returns pages as soon as any sub-range
+ * receives them. Streams should be closed if they are not consumed to the end.
+ *
+ * <pre>{@code
+ * var scanner = CollectionScanner.of(ctx, "transactions", filter, "id lt aborted", CollectionScanner.Key.LT)
+ *                                .withParallelism(8);
+ * try (var transactions = scanner.scan(fromLt, toLt)) {
+ *     transactions.forEach(indexer::accept);
+ * }
+ * }</pre>
+ *
+ * @param contextId     the context id
+ * @param collection    collection name
+ * @param filter        filter of rows, shouldn't contain key field, it's added by scanner
+ * @param result        projection, id and key field are added by scanner
+ * @param key           field that is split into ranges
+ * @param pageSize      rows requested by one query
+ * @param parallelism   count of sub-ranges scanned concurrently
+ * @param bufferedPages pages fetched ahead by every sub-range
+ */
+public record CollectionScanner(int contextId,
+                                String collection,
+                                JsonNode filter,
+                                String result,
+                                Key key,
+                                long pageSize,
+                                int parallelism,
+                                int bufferedPages) {
+
+	private final static System.Logger logger = System.getLogger(CollectionScanner.class.getName());
+
+	public CollectionScanner {
+		Objects.requireNonNull(collection);
+		Objects.requireNonNull(key);
+		if (pageSize < 1 || parallelism < 1 || bufferedPages < 1) {
+			throw new IllegalArgumentException("Page size, parallelism and buffered pages should be positive!");
+		}
+	}
+
+	/**
+	 * Scanner with 50 rows per page, 4 sub-ranges and 2 pages buffered per sub-range.
+	 *
+	 * @param contextId  the context id
+	 * @param collection collection name
+	 * @param filter     filter of rows, may be null
+	 * @param result     projection
+	 * @param key        field that is split into ranges
+	 * @return the collection scanner
+	 */
+	public static CollectionScanner of(int contextId, String collection, JsonNode filter, String result, Key key) {
+		return new CollectionScanner(contextId, collection, filter, result, key, 50L, 4, 2);
+	}
+
+	/**
+	 * Copy of scanner with another page size.
+	 *
+	 * @param pageSize the page size
+	 * @return the collection scanner
+	 */
+	public CollectionScanner withPageSize(long pageSize) {
+		return new CollectionScanner(contextId(), collection(), filter(), result(), key(), pageSize, parallelism(),
+		                             bufferedPages());
+	}
+
+	/**
+	 * Copy of scanner with another count of sub-ranges.
+	 *
+	 * @param parallelism the parallelism
+	 * @return the collection scanner
+	 */
+	public CollectionScanner withParallelism(int parallelism) {
+		return new CollectionScanner(contextId(), collection(), filter(), result(), key(), pageSize(), parallelism,
+		                             bufferedPages());
+	}
+
+	/**
+	 * Copy of scanner with another count of pages fetched ahead by every sub-range.
+	 *
+	 * @param bufferedPages the buffered pages
+	 * @return the collection scanner
+	 */
+	public CollectionScanner withBufferedPages(int bufferedPages) {
+		return new CollectionScanner(contextId(), collection(), filter(), result(), key(), pageSize(), parallelism(),
+		                             bufferedPages);
+	}
+
+	/**
+	 * Rows with key in [from, to) ordered by key and id.
+	 *
+	 * @param from inclusive start of the range
+	 * @param to   exclusive end of the range
+	 * @return the stream of rows, errors are thrown as CompletionException with EverSdkException
+	 * or other exception of the failed query as a cause
+	 */
+	public Stream<JsonNode> scan(BigInteger from, BigInteger to) {
+		var ranges = split(from, to);
+		var queues = new ArrayList<BlockingQueue<Page>>(ranges.size());
+		var workers = new ArrayList<Thread>(ranges.size());
+		for (BigInteger[] range : ranges) {
+			var queue = new ArrayBlockingQueue<Page>(bufferedPages());
+			queues.add(queue);
+			workers.add(Thread.ofVirtual().name("scanner-" + collection()).start(() -> pageThrough(range, queue)));
+		}
+		// sub-ranges are disjoint and ordered, so ordered merge is their concatenation
+		return stream(new PageIterator(workers.size()) {
+			private int range;
+
+			@Override
+			Page take() throws InterruptedException {
+				Page page = queues.get(this.range).take();
+				if (page == Page.END) {
+					this.range++;
+				}
+				return page;
+			}
+		}, workers);
+	}
+
+	/**
+	 * Rows with key in [from, to) in order of arrival, rows of one page are still ordered.
+	 *
+	 * @param from inclusive start of the range
+	 * @param to   exclusive end of the range
+	 * @return the stream of rows, errors are thrown as CompletionException with EverSdkException
+	 * or other exception of the failed query as a cause
+	 */
+	public Stream<JsonNode> scanUnordered(BigInteger from, BigInteger to) {
+		var ranges = split(from, to);
+		var queue = new ArrayBlockingQueue<Page>(bufferedPages() * Math.max(1, ranges.size()));
+		var workers = new ArrayList<Thread>(ranges.size());
+		for (BigInteger[] range : ranges) {
+			workers.add(Thread.ofVirtual().name("scanner-" + collection()).start(() -> pageThrough(range, queue)));
+		}
+		return stream(new PageIterator(workers.size()) {
+			@Override
+			Page take() throws InterruptedException {
+				return queue.take();
+			}
+		}, workers);
+	}
+
+	List<BigInteger[]> split(BigInteger from, BigInteger to) {
+		var ranges = new ArrayList<BigInteger[]>();
+		if (from.compareTo(to) >= 0) {
+			return ranges;
+		}
+		BigInteger count = BigInteger.valueOf(parallelism());
+		// ceiling of width / parallelism, so that the last range is never wider than others
+		BigInteger step = to.subtract(from).add(count).subtract(BigInteger.ONE).divide(count);
+		for (BigInteger start = from; start.compareTo(to) < 0; start = start.add(step)) {
+			ranges.add(new BigInteger[]{start, start.add(step).min(to)});
+		}
+		return ranges;
+	}
+
+	private void pageThrough(BigInteger[] range, BlockingQueue<Page> queue) {
+		final String projection = "id " + key().field() + " " + Objects.requireNonNullElse(result(), "");
+		final Net.OrderBy[] order = {new Net.OrderBy(key().field(), Net.SortDirection.ASC),
+		                             new Net.OrderBy("id", Net.SortDirection.ASC)};
+		JsonNode lastKey = null;
+		String lastId = null;
+		try {
+			try {
+				while (true) {
+					JsonNode[] rows = EverSdk.await(Net.queryCollection(contextId(),
+					                                                    collection(),
+					                                                    pageFilter(range, lastKey, lastId),
+					                                                    projection,
+					                                                    order,
+					                                                    pageSize())).result();
+					if (rows.length > 0) {
+						queue.put(new Page(rows, null));
+						JsonNode last = rows[rows.length - 1];
+						lastKey = last.get(key().field());
+						lastId = last.get("id").asText();
+					}
+					if (rows.length < pageSize()) {
+						break;
+					}
+				}
+				queue.put(Page.END);
+			} catch (EverSdkException | RuntimeException e) {
+				// any failure ends the stream, otherwise consumer would wait for this sub-range forever
+				logger.log(System.Logger.Level.WARNING,
+				           () -> "CTX:%d Scan of %s failed! %s".formatted(contextId(), collection(), e.toString()));
+				queue.put(new Page(null, e));
+			}
+		} catch (InterruptedException e) {
+			// stream is closed
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// (filter AND range AND key > last) OR (filter AND range AND key == last AND id > lastId)
+	JsonNode pageFilter(BigInteger[] range, JsonNode lastKey, String lastId) {
+		ObjectNode rangeFilter = baseFilter();
+		ObjectNode keyCondition = rangeFilter.putObject(key().field());
+		keyCondition.set("lt", key().encode(range[1]));
+		if (null == lastKey) {
+			keyCondition.set("ge", key().encode(range[0]));
+			return rangeFilter;
+		}
+		keyCondition.set("gt", lastKey);
+		ObjectNode tie = baseFilter();
+		tie.putObject(key().field()).set("eq", lastKey);
+		tie.putObject("id").put("gt", lastId);
+		rangeFilter.set("OR", tie);
+		return rangeFilter;
+	}
+
+	private ObjectNode baseFilter() {
+		return filter() instanceof ObjectNode objectNode ? objectNode.deepCopy() : JsonNodeFactory.instance.objectNode();
+	}
+
+	private Stream<JsonNode> stream(PageIterator rows, List<Thread> workers) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL),
+		                            false).onClose(() -> workers.forEach(Thread::interrupt));
+	}
+
+	/**
+	 * Field that is split into ranges.
+	 *
+	 * @param field  field name
+	 * @param bigInt true for u64 and larger fields that GraphQL takes as strings
+	 */
+	public record Key(String field, boolean bigInt) {
+
+		/**
+		 * Logical time of transactions and messages.
+		 */
+		public static final Key LT = new Key("lt", true);
+		/**
+		 * Sequence number of blocks.
+		 */
+		public static final Key SEQ_NO = new Key("seq_no", false);
+		/**
+		 * Generation time of blocks.
+		 */
+		public static final Key GEN_UTIME = new Key("gen_utime", false);
+
+		JsonNode encode(BigInteger value) {
+			return bigInt() ?
+			       JsonNodeFactory.instance.textNode("0x" + value.toString(16)) :
+			       JsonNodeFactory.instance.numberNode(value);
+		}
+	}
+
+	private record Page(JsonNode[] rows, Exception error) {
+		private static final Page END = new Page(new JsonNode[0], null);
+	}
+
+	private abstract static class PageIterator implements Iterator<JsonNode> {
+
+		private int ranges;
+		private JsonNode[] rows = new JsonNode[0];
+		private int index;
+
+		private PageIterator(int ranges) {
+			this.ranges = ranges;
+		}
+
+		abstract Page take() throws InterruptedException;
+
+		@Override
+		public boolean hasNext() {
+			while (this.index >= this.rows.length && this.ranges > 0) {
+				Page page;
+				try {
+					page = take();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new CompletionException(e);
+				}
+				if (page.error() != null) {
+					this.ranges = 0;
+					throw page.error() instanceof CompletionException completion ?
+					      completion :
+					      new CompletionException(page.error());
+				}
+				if (page == Page.END) {
+					this.ranges--;
+				}
+				this.rows = page.rows();
+				this.index = 0;
+			}
+			return this.index < this.rows.length;
+		}
+
+		@Override
+		public JsonNode next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return this.rows[this.index++];
+		}
+	}
+}
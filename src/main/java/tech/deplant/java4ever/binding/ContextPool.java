@@ -0,0 +1,205 @@
+package tech.deplant.java4ever.binding;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Group of EVER-SDK contexts created from one config. Some internal SDK work (network and BOC cache
+ * locks) is serialized inside a single context, so spreading heavy load over several contexts scales better.
+ * <p>
+ * Stateless calls are dispatched with {@link #call(ContextCall)}. Calls that return a handle living
+ * inside a context (subscriptions, iterators, boxes) should be made with {@link #pin(ContextCall)},
+ * all following calls with that handle must be made through the returned {@link Pinned}.
+ *
+ * <pre>{@code
+ * try (var pool = ContextPool.create(config, 4, ContextPool.Dispatch.LEAST_IN_FLIGHT)) {
+ *     var accounts = EverSdk.await(pool.call(ctx -> Net.queryCollection(ctx, "accounts", filter, "id", null, 50L)));
+ *     var iterator = EverSdk.await(pool.pin(ctx -> Net.createBlockIterator(ctx, null, null, null, null)));
+ *     var items = EverSdk.await(iterator.call((ctx, it) -> Net.iteratorNext(ctx, it.handle(), 10L, false)));
+ * }
+ * }</pre>
+ */
+public final class ContextPool implements AutoCloseable {
+
+	private final static System.Logger logger = System.getLogger(ContextPool.class.getName());
+
+	private final int[] contextIds;
+	private final Dispatch dispatch;
+	private final AtomicInteger cursor = new AtomicInteger();
+
+	private ContextPool(int[] contextIds, Dispatch dispatch) {
+		this.contextIds = contextIds;
+		this.dispatch = dispatch;
+	}
+
+	/**
+	 * Creates the pool of new contexts.
+	 *
+	 * @param config   config of every context
+	 * @param size     count of contexts
+	 * @param dispatch how calls are spread between contexts
+	 * @return the context pool
+	 * @throws EverSdkException if some context can't be created, already created ones are destroyed
+	 */
+	public static ContextPool create(Client.ClientConfig config, int size, Dispatch dispatch) throws EverSdkException {
+		if (size < 1) {
+			throw new IllegalArgumentException("Context pool size should be positive!");
+		}
+		Objects.requireNonNull(dispatch);
+		int[] ids = new int[size];
+		int created = 0;
+		try {
+			for (; created < size; created++) {
+				ids[created] = EverSdk.createWithConfig(config);
+			}
+		} finally {
+			if (created < size) {
+				for (int i = 0; i < created; i++) {
+					EverSdk.destroy(ids[i]);
+				}
+			}
+		}
+		logger.log(System.Logger.Level.TRACE,
+		           () -> "Context pool created. Dispatch: %s Contexts: %s".formatted(dispatch, Arrays.toString(ids)));
+		return new ContextPool(ids, dispatch);
+	}
+
+	/**
+	 * Picks context for the next call.
+	 *
+	 * @return the context id
+	 */
+	public int next() {
+		int start = Math.floorMod(this.cursor.getAndIncrement(), this.contextIds.length);
+		return switch (this.dispatch) {
+			case ROUND_ROBIN -> this.contextIds[start];
+			case LEAST_IN_FLIGHT -> {
+				// scan starts from rotating position, so ties are spread evenly
+				int best = this.contextIds[start];
+				int bestInFlight = EverSdk.requestsInFlight(best);
+				for (int i = 1; i < this.contextIds.length && bestInFlight > 0; i++) {
+					int candidate = this.contextIds[(start + i) % this.contextIds.length];
+					int inFlight = EverSdk.requestsInFlight(candidate);
+					if (inFlight < bestInFlight) {
+						best = candidate;
+						bestInFlight = inFlight;
+					}
+				}
+				yield best;
+			}
+		};
+	}
+
+	/**
+	 * Calls function on the context picked by dispatch.
+	 *
+	 * @param <T>  result type
+	 * @param call the call, usually a generated module method reference or lambda
+	 * @return the future of the result
+	 * @throws EverSdkException the ever sdk exception
+	 */
+	public <T> CompletableFuture<T> call(ContextCall<T> call) throws EverSdkException {
+		return call.apply(next());
+	}
+
+	/**
+	 * Calls function that produces context-bound handle and pins the result to the context that owns it.
+	 *
+	 * @param <H>  handle type, like Net.RegisteredIterator or Net.ResultOfSubscribeCollection
+	 * @param call the call
+	 * @return the future of pinned handle
+	 * @throws EverSdkException the ever sdk exception
+	 */
+	public <H> CompletableFuture<Pinned<H>> pin(ContextCall<H> call) throws EverSdkException {
+		final int contextId = next();
+		return call.apply(contextId).thenApply(handle -> new Pinned<>(contextId, handle));
+	}
+
+	/**
+	 * Ids of pooled contexts.
+	 *
+	 * @return the int [ ]
+	 */
+	public int[] contextIds() {
+		return this.contextIds.clone();
+	}
+
+	/**
+	 * Dispatch mode of the pool.
+	 *
+	 * @return the dispatch
+	 */
+	public Dispatch dispatch() {
+		return this.dispatch;
+	}
+
+	/**
+	 * Destroys all pooled contexts. Pinned handles become invalid.
+	 */
+	@Override
+	public void close() {
+		for (int contextId : this.contextIds) {
+			EverSdk.destroy(contextId);
+		}
+	}
+
+	/**
+	 * How calls are spread between pooled contexts.
+	 */
+	public enum Dispatch {
+		/**
+		 * Contexts are used one after another.
+		 */
+		ROUND_ROBIN,
+		/**
+		 * Context with the least count of requests in flight is used.
+		 * Subscriptions count as in flight until they are cancelled.
+		 */
+		LEAST_IN_FLIGHT
+	}
+
+	/**
+	 * Function of EVER-SDK that is called with the context picked by the pool.
+	 *
+	 * @param <T> result type
+	 */
+	@FunctionalInterface
+	public interface ContextCall<T> {
+		CompletableFuture<T> apply(int contextId) throws EverSdkException;
+	}
+
+	/**
+	 * Function of EVER-SDK that works with the pinned handle.
+	 *
+	 * @param <H> handle type
+	 * @param <T> result type
+	 */
+	@FunctionalInterface
+	public interface PinnedCall<H, T> {
+		CompletableFuture<T> apply(int contextId, H handle) throws EverSdkException;
+	}
+
+	/**
+	 * Handle bound to the context that created it.
+	 *
+	 * @param contextId the context that owns the handle
+	 * @param handle    the handle
+	 * @param <H>       handle type
+	 */
+	public record Pinned<H>(int contextId, H handle) {
+
+		/**
+		 * Calls function on the owning context.
+		 *
+		 * @param <T>  result type
+		 * @param call the call
+		 * @return the future of the result
+		 * @throws EverSdkException the ever sdk exception
+		 */
+		public <T> CompletableFuture<T> call(PinnedCall<H, T> call) throws EverSdkException {
+			return call.apply(this.contextId, this.handle);
+		}
+	}
+}
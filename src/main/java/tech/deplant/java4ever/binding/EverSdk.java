@@ -3,11 +3,14 @@ package tech.deplant.java4ever.binding;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import tech.deplant.java4ever.binding.ffi.EverSdkContext;
+import tech.deplant.java4ever.binding.ffi.NativeBufferPool;
 import tech.deplant.java4ever.binding.ffi.NativeMethods;
 import tech.deplant.java4ever.binding.loader.DefaultLoader;
 import tech.deplant.java4ever.binding.loader.DefaultLoaderContext;
 import tech.deplant.java4ever.binding.loader.LibraryLoader;
+import tech.deplant.java4ever.binding.metrics.RequestMetrics;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -28,6 +31,7 @@ public class EverSdk {
 	 * Timeout for the waiting of async operations.
 	 */
 	public static long timeout = 600_000L;
+	private static volatile RequestMetrics metrics = RequestMetrics.NOOP;
 
 	/**
 	 * Context config client . client config.
@@ -104,6 +108,32 @@ public class EverSdk {
 		return contexts.get(contextId).callAsync(functionName, functionInputs, outputClass, null, null);
 	}
 
+	/**
+	 * Method to call EVER-SDK synchronously on the caller's thread. Should be used only for functions
+	 * that are not waiting for network, callbacks or app objects, otherwise caller thread will be blocked.
+	 * Result is returned as already completed future to be interchangeable with {@link #async}.
+	 *
+	 * @param <T>            result type parameter
+	 * @param <P>            function params type parameter
+	 * @param contextId      config context id
+	 * @param functionName   EVER-SDK function name
+	 * @param functionInputs EVER-SDK function inputs
+	 * @param outputClass    EVER-SDK output class
+	 * @return the completed future with generic result type
+	 * @throws EverSdkException the ever sdk exception
+	 */
+	public static <T, P> CompletableFuture<T> sync(final int contextId,
+	                                               final String functionName,
+	                                               final P functionInputs,
+	                                               final Class<T> outputClass) throws EverSdkException {
+		try {
+			return CompletableFuture.completedFuture(contexts.get(contextId)
+			                                                 .callSync(functionName, functionInputs, outputClass));
+		} catch (EverSdkException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
 	/**
 	 * Async method to get future result from EVER-SDK with additional parameter to receive recurring events from EVER-SDK
 	 *
@@ -147,12 +177,93 @@ public class EverSdk {
 	}
 
 	/**
-	 * Destroy.
+	 * Destroys EVER-SDK context and frees its response handler.
 	 *
 	 * @param contextId the context id
 	 */
 	public static void destroy(int contextId) {
 		NativeMethods.tcDestroyContext(contextId);
+		if (contexts.remove(contextId) instanceof EverSdkContext context) {
+			context.close();
+		}
+	}
+
+	/**
+	 * Sets metrics backend that will receive latencies, sizes and errors of all subsequent requests
+	 * of all contexts. Requests that are already in flight report to the previous backend.
+	 * Use {@link tech.deplant.java4ever.binding.metrics.RecordingMetrics} for in-memory histograms
+	 * or {@link RequestMetrics#NOOP} to switch metrics off.
+	 *
+	 * @param requestMetrics the request metrics
+	 */
+	public static void setMetrics(RequestMetrics requestMetrics) {
+		metrics = Objects.requireNonNull(requestMetrics);
+	}
+
+	/**
+	 * Current metrics backend.
+	 *
+	 * @return the request metrics
+	 */
+	public static RequestMetrics metrics() {
+		return metrics;
+	}
+
+	/**
+	 * Sets limits of requests in flight for the context. Requests that are already sent
+	 * give their slots back to the limits they were admitted with.
+	 *
+	 * @param contextId the context id
+	 * @param limits    the limits or null to remove them
+	 */
+	public static void setAdmissionLimits(int contextId, AdmissionLimits limits) {
+		contexts.get(contextId).setAdmissionLimits(limits);
+	}
+
+	/**
+	 * Sets executor that runs subscription event handlers and app object requests of the context.
+	 * EVER-SDK callback thread only copies the response and goes back to the SDK, handlers of each
+	 * request still get upcalls one at a time and in order. Queue of each request is bounded, so when a handler
+	 * falls behind, SDK callback thread waits for it. By default, every request drains its upcalls
+	 * on its own virtual thread. Pass {@code Runnable::run} to handle them right on the SDK thread.
+	 *
+	 * @param contextId the context id
+	 * @param executor  the executor or null for the default
+	 */
+	public static void setCallbackExecutor(int contextId, Executor executor) {
+		contexts.get(contextId).setCallbackExecutor(executor);
+	}
+
+	/**
+	 * Count of async requests of the context that are sent and not finished yet.
+	 * Subscriptions and app objects count until they end.
+	 *
+	 * @param contextId the context id
+	 * @return the int
+	 */
+	public static int requestsInFlight(int contextId) {
+		return contexts.get(contextId).requestsInFlight();
+	}
+
+	/**
+	 * Admission counters of the context.
+	 *
+	 * @param contextId the context id
+	 * @return the admission stats
+	 */
+	public static AdmissionStats admissionStats(int contextId) {
+		return contexts.get(contextId).admissionStats();
+	}
+
+	/**
+	 * Snapshot of counters of the native memory used to pass requests to EVER-SDK.
+	 * Pool is shared between all contexts.
+	 *
+	 * @return the native memory stats
+	 */
+	public static NativeMemoryStats nativeMemoryStats() {
+		var pool = NativeBufferPool.SHARED;
+		return new NativeMemoryStats(pool.hits(), pool.misses(), pool.bytesReserved(), NativeMethods.internedFunctionNames());
 	}
 
 	/**
@@ -195,6 +306,18 @@ public class EverSdk {
 	 * @throws EverSdkException the ever sdk exception
 	 */
 	public static int createWithConfig(Client.ClientConfig config) throws EverSdkException {
+		return createWithConfig(config, EverSdkContext.DEFAULT_REQUEST_SLOTS);
+	}
+
+	/**
+	 * Helper method to create new context from existing config object
+	 *
+	 * @param config       config object
+	 * @param requestSlots count of preallocated request slots, requests above it are kept in a slower map
+	 * @return context_id for future usage
+	 * @throws EverSdkException the ever sdk exception
+	 */
+	public static int createWithConfig(Client.ClientConfig config, int requestSlots) throws EverSdkException {
 		var mergedConfig = new Client.ClientConfig(new Client.BindingConfig(DefaultLoader.BINDING_LIBRARY_NAME,
 		                                                                    DefaultLoader.BINDING_LIBRARY_VERSION),
 		                                           config.network(),
@@ -218,7 +341,7 @@ public class EverSdk {
 					                                                            "FUNC:sdk.tc_create_context result is empty!"));
 				}
 				int ctxId = contextId.get();
-				contexts.put(ctxId, new EverSdkContext(ctxId, mergedConfig));
+				contexts.put(ctxId, new EverSdkContext(ctxId, mergedConfig, requestSlots));
 				logger.log(System.Logger.Level.TRACE,
 				           () -> "FUNC:sdk.tc_create_context CTX:%d JSON:%s".formatted(ctxId, mergedJson));
 				return ctxId;
@@ -329,6 +452,97 @@ public class EverSdk {
 	public record ResultOfCreateContext(Integer result, String error) {
 	}
 
+	/**
+	 * Counters of native request memory.
+	 *
+	 * @param poolHits              requests that reused pooled native buffer
+	 * @param poolMisses            requests that needed new native allocation
+	 * @param bytesReserved         native memory currently held by the pool
+	 * @param internedFunctionNames count of function names that are allocated once and reused
+	 */
+	public record NativeMemoryStats(long poolHits, long poolMisses, long bytesReserved, int internedFunctionNames) {
+	}
+
+	/**
+	 * What happens with a request when its context or function group has no free in-flight slots.
+	 */
+	public enum AdmissionMode {
+		/**
+		 * Calling thread waits for a free slot up to waitTimeoutMillis, then gets -408 error.
+		 */
+		BLOCK,
+		/**
+		 * Request fails immediately with -429 error.
+		 */
+		FAIL_FAST,
+		/**
+		 * Request is queued and sent as soon as a slot is free, caller gets its future right away.
+		 * If queue is longer than maxQueued, request fails with -429 error.
+		 */
+		ASYNC_WAIT
+	}
+
+	/**
+	 * Limits of requests in flight for a context. Request stays in flight until its finished
+	 * upcall, so long-living requests like subscriptions hold their slot until they end.
+	 *
+	 * @param mode                admission mode
+	 * @param maxInFlight         max requests in flight for the whole context, 0 for unlimited
+	 * @param maxInFlightPerGroup max requests in flight per function group, like "net", "crypto", "tvm"
+	 * @param maxQueued           max queued requests in ASYNC_WAIT mode, 0 for unlimited
+	 * @param waitTimeoutMillis   max wait in BLOCK mode, 0 to use {@link EverSdk#timeout}
+	 */
+	public record AdmissionLimits(AdmissionMode mode,
+	                              int maxInFlight,
+	                              Map<String, Integer> maxInFlightPerGroup,
+	                              int maxQueued,
+	                              long waitTimeoutMillis) {
+		public AdmissionLimits {
+			Objects.requireNonNull(mode);
+			maxInFlightPerGroup = maxInFlightPerGroup == null ? Map.of() : Map.copyOf(maxInFlightPerGroup);
+		}
+
+		/**
+		 * Limits only the total count of requests in flight of the context.
+		 *
+		 * @param mode        admission mode
+		 * @param maxInFlight max requests in flight
+		 * @return the admission limits
+		 */
+		public static AdmissionLimits of(AdmissionMode mode, int maxInFlight) {
+			return new AdmissionLimits(mode, maxInFlight, Map.of(), 0, 0L);
+		}
+
+		/**
+		 * Copy of these limits with the limit for a function group added.
+		 *
+		 * @param group       function group, module name like "net"
+		 * @param maxInFlight max requests in flight of the group
+		 * @return the admission limits
+		 */
+		public AdmissionLimits withGroup(String group, int maxInFlight) {
+			var groups = new HashMap<>(maxInFlightPerGroup());
+			groups.put(group, maxInFlight);
+			return new AdmissionLimits(mode(), maxInFlight(), groups, maxQueued(), waitTimeoutMillis());
+		}
+	}
+
+	/**
+	 * Admission counters of a context.
+	 *
+	 * @param limits           current limits, null if context is not limited
+	 * @param inFlight         requests of the context that are sent and not finished yet
+	 * @param queued           requests waiting for a slot, both blocked callers and async queue
+	 * @param rejected         requests failed by admission, because of limits or wait timeout
+	 * @param inFlightPerGroup requests in flight per limited function group
+	 */
+	public record AdmissionStats(AdmissionLimits limits,
+	                             int inFlight,
+	                             int queued,
+	                             long rejected,
+	                             Map<String, Integer> inFlightPerGroup) {
+	}
+
 	/**
 	 * The type Builder.
 	 */
@@ -365,6 +579,10 @@ public class EverSdk {
 		private Long firstRempStatusTimeout = null; // 1000L;
 		private Long nextRempStatusTimeout = null; // 5000L;
 		private Long signatureId = null;
+		//Binding-side limits, not passed to EVER-SDK
+		private AdmissionLimits admissionLimits = null;
+		private Executor callbackExecutor = null;
+		private int requestSlots = EverSdkContext.DEFAULT_REQUEST_SLOTS;
 
 		/**
 		 * Instantiates a new Builder.
@@ -638,6 +856,41 @@ public class EverSdk {
 			return this;
 		}
 
+		/**
+		 * Limits of requests in flight for the new context.
+		 *
+		 * @param admissionLimits the admission limits
+		 * @return the builder
+		 */
+		public Builder admissionLimits(AdmissionLimits admissionLimits) {
+			this.admissionLimits = admissionLimits;
+			return this;
+		}
+
+		/**
+		 * Executor of subscription and app object callbacks of the new context.
+		 *
+		 * @param callbackExecutor the executor
+		 * @return the builder
+		 * @see EverSdk#setCallbackExecutor(int, Executor)
+		 */
+		public Builder callbackExecutor(Executor callbackExecutor) {
+			this.callbackExecutor = callbackExecutor;
+			return this;
+		}
+
+		/**
+		 * Count of preallocated request slots of the new context. It isn't a limit, requests above it
+		 * are kept in a slower map, so it should be close to the usual count of requests in flight.
+		 *
+		 * @param requestSlots count of slots, rounded up to power of two
+		 * @return the builder
+		 */
+		public Builder requestSlots(int requestSlots) {
+			this.requestSlots = requestSlots;
+			return this;
+		}
+
 		/**
 		 * Abi message expiration timeout builder.
 		 *
@@ -753,7 +1006,14 @@ public class EverSdk {
 			                                     buildBocConfig(),
 			                                     buildProofsConfig(),
 			                                     this.localStoragePath);
-			return createWithConfig(config);
+			int ctxId = createWithConfig(config, this.requestSlots);
+			if (this.admissionLimits != null) {
+				setAdmissionLimits(ctxId, this.admissionLimits);
+			}
+			if (this.callbackExecutor != null) {
+				setCallbackExecutor(ctxId, this.callbackExecutor);
+			}
+			return ctxId;
 		}
 
 	}
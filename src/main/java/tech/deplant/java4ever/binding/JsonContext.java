@@ -11,6 +11,7 @@ import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import tech.deplant.commons.Objs;
+import tech.deplant.java4ever.binding.codec.SdkCodecs;
 
 import java.io.IOException;
 import java.util.Map;
@@ -33,6 +34,8 @@ public class JsonContext {
 			                     .addModule(new ParameterNamesModule())
 			                     .addModule(new Jdk8Module())
 			                     .addModule(new JavaTimeModule())
+			                     // generated streaming codecs of SDK records, see ParserEngine
+			                     .addModule(SdkCodecs.module())
 			                     .build()
 			                     .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
 			                     .setSerializationInclusion(NON_NULL);
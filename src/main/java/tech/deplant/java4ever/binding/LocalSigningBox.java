@@ -0,0 +1,26 @@
+package tech.deplant.java4ever.binding;
+
+import tech.deplant.java4ever.binding.crypto.Ed25519;
+
+/**
+ * Signing box that signs in-process with {@link Ed25519}, so EVER-SDK functions that take
+ * {@code Abi.Signer.SigningBox} don't need the secret key itself.
+ */
+public class LocalSigningBox extends AppSigningBox {
+
+	private final Ed25519 signer;
+
+	public LocalSigningBox(Crypto.KeyPair keys) {
+		this.signer = Ed25519.of(keys);
+	}
+
+	@Override
+	public String getPublicKey() {
+		return this.signer.publicKey();
+	}
+
+	@Override
+	public String sign(String unsigned) {
+		return this.signer.signDetached(unsigned);
+	}
+}
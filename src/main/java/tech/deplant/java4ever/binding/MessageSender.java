@@ -0,0 +1,461 @@
+package tech.deplant.java4ever.binding;
+
+import tech.deplant.java4ever.binding.boc.BagOfCells;
+import tech.deplant.java4ever.binding.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pipelined sending of external messages through {@code processing.send_messages} and a monitoring queue.
+ * <p>
+ * Messages are encoded in parallel and coalesced into batches like {@link QueryBatcher} does it with queries:
+ * the first message of a batch starts the window, the batch is sent when the window ends or when it reaches
+ * the max size. Every batch is sent by {@link Processing#sendMessages} to the same monitoring queue.
+ * A single poller keeps one {@link Processing#fetchNextMonitorResults} call with
+ * {@code AtLeastOne} wait mode while there are monitored messages and completes the future of each message
+ * by its hash, so no thread is blocked per message.
+ * <p>
+ * Future completes with {@link Processing.MessageMonitoringResult} both when message is
+ * {@code Finalized} and when it's expired ({@code Timeout}), check its status and transaction.
+ *
+ * <pre>{@code
+ * try (var sender = MessageSender.create(ctx, 5_000L, 100)) {
+ *     var result = sender.sendExternalMessage(dst, null, body, null, expireAt);
+ * }
+ * }</pre>
+ */
+public final class MessageSender implements AutoCloseable {
+
+	private final static System.Logger logger = System.getLogger(MessageSender.class.getName());
+
+	private final static AtomicInteger QUEUE_COUNTER = new AtomicInteger();
+
+	private final static int SENDING = 0;
+	private final static int MONITORED = 1;
+	private final static int SETTLED = 2;
+
+	private final int contextId;
+	private final String queue;
+	private final Executor encodeExecutor;
+	private final MonitorCalls calls;
+	private final WindowedBatcher<Pending> batcher;
+	// sent or being sent messages by hash
+	private final Map<String, Pending> unresolved = new ConcurrentHashMap<>();
+	// count of messages accepted by processing.send_messages that have no results yet
+	private final AtomicLong monitored = new AtomicLong();
+	private final AtomicBoolean polling = new AtomicBoolean();
+	private final LatencyHistogram batchSizes = new LatencyHistogram();
+	private final LatencyHistogram sendNanos = new LatencyHistogram();
+	private final LatencyHistogram resolvedNanos = new LatencyHistogram();
+	private final LongAdder sent = new LongAdder();
+	private final LongAdder resolved = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final long createdNanos = System.nanoTime();
+
+	MessageSender(int contextId,
+	              long windowMicros,
+	              int maxBatchSize,
+	              Executor encodeExecutor,
+	              MonitorCalls calls) {
+		this.contextId = contextId;
+		this.queue = "java4ever-message-sender-" + QUEUE_COUNTER.incrementAndGet();
+		this.encodeExecutor = encodeExecutor;
+		this.calls = calls;
+		this.batcher = new WindowedBatcher<>(windowMicros, maxBatchSize, this::send);
+	}
+
+	/**
+	 * Creates the sender that encodes messages on virtual threads.
+	 *
+	 * @param contextId    the context id
+	 * @param windowMicros how long the first message of a batch waits for others, microseconds
+	 * @param maxBatchSize batch is sent right away when it has this count of messages
+	 * @return the message sender
+	 */
+	public static MessageSender create(int contextId, long windowMicros, int maxBatchSize) {
+		return create(contextId, windowMicros, maxBatchSize, Thread::startVirtualThread);
+	}
+
+	/**
+	 * Creates the sender.
+	 *
+	 * @param contextId      the context id
+	 * @param windowMicros   how long the first message of a batch waits for others, microseconds
+	 * @param maxBatchSize   batch is sent right away when it has this count of messages
+	 * @param encodeExecutor executor of synchronous encoding calls
+	 * @return the message sender
+	 */
+	public static MessageSender create(int contextId, long windowMicros, int maxBatchSize, Executor encodeExecutor) {
+		return new MessageSender(contextId, windowMicros, maxBatchSize, encodeExecutor, new MonitorCalls() {
+			@Override
+			public CompletableFuture<Processing.ResultOfSendMessages> sendMessages(Processing.MessageSendingParams[] messages,
+			                                                                       String queue) throws EverSdkException {
+				return Processing.sendMessages(contextId, messages, queue);
+			}
+
+			@Override
+			public CompletableFuture<Processing.ResultOfFetchNextMonitorResults> fetchNextMonitorResults(String queue) throws EverSdkException {
+				return Processing.fetchNextMonitorResults(contextId, queue, Processing.MonitorFetchWaitMode.AtLeastOne);
+			}
+
+			@Override
+			public void cancelMonitor(String queue) throws EverSdkException {
+				Processing.cancelMonitor(contextId, queue);
+			}
+		});
+	}
+
+	/**
+	 * Name of monitoring queue of this sender.
+	 *
+	 * @return the queue name
+	 */
+	public String queue() {
+		return this.queue;
+	}
+
+	/**
+	 * Sends encoded message. Hash of message is computed locally.
+	 *
+	 * @param messageBoc message BOC encoded in base64
+	 * @param waitUntil  expiration time of message, UNIX timestamp in seconds
+	 * @return the future of monitoring result
+	 */
+	public CompletableFuture<Processing.MessageMonitoringResult> sendMessage(String messageBoc, long waitUntil) {
+		String hash;
+		try {
+			hash = BagOfCells.fromBase64(messageBoc).hashHex();
+		} catch (IllegalArgumentException e) {
+			return CompletableFuture.failedFuture(new EverSdkException(new EverSdkException.ErrorResult(-500,
+			                                                                                            "Message BOC can't be parsed! " +
+			                                                                                            e.getMessage()),
+			                                                           e));
+		}
+		return submit(messageBoc, hash, waitUntil);
+	}
+
+	/**
+	 * Encodes message with {@link Abi#encodeMessage} and sends it.
+	 *
+	 * @param params    encoding parameters
+	 * @param waitUntil expiration time of message, UNIX timestamp in seconds
+	 * @return the future of monitoring result
+	 */
+	public CompletableFuture<Processing.MessageMonitoringResult> sendMessage(Abi.ParamsOfEncodeMessage params,
+	                                                                        long waitUntil) {
+		try {
+			return Abi.encodeMessage(this.contextId,
+			                         params.abi(),
+			                         params.address(),
+			                         params.deploySet(),
+			                         params.callSet(),
+			                         params.signer(),
+			                         params.processingTryIndex(),
+			                         params.signatureId())
+			          .thenCompose(encoded -> submit(encoded.message(), encoded.messageId(), waitUntil));
+		} catch (EverSdkException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * Pipelined version of {@link EverSdk#sendExternalMessage}: message is encoded by
+	 * {@link Boc#encodeExternalInMessage} on encode executor and sent with the current batch.
+	 *
+	 * @param dstAddress         destination address
+	 * @param stateInit          state init BOC or null
+	 * @param messageBody        message body BOC or null
+	 * @param optionalSrcAddress source address or null
+	 * @param waitUntil          expiration time of message, UNIX timestamp in seconds
+	 * @return the future of monitoring result
+	 */
+	public CompletableFuture<Processing.MessageMonitoringResult> sendExternalMessage(String dstAddress,
+	                                                                                String stateInit,
+	                                                                                String messageBody,
+	                                                                                String optionalSrcAddress,
+	                                                                                long waitUntil) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return Boc.encodeExternalInMessage(this.contextId,
+				                                   optionalSrcAddress,
+				                                   dstAddress,
+				                                   stateInit,
+				                                   messageBody,
+				                                   null);
+			} catch (EverSdkException e) {
+				throw new CompletionException(e);
+			}
+		}, this.encodeExecutor).thenCompose(encoding -> encoding).thenCompose(encoded -> submit(encoded.message(),
+		                                                                                        encoded.messageId(),
+		                                                                                        waitUntil));
+	}
+
+	private CompletableFuture<Processing.MessageMonitoringResult> submit(String boc, String hash, long waitUntil) {
+		var message = new Pending(new Processing.MessageSendingParams(boc, waitUntil, null),
+		                          hash,
+		                          new CompletableFuture<>(),
+		                          System.nanoTime(),
+		                          new AtomicInteger(SENDING));
+		if (!this.batcher.add(message)) {
+			return CompletableFuture.failedFuture(new EverSdkException(new EverSdkException.ErrorResult(-500,
+			                                                                                            "Message sender is closed!")));
+		}
+		return message.future();
+	}
+
+	private void send(List<Pending> batch) {
+		final long sentNanos = System.nanoTime();
+		var messages = new ArrayList<Pending>(batch.size());
+		for (var message : batch) {
+			// registered before sending, so result can't come before its future is known
+			var same = this.unresolved.putIfAbsent(message.hash(), message);
+			if (null == same) {
+				messages.add(message);
+			} else {
+				// the same message is already on its way, it will be resolved once
+				same.future().whenComplete((result, ex) -> {
+					if (ex != null) {
+						message.future().completeExceptionally(ex);
+					} else {
+						message.future().complete(result);
+					}
+				});
+			}
+		}
+		if (messages.isEmpty()) {
+			return;
+		}
+		var params = new Processing.MessageSendingParams[messages.size()];
+		for (int i = 0; i < params.length; i++) {
+			params[i] = messages.get(i).params();
+		}
+		this.batchSizes.record(params.length);
+		try {
+			this.calls.sendMessages(params, this.queue).whenComplete((result, ex) -> {
+				this.sendNanos.record(System.nanoTime() - sentNanos);
+				if (ex != null) {
+					logger.log(System.Logger.Level.WARNING,
+					           () -> "CTX:%d Sending of %d messages failed! %s".formatted(this.contextId,
+					                                                                     params.length,
+					                                                                     ex.toString()));
+					messages.forEach(message -> fail(message, ex));
+				} else {
+					this.sent.add(params.length);
+					// result of message could be fetched already by the poll of a previous batch
+					for (var message : messages) {
+						if (message.state().compareAndSet(SENDING, MONITORED)) {
+							this.monitored.incrementAndGet();
+						}
+					}
+					startPolling();
+				}
+			});
+		} catch (EverSdkException | RuntimeException e) {
+			// sender may run on the batcher timer, nothing else would complete the futures
+			logger.log(System.Logger.Level.WARNING,
+			           () -> "CTX:%d Sending of %d messages failed! %s".formatted(this.contextId,
+			                                                                     params.length,
+			                                                                     e.toString()));
+			messages.forEach(message -> fail(message, e));
+		}
+	}
+
+	private void fail(Pending message, Throwable ex) {
+		if (this.unresolved.remove(message.hash(), message)) {
+			this.failed.increment();
+			settle(message);
+		}
+		message.future().completeExceptionally(ex);
+	}
+
+	// message leaves the monitored count only if it was counted
+	private void settle(Pending message) {
+		if (message.state().getAndSet(SETTLED) == MONITORED) {
+			this.monitored.decrementAndGet();
+		}
+	}
+
+	// only one fetch is in flight, the next one is started when it completes
+	private void startPolling() {
+		if (this.monitored.get() > 0 && this.polling.compareAndSet(false, true)) {
+			poll();
+		}
+	}
+
+	private void poll() {
+		CompletableFuture<Processing.ResultOfFetchNextMonitorResults> next;
+		try {
+			next = this.calls.fetchNextMonitorResults(this.queue);
+		} catch (EverSdkException e) {
+			next = CompletableFuture.failedFuture(e);
+		}
+		next.whenComplete((result, ex) -> {
+			if (ex != null) {
+				// monitoring queue can't be read, so none of its messages will be resolved
+				logger.log(System.Logger.Level.WARNING,
+				           () -> "CTX:%d Fetching results of queue %s failed! %s".formatted(this.contextId,
+				                                                                           this.queue,
+				                                                                           ex.toString()));
+				this.unresolved.values().forEach(message -> fail(message, ex));
+			} else if (null != result.results()) {
+				resolve(result.results());
+			}
+			this.polling.set(false);
+			// results could come for messages sent while the fetch was in flight
+			startPolling();
+		});
+	}
+
+	private void resolve(Processing.MessageMonitoringResult[] results) {
+		final long resolvedAt = System.nanoTime();
+		for (var result : results) {
+			var message = this.unresolved.remove(result.hash());
+			if (null == message) {
+				logger.log(System.Logger.Level.DEBUG,
+				           () -> "CTX:%d Result of unknown message %s".formatted(this.contextId, result.hash()));
+				continue;
+			}
+			settle(message);
+			this.resolvedNanos.record(resolvedAt - message.submittedNanos());
+			this.resolved.increment();
+			message.future().complete(result);
+		}
+	}
+
+	/**
+	 * Count of messages in sent batches.
+	 * Histogram of latencies is reused for counts, values under 32 have buckets of their own,
+	 * so percentiles of usual batch sizes are exact.
+	 *
+	 * @return the histogram
+	 */
+	public LatencyHistogram batchSizes() {
+		return this.batchSizes;
+	}
+
+	/**
+	 * Time of {@code processing.send_messages} calls, nanoseconds.
+	 *
+	 * @return the histogram
+	 */
+	public LatencyHistogram sendNanos() {
+		return this.sendNanos;
+	}
+
+	/**
+	 * Time from submitting of message to its monitoring result, nanoseconds.
+	 *
+	 * @return the histogram
+	 */
+	public LatencyHistogram resolvedNanos() {
+		return this.resolvedNanos;
+	}
+
+	/**
+	 * Count of messages accepted by {@code processing.send_messages}.
+	 *
+	 * @return the count
+	 */
+	public long sentCount() {
+		return this.sent.sum();
+	}
+
+	/**
+	 * Count of messages with monitoring results.
+	 *
+	 * @return the count
+	 */
+	public long resolvedCount() {
+		return this.resolved.sum();
+	}
+
+	/**
+	 * Count of messages that failed to be sent or monitored.
+	 *
+	 * @return the count
+	 */
+	public long failedCount() {
+		return this.failed.sum();
+	}
+
+	/**
+	 * Count of messages that wait for sending or for monitoring result.
+	 *
+	 * @return the count
+	 */
+	public int unresolvedCount() {
+		return this.unresolved.size();
+	}
+
+	// true while fetch of monitoring results is in flight
+	boolean polling() {
+		return this.polling.get();
+	}
+
+	/**
+	 * Resolved messages per second since the sender was created.
+	 *
+	 * @return the throughput
+	 */
+	public double throughput() {
+		long elapsed = System.nanoTime() - this.createdNanos;
+		return elapsed == 0 ? 0.0 : resolvedCount() * 1_000_000_000.0 / elapsed;
+	}
+
+	/**
+	 * Stops monitoring and fails futures of all unresolved messages. Messages that are already sent
+	 * will still be processed by the network.
+	 */
+	public void cancel() {
+		close();
+		try {
+			this.calls.cancelMonitor(this.queue);
+		} catch (EverSdkException e) {
+			logger.log(System.Logger.Level.WARNING,
+			           () -> "CTX:%d Cancelling of queue %s failed! %s".formatted(this.contextId,
+			                                                                     this.queue,
+			                                                                     e.toString()));
+		}
+		var cancelled = new EverSdkException(new EverSdkException.ErrorResult(-500, "Message monitoring cancelled!"));
+		this.unresolved.values().forEach(message -> fail(message, cancelled));
+	}
+
+	/**
+	 * Sends messages that are waiting for the window and stops accepting new ones.
+	 * Sent messages are still monitored until they're resolved.
+	 */
+	@Override
+	public void close() {
+		this.batcher.close();
+	}
+
+	// processing.* calls of the sender, tests replace them
+	interface MonitorCalls {
+		CompletableFuture<Processing.ResultOfSendMessages> sendMessages(Processing.MessageSendingParams[] messages,
+		                                                                String queue) throws EverSdkException;
+
+		// waits for at least one result
+		CompletableFuture<Processing.ResultOfFetchNextMonitorResults> fetchNextMonitorResults(String queue) throws EverSdkException;
+
+		void cancelMonitor(String queue) throws EverSdkException;
+	}
+
+	// state of message is SENDING until send_messages completes, then MONITORED until its result,
+	// it's SETTLED when resolved or failed
+	private record Pending(Processing.MessageSendingParams params,
+	                       String hash,
+	                       CompletableFuture<Processing.MessageMonitoringResult> future,
+	                       long submittedNanos,
+	                       AtomicInteger state) {
+	}
+}
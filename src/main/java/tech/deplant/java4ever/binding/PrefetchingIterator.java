@@ -0,0 +1,264 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterator over items of EVER-SDK block or transaction iterator that requests next pages
+ * while the current one is consumed.
+ * <p>
+ * EVER-SDK iterator can serve only one {@code net.iterator_next} at a time, so pages are still
+ * fetched one after another, but the next request is sent as soon as the previous page arrives,
+ * up to {@link Options#lookahead()} pages ahead of the consumer.
+ * <p>
+ * If {@link Options#store()} is set, resume state of every {@link Options#checkpointEvery()}-th page
+ * is saved after all items of that page were consumed, and the next iterator created with the same store
+ * resumes from it. Items consumed after the last checkpoint are delivered again after resume.
+ * <p>
+ * Iteration ends on the page that has no more items, i.e. on the end time of the iterator or
+ * on the current chain head if no end time is set. Errors are thrown as {@link CompletionException}
+ * with {@link EverSdkException} cause.
+ *
+ * <pre>{@code
+ * var options = PrefetchingIterator.Options.of(100L, 4).withStore(ResumeStateStore.ofFile(path), 10);
+ * try (var transactions = PrefetchingIterator.ofTransactions(ctx, params, options)) {
+ *     transactions.stream().forEach(indexer::accept);
+ * }
+ * }</pre>
+ */
+public final class PrefetchingIterator implements Iterator<JsonNode>, AutoCloseable {
+
+	private final static System.Logger logger = System.getLogger(PrefetchingIterator.class.getName());
+
+	private final int contextId;
+	private final Net.RegisteredIterator handle;
+	private final Options options;
+	// pages requested ahead of the consumer, each one is chained to the previous
+	private final Deque<CompletableFuture<Page>> ahead = new ArrayDeque<>();
+	private long requestedPages;
+	private Page current;
+	private int index;
+	private boolean ended;
+	private volatile boolean closed;
+
+	private PrefetchingIterator(int contextId, Net.RegisteredIterator handle, Options options) {
+		this.contextId = contextId;
+		this.handle = handle;
+		this.options = options;
+		this.ahead.add(fetch(this.requestedPages++));
+		while (this.ahead.size() < options.lookahead()) {
+			this.ahead.add(chain(this.ahead.peekLast()));
+		}
+	}
+
+	/**
+	 * Iterator over transactions, resumed from the store if it has saved state.
+	 *
+	 * @param contextId the context id
+	 * @param params    iterator params, used when there's nothing to resume from
+	 * @param options   page size, lookahead and checkpoints
+	 * @return the prefetching iterator
+	 * @throws EverSdkException if SDK iterator can't be created
+	 */
+	public static PrefetchingIterator ofTransactions(int contextId,
+	                                                 Net.ParamsOfCreateTransactionIterator params,
+	                                                 Options options) throws EverSdkException {
+		JsonNode resumeState = loadState(options);
+		var handle = null == resumeState ?
+		             EverSdk.await(Net.createTransactionIterator(contextId,
+		                                                         params.startTime(),
+		                                                         params.endTime(),
+		                                                         params.shardFilter(),
+		                                                         params.accountsFilter(),
+		                                                         params.result(),
+		                                                         params.includeTransfers())) :
+		             EverSdk.await(Net.resumeTransactionIterator(contextId, resumeState, params.accountsFilter()));
+		return new PrefetchingIterator(contextId, handle, options);
+	}
+
+	/**
+	 * Iterator over blocks, resumed from the store if it has saved state.
+	 *
+	 * @param contextId the context id
+	 * @param params    iterator params, used when there's nothing to resume from
+	 * @param options   page size, lookahead and checkpoints
+	 * @return the prefetching iterator
+	 * @throws EverSdkException if SDK iterator can't be created
+	 */
+	public static PrefetchingIterator ofBlocks(int contextId,
+	                                           Net.ParamsOfCreateBlockIterator params,
+	                                           Options options) throws EverSdkException {
+		JsonNode resumeState = loadState(options);
+		var handle = null == resumeState ?
+		             EverSdk.await(Net.createBlockIterator(contextId,
+		                                                   params.startTime(),
+		                                                   params.endTime(),
+		                                                   params.shardFilter(),
+		                                                   params.result())) :
+		             EverSdk.await(Net.resumeBlockIterator(contextId, resumeState));
+		return new PrefetchingIterator(contextId, handle, options);
+	}
+
+	private static JsonNode loadState(Options options) throws EverSdkException {
+		if (null == options.store()) {
+			return null;
+		}
+		try {
+			return options.store().load();
+		} catch (IOException e) {
+			throw new EverSdkException(new EverSdkException.ErrorResult(-500, "Iterator resume state load failed!"), e);
+		}
+	}
+
+	private CompletableFuture<Page> chain(CompletableFuture<Page> previous) {
+		final long number = this.requestedPages++;
+		return previous.thenCompose(page -> page.hasMore() && !this.closed ?
+		                                    fetch(number) :
+		                                    CompletableFuture.completedFuture(Page.END));
+	}
+
+	private CompletableFuture<Page> fetch(long number) {
+		boolean checkpoint = null != this.options.store() && (number + 1) % this.options.checkpointEvery() == 0;
+		try {
+			return Net.iteratorNext(this.contextId, this.handle.handle(), this.options.pageSize(), checkpoint)
+			          .thenApply(result -> new Page(null == result.items() ? new JsonNode[0] : result.items(),
+			                                        Boolean.TRUE.equals(result.hasMore()),
+			                                        result.resumeState()));
+		} catch (EverSdkException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (!this.ended && (null == this.current || this.index >= this.current.items().length)) {
+			if (null != this.current) {
+				checkpoint(this.current);
+				if (!this.current.hasMore()) {
+					this.ended = true;
+					break;
+				}
+			}
+			try {
+				this.current = EverSdk.await(this.ahead.poll());
+			} catch (EverSdkException e) {
+				this.ended = true;
+				throw new CompletionException(e);
+			}
+			this.index = 0;
+			// keep the lookahead window full
+			this.ahead.add(chain(null == this.ahead.peekLast() ?
+			                     CompletableFuture.completedFuture(this.current) :
+			                     this.ahead.peekLast()));
+		}
+		return !this.ended;
+	}
+
+	@Override
+	public JsonNode next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return this.current.items()[this.index++];
+	}
+
+	/**
+	 * Sequential stream of the remaining items, closing the stream closes the iterator.
+	 *
+	 * @return the stream
+	 */
+	public Stream<JsonNode> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+		                                                                Spliterator.ORDERED | Spliterator.NONNULL),
+		                            false).onClose(this::close);
+	}
+
+	private void checkpoint(Page page) {
+		if (null == page.resumeState() || null == this.options.store()) {
+			return;
+		}
+		try {
+			this.options.store().save(page.resumeState());
+		} catch (IOException e) {
+			// iteration goes on, next checkpoint may succeed
+			logger.log(System.Logger.Level.WARNING,
+			           () -> "CTX:%d Iterator resume state save failed! %s".formatted(this.contextId, e.toString()));
+		}
+	}
+
+	/**
+	 * Stops prefetching and removes SDK iterator.
+	 */
+	@Override
+	public void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		// pending page request would fail on removed iterator, so it's awaited first
+		CompletableFuture.allOf(this.ahead.toArray(CompletableFuture[]::new)).handle((ignored, ex) -> {
+			try {
+				Net.removeIterator(this.contextId, this.handle);
+			} catch (EverSdkException e) {
+				logger.log(System.Logger.Level.WARNING,
+				           () -> "CTX:%d Iterator removal failed! %s".formatted(this.contextId, e.toString()));
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * Options of prefetching iterator.
+	 *
+	 * @param pageSize        items requested by one net.iterator_next
+	 * @param lookahead       pages requested ahead of the consumer
+	 * @param store           where resume state is saved, null to not save it
+	 * @param checkpointEvery resume state is saved after every this count of pages
+	 */
+	public record Options(long pageSize, int lookahead, ResumeStateStore store, int checkpointEvery) {
+
+		public Options {
+			if (pageSize < 1 || lookahead < 1 || checkpointEvery < 1) {
+				throw new IllegalArgumentException("Page size, lookahead and checkpoint interval should be positive!");
+			}
+		}
+
+		/**
+		 * Options without checkpoints.
+		 *
+		 * @param pageSize  items requested by one net.iterator_next
+		 * @param lookahead pages requested ahead of the consumer
+		 * @return the options
+		 */
+		public static Options of(long pageSize, int lookahead) {
+			return new Options(pageSize, lookahead, null, 1);
+		}
+
+		/**
+		 * Copy of options with checkpoints.
+		 *
+		 * @param store           where resume state is saved
+		 * @param checkpointEvery resume state is saved after every this count of pages
+		 * @return the options
+		 */
+		public Options withStore(ResumeStateStore store, int checkpointEvery) {
+			return new Options(pageSize(), lookahead(), Objects.requireNonNull(store), checkpointEvery);
+		}
+	}
+
+	private record Page(JsonNode[] items, boolean hasMore, JsonNode resumeState) {
+		private static final Page END = new Page(new JsonNode[0], false, null);
+	}
+}
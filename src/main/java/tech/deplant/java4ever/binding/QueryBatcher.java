@@ -0,0 +1,193 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import tech.deplant.java4ever.binding.metrics.LatencyHistogram;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Coalesces independent queries that are made at about the same time into one {@code net.batch_query}.
+ * <p>
+ * First query of a batch starts the window, the batch is sent when the window ends
+ * or when it reaches the max size, whichever comes first. Each result of the batch completes the future
+ * of the query it belongs to. If the batch fails as a whole, every query of it fails with the same error.
+ * <p>
+ * Batch finishes when all of its queries finish, so long {@code wait_for_collection} queries
+ * delay results of the other queries they were batched with. Use a separate batcher for them.
+ *
+ * <pre>{@code
+ * try (var batcher = QueryBatcher.create(ctx, 2_000L, 50)) {
+ *     var account = batcher.queryCollection("accounts", filter, "id balance", null, 1L);
+ * }
+ * }</pre>
+ */
+public final class QueryBatcher implements AutoCloseable {
+
+	private final static System.Logger logger = System.getLogger(QueryBatcher.class.getName());
+
+	private final int contextId;
+	private final BatchCall call;
+	private final WindowedBatcher<Pending> batcher;
+	private final LatencyHistogram batchSizes = new LatencyHistogram();
+	private final LatencyHistogram batchNanos = new LatencyHistogram();
+	private final LatencyHistogram queuedNanos = new LatencyHistogram();
+
+	QueryBatcher(int contextId, long windowMicros, int maxBatchSize, BatchCall call) {
+		this.contextId = contextId;
+		this.call = call;
+		this.batcher = new WindowedBatcher<>(windowMicros, maxBatchSize, this::send);
+	}
+
+	/**
+	 * Creates the batcher.
+	 *
+	 * @param contextId    the context id
+	 * @param windowMicros how long the first query of a batch waits for others, microseconds
+	 * @param maxBatchSize batch is sent right away when it has this count of queries
+	 * @return the query batcher
+	 */
+	public static QueryBatcher create(int contextId, long windowMicros, int maxBatchSize) {
+		return new QueryBatcher(contextId,
+		                        windowMicros,
+		                        maxBatchSize,
+		                        operations -> Net.batchQuery(contextId, operations));
+	}
+
+	/**
+	 * Batched {@link Net#queryCollection}.
+	 *
+	 * @param collection collection name
+	 * @param filter     collection filter
+	 * @param result     projection (result) string
+	 * @param order      sorting order
+	 * @param limit      number of documents to return
+	 * @return the future of the result
+	 */
+	public CompletableFuture<Net.ResultOfQueryCollection> queryCollection(String collection,
+	                                                                     JsonNode filter,
+	                                                                     String result,
+	                                                                     Net.OrderBy[] order,
+	                                                                     Long limit) {
+		return submit(new Net.ParamsOfQueryCollection(collection, filter, result, order, limit)).thenApply(
+				rows -> new Net.ResultOfQueryCollection(toArray(rows)));
+	}
+
+	/**
+	 * Batched {@link Net#waitForCollection}.
+	 *
+	 * @param collection collection name
+	 * @param filter     collection filter
+	 * @param result     projection (result) string
+	 * @param timeout    query timeout
+	 * @return the future of the result
+	 */
+	public CompletableFuture<Net.ResultOfWaitForCollection> waitForCollection(String collection,
+	                                                                         JsonNode filter,
+	                                                                         String result,
+	                                                                         Long timeout) {
+		return submit(new Net.ParamsOfWaitForCollection(collection, filter, result, timeout)).thenApply(
+				Net.ResultOfWaitForCollection::new);
+	}
+
+	/**
+	 * Adds any query operation to the current batch.
+	 *
+	 * @param operation the operation
+	 * @return the future of the operation value from {@code ResultOfBatchQuery.results}
+	 */
+	public CompletableFuture<JsonNode> submit(Net.ParamsOfQueryOperation operation) {
+		var query = new Pending(operation, new CompletableFuture<>(), System.nanoTime());
+		if (!this.batcher.add(query)) {
+			return CompletableFuture.failedFuture(new EverSdkException(new EverSdkException.ErrorResult(-500,
+			                                                                                            "Query batcher is closed!")));
+		}
+		return query.future();
+	}
+
+	private void send(List<Pending> batch) {
+		final long sentNanos = System.nanoTime();
+		var operations = new Net.ParamsOfQueryOperation[batch.size()];
+		for (int i = 0; i < operations.length; i++) {
+			operations[i] = batch.get(i).operation();
+			this.queuedNanos.record(sentNanos - batch.get(i).submittedNanos());
+		}
+		this.batchSizes.record(operations.length);
+		try {
+			this.call.batchQuery(operations).whenComplete((result, ex) -> {
+				this.batchNanos.record(System.nanoTime() - sentNanos);
+				if (ex != null) {
+					batch.forEach(query -> query.future().completeExceptionally(ex));
+				} else if (null == result.results() || result.results().length != batch.size()) {
+					var mismatch = new EverSdkException(new EverSdkException.ErrorResult(-500,
+					                                                                     "Batch query returned unexpected count of results!"));
+					batch.forEach(query -> query.future().completeExceptionally(mismatch));
+				} else {
+					for (int i = 0; i < batch.size(); i++) {
+						batch.get(i).future().complete(result.results()[i]);
+					}
+				}
+			});
+		} catch (EverSdkException | RuntimeException e) {
+			// sender may run on the batcher timer, nothing else would complete the futures
+			logger.log(System.Logger.Level.WARNING,
+			           () -> "CTX:%d Batch query of %d operations failed! %s".formatted(this.contextId,
+			                                                                           operations.length,
+			                                                                           e.toString()));
+			batch.forEach(query -> query.future().completeExceptionally(e));
+		}
+	}
+
+	private static JsonNode[] toArray(JsonNode rows) {
+		var result = new JsonNode[rows.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = rows.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * Count of queries in sent batches.
+	 * Histogram of latencies is reused for counts, values under 32 have buckets of their own,
+	 * so percentiles of usual batch sizes are exact.
+	 *
+	 * @return the histogram
+	 */
+	public LatencyHistogram batchSizes() {
+		return this.batchSizes;
+	}
+
+	/**
+	 * Time from batch sending to its result, nanoseconds.
+	 *
+	 * @return the histogram
+	 */
+	public LatencyHistogram batchNanos() {
+		return this.batchNanos;
+	}
+
+	/**
+	 * Time that queries spent waiting for their batch to be sent, nanoseconds.
+	 *
+	 * @return the histogram
+	 */
+	public LatencyHistogram queuedNanos() {
+		return this.queuedNanos;
+	}
+
+	/**
+	 * Sends queries that are waiting for the window and stops accepting new ones.
+	 */
+	@Override
+	public void close() {
+		this.batcher.close();
+	}
+
+	// net.batch_query call of the batcher, tests replace it
+	interface BatchCall {
+		CompletableFuture<Net.ResultOfBatchQuery> batchQuery(Net.ParamsOfQueryOperation[] operations) throws EverSdkException;
+	}
+
+	private record Pending(Net.ParamsOfQueryOperation operation, CompletableFuture<JsonNode> future, long submittedNanos) {
+	}
+}
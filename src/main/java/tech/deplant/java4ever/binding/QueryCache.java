@@ -0,0 +1,353 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client-side cache of {@link Net#queryCollection} results that can never change, i.e. blocks,
+ * transactions and messages looked up by their ids.
+ * <p>
+ * Query is cached only when its collection is one of {@link #IMMUTABLE_COLLECTIONS}, its filter
+ * has nothing but {@code id: {eq: ...}} or {@code id: {in: [...]}} and its result doesn't select any of
+ * {@link #MUTABLE_FIELDS}, like message {@code status} or {@code dst_transaction} join. Results are cached
+ * only when every requested id is found, as missing ones may still appear. All other queries go straight to EVER-SDK.
+ * Key is (collection, filter with sorted fields and ids, result, order, limit).
+ * <p>
+ * Cache is bounded by the total size of serialized results, least recently used entries are evicted first.
+ * Entries also expire after TTL. Cached rows are copied on every hit, so callers may modify them.
+ *
+ * <pre>{@code
+ * var cache = QueryCache.create(64L << 20, Duration.ofHours(1));
+ * var block = cache.queryCollection(ctx, "blocks", filterById, "id seq_no gen_utime", null, 1L);
+ * }</pre>
+ */
+public final class QueryCache {
+
+	/**
+	 * Collections whose rows aren't changed once they're found by id.
+	 */
+	public static final Set<String> IMMUTABLE_COLLECTIONS = Set.of("blocks", "transactions", "messages");
+
+	/**
+	 * Fields of {@link #IMMUTABLE_COLLECTIONS} that still change after row is found: processing status
+	 * and joins to other rows, which may appear later.
+	 */
+	public static final Map<String, Set<String>> MUTABLE_FIELDS = Map.of("blocks",
+	                                                                     Set.of("status", "status_name", "signatures"),
+	                                                                     "transactions",
+	                                                                     Set.of("status",
+	                                                                            "status_name",
+	                                                                            "in_message",
+	                                                                            "out_messages",
+	                                                                            "account"),
+	                                                                     "messages",
+	                                                                     Set.of("status",
+	                                                                            "status_name",
+	                                                                            "src_transaction",
+	                                                                            "dst_transaction",
+	                                                                            "src_account",
+	                                                                            "dst_account"));
+
+	private final static System.Logger logger = System.getLogger(QueryCache.class.getName());
+
+	private final long maxBytes;
+	private final long ttlNanos;
+	private final ReentrantLock lock = new ReentrantLock();
+	// access-ordered, so iteration starts from the least recently used entry
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder bypasses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	// guarded by lock
+	private long bytes;
+
+	private QueryCache(long maxBytes, long ttlNanos) {
+		this.maxBytes = maxBytes;
+		this.ttlNanos = ttlNanos;
+	}
+
+	/**
+	 * Creates the cache.
+	 *
+	 * @param maxBytes max total size of serialized cached results
+	 * @param ttl      how long entries are kept
+	 * @return the query cache
+	 */
+	public static QueryCache create(long maxBytes, Duration ttl) {
+		if (maxBytes < 1 || ttl.isNegative() || ttl.isZero()) {
+			throw new IllegalArgumentException("Cache size and TTL should be positive!");
+		}
+		return new QueryCache(maxBytes, ttl.toNanos());
+	}
+
+	/**
+	 * {@link Net#queryCollection} that is served from the cache when the query targets immutable ids.
+	 *
+	 * @param contextId  the context id
+	 * @param collection collection name
+	 * @param filter     collection filter
+	 * @param result     projection (result) string
+	 * @param order      sorting order
+	 * @param limit      number of documents to return
+	 * @return the future of the result
+	 * @throws EverSdkException if query can't be sent
+	 */
+	public CompletableFuture<Net.ResultOfQueryCollection> queryCollection(int contextId,
+	                                                                     String collection,
+	                                                                     JsonNode filter,
+	                                                                     String result,
+	                                                                     Net.OrderBy[] order,
+	                                                                     Long limit) throws EverSdkException {
+		final int ids = immutableProjection(collection, result) ? idCount(collection, filter) : 0;
+		if (ids == 0) {
+			this.bypasses.increment();
+			return Net.queryCollection(contextId, collection, filter, result, order, limit);
+		}
+		final String key = key(collection, filter, result, order, limit);
+		JsonNode[] cached = get(key);
+		if (null != cached) {
+			this.hits.increment();
+			return CompletableFuture.completedFuture(new Net.ResultOfQueryCollection(copy(cached)));
+		}
+		this.misses.increment();
+		return Net.queryCollection(contextId, collection, filter, result, order, limit).thenApply(found -> {
+			if (null != found.result() && found.result().length == ids) {
+				put(key, copy(found.result()));
+			}
+			return found;
+		});
+	}
+
+	// count of ids of cacheable query, zero if query shouldn't be cached
+	static int idCount(String collection, JsonNode filter) {
+		if (!IMMUTABLE_COLLECTIONS.contains(collection) || null == filter || filter.size() != 1) {
+			return 0;
+		}
+		JsonNode id = filter.get("id");
+		if (null == id || id.size() != 1) {
+			return 0;
+		}
+		if (id.get("eq") instanceof JsonNode eq && eq.isTextual()) {
+			return 1;
+		}
+		if (id.get("in") instanceof ArrayNode in && !in.isEmpty()) {
+			Set<String> distinct = new HashSet<>();
+			for (JsonNode value : in) {
+				if (!value.isTextual()) {
+					return 0;
+				}
+				distinct.add(value.asText());
+			}
+			// duplicate ids return one row
+			return distinct.size();
+		}
+		return 0;
+	}
+
+	// true if result selects only fields that don't change, nested selections of immutable fields are allowed
+	static boolean immutableProjection(String collection, String result) {
+		Set<String> mutable = MUTABLE_FIELDS.get(collection);
+		if (null == mutable || null == result || result.isBlank()) {
+			return false;
+		}
+		int depth = 0;
+		int start = -1;
+		for (int i = 0; i <= result.length(); i++) {
+			char c = i < result.length() ? result.charAt(i) : ' ';
+			boolean nameChar = Character.isLetterOrDigit(c) || c == '_';
+			if (nameChar) {
+				if (start < 0) {
+					start = i;
+				}
+				continue;
+			}
+			if (start >= 0 && depth == 0 && mutable.contains(result.substring(start, i))) {
+				return false;
+			}
+			start = -1;
+			if (c == '{' || c == '(') {
+				depth++;
+			} else if (c == '}' || c == ')') {
+				depth--;
+			}
+		}
+		return true;
+	}
+
+	static String key(String collection, JsonNode filter, String result, Net.OrderBy[] order, Long limit) {
+		try {
+			return collection + '\u0000' +
+			       JsonContext.SDK_JSON_MAPPER().writeValueAsString(normalized(filter)) + '\u0000' +
+			       Objects.requireNonNullElse(result, "").trim().replaceAll("\\s+", " ") + '\u0000' +
+			       JsonContext.SDK_JSON_MAPPER().writeValueAsString(order) + '\u0000' +
+			       limit;
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Query can't be serialized to cache key!", e);
+		}
+	}
+
+	// same filter with fields sorted by name and ids of "in" sorted, so equal queries get equal keys
+	private static JsonNode normalized(JsonNode node) {
+		if (node instanceof ObjectNode object) {
+			List<Map.Entry<String, JsonNode>> fields = new ArrayList<>();
+			object.fields().forEachRemaining(fields::add);
+			fields.sort(Map.Entry.comparingByKey());
+			ObjectNode sorted = JsonNodeFactory.instance.objectNode();
+			for (var field : fields) {
+				JsonNode value = normalized(field.getValue());
+				if ("in".equals(field.getKey()) && value instanceof ArrayNode array) {
+					List<JsonNode> values = new ArrayList<>();
+					array.forEach(values::add);
+					values.sort(Comparator.comparing(JsonNode::asText));
+					value = JsonNodeFactory.instance.arrayNode().addAll(values);
+				}
+				sorted.set(field.getKey(), value);
+			}
+			return sorted;
+		}
+		return node;
+	}
+
+	JsonNode[] get(String key) {
+		this.lock.lock();
+		try {
+			Entry entry = this.entries.get(key);
+			if (null == entry) {
+				return null;
+			}
+			if (System.nanoTime() - entry.storedNanos() > this.ttlNanos) {
+				remove(key, entry);
+				return null;
+			}
+			return entry.rows();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	void put(String key, JsonNode[] rows) {
+		long weight;
+		try {
+			weight = key.length() + JsonContext.SDK_JSON_MAPPER().writeValueAsBytes(rows).length;
+		} catch (JsonProcessingException e) {
+			logger.log(System.Logger.Level.WARNING, () -> "Query result can't be weighed, not cached! " + e);
+			return;
+		}
+		if (weight > this.maxBytes) {
+			return;
+		}
+		this.lock.lock();
+		try {
+			Entry previous = this.entries.put(key, new Entry(rows, weight, System.nanoTime()));
+			if (null != previous) {
+				this.bytes -= previous.bytes();
+			}
+			this.bytes += weight;
+			Iterator<Map.Entry<String, Entry>> eldest = this.entries.entrySet().iterator();
+			while (this.bytes > this.maxBytes && eldest.hasNext()) {
+				this.bytes -= eldest.next().getValue().bytes();
+				eldest.remove();
+				this.evictions.increment();
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void remove(String key, Entry entry) {
+		this.entries.remove(key);
+		this.bytes -= entry.bytes();
+	}
+
+	private static JsonNode[] copy(JsonNode[] rows) {
+		var copy = new JsonNode[rows.length];
+		for (int i = 0; i < rows.length; i++) {
+			copy[i] = rows[i].deepCopy();
+		}
+		return copy;
+	}
+
+	/**
+	 * Removes all entries, counters are kept.
+	 */
+	public void clear() {
+		this.lock.lock();
+		try {
+			this.entries.clear();
+			this.bytes = 0L;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Count of queries served from the cache.
+	 *
+	 * @return the long
+	 */
+	public long hits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Count of cacheable queries that were sent to EVER-SDK.
+	 *
+	 * @return the long
+	 */
+	public long misses() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Count of queries that can't be cached, like queries of accounts.
+	 *
+	 * @return the long
+	 */
+	public long bypasses() {
+		return this.bypasses.sum();
+	}
+
+	/**
+	 * Count of entries evicted to fit the size limit.
+	 *
+	 * @return the long
+	 */
+	public long evictions() {
+		return this.evictions.sum();
+	}
+
+	/**
+	 * Total size of cached entries.
+	 *
+	 * @return the long
+	 */
+	public long bytes() {
+		this.lock.lock();
+		try {
+			return this.bytes;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private record Entry(JsonNode[] rows, long bytes, long storedNanos) {
+	}
+}
@@ -0,0 +1,76 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Storage of the resume state of EVER-SDK block or transaction iterator.
+ * {@link PrefetchingIterator} saves state here from time to time and loads it on start,
+ * so iteration continues from the last checkpoint after a restart.
+ */
+public interface ResumeStateStore {
+
+	/**
+	 * Store that keeps the state in memory, useful to move iteration to another context.
+	 *
+	 * @return the resume state store
+	 */
+	static ResumeStateStore inMemory() {
+		var state = new AtomicReference<JsonNode>();
+		return new ResumeStateStore() {
+			@Override
+			public JsonNode load() {
+				return state.get();
+			}
+
+			@Override
+			public void save(JsonNode resumeState) {
+				state.set(resumeState);
+			}
+		};
+	}
+
+	/**
+	 * Store that keeps the state as JSON file. File is replaced atomically, so a crash during
+	 * save leaves the previous checkpoint intact.
+	 *
+	 * @param path the file path
+	 * @return the resume state store
+	 */
+	static ResumeStateStore ofFile(Path path) {
+		return new ResumeStateStore() {
+			@Override
+			public JsonNode load() throws IOException {
+				return Files.exists(path) ? JsonContext.SDK_JSON_MAPPER().readTree(path.toFile()) : null;
+			}
+
+			@Override
+			public void save(JsonNode resumeState) throws IOException {
+				Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+				Files.write(temp, JsonContext.SDK_JSON_MAPPER().writeValueAsBytes(resumeState));
+				Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+		};
+	}
+
+	/**
+	 * Last saved state.
+	 *
+	 * @return the resume state or null if nothing was saved
+	 * @throws IOException if storage can't be read
+	 */
+	JsonNode load() throws IOException;
+
+	/**
+	 * Saves the state.
+	 *
+	 * @param resumeState the resume state returned by net.iterator_next
+	 * @throws IOException if storage can't be written
+	 */
+	void save(JsonNode resumeState) throws IOException;
+}
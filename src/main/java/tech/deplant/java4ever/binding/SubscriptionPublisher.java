@@ -0,0 +1,426 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * {@link Flow.Publisher} of subscription events of {@link Net#subscribeCollection} and {@link Net#subscribe}.
+ * <p>
+ * EVER-SDK pushes events without waiting for the subscriber, so events are kept in a bounded
+ * ring buffer and are delivered on the executor only when subscriber requested them with
+ * {@link Flow.Subscription#request(long)}. What happens when buffer is full is set by {@link Overflow}.
+ * <p>
+ * Publisher is single-use: SDK subscription is created when the first subscriber arrives and
+ * {@link Net#unsubscribe} is called when that subscriber cancels.
+ *
+ * <pre>{@code
+ * var publisher = SubscriptionPublisher.ofCollection(ctx, "transactions", filter, "id lt", 256,
+ *                                                    SubscriptionPublisher.Overflow.DROP_OLDEST);
+ * publisher.subscribe(subscriber);
+ * }</pre>
+ */
+public final class SubscriptionPublisher implements Flow.Publisher<SubscribeEvent> {
+
+	private final static System.Logger logger = System.getLogger(SubscriptionPublisher.class.getName());
+
+	private final int contextId;
+	private final SubscribeCall call;
+	private final UnsubscribeCall unsubscribeCall;
+	private final int capacity;
+	private final Overflow overflow;
+	private final Executor executor;
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+	private final AtomicBoolean unsubscribed = new AtomicBoolean();
+	private final CompletableFuture<Net.ResultOfSubscribeCollection> handle = new CompletableFuture<>();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder lagged = new LongAdder();
+
+	private SubscriptionPublisher(int contextId,
+	                              SubscribeCall call,
+	                              int capacity,
+	                              Overflow overflow,
+	                              Executor executor) {
+		this(contextId, call, Net::unsubscribe, capacity, overflow, executor);
+	}
+
+	SubscriptionPublisher(int contextId,
+	                      SubscribeCall call,
+	                      UnsubscribeCall unsubscribeCall,
+	                      int capacity,
+	                      Overflow overflow,
+	                      Executor executor) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Subscription buffer capacity should be positive!");
+		}
+		this.contextId = contextId;
+		this.call = call;
+		this.unsubscribeCall = unsubscribeCall;
+		this.capacity = capacity;
+		this.overflow = Objects.requireNonNull(overflow);
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	/**
+	 * Publisher of {@link Net#subscribeCollection} events.
+	 *
+	 * @param contextId  the context id
+	 * @param collection collection name (accounts, blocks, transactions, messages, block_signatures)
+	 * @param filter     collection filter
+	 * @param result     projection (result) string
+	 * @param capacity   count of events that are buffered until subscriber requests them
+	 * @param overflow   what to do when buffer is full
+	 * @return the subscription publisher
+	 */
+	public static SubscriptionPublisher ofCollection(int contextId,
+	                                                 String collection,
+	                                                 JsonNode filter,
+	                                                 String result,
+	                                                 int capacity,
+	                                                 Overflow overflow) {
+		return new SubscriptionPublisher(contextId,
+		                                 (ctx, consumer) -> Net.subscribeCollection(ctx,
+		                                                                            collection,
+		                                                                            filter,
+		                                                                            result,
+		                                                                            consumer),
+		                                 capacity,
+		                                 overflow,
+		                                 Thread::startVirtualThread);
+	}
+
+	/**
+	 * Publisher of {@link Net#subscribe} events.
+	 *
+	 * @param contextId    the context id
+	 * @param subscription GraphQL subscription text
+	 * @param variables    variables used in subscription
+	 * @param capacity     count of events that are buffered until subscriber requests them
+	 * @param overflow     what to do when buffer is full
+	 * @return the subscription publisher
+	 */
+	public static SubscriptionPublisher ofSubscription(int contextId,
+	                                                   String subscription,
+	                                                   JsonNode variables,
+	                                                   int capacity,
+	                                                   Overflow overflow) {
+		return new SubscriptionPublisher(contextId,
+		                                 (ctx, consumer) -> Net.subscribe(ctx, subscription, variables, consumer),
+		                                 capacity,
+		                                 overflow,
+		                                 Thread::startVirtualThread);
+	}
+
+	/**
+	 * Copy of this publisher that delivers events to subscriber on the specified executor.
+	 * By default, every delivery run starts a new virtual thread.
+	 *
+	 * @param executor the executor
+	 * @return the subscription publisher
+	 */
+	public SubscriptionPublisher withExecutor(Executor executor) {
+		return new SubscriptionPublisher(this.contextId,
+		                                 this.call,
+		                                 this.unsubscribeCall,
+		                                 this.capacity,
+		                                 this.overflow,
+		                                 executor);
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super SubscribeEvent> subscriber) {
+		Objects.requireNonNull(subscriber);
+		if (!this.subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(new Flow.Subscription() {
+				@Override
+				public void request(long n) {
+				}
+
+				@Override
+				public void cancel() {
+				}
+			});
+			subscriber.onError(new IllegalStateException("Subscription publisher allows only one subscriber!"));
+			return;
+		}
+		var subscription = new EventSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+		try {
+			this.call.subscribe(this.contextId, subscription::offer).whenComplete((result, ex) -> {
+				if (ex != null) {
+					this.handle.completeExceptionally(ex);
+					subscription.fail(ex instanceof CompletionException ? ex.getCause() : ex);
+				} else {
+					this.handle.complete(result);
+				}
+			});
+		} catch (EverSdkException e) {
+			this.handle.completeExceptionally(e);
+			subscription.fail(e);
+		}
+	}
+
+	/**
+	 * Handle of SDK subscription, completed when subscription is created.
+	 *
+	 * @return the future of subscription handle
+	 */
+	public CompletableFuture<Net.ResultOfSubscribeCollection> handle() {
+		return this.handle;
+	}
+
+	/**
+	 * Count of events that were discarded because buffer was full.
+	 *
+	 * @return the long
+	 */
+	public long dropped() {
+		return this.dropped.sum();
+	}
+
+	/**
+	 * Count of events that arrived when buffer was full, i.e. subscriber lagged behind the SDK.
+	 * With {@link Overflow#BLOCK} these events were delayed, with other modes something was dropped.
+	 *
+	 * @return the long
+	 */
+	public long lagged() {
+		return this.lagged.sum();
+	}
+
+	private void unsubscribe(Net.ResultOfSubscribeCollection result) {
+		if (!this.unsubscribed.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			this.unsubscribeCall.unsubscribe(this.contextId, result);
+		} catch (EverSdkException e) {
+			logger.log(System.Logger.Level.WARNING,
+			           () -> "CTX:%d HANDLE:%d Unsubscribe failed! %s".formatted(this.contextId,
+			                                                                    result.handle(),
+			                                                                    e.toString()));
+		}
+	}
+
+	/**
+	 * What to do with a new event when subscription buffer is full.
+	 */
+	public enum Overflow {
+		/**
+		 * Oldest buffered event is discarded to give place to the new one.
+		 */
+		DROP_OLDEST,
+		/**
+		 * New event is discarded.
+		 */
+		DROP_NEWEST,
+		/**
+		 * Callback thread of the subscription waits until subscriber takes some events. Events that arrive
+		 * meanwhile are queued by the context, and when that queue is full too, EVER-SDK callback thread waits.
+		 * Use with care, as other requests of the context may wait then.
+		 */
+		BLOCK,
+		/**
+		 * Subscription is cancelled and subscriber receives {@link EverSdkException} with code -429.
+		 */
+		FAIL
+	}
+
+	@FunctionalInterface
+	interface SubscribeCall {
+		CompletableFuture<Net.ResultOfSubscribeCollection> subscribe(int contextId,
+		                                                             Consumer<JsonNode> consumer) throws EverSdkException;
+	}
+
+	@FunctionalInterface
+	interface UnsubscribeCall {
+		void unsubscribe(int contextId, Net.ResultOfSubscribeCollection handle) throws EverSdkException;
+	}
+
+	private final class EventSubscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super SubscribeEvent> subscriber;
+		private final SubscribeEvent[] ring;
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition notFull = this.lock.newCondition();
+		private final AtomicLong demand = new AtomicLong();
+		// counts scheduled drain runs, only one run is delivering at a time
+		private final AtomicInteger wip = new AtomicInteger();
+		private int head;
+		private int count;
+		private volatile boolean cancelled;
+		private volatile Throwable failure;
+		private boolean terminated;
+
+		private EventSubscription(Flow.Subscriber<? super SubscribeEvent> subscriber) {
+			this.subscriber = subscriber;
+			this.ring = new SubscribeEvent[SubscriptionPublisher.this.capacity];
+		}
+
+		// called on callback executor of the context, one event at a time
+		private void offer(JsonNode node) {
+			if (this.cancelled || this.failure != null) {
+				return;
+			}
+			// subscription errors (like reconnects) come without "result" and are passed as is
+			var event = new SubscribeEvent(node.has("result") ? node.get("result") : node);
+			boolean overflowed = false;
+			this.lock.lock();
+			try {
+				if (this.count == this.ring.length) {
+					SubscriptionPublisher.this.lagged.increment();
+					switch (SubscriptionPublisher.this.overflow) {
+						case DROP_OLDEST -> {
+							this.ring[this.head] = null;
+							this.head = (this.head + 1) % this.ring.length;
+							this.count--;
+							SubscriptionPublisher.this.dropped.increment();
+						}
+						case DROP_NEWEST -> {
+							SubscriptionPublisher.this.dropped.increment();
+							return;
+						}
+						case BLOCK -> {
+							while (this.count == this.ring.length && !this.cancelled && this.failure == null) {
+								this.notFull.awaitUninterruptibly();
+							}
+							if (this.cancelled || this.failure != null) {
+								return;
+							}
+						}
+						case FAIL -> {
+							SubscriptionPublisher.this.dropped.increment();
+							overflowed = true;
+						}
+					}
+				}
+				if (!overflowed) {
+					this.ring[(this.head + this.count) % this.ring.length] = event;
+					this.count++;
+				}
+			} finally {
+				this.lock.unlock();
+			}
+			if (overflowed) {
+				fail(new EverSdkException(new EverSdkException.ErrorResult(-429, "Subscription buffer overflow!")));
+			} else {
+				schedule();
+			}
+		}
+
+		private SubscribeEvent poll() {
+			this.lock.lock();
+			try {
+				if (this.count == 0) {
+					return null;
+				}
+				var event = this.ring[this.head];
+				this.ring[this.head] = null;
+				this.head = (this.head + 1) % this.ring.length;
+				this.count--;
+				this.notFull.signal();
+				return event;
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		// every terminal error goes here, so SDK subscription is always closed
+		private void fail(Throwable ex) {
+			this.lock.lock();
+			try {
+				if (this.failure != null) {
+					return;
+				}
+				this.failure = ex;
+				// BLOCK waiter on the callback thread gives up
+				this.notFull.signalAll();
+			} finally {
+				this.lock.unlock();
+			}
+			// if subscription is not created yet, it'll be cancelled on creation
+			SubscriptionPublisher.this.handle.thenAccept(SubscriptionPublisher.this::unsubscribe);
+			schedule();
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				fail(new IllegalArgumentException("Requested count should be positive! (rule 3.9)"));
+				return;
+			}
+			this.demand.accumulateAndGet(n, (current, added) -> {
+				long sum = current + added;
+				return sum < 0 ? Long.MAX_VALUE : sum;
+			});
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			if (this.cancelled) {
+				return;
+			}
+			this.cancelled = true;
+			this.lock.lock();
+			try {
+				Arrays.fill(this.ring, null);
+				this.count = 0;
+				this.notFull.signalAll();
+			} finally {
+				this.lock.unlock();
+			}
+			// if subscription is not created yet, it'll be cancelled on creation
+			SubscriptionPublisher.this.handle.thenAccept(SubscriptionPublisher.this::unsubscribe);
+		}
+
+		private void schedule() {
+			if (this.wip.getAndIncrement() == 0) {
+				SubscriptionPublisher.this.executor.execute(this::drain);
+			}
+		}
+
+		private void drain() {
+			int missed = 1;
+			do {
+				while (!this.terminated && !this.cancelled) {
+					if (this.failure != null) {
+						this.terminated = true;
+						this.subscriber.onError(this.failure);
+						break;
+					}
+					if (this.demand.get() == 0) {
+						break;
+					}
+					var event = poll();
+					if (event == null) {
+						break;
+					}
+					this.demand.decrementAndGet();
+					try {
+						this.subscriber.onNext(event);
+					} catch (Throwable ex) {
+						logger.log(System.Logger.Level.ERROR,
+						           () -> "CTX:%d Subscriber failed on event, cancelling! %s".formatted(
+								           SubscriptionPublisher.this.contextId,
+								           ex.toString()));
+						cancel();
+					}
+				}
+				missed = this.wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package tech.deplant.java4ever.binding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Collects items into batches. The first item of a batch starts the window, the batch is passed to the sender
+ * when the window ends or when it reaches the max size, whichever comes first.
+ * Sender is called outside the lock, on the submitting thread or, when the window ends, on a virtual thread
+ * of its own, so a slow sender doesn't delay windows of other batchers.
+ * Exceptions of sender aren't handled, it should fail the items of the batch itself.
+ *
+ * @param <T> type of batched items
+ */
+final class WindowedBatcher<T> {
+
+	// shared by all batchers, only triggers flushes, batches are sent on virtual threads
+	private final static ScheduledExecutorService TIMER = newTimer();
+
+	private final long windowMicros;
+	private final int maxBatchSize;
+	private final Consumer<List<T>> sender;
+	private final ReentrantLock lock = new ReentrantLock();
+	// guarded by lock
+	private List<T> pending = new ArrayList<>();
+	private boolean closed;
+
+	/**
+	 * Instantiates a new batcher.
+	 *
+	 * @param windowMicros how long the first item of a batch waits for others, microseconds
+	 * @param maxBatchSize batch is sent right away when it has this count of items
+	 * @param sender       sends the batch
+	 */
+	WindowedBatcher(long windowMicros, int maxBatchSize, Consumer<List<T>> sender) {
+		if (windowMicros < 0 || maxBatchSize < 1) {
+			throw new IllegalArgumentException("Window shouldn't be negative and max batch size should be positive!");
+		}
+		this.windowMicros = windowMicros;
+		this.maxBatchSize = maxBatchSize;
+		this.sender = sender;
+	}
+
+	private static ScheduledExecutorService newTimer() {
+		var timer = new ScheduledThreadPoolExecutor(1,
+		                                            Thread.ofPlatform()
+		                                                  .daemon()
+		                                                  .name("batcher-timer")
+		                                                  .factory());
+		timer.setRemoveOnCancelPolicy(true);
+		return timer;
+	}
+
+	/**
+	 * Adds item to the current batch.
+	 *
+	 * @param item the item
+	 * @return false if batcher is closed and item isn't added
+	 */
+	boolean add(T item) {
+		List<T> full = null;
+		this.lock.lock();
+		try {
+			if (this.closed) {
+				return false;
+			}
+			this.pending.add(item);
+			if (this.pending.size() >= this.maxBatchSize) {
+				full = takePending();
+			} else if (this.pending.size() == 1) {
+				final List<T> batch = this.pending;
+				TIMER.schedule(() -> Thread.startVirtualThread(() -> flush(batch)),
+				               this.windowMicros,
+				               TimeUnit.MICROSECONDS);
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		if (full != null) {
+			this.sender.accept(full);
+		}
+		return true;
+	}
+
+	// timer flushes only the batch it was scheduled for, it could be sent already because of its size
+	private void flush(List<T> batch) {
+		this.lock.lock();
+		try {
+			if (this.pending != batch) {
+				return;
+			}
+			takePending();
+		} finally {
+			this.lock.unlock();
+		}
+		this.sender.accept(batch);
+	}
+
+	private List<T> takePending() {
+		var batch = this.pending;
+		this.pending = new ArrayList<>();
+		return batch;
+	}
+
+	/**
+	 * Sends items that are waiting for the window and stops accepting new ones.
+	 */
+	void close() {
+		List<T> rest;
+		this.lock.lock();
+		try {
+			this.closed = true;
+			rest = takePending();
+		} finally {
+			this.lock.unlock();
+		}
+		if (!rest.isEmpty()) {
+			this.sender.accept(rest);
+		}
+	}
+}
@@ -0,0 +1,317 @@
+package tech.deplant.java4ever.binding.boc;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Serialization of cells to bag of cells (BOC) and back, compatible with {@code boc} module of EVER-SDK
+ * but without FFI calls and JSON.
+ * <p>
+ * Reads generic BOCs ({@code b5ee9c72}) with or without index and CRC32C and legacy indexed ones
+ * ({@code 68ff65f3}, {@code acc3a728}). Cells stored with hashes are read as well, stored hashes are skipped
+ * as they're computed anyway. Writes generic BOCs, index and CRC32C are optional, that's what
+ * {@link Options} are for. Equal cells are written once.
+ *
+ * <pre>{@code
+ * Cell root = BagOfCells.fromBase64(boc);
+ * String hash = root.hashHex(); // same as Boc.getBocHash(ctx, boc)
+ * }</pre>
+ */
+public final class BagOfCells {
+
+	private static final int BOC_GENERIC = 0xb5ee9c72;
+	private static final int BOC_INDEXED = 0x68ff65f3;
+	private static final int BOC_INDEXED_CRC32C = 0xacc3a728;
+
+	private BagOfCells() {
+	}
+
+	/**
+	 * Root cell of base64 BOC.
+	 *
+	 * @param boc base64 BOC
+	 * @return the root cell
+	 */
+	public static Cell fromBase64(String boc) {
+		return single(deserialize(ByteBuffer.wrap(Base64.getDecoder().decode(boc))));
+	}
+
+	/**
+	 * Root cell of BOC bytes.
+	 *
+	 * @param boc BOC bytes
+	 * @return the root cell
+	 */
+	public static Cell fromBytes(byte[] boc) {
+		return single(deserialize(ByteBuffer.wrap(boc)));
+	}
+
+	/**
+	 * Root cells of BOC in native or heap memory, the segment isn't retained.
+	 *
+	 * @param boc segment with BOC bytes
+	 * @return the root cells
+	 */
+	public static List<Cell> deserialize(MemorySegment boc) {
+		return deserialize(boc.asByteBuffer());
+	}
+
+	/**
+	 * Root cells of BOC from the current position to the limit of buffer.
+	 * Position of the buffer isn't changed.
+	 *
+	 * @param boc buffer with BOC bytes
+	 * @return the root cells
+	 */
+	public static List<Cell> deserialize(ByteBuffer boc) {
+		final ByteBuffer in = boc.slice().order(ByteOrder.BIG_ENDIAN);
+		try {
+			final int magic = in.getInt();
+			final boolean hasIndex;
+			final boolean hasCrc;
+			final int refSize;
+			switch (magic) {
+				case BOC_GENERIC -> {
+					int flags = in.get() & 0xFF;
+					hasIndex = (flags & 0x80) != 0;
+					hasCrc = (flags & 0x40) != 0;
+					refSize = flags & 0x07;
+				}
+				case BOC_INDEXED, BOC_INDEXED_CRC32C -> {
+					hasIndex = true;
+					hasCrc = magic == BOC_INDEXED_CRC32C;
+					refSize = in.get() & 0xFF;
+				}
+				default -> throw new IllegalArgumentException("Unknown BOC magic: %08x".formatted(magic));
+			}
+			final int offsetSize = in.get() & 0xFF;
+			if (refSize < 1 || refSize > 4 || offsetSize < 1 || offsetSize > 8) {
+				throw new IllegalArgumentException("Malformed BOC header!");
+			}
+			final int cellCount = Math.toIntExact(readUnsigned(in, refSize));
+			final int rootCount = Math.toIntExact(readUnsigned(in, refSize));
+			final long absentCount = readUnsigned(in, refSize);
+			final long cellsSize = readUnsigned(in, offsetSize);
+			if (absentCount != 0) {
+				throw new IllegalArgumentException("BOCs with absent cells aren't supported!");
+			}
+			if (rootCount < 1 || rootCount > cellCount) {
+				throw new IllegalArgumentException("Malformed BOC root count: " + rootCount);
+			}
+			final int[] rootIndexes = new int[rootCount];
+			for (int i = 0; i < rootCount; i++) {
+				// legacy formats have single root that is the first cell
+				rootIndexes[i] = magic == BOC_GENERIC ? Math.toIntExact(readUnsigned(in, refSize)) : i;
+			}
+			if (hasIndex) {
+				in.position(in.position() + Math.multiplyExact(cellCount, offsetSize));
+			}
+			final int cellsStart = in.position();
+			final var raw = new RawCell[cellCount];
+			for (int i = 0; i < cellCount; i++) {
+				raw[i] = readCell(in, refSize, i, cellCount);
+			}
+			if (in.position() - cellsStart != cellsSize) {
+				throw new IllegalArgumentException("BOC cells size doesn't match the header!");
+			}
+			if (hasCrc) {
+				var crc = new CRC32C();
+				crc.update(in.duplicate().flip());
+				int expected = in.order(ByteOrder.LITTLE_ENDIAN).getInt();
+				if ((int) crc.getValue() != expected) {
+					throw new IllegalArgumentException("BOC CRC32C doesn't match!");
+				}
+			}
+			// references point only forward, so cells are built from the last one
+			final var cells = new Cell[cellCount];
+			for (int i = cellCount - 1; i >= 0; i--) {
+				var refs = new Cell[raw[i].refs().length];
+				for (int r = 0; r < refs.length; r++) {
+					refs[r] = cells[raw[i].refs()[r]];
+				}
+				cells[i] = raw[i].exotic() ?
+				           Cell.exotic(raw[i].data(), raw[i].bitLength(), refs) :
+				           Cell.of(raw[i].data(), raw[i].bitLength(), refs);
+			}
+			var roots = new ArrayList<Cell>(rootCount);
+			for (int index : rootIndexes) {
+				if (index < 0 || index >= cellCount) {
+					throw new IllegalArgumentException("Malformed BOC root index: " + index);
+				}
+				roots.add(cells[index]);
+			}
+			return roots;
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | ArithmeticException e) {
+			throw new IllegalArgumentException("BOC is truncated or malformed!", e);
+		}
+	}
+
+	private static RawCell readCell(ByteBuffer in, int refSize, int index, int cellCount) {
+		final int d1 = in.get() & 0xFF;
+		final int d2 = in.get() & 0xFF;
+		final int refCount = d1 & 0x07;
+		if (refCount > Cell.MAX_REFS) {
+			throw new IllegalArgumentException("Cell %d has %d references!".formatted(index, refCount));
+		}
+		if ((d1 & 0x10) != 0) {
+			int hashCount = Integer.bitCount(d1 >> 5) + 1;
+			in.position(in.position() + hashCount * (32 + 2));
+		}
+		final byte[] data = new byte[(d2 + 1) / 2];
+		in.get(data);
+		int bitLength = data.length * 8;
+		if (d2 % 2 != 0) {
+			int last = data[data.length - 1] & 0xFF;
+			if (last == 0) {
+				throw new IllegalArgumentException("Cell %d has no completion tag!".formatted(index));
+			}
+			bitLength -= Integer.numberOfTrailingZeros(last) + 1;
+		}
+		final int[] refs = new int[refCount];
+		for (int r = 0; r < refCount; r++) {
+			refs[r] = Math.toIntExact(readUnsigned(in, refSize));
+			if (refs[r] <= index || refs[r] >= cellCount) {
+				throw new IllegalArgumentException("Cell %d has wrong reference %d!".formatted(index, refs[r]));
+			}
+		}
+		return new RawCell(data, bitLength, (d1 & 0x08) != 0, refs);
+	}
+
+	private static long readUnsigned(ByteBuffer in, int size) {
+		long value = 0;
+		for (int i = 0; i < size; i++) {
+			value = value << 8 | in.get() & 0xFF;
+		}
+		if (value < 0) {
+			throw new ArithmeticException("Unsigned value overflow");
+		}
+		return value;
+	}
+
+	/**
+	 * Base64 BOC of cell without index and CRC, the way EVER-SDK writes it.
+	 *
+	 * @param root the root cell
+	 * @return the base64 BOC
+	 */
+	public static String toBase64(Cell root) {
+		return Base64.getEncoder().encodeToString(serialize(List.of(root), Options.DEFAULT));
+	}
+
+	/**
+	 * BOC bytes of cells.
+	 *
+	 * @param roots   the root cells
+	 * @param options index and CRC flags
+	 * @return the BOC bytes
+	 */
+	public static byte[] serialize(List<Cell> roots, Options options) {
+		if (roots.isEmpty()) {
+			throw new IllegalArgumentException("BOC should have at least one root!");
+		}
+		final Map<Cell, Integer> order = new HashMap<>();
+		final List<Cell> reversed = new ArrayList<>();
+		for (Cell root : roots) {
+			visit(root, order, reversed);
+		}
+		final int cellCount = reversed.size();
+		final int refSize = bytesFor(cellCount);
+		long cellsSize = 0;
+		final long[] ends = new long[cellCount];
+		for (int i = 0; i < cellCount; i++) {
+			Cell cell = reversed.get(cellCount - 1 - i);
+			cellsSize += 2 + (cell.bitLength() + 7) / 8 + (long) cell.refCount() * refSize;
+			ends[i] = cellsSize;
+		}
+		final int offsetSize = bytesFor(cellsSize);
+		final long total = 4 + 1 + 1 + 3L * refSize + offsetSize + (long) roots.size() * refSize +
+		                   (options.index() ? (long) cellCount * offsetSize : 0) + cellsSize +
+		                   (options.crc() ? 4 : 0);
+		final ByteBuffer out = ByteBuffer.allocate(Math.toIntExact(total));
+		out.putInt(BOC_GENERIC);
+		out.put((byte) ((options.index() ? 0x80 : 0) | (options.crc() ? 0x40 : 0) | refSize));
+		out.put((byte) offsetSize);
+		writeUnsigned(out, cellCount, refSize);
+		writeUnsigned(out, roots.size(), refSize);
+		writeUnsigned(out, 0, refSize);
+		writeUnsigned(out, cellsSize, offsetSize);
+		for (Cell root : roots) {
+			writeUnsigned(out, cellCount - 1 - order.get(root), refSize);
+		}
+		if (options.index()) {
+			for (long end : ends) {
+				writeUnsigned(out, end, offsetSize);
+			}
+		}
+		for (int i = 0; i < cellCount; i++) {
+			Cell cell = reversed.get(cellCount - 1 - i);
+			out.put(cell.descriptor1(cell.levelMask()));
+			out.put(cell.descriptor2());
+			out.put(cell.paddedData());
+			for (int r = 0; r < cell.refCount(); r++) {
+				writeUnsigned(out, cellCount - 1 - order.get(cell.ref(r)), refSize);
+			}
+		}
+		if (options.crc()) {
+			var crc = new CRC32C();
+			crc.update(out.array(), 0, out.position());
+			out.order(ByteOrder.LITTLE_ENDIAN).putInt((int) crc.getValue());
+		}
+		return out.array();
+	}
+
+	// post-order reversed puts every cell before its references, references are visited in order like SDK does,
+	// so the last reference of a cell is written right after it
+	private static void visit(Cell cell, Map<Cell, Integer> order, List<Cell> reversed) {
+		if (order.containsKey(cell)) {
+			return;
+		}
+		for (int r = 0; r < cell.refCount(); r++) {
+			visit(cell.ref(r), order, reversed);
+		}
+		order.put(cell, reversed.size());
+		reversed.add(cell);
+	}
+
+	private static int bytesFor(long value) {
+		return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 7) / 8);
+	}
+
+	private static void writeUnsigned(ByteBuffer out, long value, int size) {
+		for (int i = size - 1; i >= 0; i--) {
+			out.put((byte) (value >>> (i * 8)));
+		}
+	}
+
+	private static Cell single(List<Cell> roots) {
+		if (roots.size() != 1) {
+			throw new IllegalArgumentException("BOC should have one root, got " + roots.size());
+		}
+		return roots.getFirst();
+	}
+
+	/**
+	 * Flags of serialized BOC.
+	 *
+	 * @param index write offsets of cells, so that a cell can be read without reading previous ones
+	 * @param crc   append CRC32C of BOC
+	 */
+	public record Options(boolean index, boolean crc) {
+
+		/**
+		 * No index and no CRC.
+		 */
+		public static final Options DEFAULT = new Options(false, false);
+	}
+
+	private record RawCell(byte[] data, int bitLength, boolean exotic, int[] refs) {
+	}
+}
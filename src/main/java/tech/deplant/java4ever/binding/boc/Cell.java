@@ -0,0 +1,343 @@
+package tech.deplant.java4ever.binding.boc;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Immutable cell of TVM: up to 1023 bits of data and up to 4 references to other cells.
+ * <p>
+ * Hashes and depths are computed once when cell is created, bottom-up, as cell can be created only of cells
+ * that already exist. Cells with a level (pruned branches and cells above them) have a hash and a depth
+ * for every significant level, {@link #hash()} is the representation hash that is shown as BOC hash by EVER-SDK.
+ * Cells are equal when their representation hashes are equal.
+ */
+public final class Cell {
+
+	/**
+	 * Max bits of cell data.
+	 */
+	public static final int MAX_BITS = 1023;
+	/**
+	 * Max references of cell.
+	 */
+	public static final int MAX_REFS = 4;
+	/**
+	 * Cell without data and references.
+	 */
+	public static final Cell EMPTY = of(new byte[0], 0);
+
+	private static final int HASH_BYTES = 32;
+	private static final int DEPTH_BYTES = 2;
+
+	private final byte[] data;
+	private final int bitLength;
+	private final Cell[] refs;
+	private final CellType type;
+	private final int levelMask;
+	// one hash and depth per significant level, the last one is the representation hash
+	private final byte[][] hashes;
+	private final int[] depths;
+
+	private Cell(byte[] data, int bitLength, Cell[] refs, CellType type) {
+		this.data = data;
+		this.bitLength = bitLength;
+		this.refs = refs;
+		this.type = type;
+		this.levelMask = levelMaskOf(data, bitLength, refs, type);
+		int hashCount = Integer.bitCount(this.levelMask) + 1;
+		this.hashes = new byte[hashCount][];
+		this.depths = new int[hashCount];
+		computeHashes();
+	}
+
+	/**
+	 * Ordinary cell.
+	 *
+	 * @param data      data bytes, bits after bitLength are ignored
+	 * @param bitLength count of data bits
+	 * @param refs      references
+	 * @return the cell
+	 */
+	public static Cell of(byte[] data, int bitLength, Cell... refs) {
+		return new Cell(copyBits(data, bitLength), bitLength, checkRefs(refs), CellType.ORDINARY);
+	}
+
+	/**
+	 * Exotic cell, its type is the first byte of data.
+	 *
+	 * @param data      data bytes, bits after bitLength are ignored
+	 * @param bitLength count of data bits
+	 * @param refs      references
+	 * @return the cell
+	 */
+	public static Cell exotic(byte[] data, int bitLength, Cell... refs) {
+		if (bitLength < 8) {
+			throw new IllegalArgumentException("Exotic cell should have type byte!");
+		}
+		byte[] bits = copyBits(data, bitLength);
+		return new Cell(bits, bitLength, checkRefs(refs), CellType.ofTag(bits[0] & 0xFF));
+	}
+
+	private static byte[] copyBits(byte[] data, int bitLength) {
+		if (bitLength < 0 || bitLength > MAX_BITS || data.length * 8 < bitLength) {
+			throw new IllegalArgumentException("Cell data should have from 0 to 1023 bits, got " + bitLength);
+		}
+		byte[] bits = Arrays.copyOf(data, (bitLength + 7) / 8);
+		if (bitLength % 8 != 0) {
+			bits[bits.length - 1] &= (byte) (0xFF << (8 - bitLength % 8));
+		}
+		return bits;
+	}
+
+	private static Cell[] checkRefs(Cell[] refs) {
+		if (refs.length > MAX_REFS) {
+			throw new IllegalArgumentException("Cell can't have more than 4 references, got " + refs.length);
+		}
+		for (Cell ref : refs) {
+			Objects.requireNonNull(ref);
+		}
+		return refs.clone();
+	}
+
+	private static int levelMaskOf(byte[] data, int bitLength, Cell[] refs, CellType type) {
+		int children = 0;
+		for (Cell ref : refs) {
+			children |= ref.levelMask;
+		}
+		return switch (type) {
+			case ORDINARY -> children;
+			case PRUNED_BRANCH -> {
+				int mask = bitLength >= 16 ? data[1] & 0xFF : 0;
+				if (refs.length != 0 || mask == 0 || mask > 7 ||
+				    bitLength != 16 + Integer.bitCount(mask) * (HASH_BYTES + DEPTH_BYTES) * 8) {
+					throw new IllegalArgumentException("Malformed pruned branch cell!");
+				}
+				yield mask;
+			}
+			case LIBRARY_REFERENCE -> {
+				if (refs.length != 0 || bitLength != 8 + HASH_BYTES * 8) {
+					throw new IllegalArgumentException("Malformed library reference cell!");
+				}
+				yield 0;
+			}
+			case MERKLE_PROOF -> {
+				if (refs.length != 1 || bitLength != 8 + (HASH_BYTES + DEPTH_BYTES) * 8) {
+					throw new IllegalArgumentException("Malformed Merkle proof cell!");
+				}
+				yield children >> 1;
+			}
+			case MERKLE_UPDATE -> {
+				if (refs.length != 2 || bitLength != 8 + 2 * (HASH_BYTES + DEPTH_BYTES) * 8) {
+					throw new IllegalArgumentException("Malformed Merkle update cell!");
+				}
+				yield children >> 1;
+			}
+		};
+	}
+
+	private void computeHashes() {
+		MessageDigest sha256;
+		try {
+			sha256 = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		final int hashCount = this.hashes.length;
+		// pruned branch stores hashes and depths of lower levels of the pruned cell, only the top one is computed
+		final int computedFrom = this.type == CellType.PRUNED_BRANCH ? hashCount - 1 : 0;
+		for (int i = 0; i < computedFrom; i++) {
+			this.hashes[i] = Arrays.copyOfRange(this.data, 2 + i * HASH_BYTES, 2 + (i + 1) * HASH_BYTES);
+			int depthOffset = 2 + computedFrom * HASH_BYTES + i * DEPTH_BYTES;
+			this.depths[i] = (this.data[depthOffset] & 0xFF) << 8 | this.data[depthOffset + 1] & 0xFF;
+		}
+		final int childShift = this.type.isMerkle() ? 1 : 0;
+		final int level = level();
+		int hashIndex = 0;
+		for (int levelI = 0; levelI <= level; levelI++) {
+			if (levelI > 0 && (this.levelMask >> (levelI - 1) & 1) == 0) {
+				continue;
+			}
+			if (hashIndex < computedFrom) {
+				hashIndex++;
+				continue;
+			}
+			sha256.update(descriptor1(this.levelMask & ((1 << levelI) - 1)));
+			sha256.update(descriptor2());
+			if (hashIndex == computedFrom) {
+				sha256.update(paddedData());
+			} else {
+				sha256.update(this.hashes[hashIndex - 1]);
+			}
+			int depth = 0;
+			for (Cell ref : this.refs) {
+				int refDepth = ref.depth(levelI + childShift);
+				sha256.update((byte) (refDepth >> 8));
+				sha256.update((byte) refDepth);
+				depth = Math.max(depth, refDepth + 1);
+			}
+			for (Cell ref : this.refs) {
+				sha256.update(ref.hashes[ref.hashIndex(levelI + childShift)]);
+			}
+			this.hashes[hashIndex] = sha256.digest();
+			this.depths[hashIndex] = depth;
+			hashIndex++;
+		}
+	}
+
+	private int hashIndex(int level) {
+		return Integer.bitCount(this.levelMask & ((1 << Math.min(level, 3)) - 1));
+	}
+
+	byte descriptor1(int levelMask) {
+		return (byte) (this.refs.length + (this.type == CellType.ORDINARY ? 0 : 8) + levelMask * 32);
+	}
+
+	byte descriptor2() {
+		return (byte) (this.bitLength / 8 + (this.bitLength + 7) / 8);
+	}
+
+	// data with completion tag: incomplete last byte gets 1 after the data bits
+	byte[] paddedData() {
+		if (this.bitLength % 8 == 0) {
+			return this.data;
+		}
+		byte[] padded = this.data.clone();
+		padded[padded.length - 1] |= (byte) (0x80 >>> (this.bitLength % 8));
+		return padded;
+	}
+
+	/**
+	 * Data bits, bits after bitLength in the last byte are zero.
+	 *
+	 * @return copy of data
+	 */
+	public byte[] bits() {
+		return this.data.clone();
+	}
+
+	/**
+	 * Count of data bits.
+	 *
+	 * @return the int
+	 */
+	public int bitLength() {
+		return this.bitLength;
+	}
+
+	/**
+	 * Count of references.
+	 *
+	 * @return the int
+	 */
+	public int refCount() {
+		return this.refs.length;
+	}
+
+	/**
+	 * Referenced cell.
+	 *
+	 * @param index reference index
+	 * @return the cell
+	 */
+	public Cell ref(int index) {
+		return this.refs[index];
+	}
+
+	/**
+	 * Type of cell.
+	 *
+	 * @return the cell type
+	 */
+	public CellType type() {
+		return this.type;
+	}
+
+	/**
+	 * Bit i of mask is set if cell has significant level i + 1.
+	 *
+	 * @return the level mask
+	 */
+	public int levelMask() {
+		return this.levelMask;
+	}
+
+	/**
+	 * Level of cell, zero for cells without pruned branches.
+	 *
+	 * @return the int
+	 */
+	public int level() {
+		return 32 - Integer.numberOfLeadingZeros(this.levelMask);
+	}
+
+	/**
+	 * Representation hash of cell, same as {@code boc.get_boc_hash} of its BOC.
+	 *
+	 * @return the hash bytes
+	 */
+	public byte[] hash() {
+		return this.hashes[this.hashes.length - 1].clone();
+	}
+
+	/**
+	 * Hash of cell at the level.
+	 *
+	 * @param level the level
+	 * @return the hash bytes
+	 */
+	public byte[] hash(int level) {
+		return this.hashes[hashIndex(level)].clone();
+	}
+
+	/**
+	 * Representation hash as lowercase hex.
+	 *
+	 * @return the string
+	 */
+	public String hashHex() {
+		return HexFormat.of().formatHex(this.hashes[this.hashes.length - 1]);
+	}
+
+	/**
+	 * Depth of cell, same as {@code boc.get_boc_depth} of its BOC.
+	 *
+	 * @return the int
+	 */
+	public int depth() {
+		return this.depths[this.depths.length - 1];
+	}
+
+	/**
+	 * Depth of cell at the level.
+	 *
+	 * @param level the level
+	 * @return the int
+	 */
+	public int depth(int level) {
+		return this.depths[hashIndex(level)];
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return this == o ||
+		       o instanceof Cell cell && Arrays.equals(this.hashes[this.hashes.length - 1],
+		                                               cell.hashes[cell.hashes.length - 1]);
+	}
+
+	@Override
+	public int hashCode() {
+		byte[] hash = this.hashes[this.hashes.length - 1];
+		return (hash[0] & 0xFF) << 24 | (hash[1] & 0xFF) << 16 | (hash[2] & 0xFF) << 8 | hash[3] & 0xFF;
+	}
+
+	@Override
+	public String toString() {
+		return "Cell[bits=%d, refs=%d, type=%s, hash=%s]".formatted(this.bitLength,
+		                                                           this.refs.length,
+		                                                           this.type,
+		                                                           hashHex());
+	}
+}
@@ -0,0 +1,41 @@
+package tech.deplant.java4ever.binding.boc;
+
+/**
+ * The enum of cell types. Exotic cells keep their type in the first byte of data.
+ */
+public enum CellType {
+
+	ORDINARY(-1),
+	PRUNED_BRANCH(1),
+	LIBRARY_REFERENCE(2),
+	MERKLE_PROOF(3),
+	MERKLE_UPDATE(4);
+
+	private final int tag;
+
+	CellType(int tag) {
+		this.tag = tag;
+	}
+
+	static CellType ofTag(int tag) {
+		for (CellType type : values()) {
+			if (type.tag == tag) {
+				return type;
+			}
+		}
+		throw new IllegalArgumentException("Unknown exotic cell type: " + tag);
+	}
+
+	/**
+	 * First byte of data of exotic cell.
+	 *
+	 * @return the tag or -1 for ordinary cell
+	 */
+	public int tag() {
+		return this.tag;
+	}
+
+	boolean isMerkle() {
+		return this == MERKLE_PROOF || this == MERKLE_UPDATE;
+	}
+}
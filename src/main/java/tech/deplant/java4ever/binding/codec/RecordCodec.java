@@ -0,0 +1,189 @@
+package tech.deplant.java4ever.binding.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Helpers for the generated streaming codecs of EVER-SDK records.
+ * Generated {@code *Codecs} classes write and read record fields by their api.json names directly,
+ * so neither record introspection nor naming strategy is involved.
+ * Scalars are handled in place, everything else is delegated back to the mapper,
+ * so nested records, enums, interfaces and arrays keep their usual Jackson behavior.
+ */
+final class RecordCodec {
+
+	private RecordCodec() {
+	}
+
+	/**
+	 * Adds serializer and deserializer of the record type to the module.
+	 *
+	 * @param <T>    record type
+	 * @param module the module
+	 * @param type   record class
+	 * @param writer generated write method
+	 * @param reader generated read method
+	 */
+	static <T> void register(SimpleModule module, Class<T> type, Writer<T> writer, Reader<T> reader) {
+		module.addSerializer(type, new StdSerializer<>(type) {
+			@Override
+			public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+				writer.write(value, gen, provider);
+			}
+		});
+		module.addDeserializer(type, new StdDeserializer<>(type) {
+			@Override
+			public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+				return reader.read(parser, context);
+			}
+		});
+	}
+
+	/**
+	 * Name of the first field of the object. Parser can be positioned on the START_OBJECT
+	 * or already on the first FIELD_NAME (when Jackson buffered the object).
+	 *
+	 * @return the field name or null if the object is empty
+	 */
+	static String firstField(JsonParser parser, DeserializationContext context, Class<?> type) throws IOException {
+		if (parser.isExpectedStartObjectToken()) {
+			return parser.nextFieldName();
+		}
+		if (parser.hasToken(JsonToken.FIELD_NAME)) {
+			return parser.currentName();
+		}
+		if (parser.hasToken(JsonToken.END_OBJECT)) {
+			return null;
+		}
+		return context.reportInputMismatch(type, "Expected JSON object for %s", type.getName());
+	}
+
+	/**
+	 * Fails or skips the unknown field according to FAIL_ON_UNKNOWN_PROPERTIES.
+	 */
+	static void skipUnknown(JsonParser parser,
+	                        DeserializationContext context,
+	                        Class<?> type,
+	                        String fieldName) throws IOException {
+		context.handleUnknownProperty(parser, null, type, fieldName);
+	}
+
+	static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+		return switch (parser.currentToken()) {
+			case VALUE_STRING -> parser.getText();
+			case VALUE_NULL -> null;
+			default -> context.readValue(parser, String.class);
+		};
+	}
+
+	static Long readLong(JsonParser parser, DeserializationContext context) throws IOException {
+		return switch (parser.currentToken()) {
+			case VALUE_NUMBER_INT -> parser.getLongValue();
+			case VALUE_NULL -> null;
+			default -> context.readValue(parser, Long.class);
+		};
+	}
+
+	static Integer readInteger(JsonParser parser, DeserializationContext context) throws IOException {
+		return switch (parser.currentToken()) {
+			case VALUE_NUMBER_INT -> parser.getIntValue();
+			case VALUE_NULL -> null;
+			default -> context.readValue(parser, Integer.class);
+		};
+	}
+
+	static Boolean readBoolean(JsonParser parser, DeserializationContext context) throws IOException {
+		return switch (parser.currentToken()) {
+			case VALUE_TRUE -> Boolean.TRUE;
+			case VALUE_FALSE -> Boolean.FALSE;
+			case VALUE_NULL -> null;
+			default -> context.readValue(parser, Boolean.class);
+		};
+	}
+
+	static BigInteger readBigInteger(JsonParser parser, DeserializationContext context) throws IOException {
+		return switch (parser.currentToken()) {
+			case VALUE_NUMBER_INT -> parser.getBigIntegerValue();
+			case VALUE_NULL -> null;
+			default -> context.readValue(parser, BigInteger.class);
+		};
+	}
+
+	/**
+	 * Reads JSON value as tree. JSON null becomes NullNode, same as reflective Jackson does for JsonNode fields.
+	 */
+	static JsonNode readTree(JsonParser parser, DeserializationContext context) throws IOException {
+		if (parser.hasToken(JsonToken.VALUE_NULL)) {
+			return NullNode.getInstance();
+		}
+		return context.readTree(parser);
+	}
+
+	static <T> T readValue(JsonParser parser, DeserializationContext context, Class<T> type) throws IOException {
+		if (parser.hasToken(JsonToken.VALUE_NULL)) {
+			return null;
+		}
+		return context.readValue(parser, type);
+	}
+
+	static void writeString(JsonGenerator gen, String fieldName, String value) throws IOException {
+		if (value != null) {
+			gen.writeStringField(fieldName, value);
+		}
+	}
+
+	static void writeLong(JsonGenerator gen, String fieldName, Long value) throws IOException {
+		if (value != null) {
+			gen.writeNumberField(fieldName, value);
+		}
+	}
+
+	static void writeInteger(JsonGenerator gen, String fieldName, Integer value) throws IOException {
+		if (value != null) {
+			gen.writeNumberField(fieldName, value);
+		}
+	}
+
+	static void writeBoolean(JsonGenerator gen, String fieldName, Boolean value) throws IOException {
+		if (value != null) {
+			gen.writeBooleanField(fieldName, value);
+		}
+	}
+
+	static void writeBigInteger(JsonGenerator gen, String fieldName, BigInteger value) throws IOException {
+		if (value != null) {
+			gen.writeFieldName(fieldName);
+			gen.writeNumber(value);
+		}
+	}
+
+	static void writeValue(JsonGenerator gen,
+	                       SerializerProvider provider,
+	                       String fieldName,
+	                       Object value) throws IOException {
+		if (value != null) {
+			provider.defaultSerializeField(fieldName, value, gen);
+		}
+	}
+
+	@FunctionalInterface
+	interface Writer<T> {
+		void write(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+	}
+
+	@FunctionalInterface
+	interface Reader<T> {
+		T read(JsonParser parser, DeserializationContext context) throws IOException;
+	}
+}
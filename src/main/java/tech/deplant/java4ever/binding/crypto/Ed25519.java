@@ -0,0 +1,268 @@
+package tech.deplant.java4ever.binding.crypto;
+
+import tech.deplant.java4ever.binding.Crypto;
+import tech.deplant.java4ever.binding.EverSdkException;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.interfaces.EdECPublicKey;
+import java.security.spec.EdECPoint;
+import java.security.spec.EdECPrivateKeySpec;
+import java.security.spec.EdECPublicKeySpec;
+import java.security.spec.NamedParameterSpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Ed25519 signatures computed in-process by the JDK {@code Ed25519} provider, without FFI calls.
+ * <p>
+ * Results are the same as of {@link Crypto#sign}, {@link Crypto#naclSignDetached} and
+ * {@link Crypto#verifySignature}: Ed25519 is deterministic, so the same key and message give the same signature.
+ * Keys of {@link Crypto.KeyPair} are decoded once, when signer is created, and signer is thread-safe.
+ *
+ * <pre>{@code
+ * var signer = Ed25519.of(keys);
+ * String signature = signer.signDetached(unsignedBase64);
+ * }</pre>
+ */
+public final class Ed25519 {
+
+	private static final String ALGORITHM = "Ed25519";
+	private static final int KEY_BYTES = 32;
+	private static final int SIGNATURE_BYTES = 64;
+
+	private final String publicKeyHex;
+	private final PublicKey publicKey;
+	private final PrivateKey privateKey;
+
+	private Ed25519(String publicKeyHex, PublicKey publicKey, PrivateKey privateKey) {
+		this.publicKeyHex = publicKeyHex;
+		this.publicKey = publicKey;
+		this.privateKey = privateKey;
+	}
+
+	/**
+	 * Signer of key pair, as generated by {@link Crypto#generateRandomSignKeys}.
+	 * Public key is derived from the secret and should be the same as the one of the pair.
+	 *
+	 * @param keys key pair with 32 bytes secret
+	 * @return the signer
+	 * @throws IllegalArgumentException if keys are malformed or public key doesn't belong to the secret
+	 */
+	public static Ed25519 of(Crypto.KeyPair keys) {
+		byte[] secret = HexFormat.of().parseHex(keys.secretKey());
+		if (secret.length != KEY_BYTES) {
+			throw new IllegalArgumentException("Ed25519 secret key should have 32 bytes, got " + secret.length);
+		}
+		try {
+			var derived = derivePublicKey(secret);
+			if (!Arrays.equals(encode(derived), HexFormat.of().parseHex(keys.publicKey()))) {
+				throw new IllegalArgumentException("Ed25519 public key doesn't match the secret key!");
+			}
+			var factory = KeyFactory.getInstance(ALGORITHM);
+			return new Ed25519(keys.publicKey().toLowerCase(),
+			                   derived,
+			                   factory.generatePrivate(new EdECPrivateKeySpec(NamedParameterSpec.ED25519, secret)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalArgumentException("Malformed Ed25519 key pair!", e);
+		}
+	}
+
+	// JDK has no public key derivation, but its generator takes the secret from random bytes as is
+	private static EdECPublicKey derivePublicKey(byte[] secret) throws GeneralSecurityException {
+		var generator = KeyPairGenerator.getInstance(ALGORITHM);
+		generator.initialize(NamedParameterSpec.ED25519, new SecureRandom() {
+			@Override
+			public void nextBytes(byte[] bytes) {
+				System.arraycopy(secret, 0, bytes, 0, bytes.length);
+			}
+		});
+		return (EdECPublicKey) generator.generateKeyPair().getPublic();
+	}
+
+	private static byte[] encode(EdECPublicKey publicKey) {
+		byte[] y = publicKey.getPoint().getY().toByteArray();
+		byte[] encoded = new byte[KEY_BYTES];
+		for (int i = 0; i < KEY_BYTES && i < y.length; i++) {
+			encoded[i] = y[y.length - 1 - i];
+		}
+		if (publicKey.getPoint().isXOdd()) {
+			encoded[KEY_BYTES - 1] |= (byte) 0x80;
+		}
+		return encoded;
+	}
+
+	/**
+	 * Signer of NaCl secret key, i.e. 32 bytes secret followed by 32 bytes public key.
+	 *
+	 * @param naclSecretKey 64 bytes secret key in hex
+	 * @return the signer
+	 */
+	public static Ed25519 ofNaclSecret(String naclSecretKey) {
+		if (naclSecretKey.length() != 4 * KEY_BYTES) {
+			throw new IllegalArgumentException("NaCl secret key should have 64 bytes!");
+		}
+		return of(new Crypto.KeyPair(naclSecretKey.substring(2 * KEY_BYTES), naclSecretKey.substring(0, 2 * KEY_BYTES)));
+	}
+
+	// public key is y coordinate in little-endian with the lowest bit of x in its top bit
+	private static PublicKey publicKey(byte[] encoded) throws GeneralSecurityException {
+		if (encoded.length != KEY_BYTES) {
+			throw new IllegalArgumentException("Ed25519 public key should have 32 bytes, got " + encoded.length);
+		}
+		byte[] y = new byte[KEY_BYTES];
+		for (int i = 0; i < KEY_BYTES; i++) {
+			y[i] = encoded[KEY_BYTES - 1 - i];
+		}
+		boolean xOdd = (y[0] & 0x80) != 0;
+		y[0] &= 0x7F;
+		return KeyFactory.getInstance(ALGORITHM)
+		                 .generatePublic(new EdECPublicKeySpec(NamedParameterSpec.ED25519,
+		                                                       new EdECPoint(xOdd, new BigInteger(1, y))));
+	}
+
+	/**
+	 * Public key of signer.
+	 *
+	 * @return the public key in hex
+	 */
+	public String publicKey() {
+		return this.publicKeyHex;
+	}
+
+	/**
+	 * Signature of message.
+	 *
+	 * @param message the message
+	 * @return 64 bytes signature
+	 */
+	public byte[] sign(byte[] message) {
+		try {
+			var signature = Signature.getInstance(ALGORITHM);
+			signature.initSign(this.privateKey);
+			signature.update(message);
+			return signature.sign();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Ed25519 signing failed!", e);
+		}
+	}
+
+	/**
+	 * Same as {@link Crypto#naclSignDetached} and {@link Crypto#signingBoxSign}.
+	 *
+	 * @param unsigned base64 data to sign
+	 * @return the signature in hex
+	 */
+	public String signDetached(String unsigned) {
+		return HexFormat.of().formatHex(sign(Base64.getDecoder().decode(unsigned)));
+	}
+
+	/**
+	 * Same as {@link Crypto#sign}.
+	 *
+	 * @param unsigned base64 data to sign
+	 * @return base64 signature followed by data, and the signature in hex
+	 */
+	public Crypto.ResultOfSign signAttached(String unsigned) {
+		byte[] data = Base64.getDecoder().decode(unsigned);
+		byte[] signature = sign(data);
+		byte[] signed = Arrays.copyOf(signature, SIGNATURE_BYTES + data.length);
+		System.arraycopy(data, 0, signed, SIGNATURE_BYTES, data.length);
+		return new Crypto.ResultOfSign(Base64.getEncoder().encodeToString(signed),
+		                               HexFormat.of().formatHex(signature));
+	}
+
+	/**
+	 * Checks signature of message by this signer.
+	 *
+	 * @param message   the message
+	 * @param signature 64 bytes signature
+	 * @return true if signature is valid
+	 */
+	public boolean verify(byte[] message, byte[] signature) {
+		return verify(this.publicKey, message, signature);
+	}
+
+	/**
+	 * Checks signature of message.
+	 *
+	 * @param publicKey 32 bytes public key
+	 * @param message   the message
+	 * @param signature 64 bytes signature
+	 * @return true if signature is valid, false if it's invalid or malformed
+	 */
+	public static boolean verify(byte[] publicKey, byte[] message, byte[] signature) {
+		try {
+			return verify(publicKey(publicKey), message, signature);
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private static boolean verify(PublicKey publicKey, byte[] message, byte[] signature) {
+		if (signature.length != SIGNATURE_BYTES) {
+			return false;
+		}
+		try {
+			var verifier = Signature.getInstance(ALGORITHM);
+			verifier.initVerify(publicKey);
+			verifier.update(message);
+			return verifier.verify(signature);
+		} catch (GeneralSecurityException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Same as {@link Crypto#verifySignature}.
+	 *
+	 * @param signed    base64 signature followed by data
+	 * @param publicKey public key in hex
+	 * @return base64 data without signature
+	 * @throws EverSdkException if signature is invalid
+	 */
+	public static String verifySignature(String signed, String publicKey) throws EverSdkException {
+		byte[] bytes = Base64.getDecoder().decode(signed);
+		if (bytes.length >= SIGNATURE_BYTES) {
+			byte[] data = Arrays.copyOfRange(bytes, SIGNATURE_BYTES, bytes.length);
+			if (verify(HexFormat.of().parseHex(publicKey), data, Arrays.copyOf(bytes, SIGNATURE_BYTES))) {
+				return Base64.getEncoder().encodeToString(data);
+			}
+		}
+		throw new EverSdkException(new EverSdkException.ErrorResult(-500, "Ed25519 signature is invalid!"));
+	}
+
+	/**
+	 * Checks many signatures at once, spread over all processors.
+	 *
+	 * @param signatures signatures to check
+	 * @return validity of every signature, in the same order
+	 */
+	public static boolean[] verifyAll(List<SignedMessage> signatures) {
+		var valid = new boolean[signatures.size()];
+		IntStream.range(0, valid.length).parallel().forEach(i -> {
+			var signed = signatures.get(i);
+			valid[i] = verify(signed.publicKey(), signed.message(), signed.signature());
+		});
+		return valid;
+	}
+
+	/**
+	 * Message with its signature, for batch verification.
+	 *
+	 * @param publicKey 32 bytes public key
+	 * @param message   the message
+	 * @param signature 64 bytes signature
+	 */
+	public record SignedMessage(byte[] publicKey, byte[] message, byte[] signature) {
+	}
+}
@@ -0,0 +1,298 @@
+package tech.deplant.java4ever.binding.crypto;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * SHA-256, SHA-512 and TON CRC16 computed in-process, with the same results as {@code crypto.sha256},
+ * {@code crypto.sha512} and {@code crypto.ton_crc16}.
+ * <p>
+ * Overloads take {@code byte[]}, {@link ByteBuffer} (its remaining bytes, position isn't changed) and
+ * {@link MemorySegment}, so data doesn't have to be base64 encoded first. Large inputs can be hashed
+ * incrementally with {@link #newSha256()}, {@link #newSha512()} and {@link Crc16}. Bulk methods hash many
+ * buffers with one digest instance.
+ */
+public final class Hashes {
+
+	// ByteBuffer view of a memory segment can't be larger than Integer.MAX_VALUE
+	private static final long SEGMENT_CHUNK = 1L << 30;
+
+	private Hashes() {
+	}
+
+	/**
+	 * Incremental SHA-256 digest.
+	 *
+	 * @return the message digest
+	 */
+	public static MessageDigest newSha256() {
+		return digest("SHA-256");
+	}
+
+	/**
+	 * Incremental SHA-512 digest.
+	 *
+	 * @return the message digest
+	 */
+	public static MessageDigest newSha512() {
+		return digest("SHA-512");
+	}
+
+	private static MessageDigest digest(String algorithm) {
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * SHA-256 of data.
+	 *
+	 * @param data the data
+	 * @return 32 bytes hash
+	 */
+	public static byte[] sha256(byte[] data) {
+		return newSha256().digest(data);
+	}
+
+	/**
+	 * SHA-256 of remaining bytes of buffer.
+	 *
+	 * @param data the data
+	 * @return 32 bytes hash
+	 */
+	public static byte[] sha256(ByteBuffer data) {
+		var digest = newSha256();
+		digest.update(data.duplicate());
+		return digest.digest();
+	}
+
+	/**
+	 * SHA-256 of segment.
+	 *
+	 * @param data the data
+	 * @return 32 bytes hash
+	 */
+	public static byte[] sha256(MemorySegment data) {
+		var digest = newSha256();
+		update(digest, data);
+		return digest.digest();
+	}
+
+	/**
+	 * Same as {@code Crypto.sha256}.
+	 *
+	 * @param base64 base64 data
+	 * @return the hash in hex
+	 */
+	public static String sha256Hex(String base64) {
+		return HexFormat.of().formatHex(sha256(Base64.getDecoder().decode(base64)));
+	}
+
+	/**
+	 * SHA-256 of every buffer.
+	 *
+	 * @param buffers the buffers
+	 * @return hashes in the same order
+	 */
+	public static byte[][] sha256(List<ByteBuffer> buffers) {
+		return digestEach(newSha256(), buffers);
+	}
+
+	/**
+	 * SHA-512 of data.
+	 *
+	 * @param data the data
+	 * @return 64 bytes hash
+	 */
+	public static byte[] sha512(byte[] data) {
+		return newSha512().digest(data);
+	}
+
+	/**
+	 * SHA-512 of remaining bytes of buffer.
+	 *
+	 * @param data the data
+	 * @return 64 bytes hash
+	 */
+	public static byte[] sha512(ByteBuffer data) {
+		var digest = newSha512();
+		digest.update(data.duplicate());
+		return digest.digest();
+	}
+
+	/**
+	 * SHA-512 of segment.
+	 *
+	 * @param data the data
+	 * @return 64 bytes hash
+	 */
+	public static byte[] sha512(MemorySegment data) {
+		var digest = newSha512();
+		update(digest, data);
+		return digest.digest();
+	}
+
+	/**
+	 * Same as {@code Crypto.sha512}.
+	 *
+	 * @param base64 base64 data
+	 * @return the hash in hex
+	 */
+	public static String sha512Hex(String base64) {
+		return HexFormat.of().formatHex(sha512(Base64.getDecoder().decode(base64)));
+	}
+
+	/**
+	 * SHA-512 of every buffer.
+	 *
+	 * @param buffers the buffers
+	 * @return hashes in the same order
+	 */
+	public static byte[][] sha512(List<ByteBuffer> buffers) {
+		return digestEach(newSha512(), buffers);
+	}
+
+	private static byte[][] digestEach(MessageDigest digest, List<ByteBuffer> buffers) {
+		var hashes = new byte[buffers.size()][];
+		for (int i = 0; i < hashes.length; i++) {
+			// digest() resets the instance for the next buffer
+			digest.update(buffers.get(i).duplicate());
+			hashes[i] = digest.digest();
+		}
+		return hashes;
+	}
+
+	/**
+	 * Feeds segment to digest.
+	 *
+	 * @param digest the digest
+	 * @param data   the data
+	 */
+	public static void update(MessageDigest digest, MemorySegment data) {
+		for (long offset = 0; offset < data.byteSize(); offset += SEGMENT_CHUNK) {
+			digest.update(data.asSlice(offset, Math.min(SEGMENT_CHUNK, data.byteSize() - offset)).asByteBuffer());
+		}
+	}
+
+	/**
+	 * TON CRC16 of data.
+	 *
+	 * @param data the data
+	 * @return the crc
+	 */
+	public static int crc16(byte[] data) {
+		return new Crc16().update(data).value();
+	}
+
+	/**
+	 * TON CRC16 of remaining bytes of buffer.
+	 *
+	 * @param data the data
+	 * @return the crc
+	 */
+	public static int crc16(ByteBuffer data) {
+		return new Crc16().update(data).value();
+	}
+
+	/**
+	 * TON CRC16 of segment.
+	 *
+	 * @param data the data
+	 * @return the crc
+	 */
+	public static int crc16(MemorySegment data) {
+		return new Crc16().update(data).value();
+	}
+
+	/**
+	 * Same as {@code Crypto.tonCrc16}.
+	 *
+	 * @param base64 base64 data
+	 * @return the crc
+	 */
+	public static int crc16(String base64) {
+		return crc16(Base64.getDecoder().decode(base64));
+	}
+
+	/**
+	 * Incremental TON CRC16, that is CRC-16/XMODEM: polynomial 0x1021, zero initial value, no reflection.
+	 */
+	public static final class Crc16 {
+
+		private static final int[] TABLE = table();
+
+		private int crc;
+
+		private static int[] table() {
+			var table = new int[256];
+			for (int i = 0; i < 256; i++) {
+				int crc = i << 8;
+				for (int bit = 0; bit < 8; bit++) {
+					crc = (crc & 0x8000) != 0 ? crc << 1 ^ 0x1021 : crc << 1;
+				}
+				table[i] = crc & 0xFFFF;
+			}
+			return table;
+		}
+
+		private void update(byte b) {
+			this.crc = (this.crc << 8 ^ TABLE[(this.crc >>> 8 ^ b) & 0xFF]) & 0xFFFF;
+		}
+
+		/**
+		 * Feeds bytes.
+		 *
+		 * @param data the data
+		 * @return this crc
+		 */
+		public Crc16 update(byte[] data) {
+			for (byte b : data) {
+				update(b);
+			}
+			return this;
+		}
+
+		/**
+		 * Feeds remaining bytes of buffer, position isn't changed.
+		 *
+		 * @param data the data
+		 * @return this crc
+		 */
+		public Crc16 update(ByteBuffer data) {
+			for (int i = data.position(); i < data.limit(); i++) {
+				update(data.get(i));
+			}
+			return this;
+		}
+
+		/**
+		 * Feeds segment.
+		 *
+		 * @param data the data
+		 * @return this crc
+		 */
+		public Crc16 update(MemorySegment data) {
+			for (long i = 0; i < data.byteSize(); i++) {
+				update(data.get(ValueLayout.JAVA_BYTE, i));
+			}
+			return this;
+		}
+
+		/**
+		 * CRC of bytes fed so far.
+		 *
+		 * @return the crc
+		 */
+		public int value() {
+			return this.crc;
+		}
+	}
+}
@@ -0,0 +1,229 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import tech.deplant.java4ever.binding.EverSdk;
+import tech.deplant.java4ever.binding.EverSdkException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits count of requests in flight of a single context, in total and per function group.
+ * Group is a module prefix of the function name, like "net", "crypto" or "tvm".
+ * Permit is taken before the request is sent and is given back on its finished upcall.
+ * In ASYNC_WAIT mode every group has its own FIFO queue, so a group that is out of permits doesn't hold
+ * requests of other groups behind it.
+ */
+final class AdmissionController {
+
+	private final static System.Logger logger = System.getLogger(AdmissionController.class.getName());
+
+	private final EverSdk.AdmissionLimits limits;
+	private final Semaphore contextPermits;
+	private final Map<String, Semaphore> groupPermits = new HashMap<>();
+	// group -> requests waiting for permit, queues are never removed, there are only a few groups
+	private final Map<String, Queue<Pending>> pending = new ConcurrentHashMap<>();
+	private final ReentrantLock drainLock = new ReentrantLock();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final LongAdder rejected = new LongAdder();
+
+	AdmissionController(EverSdk.AdmissionLimits limits) {
+		this.limits = limits;
+		this.contextPermits = limits.maxInFlight() > 0 ? new Semaphore(limits.maxInFlight()) : null;
+		limits.maxInFlightPerGroup().forEach((group, max) -> {
+			if (max > 0) {
+				this.groupPermits.put(group, new Semaphore(max));
+			}
+		});
+	}
+
+	/**
+	 * Checks if request bypasses admission.
+	 * {@code client.resolve_app_request} is the answer of app object to a request that is already in flight
+	 * and holds a permit. If the answer waited for a permit, that request would never finish and give it back,
+	 * so in BLOCK mode the caller would wait forever. Sync calls don't take permits either, they are made with
+	 * {@code tc_request_sync} that never goes through admission.
+	 *
+	 * @param functionName the function name
+	 * @return true if request is sent without permit
+	 */
+	static boolean exempt(String functionName) {
+		return "client.resolve_app_request".equals(functionName);
+	}
+
+	static String groupOf(String functionName) {
+		int dot = functionName.indexOf('.');
+		return dot > 0 ? functionName.substring(0, dot) : functionName;
+	}
+
+	/**
+	 * Takes permit for the request according to the admission mode.
+	 *
+	 * @param group        function group
+	 * @param deferredSend action that sends the request if it was queued in ASYNC_WAIT mode
+	 * @return true if request is admitted and should be sent right now, false if it's queued
+	 * @throws EverSdkException if request is rejected or waiting for the permit failed
+	 */
+	boolean admit(String group, Runnable deferredSend) throws EverSdkException {
+		return switch (this.limits.mode()) {
+			case FAIL_FAST -> {
+				if (!tryAcquire(group)) {
+					throw reject(group, "Too many requests in flight!");
+				}
+				yield true;
+			}
+			case BLOCK -> {
+				acquireBlocking(group);
+				yield true;
+			}
+			case ASYNC_WAIT -> {
+				final Queue<Pending> groupQueue = this.pending.computeIfAbsent(group,
+				                                                               g -> new ConcurrentLinkedQueue<>());
+				// newcomers don't overtake the queue of their group
+				if (groupQueue.isEmpty() && tryAcquire(group)) {
+					yield true;
+				}
+				if (this.queued.incrementAndGet() > this.limits.maxQueued() && this.limits.maxQueued() > 0) {
+					this.queued.decrementAndGet();
+					throw reject(group, "Too many requests queued!");
+				}
+				groupQueue.add(new Pending(group, deferredSend));
+				// permit could be released while we were queuing
+				drain();
+				yield false;
+			}
+		};
+	}
+
+	/**
+	 * Gives back permit of the finished request and admits queued requests if any.
+	 *
+	 * @param group function group
+	 */
+	void release(String group) {
+		if (this.contextPermits != null) {
+			this.contextPermits.release();
+		}
+		if (this.groupPermits.get(group) instanceof Semaphore groupPermit) {
+			groupPermit.release();
+		}
+		if (this.queued.get() > 0) {
+			drain();
+		}
+	}
+
+	private boolean tryAcquire(String group) {
+		Semaphore groupPermit = this.groupPermits.get(group);
+		if (groupPermit != null && !groupPermit.tryAcquire()) {
+			return false;
+		}
+		if (this.contextPermits != null && !this.contextPermits.tryAcquire()) {
+			if (groupPermit != null) {
+				groupPermit.release();
+			}
+			return false;
+		}
+		return true;
+	}
+
+	private void acquireBlocking(String group) throws EverSdkException {
+		if (tryAcquire(group)) {
+			return;
+		}
+		final long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(this.limits.waitTimeoutMillis() > 0 ?
+		                                                         this.limits.waitTimeoutMillis() :
+		                                                         EverSdk.timeout);
+		final long deadline = System.nanoTime() + timeoutNanos;
+		final Semaphore groupPermit = this.groupPermits.get(group);
+		this.queued.incrementAndGet();
+		try {
+			if (groupPermit != null && !groupPermit.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+				throw timeout(group);
+			}
+			if (this.contextPermits != null &&
+			    !this.contextPermits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+				if (groupPermit != null) {
+					groupPermit.release();
+				}
+				throw timeout(group);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new EverSdkException(new EverSdkException.ErrorResult(-400, "Waiting for request admission interrupted!"),
+			                           e);
+		} finally {
+			this.queued.decrementAndGet();
+		}
+	}
+
+	// admits queued requests of every group in FIFO order while permits are available
+	private void drain() {
+		if (!this.drainLock.tryLock()) {
+			// other thread is draining, it will see our permit as well
+			return;
+		}
+		try {
+			for (Queue<Pending> groupQueue : this.pending.values()) {
+				Pending head;
+				while ((head = groupQueue.peek()) != null && tryAcquire(head.group())) {
+					groupQueue.poll();
+					this.queued.decrementAndGet();
+					// sending is moved out of the releasing thread, which is usually EVER-SDK upcall thread
+					CompletableFuture.runAsync(head.send());
+				}
+			}
+		} finally {
+			this.drainLock.unlock();
+		}
+		// permit released between our last check and unlock would be missed otherwise
+		if (this.queued.get() > 0 && hasAdmissible()) {
+			drain();
+		}
+	}
+
+	private boolean hasAdmissible() {
+		if (this.contextPermits != null && this.contextPermits.availablePermits() == 0) {
+			return false;
+		}
+		for (Queue<Pending> groupQueue : this.pending.values()) {
+			Pending head = groupQueue.peek();
+			if (head != null &&
+			    (!(this.groupPermits.get(head.group()) instanceof Semaphore groupPermit) ||
+			     groupPermit.availablePermits() > 0)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private EverSdkException reject(String group, String message) {
+		this.rejected.increment();
+		logger.log(System.Logger.Level.WARNING, () -> "GROUP:%s %s".formatted(group, message));
+		return new EverSdkException(new EverSdkException.ErrorResult(-429, message));
+	}
+
+	private EverSdkException timeout(String group) {
+		this.rejected.increment();
+		logger.log(System.Logger.Level.WARNING, () -> "GROUP:%s Request admission expired on Timeout!".formatted(group));
+		return new EverSdkException(new EverSdkException.ErrorResult(-408, "Request admission expired on Timeout!"));
+	}
+
+	EverSdk.AdmissionStats stats(int inFlight) {
+		var groups = new HashMap<String, Integer>();
+		this.groupPermits.forEach((group, groupPermit) -> groups.put(group,
+		                                                             this.limits.maxInFlightPerGroup().get(group) -
+		                                                             groupPermit.availablePermits()));
+		return new EverSdk.AdmissionStats(this.limits, inFlight, this.queued.get(), this.rejected.sum(), groups);
+	}
+
+	private record Pending(String group, Runnable send) {
+	}
+}
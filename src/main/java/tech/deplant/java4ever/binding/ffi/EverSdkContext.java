@@ -1,35 +1,57 @@
 package tech.deplant.java4ever.binding.ffi;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import tech.deplant.java4ever.binding.*;
+import tech.deplant.java4ever.binding.metrics.RequestMetrics;
 
+import java.io.IOException;
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+
 /**
  * The type Ever sdk context.
  */
-public class EverSdkContext implements tc_response_handler_t.Function {
+public class EverSdkContext implements tc_response_handler_t.Function, AutoCloseable {
 
 	private final static System.Logger logger = System.getLogger(EverSdkContext.class.getName());
+	private final static byte[] EMPTY_PARAMS = new byte[0];
+	/**
+	 * Default count of preallocated request slots. Requests above it still work, but go to the overflow map.
+	 */
+	public final static int DEFAULT_REQUEST_SLOTS = 4096;
+	// every request with callbacks drains its own queue on a virtual thread
+	private final static Executor DEFAULT_CALLBACK_EXECUTOR = Thread::startVirtualThread;
+	// upcalls of a request that its handler hasn't processed yet, above it SDK callback thread waits for handler
+	private final static int CALLBACK_QUEUE_CAPACITY = 1024;
 
 	private final int id;
 	private final AtomicInteger requestCount = new AtomicInteger();
 	private final Client.ClientConfig clientConfig;
 	private final long timeout;
-	@JsonIgnore private final Map<Integer, RequestData> requests = new ConcurrentHashMap<>();
-	@JsonIgnore private final Queue<RequestData> cleanupQueue = new ConcurrentLinkedDeque<>();
+	@JsonIgnore private final RequestSlotTable<RequestData<?>> requests;
+	// upcall stub is the same for all requests of the context, so it's created once and lives until context is closed
+	@JsonIgnore private final Arena contextArena;
+	@JsonIgnore private final MemorySegment responseHandler;
+	// stub is freed when context is closed, no request is in flight and no SDK thread is inside the stub
+	@JsonIgnore private final AtomicInteger activeUpcalls = new AtomicInteger();
+	@JsonIgnore private final AtomicBoolean handlerFreed = new AtomicBoolean();
+	@JsonIgnore private volatile boolean closeRequested;
+	@JsonIgnore private volatile AdmissionController admission;
+	@JsonIgnore private volatile Executor callbackExecutor = DEFAULT_CALLBACK_EXECUTOR;
 
 	/**
 	 * Instantiates a new Ever sdk context.
@@ -38,9 +60,23 @@ public class EverSdkContext implements tc_response_handler_t.Function {
 	 * @param clientConfig the client config
 	 */
 	public EverSdkContext(int id, Client.ClientConfig clientConfig) {
+		this(id, clientConfig, DEFAULT_REQUEST_SLOTS);
+	}
+
+	/**
+	 * Instantiates a new Ever sdk context.
+	 *
+	 * @param id           the id
+	 * @param clientConfig the client config
+	 * @param requestSlots count of preallocated request slots
+	 */
+	public EverSdkContext(int id, Client.ClientConfig clientConfig, int requestSlots) {
 		this.id = id;
+		this.requests = new RequestSlotTable<>(requestSlots);
 		this.clientConfig = clientConfig;
 		this.timeout = extractTimeout(clientConfig);
+		this.contextArena = Arena.ofShared();
+		this.responseHandler = tc_response_handler_t.allocate(this, this.contextArena);
 	}
 
 	/**
@@ -63,36 +99,170 @@ public class EverSdkContext implements tc_response_handler_t.Function {
 	                                                     final Class<R> resultClass,
 	                                                     final Consumer<JsonNode> eventConsumer,
 	                                                     final AppObject appObject) {
-		final int requestId = requestCountNextVal();
-		// let's clean previous requests and their native memory sessions
-		cleanup();
+		requestCountNextVal();
 
 		// it's better to explicitly mark requests as void to not recheck this every time in response handler
 		boolean hasResponse = !resultClass.equals(Void.class);
 
-		var request = new RequestData<R>(hasResponse,
-		                                 Arena.ofAuto(),
-		                                 new ReentrantLock(),
+		var request = new RequestData<R>(functionName,
+		                                 EverSdk.metrics(),
+		                                 hasResponse,
 		                                 resultClass,
 		                                 new CompletableFuture<>(),
 		                                 eventConsumer,
 		                                 appObject);
-		this.requests.put(requestId, request);
+		final byte[] paramsJson = processParams(functionInputs);
+
+		final AdmissionController admission = this.admission;
+		// app object answers are exempt, request they answer holds a permit already
+		if (admission != null && !AdmissionController.exempt(functionName)) {
+			request.admission = admission;
+			request.admissionGroup = AdmissionController.groupOf(functionName);
+			try {
+				if (!admission.admit(request.admissionGroup, () -> sendQueued(request, paramsJson))) {
+					// queued in ASYNC_WAIT mode, will be sent when some request finishes
+					return request.responseFuture();
+				}
+			} catch (EverSdkException e) {
+				if (request.metrics().enabled()) {
+					request.metrics().onError(this.id, functionName, e.errorResponse().code());
+				}
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+		send(request, paramsJson);
+		return request.responseFuture();
+	}
 
-		// with reentrant lock, multiple results on any given single request will be processed one by one
-		var paramsJson = processParams(functionInputs);
-		request.queueLock().lock();
+	private void sendQueued(final RequestData<?> request, final byte[] paramsJson) {
 		try {
-			NativeMethods.tcRequest(this.id, functionName, paramsJson, request.nativeArena(), requestId, this);
-		} finally {
-			request.queueLock().unlock();
-			logger.log(System.Logger.Level.TRACE,
-			           () -> EverSdk.LOG_FORMAT.formatted(this.id, requestId, functionName, "SEND", paramsJson));
+			send(request, paramsJson);
+		} catch (RuntimeException | Error e) {
+			request.responseFuture().completeExceptionally(e);
 		}
-		if (!hasResponse) {
+	}
+
+	private <R> void send(final RequestData<R> request, final byte[] paramsJson) {
+		final String functionName = request.functionName();
+		final int requestId = this.requests.register(request);
+
+		// request monitor is held while sending, so upcalls can't see request without its native buffer.
+		// multiple results on any given single request will be processed one by one on the same monitor
+		synchronized (request) {
+			try {
+				if (request.metrics().enabled()) {
+					request.sentNanos = System.nanoTime();
+				}
+				request.nativeBuffer = NativeMethods.tcRequest(this.id,
+				                                               functionName,
+				                                               paramsJson,
+				                                               requestId,
+				                                               this.responseHandler);
+				if (request.metrics().enabled()) {
+					request.metrics().onSend(this.id, functionName, paramsJson.length);
+				}
+			} catch (RuntimeException | Error e) {
+				this.requests.remove(request);
+				releaseAdmission(request);
+				throw e;
+			}
+		}
+		logger.log(System.Logger.Level.TRACE,
+		           () -> EverSdk.LOG_FORMAT.formatted(this.id,
+		                                              requestId,
+		                                              functionName,
+		                                              "SEND",
+		                                              new String(paramsJson, StandardCharsets.UTF_8)));
+		if (!request.hasResponse()) {
 			request.responseFuture().complete(null);
 		}
-		return request.responseFuture();
+	}
+
+	/**
+	 * Calls EVER-SDK function with tc_request_sync. Response is parsed on the caller's thread,
+	 * so there are no upcall, no future and no request slot. Only suitable for functions
+	 * without callbacks and app objects. Sync calls don't go through admission, see {@link AdmissionController#exempt}.
+	 *
+	 * @param <R>            Class of the result object
+	 * @param <P>            Class of the function params object
+	 * @param functionName   the function name
+	 * @param functionInputs record of input type, usually ParamsOf...
+	 * @param resultClass    class of output type record, usually ResultOf...class
+	 * @return output type record, usually ResultOf...
+	 * @throws EverSdkException the ever sdk exception
+	 */
+	public <R, P> R callSync(final String functionName,
+	                         final P functionInputs,
+	                         final Class<R> resultClass) throws EverSdkException {
+		final int requestId = requestCountNextVal();
+		final byte[] paramsJson = processParams(functionInputs);
+		logger.log(System.Logger.Level.TRACE,
+		           () -> EverSdk.LOG_FORMAT.formatted(this.id,
+		                                              requestId,
+		                                              functionName,
+		                                              "SEND_SYNC",
+		                                              new String(paramsJson, StandardCharsets.UTF_8)));
+		final RequestMetrics metrics = EverSdk.metrics();
+		final long sentNanos = metrics.enabled() ? System.nanoTime() : 0L;
+		final MemorySegment handle = NativeMethods.tcRequestSync(this.id, functionName, paramsJson);
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment json = NativeStrings.content(NativeMethods.tcReadString(handle, arena));
+			logger.log(System.Logger.Level.TRACE,
+			           () -> "CTX:%d REQ:%d RESP:%s".formatted(this.id, requestId, NativeStrings.asString(json)));
+			if (!metrics.enabled()) {
+				return readSyncResponse(requestId, json, resultClass);
+			}
+			// sync call has neither upcalls nor separate finish, so all events are recorded at once
+			final long nanos = System.nanoTime() - sentNanos;
+			metrics.onSend(this.id, functionName, paramsJson.length);
+			metrics.onFirstUpcall(this.id, functionName, nanos);
+			try {
+				R result = readSyncResponse(requestId, json, resultClass);
+				metrics.onResponse(this.id, functionName, (int) json.byteSize());
+				return result;
+			} catch (EverSdkException e) {
+				metrics.onError(this.id, functionName, e.errorResponse().code());
+				throw e;
+			} finally {
+				metrics.onFinished(this.id, functionName, nanos);
+			}
+		} finally {
+			NativeMethods.tcDestroyString(handle);
+		}
+	}
+
+	// tc_request_sync answers with {"result": ...} or {"error": ...} object
+	private <R> R readSyncResponse(int requestId, final MemorySegment json, final Class<R> resultClass) throws EverSdkException {
+		try (JsonParser parser = JsonContext.SDK_JSON_MAPPER().createParser(NativeStrings.asInputStream(json))) {
+			if (parser.nextToken() == JsonToken.START_OBJECT && parser.nextToken() == JsonToken.FIELD_NAME) {
+				final String field = parser.currentName();
+				parser.nextToken();
+				if ("result".equals(field)) {
+					return resultClass.equals(Void.class) ?
+					       null :
+					       JsonContext.SDK_JSON_MAPPER().readValue(parser, resultClass);
+				} else if ("error".equals(field)) {
+					var error = JsonContext.SDK_JSON_MAPPER().readValue(parser, EverSdkException.ErrorResult.class);
+					logger.log(System.Logger.Level.WARNING,
+					           () -> "CTX:%d REQ:%d ERR:%s".formatted(this.id, requestId, error.toLog()));
+					throw new EverSdkException(error);
+				}
+			}
+			logger.log(System.Logger.Level.ERROR,
+			           () -> "CTX:%d REQ:%d EVER-SDK sync response has unexpected format! %s".formatted(this.id,
+			                                                                                            requestId,
+			                                                                                            NativeStrings.asString(json)));
+			throw new EverSdkException(new EverSdkException.ErrorResult(-500,
+			                                                            "EVER-SDK sync response has unexpected format!"));
+		} catch (IOException ex) {
+			logger.log(System.Logger.Level.ERROR,
+			           () -> "CTX:%d REQ:%d EVER-SDK Response deserialization failed! %s".formatted(this.id,
+			                                                                                        requestId,
+			                                                                                        ex.toString()));
+			throw new EverSdkException(new EverSdkException.ErrorResult(-500,
+			                                                            "EVER-SDK response deserialization failed!"),
+			                           ex.getCause());
+		}
 	}
 
 	/**
@@ -107,26 +277,29 @@ public class EverSdkContext implements tc_response_handler_t.Function {
 	/**
 	 * Add response.
 	 *
-	 * @param requestId      the request id
-	 * @param responseString the response string
+	 * @param requestId the request id
+	 * @param request   the request data
+	 * @param json      native response content, valid only during the upcall
 	 */
-	public void addResponse(int requestId, final RequestData request, final String responseString) {
+	public void addResponse(int requestId, final RequestData request, final MemorySegment json) {
 		if (request.hasResponse()) {
 			try {
 				if (!request.responseFuture().isDone()) {
 					logger.log(System.Logger.Level.TRACE,
-					           () -> "CTX:%d REQ:%d RESP:%s".formatted(this.id, requestId, responseString));
+					           () -> "CTX:%d REQ:%d RESP:%s".formatted(this.id, requestId, NativeStrings.asString(json)));
 					request.responseFuture()
-					       .complete(JsonContext.SDK_JSON_MAPPER().readValue(responseString, request.responseClass()));
+					       .complete(JsonContext.SDK_JSON_MAPPER()
+					                            .readValue(NativeStrings.asInputStream(json), request.responseClass()));
 				} else {
 					logger.log(System.Logger.Level.ERROR,
-					           "Slot for this request not found on processing response! CTX:%d REQ:%d RESP:%s".formatted(
+					           () -> "Slot for this request not found on processing response! CTX:%d REQ:%d RESP:%s".formatted(
 							           this.id,
 							           requestId,
-							           responseString));
+							           NativeStrings.asString(json)));
 				}
-			} catch (JsonProcessingException ex2) {
+			} catch (IOException ex2) {
 				// successful response but parsing failed
+				recordError(request, -500);
 				logger.log(System.Logger.Level.ERROR,
 				           () -> "CTX:%d REQ:%d EVER-SDK Response deserialization failed! %s".formatted(this.id,
 				                                                                                        requestId,
@@ -139,20 +312,22 @@ public class EverSdkContext implements tc_response_handler_t.Function {
 		}
 	}
 
-	private void addError(int requestId, final RequestData request, final String responseString) {
+	private void addError(int requestId, final RequestData request, final MemorySegment json) {
 		if (request.responseFuture() instanceof CompletableFuture<?> future) {
 			try {
 				// These errors are sent by SDK, response_type=1
 				//String everSdkError = ex.getCause().getMessage();
 				logger.log(System.Logger.Level.WARNING,
-				           () -> "CTX:%d REQ:%d ERR:%s".formatted(this.id, requestId, responseString));
+				           () -> "CTX:%d REQ:%d ERR:%s".formatted(this.id, requestId, NativeStrings.asString(json)));
 				// let's try to parse error response
 				EverSdkException.ErrorResult sdkResponse = JsonContext.SDK_JSON_MAPPER()
-				                                                      .readValue(responseString,
+				                                                      .readValue(NativeStrings.asInputStream(json),
 				                                                                 EverSdkException.ErrorResult.class);
+				recordError(request, sdkResponse.code());
 				future.completeExceptionally(new EverSdkException(sdkResponse));
-			} catch (JsonProcessingException ex1) {
+			} catch (IOException ex1) {
 				// if error response parsing failed
+				recordError(request, -500);
 				logger.log(System.Logger.Level.ERROR,
 				           () -> "CTX:%d REQ:%d EVER-SDK Error deserialization failed! %s".formatted(this.id,
 				                                                                                     requestId,
@@ -163,88 +338,182 @@ public class EverSdkContext implements tc_response_handler_t.Function {
 			}
 		} else {
 			logger.log(System.Logger.Level.ERROR,
-			           "Slot for this request not found on processing error response! CTX:%d REQ:%d ERR:%s".formatted(
+			           () -> "Slot for this request not found on processing error response! CTX:%d REQ:%d ERR:%s".formatted(
 					           this.id,
 					           requestId,
-					           responseString));
+					           NativeStrings.asString(json)));
 		}
 
 	}
 
 	// responseType = 100 means good answer, 101 means error or reconnection
-	private void addAppObjectRequest(int requestId, final RequestData request, final String appRequestString) {
+	private void addAppObjectRequest(int requestId, final RequestData request, final MemorySegment json) {
 		if (request.appObject() != null) {
 			try {
 				var appRequest = JsonContext.SDK_JSON_MAPPER()
-				                            .readValue(appRequestString, Client.ParamsOfAppRequest.class);
+				                            .readValue(NativeStrings.asInputStream(json),
+				                                       Client.ParamsOfAppRequest.class);
 				try {
 					request.appObject().consumeParams(this.id, appRequest.appRequestId(), appRequest.requestData());
 				} catch (Exception ex1) {
 					logger.log(System.Logger.Level.ERROR,
 					           () -> "REQ:%d EVENT:%s AppRequest processing failed! %s".formatted(requestId,
-					                                                                              appRequestString,
+					                                                                              NativeStrings.asString(json),
 					                                                                              ex1.toString()));
 				}
-			} catch (JsonProcessingException ex2) {
+			} catch (IOException ex2) {
 				logger.log(System.Logger.Level.ERROR,
 				           () -> "REQ:%d EVENT:%s AppRequest JSON deserialization failed! %s".formatted(requestId,
-				                                                                                        appRequestString,
+				                                                                                        NativeStrings.asString(json),
 				                                                                                        ex2.toString()));
 			}
 		} else {
 			logger.log(System.Logger.Level.ERROR,
-			           "No app request consumer for this request_id! CTX:%d REQ:%d EVENT:%s".formatted(this.id,
-			                                                                                           requestId,
-			                                                                                           appRequestString));
+			           () -> "No app request consumer for this request_id! CTX:%d REQ:%d EVENT:%s".formatted(this.id,
+			                                                                                                 requestId,
+			                                                                                                 NativeStrings.asString(json)));
 		}
 	}
 
 	// responseType = 100 means good answer, 101 means error or reconnection
-	private void addEvent(int requestId, final RequestData request, final String responseString, int responseType) {
+	private void addEvent(int requestId, final RequestData request, final MemorySegment json, int responseType) {
 		if (request.subscriptionHandler() != null) {
 			try {
-				JsonNode node = JsonContext.ABI_JSON_MAPPER().readTree(responseString);
+				JsonNode node = JsonContext.ABI_JSON_MAPPER().readTree(NativeStrings.asInputStream(json));
 				try {
 					request.subscriptionHandler().accept(node);
 				} catch (Exception ex1) {
 					logger.log(System.Logger.Level.ERROR,
 					           () -> "REQ:%d EVENT:%s Subscribe Event Action processing failed! %s".formatted(requestId,
-					                                                                                          responseString,
+					                                                                                          NativeStrings.asString(json),
 					                                                                                          ex1.toString()));
 				}
-			} catch (JsonProcessingException ex2) {
+			} catch (IOException ex2) {
 				logger.log(System.Logger.Level.ERROR,
 				           () -> "REQ:%d EVENT:%s Subscribe Event JSON deserialization failed! %s".formatted(requestId,
-				                                                                                             responseString,
+				                                                                                             NativeStrings.asString(json),
 				                                                                                             ex2.toString()));
 			}
 		} else {
 			logger.log(System.Logger.Level.ERROR,
-			           "No event consumer for this request_id! CTX:%d REQ:%d EVENT:%s".formatted(this.id,
-			                                                                                     requestId,
-			                                                                                     responseString));
+			           () -> "No event consumer for this request_id! CTX:%d REQ:%d EVENT:%s".formatted(this.id,
+			                                                                                           requestId,
+			                                                                                           NativeStrings.asString(json)));
+		}
+	}
+
+	private void recordError(final RequestData request, long code) {
+		if (request.metrics().enabled()) {
+			request.metrics().onError(this.id, request.functionName(), code);
+		}
+	}
+
+	// called under request monitor, so first upcall flag is safe
+	private void recordUpcall(final RequestData request, final MemorySegment json, int responseType, boolean finished) {
+		final RequestMetrics metrics = request.metrics();
+		final long nanos = System.nanoTime() - request.sentNanos;
+		if (!request.upcallReceived) {
+			request.upcallReceived = true;
+			metrics.onFirstUpcall(this.id, request.functionName(), nanos);
+		}
+		if (tc_response_types.of(responseType) == tc_response_types.TC_RESPONSE_SUCCESS) {
+			metrics.onResponse(this.id, request.functionName(), (int) json.byteSize());
+		}
+		if (finished) {
+			metrics.onFinished(this.id, request.functionName(), nanos);
 		}
 	}
 
+	// called under request monitor
+	private void releaseBuffer(final RequestData request) {
+		// request strings are not needed anymore, so native buffer goes back to pool
+		if (request.nativeBuffer != null) {
+			NativeBufferPool.SHARED.release(request.nativeBuffer);
+			request.nativeBuffer = null;
+		}
+	}
+
+	// called once, after the last upcall of request is dispatched
 	private void finishRequest(int requestId, final RequestData request) {
-		this.cleanupQueue.add(request);
-		this.requests.remove(requestId);
+		this.requests.remove(request);
+		releaseAdmission(request);
+		// callback requests finish in their lane, possibly after the last upcall has returned
+		freeIfClosed();
+	}
+
+	private void releaseAdmission(final RequestData<?> request) {
+		if (request.admission != null) {
+			request.admission.release(request.admissionGroup);
+			request.admission = null;
+		}
+	}
+
+	/**
+	 * Sets limits of requests in flight. Already sent requests are released to the limits
+	 * they were admitted with.
+	 *
+	 * @param limits the limits or null to remove them
+	 */
+	public void setAdmissionLimits(EverSdk.AdmissionLimits limits) {
+		this.admission = null == limits ? null : new AdmissionController(limits);
+	}
+
+	/**
+	 * Sets executor for subscription events and app object requests. Upcalls of each request are handled
+	 * one at a time in the order EVER-SDK sent them, whatever executor is used, and request is finished
+	 * only after its last upcall is handled. Each request queues up to 1024 upcalls, above that
+	 * SDK callback thread waits for the handler. Requests that already received upcalls keep their previous executor.
+	 *
+	 * @param executor the executor or null for a virtual thread per request
+	 */
+	public void setCallbackExecutor(Executor executor) {
+		this.callbackExecutor = null == executor ? DEFAULT_CALLBACK_EXECUTOR : executor;
 	}
 
-	private void cleanup() {
-		while (this.cleanupQueue.poll() instanceof RequestData request) {
-			request.queueLock().lock();
-			//try (var arena = request.nativeArena()) {
-			logger.log(System.Logger.Level.TRACE, () -> "Memory session arena closed");
-			//} finally {
-			request.queueLock().unlock();
-			//}
+	/**
+	 * Admission counters of this context.
+	 *
+	 * @return the admission stats
+	 */
+	public EverSdk.AdmissionStats admissionStats() {
+		final AdmissionController admission = this.admission;
+		return null == admission ?
+		       new EverSdk.AdmissionStats(null, this.requests.inFlight(), 0, 0L, Map.of()) :
+		       admission.stats(this.requests.inFlight());
+	}
+
+	/**
+	 * Frees the upcall stub of this context. Should be called after tc_destroy_context.
+	 * If some requests are still waiting for their finished upcall or some upcall is still running, stub is
+	 * freed later, by whichever of them finishes last. Freeing it while EVER-SDK may call it would crash the JVM.
+	 */
+	@Override
+	public void close() {
+		this.closeRequested = true;
+		if (!freeIfClosed()) {
+			logger.log(System.Logger.Level.DEBUG,
+			           () -> "CTX:%d Context destroyed with %d unfinished requests, response handler is freed after them".formatted(
+					           this.id,
+					           this.requests.inFlight()));
 		}
 	}
 
-	private <P> String processParams(final P params) {
+	// both close and upcall exit check the other side after publishing their own state,
+	// so whichever comes last sees zero in-flight requests and zero running upcalls
+	private boolean freeIfClosed() {
+		if (this.closeRequested &&
+		    this.requests.inFlight() == 0 &&
+		    this.activeUpcalls.get() == 0 &&
+		    this.handlerFreed.compareAndSet(false, true)) {
+			this.contextArena.close();
+			logger.log(System.Logger.Level.TRACE, () -> "CTX:%d Response handler freed".formatted(this.id));
+		}
+		return this.handlerFreed.get();
+	}
+
+	static <P> byte[] processParams(final P params) {
 		try {
-			return (null == params) ? "" : JsonContext.SDK_JSON_MAPPER().writeValueAsString(params);
+			return (null == params) ? EMPTY_PARAMS : JsonContext.SDK_JSON_MAPPER().writeValueAsBytes(params);
 		} catch (JsonProcessingException e) {
 			logger.log(System.Logger.Level.ERROR,
 			           () -> "Parameters serialization failed!" + e.getMessage() + e.getCause());
@@ -271,6 +540,15 @@ public class EverSdkContext implements tc_response_handler_t.Function {
 		return this.id;
 	}
 
+	/**
+	 * Count of async requests that are sent and didn't receive finished upcall yet.
+	 *
+	 * @return the int
+	 */
+	public int requestsInFlight() {
+		return this.requests.inFlight();
+	}
+
 	/**
 	 * Request count int.
 	 *
@@ -303,38 +581,67 @@ public class EverSdkContext implements tc_response_handler_t.Function {
 	 */
 	@Override
 	public void apply(int request_id, final MemorySegment params_json, int response_type, boolean finished) {
-		final String responseString = NativeStrings.toJava(params_json);
+		this.activeUpcalls.incrementAndGet();
+		try {
+			handleUpcall(request_id, params_json, response_type, finished);
+		} finally {
+			this.activeUpcalls.decrementAndGet();
+			// the last request could be finished by this upcall, stub is freed on its way out
+			freeIfClosed();
+		}
+	}
+
+	private void handleUpcall(int request_id, final MemorySegment params_json, int response_type, boolean finished) {
+		// response is parsed right from the native memory, it's valid only until this upcall returns
+		final MemorySegment json = NativeStrings.content(params_json);
 		if (logger.isLoggable(System.Logger.Level.TRACE)) {
 			logger.log(System.Logger.Level.TRACE,
 			           "CTX:%d, REQ:%d TYPE:%d FINISHED:%s JSON:%s".formatted(this.id,
 			                                                                  request_id,
 			                                                                  response_type,
 			                                                                  String.valueOf(finished),
-			                                                                  responseString));
+			                                                                  NativeStrings.asString(json)));
 		}
 		if (this.requests.get(request_id) instanceof RequestData<?> request) {
 			// Request is present, let's lock it
-			request.queueLock().lock();
-			try {
-				switch (tc_response_types.of(response_type)) {
-					case tc_response_types.TC_RESPONSE_SUCCESS -> addResponse(request_id, request, responseString);
-					case tc_response_types.TC_RESPONSE_ERROR -> addError(request_id, request, responseString);
-					case tc_response_types.TC_RESPONSE_CUSTOM ->
-							addEvent(request_id, request, responseString, response_type);
-					case tc_response_types.TC_RESPONSE_APP_REQUEST ->
-							addAppObjectRequest(request_id, request, responseString);
-				}
-				// if "finished" boolean flag received, let's cleanup request
-				if (finished) {
-					finishRequest(request_id, request);
+			synchronized (request) {
+				try {
+					if (request.metrics().enabled()) {
+						recordUpcall(request, json, response_type, finished);
+					}
+					if (request.hasCallbacks()) {
+						// subscription and app object handlers are user code, they run on the callback executor
+						// in order of upcalls, so SDK thread only copies the response.
+						// request is finished in the same lane, after all its callbacks have run
+						final MemorySegment copy = MemorySegment.ofArray(json.toArray(JAVA_BYTE));
+						if (request.callbacks == null) {
+							request.callbacks = new SerialExecutor(this.callbackExecutor, CALLBACK_QUEUE_CAPACITY);
+						}
+						if (finished) {
+							// SDK doesn't read request strings after the last upcall
+							releaseBuffer(request);
+						}
+						request.callbacks.execute(() -> {
+							dispatch(request_id, request, copy, response_type);
+							if (finished) {
+								finishRequest(request_id, request);
+							}
+						});
+					} else {
+						// plain responses are parsed right on the SDK thread, there is no user code to wait for
+						dispatch(request_id, request, json, response_type);
+						// if "finished" boolean flag received, let's cleanup request
+						if (finished) {
+							releaseBuffer(request);
+							finishRequest(request_id, request);
+						}
+					}
+				} catch (Exception e) {
+					logger.log(System.Logger.Level.ERROR,
+					           "REQ:%d TYPE:%d EVER-SDK Unexpected upcall error! %s".formatted(request_id,
+					                                                                           response_type,
+					                                                                           e.toString()));
 				}
-			} catch (Exception e) {
-				logger.log(System.Logger.Level.ERROR,
-				           "REQ:%d TYPE:%d EVER-SDK Unexpected upcall error! %s".formatted(request_id,
-				                                                                           response_type,
-				                                                                           e.toString()));
-			} finally {
-				request.queueLock().unlock();
 			}
 		} else {
 			// Let's process the situation when request already cleaned up
@@ -343,21 +650,88 @@ public class EverSdkContext implements tc_response_handler_t.Function {
 		}
 	}
 
+	private void dispatch(int requestId, final RequestData<?> request, final MemorySegment json, int responseType) {
+		switch (tc_response_types.of(responseType)) {
+			case tc_response_types.TC_RESPONSE_SUCCESS -> addResponse(requestId, request, json);
+			case tc_response_types.TC_RESPONSE_ERROR -> addError(requestId, request, json);
+			case tc_response_types.TC_RESPONSE_CUSTOM -> addEvent(requestId, request, json, responseType);
+			case tc_response_types.TC_RESPONSE_APP_REQUEST -> addAppObjectRequest(requestId, request, json);
+		}
+	}
+
 	/**
 	 * The type Request data.
-	 * It's VERY IMPORTANT to hold the pointer to RequestData for all interconnection of EVER-SDK request.
-	 * That's because nativeArena field is managed by GC.
-	 * If the RequestData will be cleaned up by GC, all subsequent answer will fail the JVM.
+	 * Native buffer with request strings is leased from {@link NativeBufferPool} and is given back
+	 * on the finished upcall.
 	 *
 	 * @param <R> the type parameter
 	 */
-	private record RequestData<R>(boolean hasResponse,
-	                              Arena nativeArena,
-	                              ReentrantLock queueLock,
-	                              Class<R> responseClass,
-	                              CompletableFuture<R> responseFuture,
-	                              Consumer<JsonNode> subscriptionHandler,
-	                              AppObject appObject) {
+	private static final class RequestData<R> extends RequestSlotTable.Entry {
+		private final String functionName;
+		private final RequestMetrics metrics;
+		private final boolean hasResponse;
+		private final Class<R> responseClass;
+		private final CompletableFuture<R> responseFuture;
+		private final Consumer<JsonNode> subscriptionHandler;
+		private final AppObject appObject;
+		// guarded by request monitor
+		private NativeBufferPool.Buffer nativeBuffer;
+		// set before request is sent, released on finish under request monitor
+		private AdmissionController admission;
+		private String admissionGroup;
+		// guarded by request monitor, used only when metrics are enabled
+		private long sentNanos;
+		private boolean upcallReceived;
+		// created on first upcall of request with callbacks under request monitor
+		private SerialExecutor callbacks;
+
+		private RequestData(String functionName,
+		                    RequestMetrics metrics,
+		                    boolean hasResponse,
+		                    Class<R> responseClass,
+		                    CompletableFuture<R> responseFuture,
+		                    Consumer<JsonNode> subscriptionHandler,
+		                    AppObject appObject) {
+			this.functionName = functionName;
+			this.metrics = metrics;
+			this.hasResponse = hasResponse;
+			this.responseClass = responseClass;
+			this.responseFuture = responseFuture;
+			this.subscriptionHandler = subscriptionHandler;
+			this.appObject = appObject;
+		}
+
+		String functionName() {
+			return this.functionName;
+		}
+
+		RequestMetrics metrics() {
+			return this.metrics;
+		}
+
+		boolean hasResponse() {
+			return this.hasResponse;
+		}
+
+		Class<R> responseClass() {
+			return this.responseClass;
+		}
+
+		CompletableFuture<R> responseFuture() {
+			return this.responseFuture;
+		}
+
+		Consumer<JsonNode> subscriptionHandler() {
+			return this.subscriptionHandler;
+		}
+
+		AppObject appObject() {
+			return this.appObject;
+		}
+
+		boolean hasCallbacks() {
+			return this.subscriptionHandler != null || this.appObject != null;
+		}
 	}
 
 	/**
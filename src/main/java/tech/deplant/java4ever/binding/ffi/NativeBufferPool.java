@@ -0,0 +1,126 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Slab-style pool of native buffers that are used to pass request strings to EVER-SDK.
+ * Buffers are bucketed into power-of-two size classes and are returned to the pool
+ * when request receives its {@code finished} upcall, so steady request flow doesn't
+ * produce GC-managed native garbage. Buffers bigger than the largest size class
+ * are not pooled and are freed immediately on release.
+ */
+public final class NativeBufferPool {
+
+	/**
+	 * Pool shared by all contexts.
+	 */
+	public static final NativeBufferPool SHARED = new NativeBufferPool(64);
+
+	private static final int MIN_CLASS_SHIFT = 8; // 256 bytes
+	private static final int MAX_CLASS_SHIFT = 20; // 1 MiB
+	private static final int SIZE_CLASSES = MAX_CLASS_SHIFT - MIN_CLASS_SHIFT + 1;
+
+	private final ArrayBlockingQueue<Buffer>[] idleBuffers;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final AtomicLong bytesReserved = new AtomicLong();
+
+	/**
+	 * Instantiates a new pool.
+	 *
+	 * @param maxIdlePerClass how many free buffers of every size class are kept for reuse
+	 */
+	@SuppressWarnings("unchecked")
+	public NativeBufferPool(int maxIdlePerClass) {
+		this.idleBuffers = new ArrayBlockingQueue[SIZE_CLASSES];
+		for (int i = 0; i < SIZE_CLASSES; i++) {
+			this.idleBuffers[i] = new ArrayBlockingQueue<>(maxIdlePerClass);
+		}
+	}
+
+	private static int sizeClassOf(long byteSize) {
+		int shift = Math.max(MIN_CLASS_SHIFT, 64 - Long.numberOfLeadingZeros(Math.max(byteSize - 1, 1)));
+		return shift > MAX_CLASS_SHIFT ? -1 : shift - MIN_CLASS_SHIFT;
+	}
+
+	/**
+	 * Takes a buffer of at least the specified size from the pool or allocates a new one.
+	 *
+	 * @param byteSize minimal size of the buffer
+	 * @return the buffer, must be given back with {@link #release(Buffer)}
+	 */
+	public Buffer acquire(long byteSize) {
+		int sizeClass = sizeClassOf(byteSize);
+		if (sizeClass >= 0) {
+			Buffer buffer = this.idleBuffers[sizeClass].poll();
+			if (buffer != null) {
+				this.hits.increment();
+				return buffer;
+			}
+			this.misses.increment();
+			return allocate(1L << (sizeClass + MIN_CLASS_SHIFT), sizeClass);
+		}
+		this.misses.increment();
+		return allocate(byteSize, -1);
+	}
+
+	/**
+	 * Gives buffer back to the pool. If the pool is full or buffer is oversized, its memory is freed.
+	 *
+	 * @param buffer the buffer
+	 */
+	public void release(Buffer buffer) {
+		if (buffer.sizeClass() < 0 || !this.idleBuffers[buffer.sizeClass()].offer(buffer)) {
+			this.bytesReserved.addAndGet(-buffer.segment().byteSize());
+			buffer.arena().close();
+		}
+	}
+
+	private Buffer allocate(long byteSize, int sizeClass) {
+		var arena = Arena.ofShared();
+		var segment = arena.allocate(byteSize, Long.BYTES);
+		this.bytesReserved.addAndGet(byteSize);
+		return new Buffer(arena, segment, sizeClass);
+	}
+
+	/**
+	 * Count of acquires served by a previously released buffer.
+	 *
+	 * @return the long
+	 */
+	public long hits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Count of acquires that needed new native allocation.
+	 *
+	 * @return the long
+	 */
+	public long misses() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Native memory currently held by the pool, both idle and leased buffers.
+	 *
+	 * @return the long
+	 */
+	public long bytesReserved() {
+		return this.bytesReserved.get();
+	}
+
+	/**
+	 * Native buffer leased from the pool.
+	 *
+	 * @param arena     arena owning the segment, closed when buffer is evicted
+	 * @param segment   the memory segment
+	 * @param sizeClass index of size class or -1 for oversized buffer
+	 */
+	public record Buffer(Arena arena, MemorySegment segment, int sizeClass) {
+	}
+}
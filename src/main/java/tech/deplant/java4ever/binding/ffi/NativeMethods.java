@@ -3,6 +3,7 @@ package tech.deplant.java4ever.binding.ffi;
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.SegmentAllocator;
+import java.nio.charset.StandardCharsets;
 
 public class NativeMethods {
 
@@ -20,21 +21,88 @@ public class NativeMethods {
 		}
 	}
 
+	public static int internedFunctionNames() {
+		return NativeStrings.internedCount();
+	}
+
 	public static void tcDestroyContext(int contextId) {
 			ton_client.tc_destroy_context(contextId);
 	}
 
-	public static void tcRequest(int contextId,
-	                             final String functionName,
-	                             final String params,
-	                             final Arena nativeMemory,
-	                             int requestId,
-	                             final tc_response_handler_t.Function handler) {
+	/**
+	 * Sends request to EVER-SDK. Strings are placed to a buffer from {@link NativeBufferPool#SHARED}
+	 * that should be released when request gets its finished upcall.
+	 *
+	 * @param responseHandler upcall stub of tc_response_handler_t, reused by all requests of the context
+	 * @return leased buffer with request strings
+	 */
+	public static NativeBufferPool.Buffer tcRequest(int contextId,
+	                                                final String functionName,
+	                                                final byte[] params,
+	                                                int requestId,
+	                                                final MemorySegment responseHandler) {
+		var strings = RequestStrings.of(functionName, params);
+		try {
 			ton_client.tc_request(contextId,
-			                      NativeStrings.toRust(functionName, nativeMemory),
-			                      NativeStrings.toRust(params, nativeMemory),
+			                      strings.functionName(),
+			                      strings.params(),
 			                      requestId,
-			                      tc_response_handler_t.allocate(handler, nativeMemory));
+			                      responseHandler);
+			return strings.buffer();
+		} catch (RuntimeException | Error e) {
+			NativeBufferPool.SHARED.release(strings.buffer());
+			throw e;
+		}
+	}
+
+	/**
+	 * Calls EVER-SDK function on the current thread. Request strings are given back to the pool
+	 * right after the call as EVER-SDK doesn't hold them.
+	 *
+	 * @return pointer to tc_string_handle_t with response JSON, must be freed with {@link #tcDestroyString(MemorySegment)}
+	 */
+	public static MemorySegment tcRequestSync(int contextId, final String functionName, final byte[] params) {
+		var strings = RequestStrings.of(functionName, params);
+		try {
+			return ton_client.tc_request_sync(contextId, strings.functionName(), strings.params());
+		} finally {
+			NativeBufferPool.SHARED.release(strings.buffer());
+		}
+	}
+
+	/**
+	 * Reads tc_string_data_t of the string handle. Its content is valid until the handle is destroyed.
+	 */
+	public static MemorySegment tcReadString(final MemorySegment handle, final SegmentAllocator allocator) {
+		return ton_client.tc_read_string(allocator, handle);
+	}
+
+	public static void tcDestroyString(final MemorySegment handle) {
+		ton_client.tc_destroy_string(handle);
+	}
+
+	/**
+	 * Function name and params placed in native memory for a single request.
+	 * Interned function name doesn't use space in the buffer.
+	 */
+	private record RequestStrings(NativeBufferPool.Buffer buffer, MemorySegment functionName, MemorySegment params) {
+
+		static RequestStrings of(final String functionName, final byte[] params) {
+			MemorySegment functionNameData = NativeStrings.interned(functionName);
+			byte[] functionNameBytes = null == functionNameData ?
+			                           functionName.getBytes(StandardCharsets.UTF_8) :
+			                           null;
+			long paramsSize = NativeStrings.byteSize(params.length);
+			long bufferSize = null == functionNameBytes ?
+			                  paramsSize :
+			                  paramsSize + NativeStrings.byteSize(functionNameBytes.length);
+			var buffer = NativeBufferPool.SHARED.acquire(bufferSize);
+			MemorySegment paramsData = NativeStrings.toRust(params, buffer.segment());
+			if (null == functionNameData) {
+				functionNameData = NativeStrings.toRust(functionNameBytes, buffer.segment().asSlice(paramsSize));
+			}
+			return new RequestStrings(buffer, functionNameData, paramsData);
 		}
+	}
 
 }
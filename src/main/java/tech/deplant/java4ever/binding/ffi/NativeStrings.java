@@ -1,13 +1,24 @@
 package tech.deplant.java4ever.binding.ffi;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.InputStream;
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.foreign.ValueLayout.JAVA_BYTE;
 import static tech.deplant.java4ever.binding.ffi.tc_string_data_t.*;
 
 class NativeStrings {
+
+	private static final long STRING_DATA_SIZE = tc_string_data_t.layout().byteSize();
+	// there are about a hundred of EVER-SDK functions, so limit just protects us from random names
+	private static final int MAX_INTERNED = 512;
+	private static final Map<String, MemorySegment> INTERNED = new ConcurrentHashMap<>();
+
 	public static MemorySegment toRust(final String text, final Arena nativeSession) {
 		MemorySegment nativeString = nativeSession.allocateFrom(text);
 		int strlen = ((int) nativeString.byteSize()) - 1; // minus 1 because last symbol is u0000 in UTF-8
@@ -17,6 +28,62 @@ class NativeStrings {
 		return stringDataSegment;
 	}
 
+	/**
+	 * Size of native memory needed to place tc_string_data_t with its content, aligned for the next struct.
+	 */
+	public static long byteSize(int utf8Length) {
+		return STRING_DATA_SIZE + ((utf8Length + 7L) & ~7L);
+	}
+
+	/**
+	 * Writes tc_string_data_t struct to the start of target segment and its content right after it.
+	 * No terminating zero is written as EVER-SDK reads exactly len bytes.
+	 */
+	public static MemorySegment toRust(final byte[] utf8, final MemorySegment target) {
+		MemorySegment stringDataSegment = target.asSlice(0, STRING_DATA_SIZE);
+		MemorySegment content = target.asSlice(STRING_DATA_SIZE, utf8.length);
+		MemorySegment.copy(utf8, 0, content, JAVA_BYTE, 0, utf8.length);
+		tc_string_data_t.content(stringDataSegment, content);
+		tc_string_data_t.len(stringDataSegment, utf8.length);
+		return stringDataSegment;
+	}
+
+	/**
+	 * Returns tc_string_data_t of function name that lives for the whole JVM lifetime.
+	 * Returns null if interning limit is reached, so caller should place the name by itself.
+	 */
+	public static MemorySegment interned(final String functionName) {
+		MemorySegment cached = INTERNED.get(functionName);
+		if (cached != null || INTERNED.size() >= MAX_INTERNED) {
+			return cached;
+		}
+		return INTERNED.computeIfAbsent(functionName, name -> toRust(name, Arena.global()));
+	}
+
+	public static int internedCount() {
+		return INTERNED.size();
+	}
+
+	/**
+	 * Returns content of tc_string_data_t without copying it to Java heap.
+	 * Segment of EVER-SDK response is valid only until the upcall returns.
+	 */
+	public static MemorySegment content(MemorySegment seg) {
+		int len = tc_string_data_t.len(seg);
+		return len > 0 ? tc_string_data_t.content(seg).asSlice(0, len) : MemorySegment.NULL;
+	}
+
+	/**
+	 * Stream over native content that can be consumed by Jackson parser directly.
+	 */
+	public static InputStream asInputStream(MemorySegment content) {
+		return new ByteBufferBackedInputStream(content.asByteBuffer());
+	}
+
+	public static String asString(MemorySegment content) {
+		return new String(content.toArray(JAVA_BYTE), StandardCharsets.UTF_8);
+	}
+
 	public static String toJava(MemorySegment seg) {
 		if (tc_string_data_t.len(seg) > 0) {
 			final MemorySegment content = tc_string_data_t.content(seg).asSlice(0, len(seg));
@@ -0,0 +1,150 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Preallocated table of in-flight requests of a single context.
+ * Slot of a request is {@code requestId & mask}, request id itself works as a generation counter:
+ * slot is reused by the next request with the same low bits only after the previous one is finished,
+ * and a late upcall of the finished request doesn't match the id stored in the entry.
+ * Registration, lookup and removal are single CAS/volatile reads without boxing or map nodes.
+ * <p>
+ * Table never refuses a request. If the slot of a new id is held by a long-living request
+ * (subscription, app object), request goes to the overflow map instead, so capacity only
+ * limits how many requests take the fast path.
+ *
+ * @param <T> type of the entry
+ */
+final class RequestSlotTable<T extends RequestSlotTable.Entry> {
+
+	private final AtomicReferenceArray<T> slots;
+	private final int mask;
+	private final AtomicInteger nextId;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	// requests whose slot was busy on registration
+	private final Map<Integer, T> overflow = new ConcurrentHashMap<>();
+
+	/**
+	 * Instantiates a new table.
+	 *
+	 * @param capacity count of slots, rounded up to power of two
+	 */
+	RequestSlotTable(int capacity) {
+		this(capacity, 0);
+	}
+
+	// first id is configurable to test wrap-around of ids
+	RequestSlotTable(int capacity, int lastId) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Request table capacity should be positive!");
+		}
+		int size = Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+		this.nextId = new AtomicInteger(lastId);
+	}
+
+	/**
+	 * Places entry to its slot or to the overflow map and assigns request id to it.
+	 *
+	 * @param entry the entry
+	 * @return assigned request id, never 0
+	 */
+	int register(final T entry) {
+		while (true) {
+			int id = this.nextId.incrementAndGet();
+			if (id == 0) {
+				// 0 is never a request id, it's reached only on int overflow
+				continue;
+			}
+			// id is published to upcall thread by the following CAS or map insertion
+			entry.requestId = id;
+			int index = id & this.mask;
+			if (this.slots.get(index) == null && !inOverflow(id) && this.slots.compareAndSet(index, null, entry)) {
+				this.inFlight.incrementAndGet();
+				return id;
+			}
+			// slot is busy, ids of overflow entries can repeat only after int wrap-around
+			if (this.overflow.putIfAbsent(id, entry) == null) {
+				this.inFlight.incrementAndGet();
+				return id;
+			}
+		}
+	}
+
+	private boolean inOverflow(int id) {
+		return !this.overflow.isEmpty() && this.overflow.containsKey(id);
+	}
+
+	/**
+	 * Finds entry of the request.
+	 *
+	 * @param requestId the request id
+	 * @return the entry or null if request is already finished
+	 */
+	T get(int requestId) {
+		T entry = this.slots.get(requestId & this.mask);
+		if (entry != null && entry.requestId == requestId) {
+			return entry;
+		}
+		return this.overflow.isEmpty() ? null : this.overflow.get(requestId);
+	}
+
+	/**
+	 * Frees slot of the finished request.
+	 *
+	 * @param entry the entry
+	 */
+	void remove(final T entry) {
+		if (this.slots.compareAndSet(entry.requestId & this.mask, entry, null) ||
+		    this.overflow.remove(entry.requestId, entry)) {
+			this.inFlight.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Count of requests that didn't receive finished upcall yet.
+	 *
+	 * @return the int
+	 */
+	int inFlight() {
+		return this.inFlight.get();
+	}
+
+	/**
+	 * Count of requests in the overflow map.
+	 *
+	 * @return the int
+	 */
+	int overflowed() {
+		return this.overflow.size();
+	}
+
+	/**
+	 * Count of slots.
+	 *
+	 * @return the int
+	 */
+	int capacity() {
+		return this.mask + 1;
+	}
+
+	/**
+	 * Base type of table entries. Request id is assigned by the table on registration.
+	 */
+	abstract static class Entry {
+		int requestId;
+
+		/**
+		 * Id assigned by the table.
+		 *
+		 * @return the int
+		 */
+		int requestId() {
+			return this.requestId;
+		}
+	}
+}
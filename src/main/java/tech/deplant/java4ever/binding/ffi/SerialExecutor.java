@@ -0,0 +1,84 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs tasks one at a time and in order of submission on the underlying executor.
+ * Each request with callbacks gets its own instance, so a slow subscription handler
+ * delays only its own events.
+ * <p>
+ * Queue is bounded. When handler falls behind by {@code capacity} tasks, submitter
+ * (EVER-SDK callback thread) waits for it, so a slow subscriber slows down the producer
+ * instead of growing the heap with copied events.
+ */
+final class SerialExecutor implements Executor {
+
+	private final static System.Logger logger = System.getLogger(SerialExecutor.class.getName());
+
+	private final Executor executor;
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+	// count of submitted but not yet drained tasks, only the submitter that moves it from zero starts a drain
+	private final AtomicInteger wip = new AtomicInteger();
+	// free places in the queue, taken on submit and given back after task is run
+	private final Semaphore places;
+	private final int capacity;
+
+	SerialExecutor(Executor executor, int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Callback queue capacity should be positive!");
+		}
+		this.executor = executor;
+		this.places = new Semaphore(capacity);
+		this.capacity = capacity;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		if (!this.places.tryAcquire()) {
+			logger.log(System.Logger.Level.DEBUG, "Callback queue is full, waiting for the handler!");
+			// SDK thread can't be interrupted meaningfully, handler will free the place
+			this.places.acquireUninterruptibly();
+		}
+		this.tasks.add(task);
+		if (this.wip.getAndIncrement() == 0) {
+			try {
+				this.executor.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+				logger.log(System.Logger.Level.WARNING,
+				           () -> "Callback executor rejected task, running on the caller thread! " + e);
+				drain();
+			}
+		}
+	}
+
+	private void drain() {
+		int missed = 1;
+		do {
+			Runnable task;
+			while ((task = this.tasks.poll()) != null) {
+				try {
+					task.run();
+				} catch (Throwable e) {
+					logger.log(System.Logger.Level.ERROR, () -> "Callback task failed! " + e);
+				} finally {
+					this.places.release();
+				}
+			}
+			missed = this.wip.addAndGet(-missed);
+		} while (missed != 0);
+	}
+
+	/**
+	 * Count of tasks waiting in the queue or running.
+	 *
+	 * @return the int
+	 */
+	int queued() {
+		return this.capacity - this.places.availablePermits();
+	}
+}
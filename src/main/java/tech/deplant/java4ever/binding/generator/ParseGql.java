@@ -3,6 +3,7 @@ package tech.deplant.java4ever.binding.generator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import tech.deplant.commons.Objs;
 import tech.deplant.java4ever.binding.JsonContext;
+import tech.deplant.java4ever.binding.gql.GqlFields;
 import tech.deplant.java4ever.binding.gql.QueryExecutorBuilder;
 import tech.deplant.java4ever.binding.io.JsonResource;
 import tech.deplant.java4ever.binding.reference.gql.GqlSchemaRoot;
@@ -20,11 +21,14 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 public class ParseGql {
 
 	public static final ObjectMapper MAPPER = JsonContext.ABI_JSON_MAPPER();
 
+	private static final String GQL_PACKAGE = "tech.deplant.java4ever.binding.gql";
+
 	public static void generateFromSchema(String jsonPath) throws IOException {
 		var schema = MAPPER.readValue(new JsonResource(jsonPath).get(), GqlSchemaRoot.class).data().__schema();
 
@@ -141,7 +145,7 @@ public class ParseGql {
 
 
 		// for executors
-		TypeSpec.Builder classBuilder = TypeSpec.classBuilder(obj.name() + "Executor");
+		TypeSpec.Builder classBuilder = TypeSpec.classBuilder(obj.name() + "Executor").addModifiers(Modifier.PUBLIC);
 
 		for (var field : obj.fields()) {
 			recordBuilder.addRecordComponent(ParserUtils.processReservedNames(getClassName(field.type()), field.name())
@@ -165,19 +169,36 @@ public class ParseGql {
 					functionBuilder.addParameter(ParserUtils.processReservedNames(getClassName(arg.type()),
 					                                                              arg.name())
 					                                        .build());
-					functionBuilder.addCode(CodeBlock.builder()
-					                                 .addStatement("$T.ofNullable(" + arg.name() +
-					                                               ").ifPresent(ar -> builder.addToQuery($S,ar))",
-					                                               ClassName.get(Optional.class),
-					                                               arg.name())
-					                                 .build());
+					if (isRootObject(obj)) {
+						// root arguments are $variables, so document of query is the same for any values
+						functionBuilder.addCode(CodeBlock.builder()
+						                                 .addStatement("$T.ofNullable(" + arg.name() +
+						                                               ").ifPresent(ar -> builder.addVariable($S,$S,ar))",
+						                                               ClassName.get(Optional.class),
+						                                               arg.name(),
+						                                               graphQLType(arg.type()))
+						                                 .build());
+					} else {
+						functionBuilder.addCode(CodeBlock.builder()
+						                                 .addStatement("$T.ofNullable(" + arg.name() +
+						                                               ").ifPresent(ar -> builder.addToQuery($S,ar))",
+						                                               ClassName.get(Optional.class),
+						                                               arg.name())
+						                                 .build());
+					}
 				}
 
 
 				functionBuilder.addCode(CodeBlock.builder().addStatement("return builder").build());
 
-				if (obj.name().equals("Query") || obj.name().equals("Mutation") || obj.name().equals("Subscription")) {
-					classBuilder.addMethod(functionBuilder.build());
+				if (isRootObject(obj)) {
+					var function = functionBuilder.build();
+					classBuilder.addMethod(function);
+					// same query with fields chosen by typed selection
+					var resultType = baseType(field.type());
+					if (resultType.kind().equals("OBJECT")) {
+						classBuilder.addMethod(selectionOverload(function, fieldsClassName(resultType.name())));
+					}
 				} else {
 					recordBuilder.addMethod(functionBuilder.build());
 				}
@@ -185,16 +206,113 @@ public class ParseGql {
 			}
 		}
 
-		if (obj.name().equals("Query") || obj.name().equals("Mutation") || obj.name().equals("Subscription")) {
+		if (isRootObject(obj)) {
 
 			JavaFile.builder("tech.deplant.java4ever.binding.gql", classBuilder.build())
 			        .build()
 			        .writeTo(Paths.get("src/gen/java"));
+		} else {
+			JavaFile.builder(GQL_PACKAGE, processFields(obj).build())
+			        .build()
+			        .writeTo(Paths.get("src/gen/java"));
 		}
 
 		return recordBuilder;
 	}
 
+	private static boolean isRootObject(GqlSchemaRoot.GqlType.GqlObject obj) {
+		return obj.name().equals("Query") || obj.name().equals("Mutation") || obj.name().equals("Subscription");
+	}
+
+	private static ClassName fieldsClassName(String objectName) {
+		return ClassName.get(GQL_PACKAGE, objectName + "Fields");
+	}
+
+	// type of field without LIST and NON_NULL wrappers
+	private static GqlSchemaRoot.GqlParam baseType(GqlSchemaRoot.GqlParam param) {
+		return switch (param.kind()) {
+			case "LIST", "NON_NULL" -> baseType(param.ofType());
+			default -> param;
+		};
+	}
+
+	// type reference as written in GraphQL document, like [QueryOrderBy] or String!
+	private static String graphQLType(GqlSchemaRoot.GqlParam param) {
+		return switch (param.kind()) {
+			case "LIST" -> "[" + graphQLType(param.ofType()) + "]";
+			case "NON_NULL" -> graphQLType(param.ofType()) + "!";
+			default -> param.name();
+		};
+	}
+
+	// generates <Object>Fields selection, so only fields that exist in schema can be queried
+	private static TypeSpec.Builder processFields(GqlSchemaRoot.GqlType.GqlObject obj) {
+		var fieldsClass = fieldsClassName(obj.name());
+		var recordName = obj.interfaces()
+		                    .stream()
+		                    .findFirst()
+		                    .map(intf -> intf.name() + "." + obj.name())
+		                    .orElse(obj.name());
+
+		TypeSpec.Builder fieldsBuilder = TypeSpec.classBuilder(fieldsClass)
+		                                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+		                                         .superclass(ParameterizedTypeName.get(ClassName.get(GqlFields.class),
+		                                                                               fieldsClass))
+		                                         .addJavadoc("Selection of {@link $L} fields.\n", recordName)
+		                                         .addMethod(MethodSpec.constructorBuilder()
+		                                                              .addModifiers(Modifier.PRIVATE)
+		                                                              .build())
+		                                         .addMethod(MethodSpec.methodBuilder("select")
+		                                                              .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+		                                                              .returns(fieldsClass)
+		                                                              .addStatement("return new $T()", fieldsClass)
+		                                                              .build())
+		                                         .addMethod(MethodSpec.methodBuilder("self")
+		                                                              .addAnnotation(Override.class)
+		                                                              .addModifiers(Modifier.PROTECTED)
+		                                                              .returns(fieldsClass)
+		                                                              .addStatement("return this")
+		                                                              .build());
+
+		for (var field : obj.fields()) {
+			var methodBuilder = MethodSpec.methodBuilder(selectorName(field.name()))
+			                              .addModifiers(Modifier.PUBLIC)
+			                              .returns(fieldsClass);
+			var type = baseType(field.type());
+			if (type.kind().equals("OBJECT")) {
+				var nestedClass = fieldsClassName(type.name());
+				methodBuilder.addParameter(ParameterizedTypeName.get(ClassName.get(UnaryOperator.class), nestedClass),
+				                           "selector")
+				             .addStatement("return object($S, selector.apply($T.select()))",
+				                           field.name(),
+				                           nestedClass);
+			} else {
+				methodBuilder.addStatement("return field($S)", field.name());
+			}
+			fieldsBuilder.addMethod(methodBuilder.build());
+		}
+		return fieldsBuilder;
+	}
+
+	private static String selectorName(String fieldName) {
+		String name = fieldName.contains("_") ? ParserUtils.camelCase(fieldName) : fieldName;
+		return ParserUtils.JAVA_RESERVED_WORDS.contains(name) ? "_" + name : name;
+	}
+
+	private static MethodSpec selectionOverload(MethodSpec function, ClassName fieldsClass) {
+		var overload = MethodSpec.methodBuilder(function.name)
+		                         .addModifiers(function.modifiers)
+		                         .returns(function.returnType)
+		                         .addParameter(fieldsClass, "fields");
+		// empty selection would render "accounts{}", so it's rejected before the query is built
+		var arguments = new StringBuilder("fields.toFieldsTree()");
+		for (var parameter : function.parameters.subList(1, function.parameters.size())) {
+			overload.addParameter(parameter);
+			arguments.append(", ").append(parameter.name);
+		}
+		return overload.addStatement("return $N($L)", function.name, arguments).build();
+	}
+
 	private static TypeName getClassName(GqlSchemaRoot.GqlParam param) {
 		return switch (param.kind()) {
 			case "LIST" -> ParameterizedTypeName.get(ClassName.get(List.class), getClassName(param.ofType()));
@@ -138,6 +138,9 @@ public class ParserEngine {
 						                                               ((SdkRecord) jtype).withSuperInterface(sup))
 				                      ));
 
+		// codecs of written modules, they're registered all together at the end
+		final List<SdkCodecs> moduleCodecs = new ArrayList<>();
+
 		// main file building loop
 		// loops modules again, now to write them
 		for (var module : parsedApiReference.modules()) {
@@ -180,7 +183,22 @@ public class ParserEngine {
 					.builder("tech.deplant.java4ever.binding", moduleBuilder.build())
 					.build();
 			javaFile.writeTo(Paths.get("src/gen/java"));
+
+			// streaming codecs of module records
+			var codecs = SdkCodecs.ofModule(moduleCapitalName, types, typeLibrary);
+			if (!codecs.isEmpty()) {
+				JavaFile
+						.builder(SdkCodecs.CODEC_PACKAGE, codecs.poeticize().build())
+						.build()
+						.writeTo(Paths.get("src/gen/java"));
+				moduleCodecs.add(codecs);
+			}
 		}
+
+		JavaFile
+				.builder(SdkCodecs.CODEC_PACKAGE, SdkCodecs.registry(moduleCodecs).build())
+				.build()
+				.writeTo(Paths.get("src/gen/java"));
 	}
 
 	public static TypeSpec.Builder moduleToBuilder(ApiModule module, String moduleNameCapitalized, String version) {
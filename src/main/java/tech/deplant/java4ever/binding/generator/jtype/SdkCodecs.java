@@ -0,0 +1,225 @@
+package tech.deplant.java4ever.binding.generator.jtype;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import tech.deplant.java4ever.binding.generator.ParserEngine;
+import tech.deplant.javapoet.*;
+
+import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generator of streaming Jackson codecs for records of one module.
+ * For every plain record it writes {@code writeX()} and {@code readX()} methods that use api.json field names
+ * directly, and {@code register()} method that adds them to the module of SDK mapper.
+ * Variants of EnumOfTypes are skipped, they need "type" discriminator and stay with reflection-based Jackson.
+ */
+public record SdkCodecs(String moduleCapitalName,
+                        List<SdkRecord> records,
+                        Map<ParserEngine.SdkType, SdkObject> typeLibrary) {
+
+	public final static String CODEC_PACKAGE = "tech.deplant.java4ever.binding.codec";
+	public final static String BINDING_PACKAGE = "tech.deplant.java4ever.binding";
+
+	private final static ClassName RECORD_CODEC = ClassName.get(CODEC_PACKAGE, "RecordCodec");
+
+	public static SdkCodecs ofModule(String moduleCapitalName,
+	                                 List<SdkObject> moduleTypes,
+	                                 Map<ParserEngine.SdkType, SdkObject> typeLibrary) {
+		var records = moduleTypes.stream()
+		                         .filter(SdkRecord.class::isInstance)
+		                         .map(SdkRecord.class::cast)
+		                         .filter(SdkCodecs::hasCodec)
+		                         .sorted(Comparator.comparing(SdkRecord::name))
+		                         .toList();
+		return new SdkCodecs(moduleCapitalName, records, typeLibrary);
+	}
+
+	/**
+	 * Records that implement EnumOfTypes interface are skipped as well as AbiEvent
+	 * that silently ignores deprecated 'outputs' tag.
+	 */
+	private static boolean hasCodec(SdkRecord record) {
+		return record.superInterface() == null && !"AbiEvent".equals(record.name());
+	}
+
+	public String className() {
+		return moduleCapitalName() + "Codecs";
+	}
+
+	public boolean isEmpty() {
+		return records().isEmpty();
+	}
+
+	public TypeSpec.Builder poeticize() {
+		TypeSpec.Builder codecsBuilder = TypeSpec
+				.classBuilder(className())
+				.addModifiers(Modifier.FINAL)
+				.addJavadoc("Streaming Jackson codecs of {@link $T} records.\n",
+				            ClassName.get(BINDING_PACKAGE, moduleCapitalName()));
+		MethodSpec.Builder registerBuilder = MethodSpec
+				.methodBuilder("register")
+				.addModifiers(Modifier.STATIC)
+				.addParameter(SimpleModule.class, "module");
+		for (SdkRecord record : records()) {
+			TypeName recordType = ClassName.get(BINDING_PACKAGE, moduleCapitalName(), record.name());
+			List<SdkParam> params = paramsOf(record);
+			codecsBuilder.addMethod(writer(record.name(), recordType, params).build());
+			codecsBuilder.addMethod(reader(record.name(), recordType, params).build());
+			registerBuilder.addStatement("$T.register(module, $T.class, $N::write$L, $N::read$L)",
+			                             RECORD_CODEC,
+			                             recordType,
+			                             className(),
+			                             record.name(),
+			                             className(),
+			                             record.name());
+		}
+		return codecsBuilder.addMethod(registerBuilder.build());
+	}
+
+	private List<SdkParam> paramsOf(SdkRecord record) {
+		return Arrays.stream(record.originalType().struct_fields())
+		             .map(component -> SdkParam.ofApiType(component, typeLibrary()))
+		             .toList();
+	}
+
+	private MethodSpec.Builder writer(String recordName, TypeName recordType, List<SdkParam> params) {
+		MethodSpec.Builder writerBuilder = MethodSpec
+				.methodBuilder("write" + recordName)
+				.addModifiers(Modifier.STATIC)
+				.addParameter(recordType, "value")
+				.addParameter(JsonGenerator.class, "gen")
+				.addParameter(SerializerProvider.class, "provider")
+				.addException(IOException.class)
+				.addStatement("gen.writeStartObject(value)");
+		for (SdkParam param : params) {
+			String kind = scalarKind(param.refClassName());
+			if (kind == null || "Tree".equals(kind)) {
+				writerBuilder.addStatement("$T.writeValue(gen, provider, $S, value.$N())",
+				                           RECORD_CODEC,
+				                           param.origParamName(),
+				                           param.parameterName());
+			} else {
+				writerBuilder.addStatement("$T.write$L(gen, $S, value.$N())",
+				                           RECORD_CODEC,
+				                           kind,
+				                           param.origParamName(),
+				                           param.parameterName());
+			}
+		}
+		return writerBuilder.addStatement("gen.writeEndObject()");
+	}
+
+	private MethodSpec.Builder reader(String recordName, TypeName recordType, List<SdkParam> params) {
+		MethodSpec.Builder readerBuilder = MethodSpec
+				.methodBuilder("read" + recordName)
+				.addModifiers(Modifier.STATIC)
+				.returns(recordType)
+				.addParameter(JsonParser.class, "parser")
+				.addParameter(DeserializationContext.class, "context")
+				.addException(IOException.class);
+		for (SdkParam param : params) {
+			readerBuilder.addStatement("$T $N = null", inBindingPackage(param.refClassName()), param.parameterName());
+		}
+		readerBuilder.beginControlFlow(
+				"for (String fieldName = $T.firstField(parser, context, $T.class); fieldName != null; fieldName = parser.nextFieldName())",
+				RECORD_CODEC,
+				recordType);
+		readerBuilder.addStatement("parser.nextToken()");
+		readerBuilder.beginControlFlow("switch (fieldName)");
+		for (SdkParam param : params) {
+			String kind = scalarKind(param.refClassName());
+			if (kind == null) {
+				readerBuilder.addStatement("case $S -> $N = $T.readValue(parser, context, $T.class)",
+				                           param.origParamName(),
+				                           param.parameterName(),
+				                           RECORD_CODEC,
+				                           inBindingPackage(param.refClassName()));
+			} else {
+				readerBuilder.addStatement("case $S -> $N = $T.read$L(parser, context)",
+				                           param.origParamName(),
+				                           param.parameterName(),
+				                           RECORD_CODEC,
+				                           kind);
+			}
+		}
+		readerBuilder.addStatement("default -> $T.skipUnknown(parser, context, $T.class, fieldName)",
+		                           RECORD_CODEC,
+		                           recordType);
+		readerBuilder.endControlFlow();
+		readerBuilder.endControlFlow();
+		return readerBuilder.addStatement("return new $T($L)",
+		                                  recordType,
+		                                  String.join(", ", params.stream().map(SdkParam::parameterName).toList()));
+	}
+
+	/**
+	 * Suffix of RecordCodec read/write helper for types that are handled in place, null for delegated ones.
+	 */
+	private static String scalarKind(TypeName typeName) {
+		if (TypeName.STRING.equals(typeName)) {
+			return "String";
+		} else if (ClassName.get(Long.class).equals(typeName)) {
+			return "Long";
+		} else if (ClassName.get(Integer.class).equals(typeName)) {
+			return "Integer";
+		} else if (ClassName.get(Boolean.class).equals(typeName)) {
+			return "Boolean";
+		} else if (ClassName.get(BigInteger.class).equals(typeName)) {
+			return "BigInteger";
+		} else if (ClassName.get(JsonNode.class).equals(typeName)) {
+			return "Tree";
+		}
+		return null;
+	}
+
+	/**
+	 * Module types are referenced by TypeReference as "Module.Type" without package,
+	 * that works only inside binding package, so codecs need them qualified.
+	 */
+	private static TypeName inBindingPackage(TypeName typeName) {
+		if (typeName instanceof ArrayTypeName arrayTypeName) {
+			return ArrayTypeName.of(inBindingPackage(arrayTypeName.componentType));
+		}
+		if (typeName instanceof ClassName className && className.packageName().isEmpty()) {
+			List<String> simpleNames = className.simpleNames();
+			return ClassName.get(BINDING_PACKAGE,
+			                     simpleNames.getFirst(),
+			                     simpleNames.subList(1, simpleNames.size()).toArray(String[]::new));
+		}
+		return typeName;
+	}
+
+	/**
+	 * Builds SdkCodecs class that registers codecs of all modules.
+	 *
+	 * @param modules generated module codecs
+	 * @return builder of type spec
+	 */
+	public static TypeSpec.Builder registry(List<SdkCodecs> modules) {
+		MethodSpec.Builder moduleBuilder = MethodSpec
+				.methodBuilder("module")
+				.addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+				.returns(SimpleModule.class)
+				.addJavadoc("Jackson module with codecs of all generated EVER-SDK records.\n")
+				.addStatement("$T module = new $T($S)", SimpleModule.class, SimpleModule.class, "EverSdkCodecs");
+		for (SdkCodecs codecs : modules) {
+			moduleBuilder.addStatement("$N.register(module)", codecs.className());
+		}
+		moduleBuilder.addStatement("return module");
+		return TypeSpec.classBuilder("SdkCodecs")
+		               .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+		               .addJavadoc("Registry of streaming codecs generated from api.json.\n")
+		               .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+		               .addMethod(moduleBuilder.build());
+	}
+}
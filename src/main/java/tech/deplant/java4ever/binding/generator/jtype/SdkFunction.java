@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -27,6 +28,52 @@ public record SdkFunction(String functionModule,
 
 	private final static System.Logger logger = System.getLogger(SdkFunction.class.getName());
 
+	/**
+	 * Functions that EVER-SDK registers as sync, they only use CPU (no network, callbacks or app objects).
+	 * They are generated with EverSdk.sync() and are executed by tc_request_sync on the caller's thread.
+	 * Functions taking Signer or box handles are not here, as the box may be an app object that needs an upcall,
+	 * and neither are slow ones like crypto.scrypt, that would hold the caller's thread for too long.
+	 * BOC and ABI functions are async in EVER-SDK, as they read BOC cache. tc_request_sync runs them with
+	 * block_on, which panics on SDK threads, like in a subscription handler called right on the SDK thread.
+	 */
+	public final static Set<String> SYNC_FUNCTIONS = Set.of(
+			"crypto.factorize",
+			"crypto.modular_power",
+			"crypto.ton_crc16",
+			"crypto.generate_random_bytes",
+			"crypto.convert_public_key_to_ton_safe_format",
+			"crypto.generate_random_sign_keys",
+			"crypto.sign",
+			"crypto.verify_signature",
+			"crypto.sha256",
+			"crypto.sha512",
+			"crypto.nacl_sign_keypair_from_secret_key",
+			"crypto.nacl_sign",
+			"crypto.nacl_sign_open",
+			"crypto.nacl_sign_detached",
+			"crypto.nacl_sign_detached_verify",
+			"crypto.nacl_box_keypair",
+			"crypto.nacl_box_keypair_from_secret_key",
+			"crypto.nacl_box",
+			"crypto.nacl_box_open",
+			"crypto.nacl_secret_box",
+			"crypto.nacl_secret_box_open",
+			"crypto.mnemonic_words",
+			"crypto.mnemonic_from_random",
+			"crypto.mnemonic_from_entropy",
+			"crypto.mnemonic_verify",
+			"crypto.mnemonic_derive_sign_keys",
+			"crypto.hdkey_xprv_from_mnemonic",
+			"crypto.hdkey_derive_from_xprv",
+			"crypto.hdkey_derive_from_xprv_path",
+			"crypto.hdkey_secret_from_xprv",
+			"crypto.hdkey_public_from_xprv",
+			"crypto.chacha20",
+			"utils.convert_address",
+			"utils.get_address_type",
+			"utils.compress_zstd",
+			"utils.decompress_zstd");
+
 	private String constructCallParams(MethodSpec.Builder methodBuilder,
 	                                   List<Object> statementArgs,
 	                                   SdkParam param) {
@@ -73,7 +120,8 @@ public record SdkFunction(String functionModule,
 		//methodBuilder.addParameter(ClassName.get(EverSdkContext.class), "ctx");
 		// Function SDK name
 		// adds function name as a first arg to statementArgs array
-		statementArgs.add(String.format("%s.%s", functionModule().toLowerCase(), function().name()));
+		final String sdkFunctionName = String.format("%s.%s", functionModule().toLowerCase(), function().name());
+		statementArgs.add(sdkFunctionName);
 		// call template for all variants
 		String templateString = "%RETURN_KEY%EverSdk.%CALL_TYPE%(ctxId, $S, %PARAMS%%RETURN_CLASS%%APP_OBJ%)";
 		methodBuilder.addParameter(ClassName.INT, "ctxId");
@@ -136,7 +184,8 @@ public record SdkFunction(String functionModule,
 			if (!resultReference.isVoid()) {
 				//
 				templateString = templateString.replace("%RETURN_KEY%", "return ");
-				templateString = templateString.replace("%CALL_TYPE%", "async");
+				templateString = templateString.replace("%CALL_TYPE%",
+				                                        SYNC_FUNCTIONS.contains(sdkFunctionName) ? "sync" : "async");
 				templateString = templateString.replace("%RETURN_CLASS%", ", $T.class");
 				var typeName = resultReference.toTypeName();
 				// adds return class to method builder
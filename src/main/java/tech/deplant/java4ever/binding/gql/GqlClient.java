@@ -0,0 +1,174 @@
+package tech.deplant.java4ever.binding.gql;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.JsonContext;
+import tech.deplant.java4ever.binding.Net;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Executes queries built by {@link QueryExecutor} and maps results to generated gql records.
+ * <p>
+ * Response is read token by token and elements of {@code data.<method>} array are bound to records one by one,
+ * so no {@code JsonNode} tree of the whole result is built. With HTTP transport records are decoded right from
+ * the response stream. With {@link Net#query} transport SDK has already parsed the response, so its tree is
+ * only traversed.
+ *
+ * <pre>{@code
+ * var client = GqlClient.ofHttp(GqlHttpClient.shared("https://mainnet.evercloud.dev/<project>/graphql"));
+ * List<Transaction> transactions = client.query(QueryExecutor.transactions("id lt aborted",
+ *                                                                          null, null, 50, null, null, null),
+ *                                               Transaction.class).get();
+ * }</pre>
+ */
+public final class GqlClient {
+
+	private final static System.Logger logger = System.getLogger(GqlClient.class.getName());
+
+	private final Transport transport;
+
+	private GqlClient(Transport transport) {
+		this.transport = transport;
+	}
+
+	/**
+	 * Client that sends queries through {@code net.query} of SDK context.
+	 *
+	 * @param contextId context id
+	 * @return the client
+	 */
+	public static GqlClient ofContext(int contextId) {
+		return new GqlClient(new ContextTransport(contextId));
+	}
+
+	/**
+	 * Client that sends queries directly to GraphQL endpoint.
+	 *
+	 * @param httpClient client of endpoint
+	 * @return the client
+	 */
+	public static GqlClient ofHttp(GqlHttpClient httpClient) {
+		return new GqlClient(new HttpTransport(Objects.requireNonNull(httpClient)));
+	}
+
+	/**
+	 * Executes query and maps elements of result array to records.
+	 *
+	 * @param query query of collection, like {@code QueryExecutor.transactions(...)}
+	 * @param type  record of collection element, like {@code Transaction.class}
+	 * @param <T>   type of record
+	 * @return the future of records, fails with EverSdkException cause if GraphQL returned errors
+	 */
+	public <T> CompletableFuture<List<T>> query(QueryExecutorBuilder query, Class<T> type) {
+		// document is cached per query shape, only variables are serialized
+		var template = query.template();
+		logger.log(System.Logger.Level.TRACE, () -> "GraphQL query: " + template);
+		ObjectReader reader = reader(type);
+		return this.transport.execute(template, query, parser -> readCollection(parser, query.method, reader));
+	}
+
+	private static ObjectReader reader(Class<?> type) {
+		// records don't have to declare every field that endpoint returns
+		return JsonContext.ABI_JSON_MAPPER().readerFor(type).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+	}
+
+	// finds data.<method> in response {"data": {...}, "errors": [...]} and binds its elements one by one
+	static <T> List<T> readCollection(JsonParser parser, String method, ObjectReader reader) throws IOException {
+		List<T> result = null;
+		String errors = null;
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			throw new IOException("GraphQL response isn't a JSON object");
+		}
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.currentName();
+			JsonToken value = parser.nextToken();
+			if ("data".equals(name) && value == JsonToken.START_OBJECT) {
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String field = parser.currentName();
+					JsonToken fieldValue = parser.nextToken();
+					if (method.equals(field) && fieldValue == JsonToken.START_ARRAY) {
+						result = new ArrayList<>();
+						while (parser.nextToken() != JsonToken.END_ARRAY) {
+							result.add(reader.readValue(parser));
+						}
+					} else {
+						parser.skipChildren();
+					}
+				}
+			} else if ("errors".equals(name) && value == JsonToken.START_ARRAY) {
+				errors = JsonContext.ABI_JSON_MAPPER().readTree(parser).toString();
+			} else {
+				parser.skipChildren();
+			}
+		}
+		if (null != errors) {
+			throw new CompletionException(new EverSdkException(new EverSdkException.ErrorResult(-500,
+			                                                                                    "GraphQL query failed: " +
+			                                                                                    errors)));
+		}
+		return null == result ? List.of() : result;
+	}
+
+	@FunctionalInterface
+	interface ResponseReader<T> {
+		T read(JsonParser parser) throws IOException;
+	}
+
+	private sealed interface Transport permits ContextTransport, HttpTransport {
+		<T> CompletableFuture<T> execute(QueryTemplate template,
+		                                 QueryExecutorBuilder query,
+		                                 ResponseReader<T> responseReader);
+	}
+
+	private record ContextTransport(int contextId) implements Transport {
+
+		@Override
+		public <T> CompletableFuture<T> execute(QueryTemplate template,
+		                                        QueryExecutorBuilder query,
+		                                        ResponseReader<T> responseReader) {
+			var variables = query.variables().isEmpty() ?
+			                null :
+			                JsonContext.ABI_JSON_MAPPER().<JsonNode>valueToTree(query.variables());
+			try {
+				return Net.query(this.contextId, template.document(), variables).thenApply(result -> {
+					var response = result.result();
+					// net.query may return only the data part of response
+					var root = response.has("data") || response.has("errors") ?
+					           response :
+					           JsonContext.ABI_JSON_MAPPER().createObjectNode().set("data", response);
+					try (JsonParser parser = root.traverse(JsonContext.ABI_JSON_MAPPER())) {
+						return responseReader.read(parser);
+					} catch (IOException e) {
+						throw new CompletionException(e);
+					}
+				});
+			} catch (EverSdkException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+	}
+
+	private record HttpTransport(GqlHttpClient client) implements Transport {
+
+		@Override
+		public <T> CompletableFuture<T> execute(QueryTemplate template,
+		                                        QueryExecutorBuilder query,
+		                                        ResponseReader<T> responseReader) {
+			return this.client.postStreamAsync(template.requestBody(query.variablesJson()), body -> {
+				try (JsonParser parser = JsonContext.ABI_JSON_MAPPER().createParser(body)) {
+					return responseReader.read(parser);
+				}
+			});
+		}
+	}
+}
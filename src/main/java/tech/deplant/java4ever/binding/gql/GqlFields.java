@@ -0,0 +1,80 @@
+package tech.deplant.java4ever.binding.gql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Base of generated field selections, like {@code TransactionFields}.
+ * <p>
+ * Selection contains only chosen fields, so the response carries nothing that isn't used. Fields of nested
+ * objects are chosen by selector, so object can't be selected without its fields:
+ *
+ * <pre>{@code
+ * var fields = TransactionFields.select().id().lt().aborted().inMessage(m -> m.value());
+ * fields.toGraphQL(); // id lt aborted in_message { value }
+ * }</pre>
+ *
+ * @param <SELF> type of generated selection
+ */
+public abstract class GqlFields<SELF extends GqlFields<SELF>> {
+
+	// field name -> selection of nested object or null for scalars, in order of selection
+	private final Map<String, GqlFields<?>> selection = new LinkedHashMap<>();
+
+	protected abstract SELF self();
+
+	protected SELF field(String name) {
+		this.selection.put(name, null);
+		return self();
+	}
+
+	protected SELF object(String name, GqlFields<?> fields) {
+		if (fields.isEmpty()) {
+			throw new IllegalArgumentException("No fields of " + name + " are selected");
+		}
+		this.selection.put(name, fields);
+		return self();
+	}
+
+	/**
+	 * Checks if no fields are selected.
+	 *
+	 * @return true if selection is empty
+	 */
+	public boolean isEmpty() {
+		return this.selection.isEmpty();
+	}
+
+	/**
+	 * Fields tree for {@link QueryExecutorBuilder}.
+	 *
+	 * @return selection in GraphQL syntax
+	 */
+	public String toGraphQL() {
+		return this.selection.entrySet()
+		                     .stream()
+		                     .map(entry -> null == entry.getValue() ?
+		                                   entry.getKey() :
+		                                   entry.getKey() + " { " + entry.getValue().toGraphQL() + " }")
+		                     .collect(Collectors.joining(" "));
+	}
+
+	/**
+	 * Fields tree of a query or subscription, generated executor overloads pass the selection by it.
+	 *
+	 * @return selection in GraphQL syntax
+	 * @throws IllegalArgumentException if no fields are selected
+	 */
+	public String toFieldsTree() {
+		if (isEmpty()) {
+			throw new IllegalArgumentException("No fields are selected");
+		}
+		return toGraphQL();
+	}
+
+	@Override
+	public String toString() {
+		return toGraphQL();
+	}
+}
@@ -0,0 +1,367 @@
+package tech.deplant.java4ever.binding.gql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.JsonContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP client of GraphQL endpoint that is created once and shared by all requests to it.
+ * <p>
+ * Underlying {@link HttpClient} keeps connections alive and, with HTTP/2 (the default), multiplexes
+ * concurrent requests over one connection, so only the first request pays for TCP and TLS handshakes.
+ * Responses compressed with gzip or deflate are decoded, and JSON is parsed by Jackson right from
+ * the response stream without buffering the whole body as a String.
+ *
+ * <pre>{@code
+ * var client = GqlHttpClient.shared("https://mainnet.evercloud.dev/<project>/graphql");
+ * JsonNode response = client.queryAsync("blockchain { blocks(last: 1) { edges { node { id } } } }").get();
+ * }</pre>
+ */
+public final class GqlHttpClient {
+
+	private final static System.Logger logger = System.getLogger(GqlHttpClient.class.getName());
+
+	private static final Map<String, GqlHttpClient> SHARED = new ConcurrentHashMap<>();
+
+	private final URI endpoint;
+	private final HttpClient client;
+	private final Duration requestTimeout;
+	// reading of response stream blocks until HTTP client delivers the body, so it's never done on its executor
+	private final Executor parseExecutor;
+
+	private GqlHttpClient(URI endpoint, HttpClient client, Duration requestTimeout, Executor parseExecutor) {
+		this.endpoint = endpoint;
+		this.client = client;
+		this.requestTimeout = requestTimeout;
+		this.parseExecutor = parseExecutor;
+	}
+
+	/**
+	 * Shared HTTP/2 client of endpoint with default settings.
+	 *
+	 * @param endpoint GraphQL endpoint url
+	 * @return the client
+	 */
+	public static GqlHttpClient shared(String endpoint) {
+		return shared(endpoint, HttpClient.Version.HTTP_2);
+	}
+
+	/**
+	 * Shared client of endpoint with default settings and the preferred HTTP version.
+	 * HTTP/2 client falls back to HTTP/1.1 if endpoint doesn't support it.
+	 *
+	 * @param endpoint GraphQL endpoint url
+	 * @param version  preferred HTTP version
+	 * @return the client
+	 */
+	public static GqlHttpClient shared(String endpoint, HttpClient.Version version) {
+		return SHARED.computeIfAbsent(version + " " + endpoint, key -> builder(endpoint).version(version).build());
+	}
+
+	/**
+	 * Builder of a client that isn't shared.
+	 *
+	 * @param endpoint GraphQL endpoint url
+	 * @return the builder
+	 */
+	public static Builder builder(String endpoint) {
+		return new Builder(URI.create(endpoint));
+	}
+
+	/**
+	 * Endpoint of this client.
+	 *
+	 * @return the uri
+	 */
+	public URI endpoint() {
+		return this.endpoint;
+	}
+
+	/**
+	 * Underlying HTTP client.
+	 *
+	 * @return the http client
+	 */
+	public HttpClient httpClient() {
+		return this.client;
+	}
+
+	/**
+	 * POST request of endpoint with JSON body.
+	 *
+	 * @param jsonBody request body
+	 * @return the http request
+	 */
+	public HttpRequest request(String jsonBody) {
+		var builder = HttpRequest.newBuilder()
+		                         .uri(this.endpoint)
+		                         .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
+		                         .header("Content-Type", "application/json")
+		                         .header("Accept", "application/json")
+		                         .header("Accept-Encoding", "gzip, deflate");
+		if (null != this.requestTimeout) {
+			builder.timeout(this.requestTimeout);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Sends request without blocking.
+	 *
+	 * @param request     the request
+	 * @param bodyHandler the body handler
+	 * @param <T>         type of body
+	 * @return the future of response
+	 */
+	public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+	                                                       HttpResponse.BodyHandler<T> bodyHandler) {
+		return this.client.sendAsync(request, bodyHandler);
+	}
+
+	/**
+	 * Posts JSON body and parses JSON response. Response is parsed while it's being received.
+	 *
+	 * @param jsonBody request body
+	 * @return the future of response JSON, fails with EverSdkException cause if HTTP status isn't 2xx
+	 */
+	public CompletableFuture<JsonNode> postAsync(String jsonBody) {
+		return postStreamAsync(jsonBody, body -> JsonContext.SDK_JSON_MAPPER().readTree(body));
+	}
+
+	// reads decoded body of 2xx response on parse executor, body is closed after reading
+	<T> CompletableFuture<T> postStreamAsync(String jsonBody, BodyReader<T> bodyReader) {
+		return sendAsync(request(jsonBody), decodedStream()).thenApplyAsync(response -> {
+			try (InputStream body = response.body()) {
+				if (response.statusCode() / 100 != 2) {
+					String text = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+					logger.log(System.Logger.Level.WARNING,
+					           () -> "GraphQL endpoint %s returned HTTP %d: %s".formatted(this.endpoint,
+					                                                                     response.statusCode(),
+					                                                                     text));
+					throw new CompletionException(new EverSdkException(new EverSdkException.ErrorResult(-500,
+					                                                                                    "GraphQL endpoint returned HTTP %d".formatted(
+							                                                                                    response.statusCode()))));
+				}
+				return bodyReader.read(body);
+			} catch (IOException e) {
+				throw new CompletionException(e);
+			}
+		}, this.parseExecutor);
+	}
+
+	/**
+	 * Sends GraphQL query without blocking.
+	 *
+	 * @param gqlQuery query without outer braces, like {@code accounts { id }}
+	 * @return the future of response JSON with {@code data} and {@code errors}
+	 */
+	public CompletableFuture<JsonNode> queryAsync(String gqlQuery) {
+		return postAsync(queryBody(gqlQuery));
+	}
+
+	static String queryBody(String gqlQuery) {
+		try {
+			return "{\"query\": " + JsonContext.ABI_JSON_MAPPER().writeValueAsString("{" + gqlQuery + "}") + " }";
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Body handler that decodes gzip and deflate responses.
+	 *
+	 * @return the body handler of decoded stream
+	 */
+	public static HttpResponse.BodyHandler<InputStream> decodedStream() {
+		return responseInfo -> HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(),
+		                                                           stream -> decode(responseInfo, stream));
+	}
+
+	/**
+	 * Body handler that decodes gzip and deflate responses to String.
+	 *
+	 * @return the body handler of decoded text
+	 */
+	public static HttpResponse.BodyHandler<String> decodedString() {
+		return responseInfo -> HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(),
+		                                                           bytes -> decodeString(responseInfo, bytes));
+	}
+
+	private static String decodeString(HttpResponse.ResponseInfo responseInfo, byte[] bytes) {
+		try (var in = decode(responseInfo, new ByteArrayInputStream(bytes))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Body handler that parses decoded JSON by Jackson while it's being received. Supplier blocks until
+	 * body is parsed, so it should be called out of HTTP client threads.
+	 *
+	 * @return the body handler of JSON
+	 */
+	public static HttpResponse.BodyHandler<Supplier<JsonNode>> jsonBody() {
+		return responseInfo -> HttpResponse.BodySubscribers.mapping(decodedStream().apply(responseInfo),
+		                                                           stream -> () -> readJson(stream));
+	}
+
+	private static JsonNode readJson(InputStream stream) {
+		try (stream) {
+			return JsonContext.SDK_JSON_MAPPER().readTree(stream);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// GZIPInputStream reads the header in constructor, so it's created lazily to not block the HTTP client thread
+	private static InputStream decode(HttpResponse.ResponseInfo responseInfo, InputStream stream) {
+		String encoding = responseInfo.headers().firstValue("Content-Encoding").orElse("identity").trim();
+		return switch (encoding.toLowerCase()) {
+			case "gzip", "x-gzip" -> new LazyInputStream(stream, () -> new GZIPInputStream(stream, 8192));
+			case "deflate" -> new InflaterInputStream(stream);
+			default -> stream;
+		};
+	}
+
+	/**
+	 * Builder of client.
+	 */
+	public static final class Builder {
+
+		private final URI endpoint;
+		private HttpClient.Version version = HttpClient.Version.HTTP_2;
+		private Duration connectTimeout = Duration.ofSeconds(10);
+		private Duration requestTimeout;
+		private Executor executor;
+		private Executor parseExecutor = Thread::startVirtualThread;
+
+		private Builder(URI endpoint) {
+			this.endpoint = endpoint;
+		}
+
+		public Builder version(HttpClient.Version version) {
+			this.version = Objects.requireNonNull(version);
+			return this;
+		}
+
+		public Builder connectTimeout(Duration connectTimeout) {
+			this.connectTimeout = Objects.requireNonNull(connectTimeout);
+			return this;
+		}
+
+		/**
+		 * Timeout of every request, no timeout by default.
+		 *
+		 * @param requestTimeout the timeout
+		 * @return the builder
+		 */
+		public Builder requestTimeout(Duration requestTimeout) {
+			this.requestTimeout = requestTimeout;
+			return this;
+		}
+
+		/**
+		 * Executor of HTTP client, default one of {@link HttpClient} by default.
+		 * Responses aren't parsed on it, see {@link #parseExecutor(Executor)}.
+		 *
+		 * @param executor the executor
+		 * @return the builder
+		 */
+		public Builder executor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Executor that parses responses, virtual threads by default. Parsing blocks until the body is received
+		 * by HTTP client, so it shouldn't be the executor of HTTP client or share its bounded pool.
+		 *
+		 * @param parseExecutor the executor
+		 * @return the builder
+		 */
+		public Builder parseExecutor(Executor parseExecutor) {
+			this.parseExecutor = Objects.requireNonNull(parseExecutor);
+			return this;
+		}
+
+		public GqlHttpClient build() {
+			var builder = HttpClient.newBuilder()
+			                        .version(this.version)
+			                        .connectTimeout(this.connectTimeout)
+			                        .followRedirects(HttpClient.Redirect.NORMAL);
+			if (null != this.executor) {
+				builder.executor(this.executor);
+			}
+			return new GqlHttpClient(this.endpoint, builder.build(), this.requestTimeout, this.parseExecutor);
+		}
+	}
+
+	private static final class LazyInputStream extends InputStream {
+
+		private final InputStream raw;
+		private final IoSupplier opener;
+		private InputStream delegate;
+
+		private LazyInputStream(InputStream raw, IoSupplier opener) {
+			this.raw = raw;
+			this.opener = opener;
+		}
+
+		private InputStream delegate() throws IOException {
+			if (null == this.delegate) {
+				this.delegate = this.opener.open();
+			}
+			return this.delegate;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return delegate().read();
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			return delegate().read(b, off, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (null == this.delegate) {
+				this.raw.close();
+			} else {
+				this.delegate.close();
+			}
+		}
+	}
+
+	@FunctionalInterface
+	interface BodyReader<T> {
+		T read(InputStream body) throws IOException;
+	}
+
+	@FunctionalInterface
+	private interface IoSupplier {
+		InputStream open() throws IOException;
+	}
+}
@@ -1,13 +1,14 @@
 package tech.deplant.java4ever.binding.gql;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import tech.deplant.java4ever.binding.JsonContext;
 
 import java.io.IOException;
-import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
 
 public record HttpRequestHandle(HttpClient client, HttpRequest request) {
 
@@ -20,18 +21,26 @@ public record HttpRequestHandle(HttpClient client, HttpRequest request) {
 	public static HttpRequestHandle ofGraphQL(String urlString, String gqlQuery, HttpClient.Version version) throws JsonProcessingException {
 		String body = "{\"query\": " + JsonContext.ABI_JSON_MAPPER().writeValueAsString("{" + gqlQuery + "}") + " }";
 		logger.log(System.Logger.Level.DEBUG, body);
-		return new HttpRequestHandle(HttpClient.newHttpClient(), HttpRequest.newBuilder()
-		                                                                    .uri(URI.create(urlString))
-		                                                                    .POST(HttpRequest.BodyPublishers.ofString(
-				                                                                    body))
-		                                                                    .version(version)
-		                                                                    .header("Content-Type", "application/json")
-		                                                                    .header("Accept", "application/json")
-		                                                                    .header("Accept-Encoding", "gzip, deflate")
-		                                                                    .build());
+		// client is shared by all requests to the endpoint, so connections are reused
+		var shared = GqlHttpClient.shared(urlString, version);
+		return new HttpRequestHandle(shared.httpClient(), shared.request(body));
 	}
 
 	public HttpResponse<String> send() throws IOException, InterruptedException {
-		return client().send(request(), HttpResponse.BodyHandlers.ofString());
+		return client().send(request(), GqlHttpClient.decodedString());
+	}
+
+	public CompletableFuture<HttpResponse<String>> sendAsync() {
+		return client().sendAsync(request(), GqlHttpClient.decodedString());
+	}
+
+	/**
+	 * Sends request and parses JSON response while it's being received.
+	 *
+	 * @return the future of response JSON
+	 */
+	public CompletableFuture<JsonNode> sendJsonAsync() {
+		return client().sendAsync(request(), GqlHttpClient.jsonBody())
+		               .thenApplyAsync(response -> response.body().get(), Thread::startVirtualThread);
 	}
 }
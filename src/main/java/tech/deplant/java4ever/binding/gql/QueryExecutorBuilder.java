@@ -1,45 +1,86 @@
 package tech.deplant.java4ever.binding.gql;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import tech.deplant.java4ever.binding.JsonContext;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class QueryExecutorBuilder {
 
+	// inline arguments are GraphQL object literals, so field names aren't quoted;
+	// writer is immutable, shared ABI mapper isn't reconfigured
+	private static final ObjectWriter INLINE_WRITER = JsonContext.ABI_JSON_MAPPER()
+	                                                             .writer()
+	                                                             .without(JsonWriteFeature.QUOTE_FIELD_NAMES.mappedFeature());
+
+	private static final ObjectWriter VARIABLES_WRITER = JsonContext.ABI_JSON_MAPPER().writer();
+
 	String method;
 
 	String fields;
 
-	Map<String, String> args = new HashMap<>();
+	Map<String, String> args = new LinkedHashMap<>();
+
+	// name -> value and GraphQL type of arguments passed as $variables
+	Map<String, Variable> variables = new LinkedHashMap<>();
 
 	public QueryExecutorBuilder(String method, String fields) {
 		this.method = method;
 		this.fields = fields;
 	}
 
-	public <T> void addToQuery(String name, T someValue) {
-		var mapper = JsonContext.ABI_JSON_MAPPER()
-		                        .configure(JsonWriteFeature.QUOTE_FIELD_NAMES.mappedFeature(), false)
-		                        .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+	private static String inline(Object value) {
 		try {
-			this.args.put(name, mapper.writeValueAsString(someValue));
+			return INLINE_WRITER.writeValueAsString(value);
 		} catch (JsonProcessingException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Adds argument that is written right into the query text.
+	 *
+	 * @param name      argument name
+	 * @param someValue argument value
+	 * @param <T>       type of value
+	 */
+	public <T> void addToQuery(String name, T someValue) {
+		this.args.put(name, inline(someValue));
+	}
+
+	/**
+	 * Adds argument that is passed as {@code $variable}, so query text stays the same for any value.
+	 *
+	 * @param name      argument name
+	 * @param type      GraphQL type of argument, like {@code TransactionFilter} or {@code [QueryOrderBy]}
+	 * @param someValue argument value
+	 * @param <T>       type of value
+	 */
+	public <T> void addVariable(String name, String type, T someValue) {
+		this.variables.put(name, new Variable(type, someValue));
+	}
 
+	/**
+	 * Query with all arguments written inline.
+	 *
+	 * @return query text without outer braces
+	 */
 	public String toGraphQLQuery() {
 
-		var filters = this.args.entrySet()
-		                       .stream()
-		                       .map(entrySet -> entrySet.getKey() + ": " + entrySet.getValue())
-		                       .collect(Collectors.joining(", "));
+		var filters = Stream.concat(this.args.entrySet()
+		                                     .stream()
+		                                     .map(entrySet -> entrySet.getKey() + ": " + entrySet.getValue()),
+		                            this.variables.entrySet()
+		                                          .stream()
+		                                          .map(entrySet -> entrySet.getKey() + ": " +
+		                                                           inline(entrySet.getValue().value())))
+		                    .collect(Collectors.joining(", "));
 
 		return """
 				%s( %s ){
@@ -48,4 +89,60 @@ public class QueryExecutorBuilder {
 				""".formatted(this.method, filters, this.fields);
 	}
 
+	/**
+	 * Cached query document with {@code $variables}. Arguments added by {@link #addToQuery} are written inline,
+	 * so they become part of the template.
+	 *
+	 * @return the template of query operation
+	 */
+	public QueryTemplate template() {
+		return template("query");
+	}
+
+	/**
+	 * Cached document with {@code $variables}.
+	 *
+	 * @param operation operation type, like {@code query} or {@code subscription}
+	 * @return the template
+	 */
+	public QueryTemplate template(String operation) {
+		var types = new LinkedHashMap<String, String>();
+		this.variables.forEach((name, variable) -> types.put(name, variable.type()));
+		String inlineArgs = this.args.entrySet()
+		                             .stream()
+		                             .map(entrySet -> entrySet.getKey() + ": " + entrySet.getValue())
+		                             .collect(Collectors.joining(", "));
+		return QueryTemplate.of(operation, this.method, inlineArgs, this.fields, types);
+	}
+
+	/**
+	 * Values of {@code $variables}.
+	 *
+	 * @return variable name to value
+	 */
+	public Map<String, Object> variables() {
+		var values = new LinkedHashMap<String, Object>();
+		this.variables.forEach((name, variable) -> values.put(name, variable.value()));
+		return Collections.unmodifiableMap(values);
+	}
+
+	/**
+	 * Values of {@code $variables} as JSON object.
+	 *
+	 * @return the JSON or null if there are no variables
+	 */
+	public String variablesJson() {
+		if (this.variables.isEmpty()) {
+			return null;
+		}
+		try {
+			return VARIABLES_WRITER.writeValueAsString(variables());
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	record Variable(String type, Object value) {
+	}
+
 }
@@ -0,0 +1,127 @@
+package tech.deplant.java4ever.binding.gql;
+
+import tech.deplant.java4ever.binding.JsonContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * GraphQL document of a query shape: operation, method, fields and names and types of arguments.
+ * Arguments are referenced as {@code $variables}, so document is rendered once per shape and only
+ * variables are serialized per call.
+ *
+ * <pre>{@code
+ * query($filter: AccountFilter, $limit: Int){accounts(filter: $filter, limit: $limit){id balance}}
+ * }</pre>
+ */
+public final class QueryTemplate {
+
+	// shapes usually come from code, but fields can be built at runtime, so cache is bounded
+	private static final int MAX_CACHED = 1024;
+	private static final Map<Key, QueryTemplate> CACHE = new ConcurrentHashMap<>();
+
+	private final String document;
+	// document as JSON string, ready to be put into request body
+	private final String documentJson;
+
+	private QueryTemplate(String document) {
+		this.document = document;
+		try {
+			this.documentJson = JsonContext.ABI_JSON_MAPPER().writeValueAsString(document);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Template of query shape, rendered on first use.
+	 *
+	 * @param operation     operation type, like {@code query} or {@code subscription}
+	 * @param method        root field, like {@code transactions}
+	 * @param inlineArgs    arguments written as literals, like {@code limit: 50}, or empty string
+	 * @param fields        fields tree
+	 * @param variableTypes names of arguments and their GraphQL types, like {@code filter -> TransactionFilter}
+	 * @return the template
+	 */
+	public static QueryTemplate of(String operation,
+	                               String method,
+	                               String inlineArgs,
+	                               String fields,
+	                               Map<String, String> variableTypes) {
+		var key = new Key(operation, method, inlineArgs, fields, variableTypes.entrySet()
+		                                                                      .stream()
+		                                                                      .map(e -> e.getKey() + ":" + e.getValue())
+		                                                                      .collect(Collectors.joining(",")));
+		var cached = CACHE.get(key);
+		if (null != cached) {
+			return cached;
+		}
+		var template = new QueryTemplate(render(operation, method, inlineArgs, fields, variableTypes));
+		if (CACHE.size() < MAX_CACHED) {
+			CACHE.putIfAbsent(key, template);
+		}
+		return template;
+	}
+
+	private static String render(String operation,
+	                             String method,
+	                             String inlineArgs,
+	                             String fields,
+	                             Map<String, String> variableTypes) {
+		String definitions = variableTypes.entrySet()
+		                                  .stream()
+		                                  .map(e -> "$" + e.getKey() + ": " + e.getValue())
+		                                  .collect(Collectors.joining(", "));
+		String arguments = Stream.concat(Stream.of(inlineArgs).filter(args -> !args.isEmpty()),
+		                                 variableTypes.keySet().stream().map(name -> name + ": $" + name))
+		                         .collect(Collectors.joining(", "));
+		return operation +
+		       (definitions.isEmpty() ? "" : "(" + definitions + ")") +
+		       "{" + method +
+		       (arguments.isEmpty() ? "" : "(" + arguments + ")") +
+		       "{" + fields + "}}";
+	}
+
+	/**
+	 * Number of cached templates.
+	 *
+	 * @return the size of cache
+	 */
+	public static int cacheSize() {
+		return CACHE.size();
+	}
+
+	/**
+	 * GraphQL document with {@code $variables}.
+	 *
+	 * @return the document
+	 */
+	public String document() {
+		return this.document;
+	}
+
+	/**
+	 * JSON body of HTTP request.
+	 *
+	 * @param variablesJson variables serialized as JSON object, may be null
+	 * @return the request body
+	 */
+	public String requestBody(String variablesJson) {
+		if (null == variablesJson) {
+			return "{\"query\":" + this.documentJson + "}";
+		}
+		return "{\"query\":" + this.documentJson + ",\"variables\":" + variablesJson + "}";
+	}
+
+	@Override
+	public String toString() {
+		return this.document;
+	}
+
+	private record Key(String operation, String method, String inlineArgs, String fields, String variables) {
+	}
+}
@@ -0,0 +1,117 @@
+package tech.deplant.java4ever.binding.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative long values with log-linear buckets in the manner of HdrHistogram.
+ * Every power of two range is split into 32 linear sub-buckets, so any recorded value is reported
+ * with relative error under 3.2%. Memory footprint is fixed (about 15 KiB) and recording doesn't allocate.
+ * Though it's named after latencies, it's used for byte sizes as well.
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder totalCount = new LongAdder();
+	private final LongAdder totalSum = new LongAdder();
+	private final AtomicLong maxValue = new AtomicLong();
+
+	static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+	}
+
+	static long highestValueOf(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int shift = bucket / SUB_BUCKETS - 1;
+		long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+	/**
+	 * Records the value. Negative values are recorded as zero.
+	 *
+	 * @param value the value
+	 */
+	public void record(long value) {
+		long v = Math.max(value, 0L);
+		this.counts.incrementAndGet(bucketOf(v));
+		this.totalCount.increment();
+		this.totalSum.add(v);
+		if (v > this.maxValue.get()) {
+			this.maxValue.accumulateAndGet(v, Math::max);
+		}
+	}
+
+	/**
+	 * Count of recorded values.
+	 *
+	 * @return the long
+	 */
+	public long count() {
+		return this.totalCount.sum();
+	}
+
+	/**
+	 * Exact max of recorded values.
+	 *
+	 * @return the long
+	 */
+	public long max() {
+		return this.maxValue.get();
+	}
+
+	/**
+	 * Exact mean of recorded values.
+	 *
+	 * @return the double
+	 */
+	public double mean() {
+		long count = count();
+		return count == 0 ? 0.0d : (double) this.totalSum.sum() / count;
+	}
+
+	/**
+	 * Value that is greater or equal to the specified percentage of recorded values.
+	 * Result is the upper bound of the bucket, never exceeding the recorded max.
+	 *
+	 * @param percentile percentile from 0.0 to 100.0, like 99.9
+	 * @return the long
+	 */
+	public long valueAtPercentile(double percentile) {
+		long count = count();
+		if (count == 0) {
+			return 0L;
+		}
+		long target = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100.0d) / 100.0d * count));
+		long seen = 0L;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += this.counts.get(i);
+			if (seen >= target) {
+				return Math.min(highestValueOf(i), max());
+			}
+		}
+		return max();
+	}
+
+	@Override
+	public String toString() {
+		return "count=%d mean=%.1f p50=%d p90=%d p99=%d p99.9=%d max=%d".formatted(count(),
+		                                                                        mean(),
+		                                                                        valueAtPercentile(50.0),
+		                                                                        valueAtPercentile(90.0),
+		                                                                        valueAtPercentile(99.0),
+		                                                                        valueAtPercentile(99.9),
+		                                                                        max());
+	}
+}
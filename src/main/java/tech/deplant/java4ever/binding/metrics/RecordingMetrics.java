@@ -0,0 +1,167 @@
+package tech.deplant.java4ever.binding.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link RequestMetrics} that keeps histograms and counters per context and per function name.
+ * Use {@link #functions()} or {@link #function(int, String)} to read them, for example to export
+ * to your monitoring system or to find which SDK calls dominate p99.
+ */
+public class RecordingMetrics implements RequestMetrics {
+
+	private final Map<Integer, Map<String, FunctionMetrics>> contexts = new ConcurrentHashMap<>();
+
+	/**
+	 * Metrics of the function in the context, created on first access.
+	 *
+	 * @param contextId    the context id
+	 * @param functionName the function name
+	 * @return the function metrics
+	 */
+	public FunctionMetrics function(int contextId, String functionName) {
+		return this.contexts.computeIfAbsent(contextId, id -> new ConcurrentHashMap<>())
+		                    .computeIfAbsent(functionName, FunctionMetrics::new);
+	}
+
+	/**
+	 * All functions that have metrics recorded, with the contexts they were called in.
+	 *
+	 * @return the list of functions metrics
+	 */
+	public List<ContextFunction> functions() {
+		var result = new ArrayList<ContextFunction>();
+		this.contexts.forEach((contextId, functions) -> functions.forEach((name, metrics) -> result.add(
+				new ContextFunction(contextId, name, metrics))));
+		return result;
+	}
+
+	/**
+	 * Forgets all metrics of the context, for example after it was destroyed.
+	 *
+	 * @param contextId the context id
+	 */
+	public void removeContext(int contextId) {
+		this.contexts.remove(contextId);
+	}
+
+	@Override
+	public void onSend(int contextId, String functionName, int paramsBytes) {
+		var metrics = function(contextId, functionName);
+		metrics.inFlight.increment();
+		metrics.paramsBytes.record(paramsBytes);
+	}
+
+	@Override
+	public void onFirstUpcall(int contextId, String functionName, long nanos) {
+		function(contextId, functionName).firstUpcallNanos.record(nanos);
+	}
+
+	@Override
+	public void onResponse(int contextId, String functionName, int responseBytes) {
+		function(contextId, functionName).responseBytes.record(responseBytes);
+	}
+
+	@Override
+	public void onError(int contextId, String functionName, long code) {
+		function(contextId, functionName).errors.computeIfAbsent(code, c -> new LongAdder()).increment();
+	}
+
+	@Override
+	public void onFinished(int contextId, String functionName, long nanos) {
+		var metrics = function(contextId, functionName);
+		metrics.inFlight.decrement();
+		metrics.finishedNanos.record(nanos);
+	}
+
+	/**
+	 * Metrics of a single function in a single context.
+	 */
+	public static final class FunctionMetrics {
+		private final String functionName;
+		private final LatencyHistogram firstUpcallNanos = new LatencyHistogram();
+		private final LatencyHistogram finishedNanos = new LatencyHistogram();
+		private final LatencyHistogram paramsBytes = new LatencyHistogram();
+		private final LatencyHistogram responseBytes = new LatencyHistogram();
+		private final LongAdder inFlight = new LongAdder();
+		private final Map<Long, LongAdder> errors = new ConcurrentHashMap<>();
+
+		private FunctionMetrics(String functionName) {
+			this.functionName = functionName;
+		}
+
+		public String functionName() {
+			return this.functionName;
+		}
+
+		/**
+		 * Latency from send to the first upcall, nanoseconds.
+		 *
+		 * @return the latency histogram
+		 */
+		public LatencyHistogram firstUpcallNanos() {
+			return this.firstUpcallNanos;
+		}
+
+		/**
+		 * Latency from send to the finished upcall, nanoseconds.
+		 *
+		 * @return the latency histogram
+		 */
+		public LatencyHistogram finishedNanos() {
+			return this.finishedNanos;
+		}
+
+		/**
+		 * Sizes of serialized params JSON, bytes.
+		 *
+		 * @return the latency histogram
+		 */
+		public LatencyHistogram paramsBytes() {
+			return this.paramsBytes;
+		}
+
+		/**
+		 * Sizes of successful response JSON, bytes.
+		 *
+		 * @return the latency histogram
+		 */
+		public LatencyHistogram responseBytes() {
+			return this.responseBytes;
+		}
+
+		/**
+		 * Count of sent requests that are not finished yet.
+		 *
+		 * @return the long
+		 */
+		public long inFlight() {
+			return this.inFlight.sum();
+		}
+
+		/**
+		 * Count of errors by error code.
+		 *
+		 * @return the map
+		 */
+		public Map<Long, Long> errorCounts() {
+			var result = new TreeMap<Long, Long>();
+			this.errors.forEach((code, count) -> result.put(code, count.sum()));
+			return result;
+		}
+	}
+
+	/**
+	 * Function metrics with the context they belong to.
+	 *
+	 * @param contextId    the context id
+	 * @param functionName the function name
+	 * @param metrics      live metrics of the function
+	 */
+	public record ContextFunction(int contextId, String functionName, FunctionMetrics metrics) {
+	}
+}
@@ -0,0 +1,79 @@
+package tech.deplant.java4ever.binding.metrics;
+
+/**
+ * Every metrics backend should implement this interface to be used in EverSdk.setMetrics(...) statement.
+ * Methods are called right on the request hot path (often from EVER-SDK upcall threads),
+ * so implementations should be fast and must not throw.
+ * Latencies are measured from the moment request is sent to EVER-SDK.
+ */
+public interface RequestMetrics {
+
+	/**
+	 * Default metrics that record nothing. Binding doesn't even read the clock when it's set.
+	 */
+	RequestMetrics NOOP = new RequestMetrics() {
+		@Override
+		public boolean enabled() {
+			return false;
+		}
+	};
+
+	/**
+	 * If false, binding skips all other calls of this interface.
+	 *
+	 * @return the boolean
+	 */
+	default boolean enabled() {
+		return true;
+	}
+
+	/**
+	 * Request is sent to EVER-SDK.
+	 *
+	 * @param contextId    the context id
+	 * @param functionName the function name, like "net.query_collection"
+	 * @param paramsBytes  size of serialized params JSON
+	 */
+	default void onSend(int contextId, String functionName, int paramsBytes) {
+	}
+
+	/**
+	 * First upcall of the request is received, whatever its type is.
+	 *
+	 * @param contextId    the context id
+	 * @param functionName the function name
+	 * @param nanos        time since the request was sent
+	 */
+	default void onFirstUpcall(int contextId, String functionName, long nanos) {
+	}
+
+	/**
+	 * Successful response is received.
+	 *
+	 * @param contextId     the context id
+	 * @param functionName  the function name
+	 * @param responseBytes size of response JSON
+	 */
+	default void onResponse(int contextId, String functionName, int responseBytes) {
+	}
+
+	/**
+	 * Error is received, either from EVER-SDK or produced by binding itself.
+	 *
+	 * @param contextId    the context id
+	 * @param functionName the function name
+	 * @param code         code of EverSdkException.ErrorResult
+	 */
+	default void onError(int contextId, String functionName, long code) {
+	}
+
+	/**
+	 * Request is finished, no more upcalls will come.
+	 *
+	 * @param contextId    the context id
+	 * @param functionName the function name
+	 * @param nanos        time since the request was sent
+	 */
+	default void onFinished(int contextId, String functionName, long nanos) {
+	}
+}
@@ -0,0 +1,229 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class AccountStateCacheTests {
+
+	private static ObjectNode row(String address, String boc, long lt) {
+		var row = JsonNodeFactory.instance.objectNode();
+		row.put("id", address);
+		row.put("boc", boc);
+		row.put("last_trans_lt", "0x" + Long.toHexString(lt));
+		return row;
+	}
+
+	private static JsonNode event(ObjectNode row) {
+		return JsonNodeFactory.instance.objectNode().set("result", row);
+	}
+
+	private static JsonNode error(int code) {
+		var error = JsonNodeFactory.instance.objectNode();
+		error.put("code", code);
+		error.put("message", "error " + code);
+		return error;
+	}
+
+	@Test
+	public void addresses_added_during_resubscribe_share_the_next_one() {
+		var calls = new FakeCalls();
+		var cache = new AccountStateCache(0, 100, calls);
+		var first = cache.get("0:01");
+		var second = cache.get("0:02");
+		var third = cache.get("0:03");
+		// only the first subscription is in flight, others wait for it
+		assertEquals(1, calls.subscribes.size());
+		assertEquals(List.of("0:01"), calls.ids(0));
+
+		calls.subscribes.get(0).complete(new Net.ResultOfSubscribeCollection(1L));
+		assertEquals(2, calls.subscribes.size());
+		assertEquals(List.of("0:01", "0:02", "0:03"), calls.ids(1));
+		assertFalse(second.isDone());
+
+		calls.subscribes.get(1).complete(new Net.ResultOfSubscribeCollection(2L));
+		// old subscription is removed only after the new one is created
+		assertEquals(List.of(1L), calls.unsubscribed);
+		assertEquals(3, calls.queries.size());
+		calls.answerQueries();
+		assertTrue(first.isDone() && second.isDone() && third.isDone());
+		assertEquals(2, calls.subscribes.size());
+	}
+
+	@Test
+	public void full_group_starts_a_new_one() {
+		var calls = new FakeCalls();
+		var cache = new AccountStateCache(0, 2, calls);
+		cache.get("0:01");
+		cache.get("0:02");
+		cache.get("0:03");
+		// third address goes to its own group with its own subscription
+		assertEquals(2, calls.subscribes.size());
+		assertEquals(List.of("0:03"), calls.ids(1));
+	}
+
+	@Test
+	public void failed_resubscribe_keeps_previous_subscription() {
+		var calls = new FakeCalls();
+		var cache = new AccountStateCache(0, 100, calls);
+		cache.get("0:01");
+		calls.subscribes.get(0).complete(new Net.ResultOfSubscribeCollection(1L));
+		calls.answerQueries();
+
+		var failed = cache.get("0:02");
+		calls.subscribes.get(1)
+		     .completeExceptionally(new EverSdkException(new EverSdkException.ErrorResult(-500, "no")));
+		assertTrue(failed.isCompletedExceptionally());
+		assertTrue(calls.unsubscribed.isEmpty());
+		assertTrue(cache.health("0:02").isEmpty());
+		assertTrue(cache.health("0:01").orElseThrow().healthy());
+
+		// forgotten address is added again by the next request
+		cache.get("0:02");
+		assertEquals(List.of("0:01", "0:02"), calls.ids(2));
+	}
+
+	@Test
+	public void subscription_error_is_reported_until_resumed() {
+		var calls = new FakeCalls();
+		var cache = new AccountStateCache(0, 100, calls);
+		var state = cache.get("0:01");
+		calls.subscribes.get(0).complete(new Net.ResultOfSubscribeCollection(1L));
+		calls.answerQueries();
+		assertTrue(state.isDone());
+
+		calls.consumers.get(0).accept(error(614));
+		calls.consumers.get(0).accept(error(-1));
+		var health = cache.health("0:01").orElseThrow();
+		assertFalse(health.healthy());
+		// the first error is kept
+		assertEquals(614, health.errorCode());
+		assertEquals(1, cache.unhealthyGroups());
+
+		calls.consumers.get(0).accept(error(615));
+		assertTrue(cache.health("0:01").orElseThrow().healthy());
+		assertEquals(0, cache.unhealthyGroups());
+		// states are fetched again after resume
+		assertEquals(2, calls.queries.size());
+		assertEquals("0:01", calls.queries.get(1).path("id").path("in").get(0).asText());
+	}
+
+	@Test
+	public void newer_state_wins_regardless_of_order() throws Exception {
+		var calls = new FakeCalls();
+		var cache = new AccountStateCache(0, 100, calls);
+		var state = cache.get("0:01");
+		calls.subscribes.get(0).complete(new Net.ResultOfSubscribeCollection(1L));
+		// subscription event comes before the fetched row
+		calls.consumers.get(0).accept(event(row("0:01", "new", 20)));
+		calls.results.add(row("0:01", "old", 10));
+		calls.answerQueries();
+		assertEquals("new", state.get().boc());
+		assertEquals(BigInteger.valueOf(20), state.get().lastTransLt());
+		assertTrue(cache.staleness("0:01").isPresent());
+		assertTrue(cache.staleness("0:02").isEmpty());
+	}
+
+	@Test
+	public void close_unsubscribes_created_and_pending_subscriptions() {
+		var calls = new FakeCalls();
+		var cache = new AccountStateCache(0, 1, calls);
+		cache.get("0:01");
+		var pending = cache.get("0:02");
+		calls.subscribes.get(0).complete(new Net.ResultOfSubscribeCollection(1L));
+		cache.close();
+		assertEquals(List.of(1L), calls.unsubscribed);
+
+		calls.subscribes.get(1).complete(new Net.ResultOfSubscribeCollection(2L));
+		assertEquals(List.of(1L, 2L), calls.unsubscribed);
+		assertTrue(pending.isCompletedExceptionally());
+		assertTrue(cache.get("0:03").isCompletedExceptionally());
+	}
+
+	@Test
+	public void subscribe_is_called_without_holding_the_lock() {
+		var calls = new FakeCalls();
+		var cache = new AccountStateCache(0, 100, calls);
+		cache.get("0:01");
+		calls.subscribes.get(0).complete(new Net.ResultOfSubscribeCollection(1L));
+		calls.answerQueries();
+
+		// other thread reads health while the next subscribe call is in progress
+		var other = new CompletableFuture<Integer>();
+		calls.onSubscribe = () -> other.complete(cache.unhealthyGroups());
+		cache.get("0:02");
+		assertEquals(0, (int) other.getNow(-1));
+	}
+
+	private static final class FakeCalls implements AccountStateCache.AccountCalls {
+
+		private final List<JsonNode> filters = new ArrayList<>();
+		private final List<CompletableFuture<Net.ResultOfSubscribeCollection>> subscribes = new ArrayList<>();
+		private final List<Consumer<JsonNode>> consumers = new ArrayList<>();
+		private final List<Long> unsubscribed = new ArrayList<>();
+		private final List<JsonNode> queries = new ArrayList<>();
+		private final List<CompletableFuture<Net.ResultOfQueryCollection>> answers = new ArrayList<>();
+		private final List<JsonNode> results = new ArrayList<>();
+		// runs on another thread inside subscribe call, which waits for it
+		private Runnable onSubscribe;
+
+		@Override
+		public CompletableFuture<Net.ResultOfSubscribeCollection> subscribe(JsonNode filter,
+		                                                                   Consumer<JsonNode> consumer) {
+			if (null != this.onSubscribe) {
+				try {
+					Thread.startVirtualThread(this.onSubscribe).join(5_000L);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			var subscribed = new CompletableFuture<Net.ResultOfSubscribeCollection>();
+			this.filters.add(filter);
+			this.consumers.add(consumer);
+			this.subscribes.add(subscribed);
+			return subscribed;
+		}
+
+		@Override
+		public void unsubscribe(Net.ResultOfSubscribeCollection handle) {
+			this.unsubscribed.add(handle.handle());
+		}
+
+		@Override
+		public CompletableFuture<Net.ResultOfQueryCollection> query(JsonNode filter, long limit) {
+			var answer = new CompletableFuture<Net.ResultOfQueryCollection>();
+			this.queries.add(filter);
+			this.answers.add(answer);
+			return answer;
+		}
+
+		private List<String> ids(int subscribe) {
+			var ids = new ArrayList<String>();
+			this.filters.get(subscribe).path("id").path("in").forEach(id -> ids.add(id.asText()));
+			return ids;
+		}
+
+		// answers every pending query with prepared rows, accounts without rows don't exist
+		private void answerQueries() {
+			for (var answer : List.copyOf(this.answers)) {
+				answer.complete(new Net.ResultOfQueryCollection(this.results.toArray(JsonNode[]::new)));
+			}
+			this.answers.clear();
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class CollectionScannerTests {
+
+	private static CollectionScanner scanner(int parallelism, JsonNode filter, CollectionScanner.Key key) {
+		return new CollectionScanner(0, "transactions", filter, "aborted", key, 50L, parallelism, 2);
+	}
+
+	private static JsonNode json(String text) throws JsonProcessingException {
+		return JsonContext.SDK_JSON_MAPPER().readTree(text);
+	}
+
+	private static List<List<Long>> bounds(List<BigInteger[]> ranges) {
+		return ranges.stream().map(range -> List.of(range[0].longValueExact(), range[1].longValueExact())).toList();
+	}
+
+	@Test
+	public void range_is_split_into_disjoint_sub_ranges() {
+		var scanner = scanner(4, null, CollectionScanner.Key.LT);
+		assertEquals(List.of(List.of(0L, 25L), List.of(25L, 50L), List.of(50L, 75L), List.of(75L, 100L)),
+		             bounds(scanner.split(BigInteger.ZERO, BigInteger.valueOf(100))));
+		// last range is never wider than others
+		assertEquals(List.of(List.of(10L, 14L), List.of(14L, 18L), List.of(18L, 20L)),
+		             bounds(scanner(3, null, CollectionScanner.Key.LT).split(BigInteger.TEN, BigInteger.valueOf(20))));
+		// ranges narrower than parallelism give one row per sub-range
+		assertEquals(List.of(List.of(5L, 6L), List.of(6L, 7L)),
+		             bounds(scanner.split(BigInteger.valueOf(5), BigInteger.valueOf(7))));
+		assertTrue(scanner.split(BigInteger.TEN, BigInteger.TEN).isEmpty());
+		assertTrue(scanner.split(BigInteger.TEN, BigInteger.ONE).isEmpty());
+	}
+
+	@Test
+	public void first_page_filters_by_range() throws JsonProcessingException {
+		var scanner = scanner(1, json("{\"account_addr\":{\"eq\":\"0:1\"}}"), CollectionScanner.Key.LT);
+		var filter = scanner.pageFilter(new BigInteger[]{BigInteger.valueOf(16), BigInteger.valueOf(255)}, null, null);
+		assertEquals(json("{\"account_addr\":{\"eq\":\"0:1\"},\"lt\":{\"lt\":\"0xff\",\"ge\":\"0x10\"}}"), filter);
+		// filter of scanner is copied, not modified
+		assertEquals(json("{\"account_addr\":{\"eq\":\"0:1\"}}"), scanner.filter());
+	}
+
+	@Test
+	public void next_pages_continue_after_last_key_and_id() throws JsonProcessingException {
+		var scanner = scanner(1, json("{\"aborted\":{\"eq\":false}}"), CollectionScanner.Key.SEQ_NO);
+		var filter = scanner.pageFilter(new BigInteger[]{BigInteger.ONE, BigInteger.valueOf(100)},
+		                                JsonNodeFactory.instance.numberNode(42),
+		                                "abc");
+		// compared as text, as range bounds are BigInteger nodes
+		assertEquals(json("""
+				                  {"aborted":{"eq":false},
+				                   "seq_no":{"lt":100,"gt":42},
+				                   "OR":{"aborted":{"eq":false},"seq_no":{"eq":42},"id":{"gt":"abc"}}}
+				                  """).toString(), filter.toString());
+	}
+
+	@Test
+	public void failed_sub_range_ends_the_stream() throws Exception {
+		// context isn't created, so query fails with a runtime exception instead of EverSdkException
+		var scanner = new CollectionScanner(-1, "transactions", null, "aborted", CollectionScanner.Key.LT, 50L, 2, 1);
+		var consumed = CompletableFuture.supplyAsync(() -> {
+			try (var rows = scanner.scan(BigInteger.ZERO, BigInteger.TEN)) {
+				return assertThrows(CompletionException.class, rows::toList);
+			}
+		});
+		// consumer used to wait forever for the failed sub-range
+		var error = consumed.get(10, TimeUnit.SECONDS);
+		assertInstanceOf(RuntimeException.class, error.getCause());
+	}
+}
@@ -0,0 +1,216 @@
+package tech.deplant.java4ever.binding;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.boc.BagOfCells;
+import tech.deplant.java4ever.binding.boc.Cell;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class MessageSenderTests {
+
+	private static final String EMPTY_BOC = "te6ccgEBAQEAAgAAAA==";
+	private static final String EMPTY_HASH = "96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7";
+
+	private static Processing.MessageMonitoringResult finalized(String hash) {
+		return new Processing.MessageMonitoringResult(hash, Processing.MessageMonitoringStatus.Finalized, null, null, null);
+	}
+
+	private static Processing.ResultOfFetchNextMonitorResults results(Processing.MessageMonitoringResult... results) {
+		return new Processing.ResultOfFetchNextMonitorResults(results);
+	}
+
+	@Test
+	public void message_hash_is_computed_from_boc() {
+		var calls = new FakeCalls();
+		var sender = new MessageSender(0, 0L, 1, Runnable::run, calls);
+		var cell = Cell.of(new byte[]{0x12, 0x34}, 16, Cell.EMPTY);
+		sender.sendMessage(EMPTY_BOC, 100L);
+		sender.sendMessage(BagOfCells.toBase64(cell), 100L);
+		assertEquals(2, calls.sent.size());
+		assertEquals(EMPTY_BOC, calls.sent.get(0)[0].boc());
+		assertEquals(100L, (long) calls.sent.get(0)[0].waitUntil());
+
+		calls.complete(results(finalized(cell.hashHex()), finalized(EMPTY_HASH)));
+		assertEquals(2L, sender.resolvedCount());
+		assertEquals(0, sender.unresolvedCount());
+	}
+
+	@Test
+	public void unparsable_boc_fails_without_sending() {
+		var calls = new FakeCalls();
+		var sender = new MessageSender(0, 0L, 1, Runnable::run, calls);
+		var future = sender.sendMessage("not a boc", 100L);
+		var error = assertThrows(ExecutionException.class, future::get);
+		assertInstanceOf(EverSdkException.class, error.getCause());
+		assertTrue(calls.sent.isEmpty());
+	}
+
+	@Test
+	public void results_complete_messages_by_hash() throws Exception {
+		var calls = new FakeCalls();
+		var sender = new MessageSender(0, 1_000_000L, 2, Runnable::run, calls);
+		var other = Cell.of(new byte[]{0x01}, 8);
+		var first = sender.sendMessage(EMPTY_BOC, 100L);
+		var second = sender.sendMessage(BagOfCells.toBase64(other), 100L);
+		assertEquals(1, calls.sent.size());
+		assertEquals(2, calls.sent.get(0).length);
+
+		// results come in any order and only for some of the messages
+		calls.complete(results(finalized(other.hashHex())));
+		assertTrue(second.isDone());
+		assertFalse(first.isDone());
+		assertEquals(other.hashHex(), second.get().hash());
+
+		calls.complete(results(finalized(EMPTY_HASH)));
+		assertEquals(EMPTY_HASH, first.get().hash());
+	}
+
+	@Test
+	public void poller_stops_when_every_message_is_resolved() {
+		var calls = new FakeCalls();
+		var sender = new MessageSender(0, 0L, 1, Runnable::run, calls);
+		assertFalse(sender.polling());
+		sender.sendMessage(EMPTY_BOC, 100L);
+		assertTrue(sender.polling());
+		assertEquals(1, calls.fetches.size());
+
+		// result of unknown message doesn't stop polling of the sent one
+		calls.complete(results(finalized("00".repeat(32))));
+		assertTrue(sender.polling());
+		assertEquals(2, calls.fetches.size());
+
+		calls.complete(results(finalized(EMPTY_HASH)));
+		assertFalse(sender.polling());
+		assertEquals(2, calls.fetches.size());
+
+		// next message starts the poller again
+		sender.sendMessage(BagOfCells.toBase64(Cell.of(new byte[]{0x02}, 8)), 100L);
+		assertTrue(sender.polling());
+		assertEquals(3, calls.fetches.size());
+	}
+
+	@Test
+	public void same_message_is_sent_once() throws Exception {
+		var calls = new FakeCalls();
+		var sender = new MessageSender(0, 0L, 1, Runnable::run, calls);
+		var first = sender.sendMessage(EMPTY_BOC, 100L);
+		var second = sender.sendMessage(EMPTY_BOC, 100L);
+		assertEquals(1, calls.sent.size());
+		calls.complete(results(finalized(EMPTY_HASH)));
+		assertSame(first.get(), second.get());
+	}
+
+	@Test
+	public void failed_fetch_fails_all_monitored_messages() {
+		var calls = new FakeCalls();
+		var sender = new MessageSender(0, 0L, 1, Runnable::run, calls);
+		var first = sender.sendMessage(EMPTY_BOC, 100L);
+		var second = sender.sendMessage(BagOfCells.toBase64(Cell.of(new byte[]{0x03}, 8)), 100L);
+		calls.fetches.getLast().completeExceptionally(new EverSdkException(new EverSdkException.ErrorResult(-500,
+		                                                                                                     "queue failed")));
+		assertTrue(first.isCompletedExceptionally());
+		assertTrue(second.isCompletedExceptionally());
+		assertEquals(2L, sender.failedCount());
+		assertFalse(sender.polling());
+	}
+
+	@Test
+	public void result_fetched_before_send_completes_is_not_polled_again() throws Exception {
+		var calls = new FakeCalls();
+		var sender = new MessageSender(0, 0L, 1, Runnable::run, calls);
+		sender.sendMessage(EMPTY_BOC, 100L);
+		calls.holdSends = true;
+		var other = Cell.of(new byte[]{0x04}, 8);
+		var late = sender.sendMessage(BagOfCells.toBase64(other), 100L);
+		assertEquals(1, calls.fetches.size());
+
+		// fetch of the first batch also brings result of the second one, which is still being sent
+		calls.complete(results(finalized(EMPTY_HASH), finalized(other.hashHex())));
+		assertEquals(other.hashHex(), late.get().hash());
+		assertFalse(sender.polling());
+
+		calls.sends.getLast().complete(new Processing.ResultOfSendMessages(null));
+		assertFalse(sender.polling());
+		assertEquals(1, calls.fetches.size());
+		assertEquals(0, sender.unresolvedCount());
+	}
+
+	@Test
+	public void sending_that_throws_fails_the_batch() throws Exception {
+		var calls = new FakeCalls();
+		var sender = new MessageSender(0, 20_000L, 10, Runnable::run, calls);
+		calls.sendError = new IllegalArgumentException("bad params");
+		var first = sender.sendMessage(EMPTY_BOC, 100L);
+		var second = sender.sendMessage(BagOfCells.toBase64(Cell.of(new byte[]{0x05}, 8)), 100L);
+		// batch is sent by the timer
+		var error = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(IllegalArgumentException.class, error.getCause());
+		assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+		assertEquals(0, sender.unresolvedCount());
+		assertEquals(2L, sender.failedCount());
+		assertFalse(sender.polling());
+	}
+
+	@Test
+	public void closed_sender_rejects_messages() {
+		var calls = new FakeCalls();
+		var sender = new MessageSender(0, 1_000_000L, 10, Runnable::run, calls);
+		sender.sendMessage(EMPTY_BOC, 100L);
+		assertTrue(calls.sent.isEmpty());
+		sender.close();
+		assertEquals(1, calls.sent.size());
+		assertTrue(sender.sendMessage(EMPTY_BOC, 100L).isCompletedExceptionally());
+	}
+
+	private static final class FakeCalls implements MessageSender.MonitorCalls {
+
+		private final List<Processing.MessageSendingParams[]> sent = new ArrayList<>();
+		private final List<CompletableFuture<Processing.ResultOfSendMessages>> sends = new ArrayList<>();
+		private final List<CompletableFuture<Processing.ResultOfFetchNextMonitorResults>> fetches = new ArrayList<>();
+		// sends complete only when test completes them
+		private boolean holdSends;
+		private volatile RuntimeException sendError;
+
+		@Override
+		public CompletableFuture<Processing.ResultOfSendMessages> sendMessages(Processing.MessageSendingParams[] messages,
+		                                                                       String queue) {
+			if (null != this.sendError) {
+				throw this.sendError;
+			}
+			this.sent.add(messages);
+			var send = new CompletableFuture<Processing.ResultOfSendMessages>();
+			this.sends.add(send);
+			if (!this.holdSends) {
+				send.complete(new Processing.ResultOfSendMessages(null));
+			}
+			return send;
+		}
+
+		@Override
+		public CompletableFuture<Processing.ResultOfFetchNextMonitorResults> fetchNextMonitorResults(String queue) {
+			var fetch = new CompletableFuture<Processing.ResultOfFetchNextMonitorResults>();
+			this.fetches.add(fetch);
+			return fetch;
+		}
+
+		@Override
+		public void cancelMonitor(String queue) {
+		}
+
+		private void complete(Processing.ResultOfFetchNextMonitorResults results) {
+			this.fetches.getLast().complete(results);
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class QueryBatcherTests {
+
+	private static Net.ParamsOfQueryOperation query(String id) {
+		var filter = JsonNodeFactory.instance.objectNode();
+		filter.putObject("id").put("eq", id);
+		return new Net.ParamsOfQueryCollection("accounts", filter, "id", null, 1L);
+	}
+
+	private static String id(Net.ParamsOfQueryOperation operation) {
+		return ((Net.ParamsOfQueryCollection) operation).filter().path("id").path("eq").asText();
+	}
+
+	@Test
+	public void batch_is_sent_when_window_ends() throws Exception {
+		var calls = new FakeCall();
+		var batcher = new QueryBatcher(0, 20_000L, 100, calls);
+		var first = batcher.submit(query("0:01"));
+		var second = batcher.submit(query("0:02"));
+		assertTrue(calls.batches.isEmpty());
+
+		calls.awaitBatches(1);
+		assertEquals(List.of("0:01", "0:02"), calls.ids(0));
+		calls.answer(0);
+		assertEquals("0:01", first.get(1, TimeUnit.SECONDS).asText());
+		assertEquals("0:02", second.get(1, TimeUnit.SECONDS).asText());
+		assertEquals(1L, batcher.batchSizes().count());
+		assertEquals(2L, batcher.batchSizes().max());
+	}
+
+	@Test
+	public void full_batch_is_sent_right_away() {
+		var calls = new FakeCall();
+		var batcher = new QueryBatcher(0, 60_000_000L, 2, calls);
+		batcher.submit(query("0:01"));
+		assertTrue(calls.batches.isEmpty());
+		batcher.submit(query("0:02"));
+		assertEquals(1, calls.batches.size());
+		assertEquals(List.of("0:01", "0:02"), calls.ids(0));
+		batcher.submit(query("0:03"));
+		assertEquals(1, calls.batches.size());
+	}
+
+	@Test
+	public void timer_flushes_only_the_batch_it_was_scheduled_for() throws Exception {
+		var calls = new FakeCall();
+		var batcher = new QueryBatcher(0, 1_000_000L, 2, calls);
+		batcher.submit(query("0:01"));
+		batcher.submit(query("0:02"));
+		assertEquals(1, calls.batches.size());
+		Thread.sleep(500L);
+		// window of this batch ends 500ms after the one of the sent batch
+		var third = batcher.submit(query("0:03"));
+		Thread.sleep(750L);
+		assertEquals(1, calls.batches.size());
+
+		calls.awaitBatches(2);
+		assertEquals(List.of("0:03"), calls.ids(1));
+		calls.answer(1);
+		assertEquals("0:03", third.get(1, TimeUnit.SECONDS).asText());
+	}
+
+	@Test
+	public void close_sends_waiting_queries_and_rejects_new_ones() {
+		var calls = new FakeCall();
+		var batcher = new QueryBatcher(0, 60_000_000L, 100, calls);
+		var waiting = batcher.submit(query("0:01"));
+		batcher.close();
+		assertEquals(1, calls.batches.size());
+		calls.answer(0);
+		assertTrue(waiting.isDone() && !waiting.isCompletedExceptionally());
+
+		var rejected = batcher.submit(query("0:02"));
+		var error = assertThrows(ExecutionException.class, rejected::get);
+		assertInstanceOf(EverSdkException.class, error.getCause());
+		assertEquals(1, calls.batches.size());
+	}
+
+	@Test
+	public void unexpected_count_of_results_fails_every_query() {
+		var calls = new FakeCall();
+		var batcher = new QueryBatcher(0, 60_000_000L, 2, calls);
+		var first = batcher.submit(query("0:01"));
+		var second = batcher.submit(query("0:02"));
+		calls.replies.get(0).complete(new Net.ResultOfBatchQuery(new JsonNode[]{JsonNodeFactory.instance.textNode("0:01")}));
+		var error = assertThrows(ExecutionException.class, first::get);
+		var mismatch = assertInstanceOf(EverSdkException.class, error.getCause());
+		assertEquals(-500L, mismatch.errorResponse().code());
+		assertTrue(second.isCompletedExceptionally());
+	}
+
+	@Test
+	public void failed_batch_fails_every_query() {
+		var calls = new FakeCall();
+		var batcher = new QueryBatcher(0, 60_000_000L, 2, calls);
+		var first = batcher.submit(query("0:01"));
+		var second = batcher.submit(query("0:02"));
+		calls.replies.get(0).completeExceptionally(new EverSdkException(new EverSdkException.ErrorResult(-1, "down")));
+		assertTrue(first.isCompletedExceptionally());
+		assertTrue(second.isCompletedExceptionally());
+	}
+
+	@Test
+	public void batch_that_throws_fails_every_query() throws Exception {
+		var batcher = new QueryBatcher(0, 20_000L, 100, operations -> {
+			throw new IllegalArgumentException("bad params");
+		});
+		var first = batcher.submit(query("0:01"));
+		var second = batcher.submit(query("0:02"));
+		// batch is sent when the window ends
+		var error = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(IllegalArgumentException.class, error.getCause());
+		assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void window_ends_on_its_own_thread() throws Exception {
+		var blocked = new CountDownLatch(1);
+		var slow = new QueryBatcher(0, 1_000L, 100, operations -> {
+			try {
+				blocked.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new CompletableFuture<>();
+		});
+		slow.submit(query("0:01"));
+		Thread.sleep(100L);
+		// slow batch is still being sent, other batchers aren't delayed by it
+		var calls = new FakeCall();
+		var batcher = new QueryBatcher(0, 1_000L, 100, calls);
+		batcher.submit(query("0:02"));
+		calls.awaitBatches(1);
+		blocked.countDown();
+	}
+
+	private static final class FakeCall implements QueryBatcher.BatchCall {
+
+		// batches may be sent from the timer thread
+		private final List<Net.ParamsOfQueryOperation[]> batches = new CopyOnWriteArrayList<>();
+		private final List<CompletableFuture<Net.ResultOfBatchQuery>> replies = new CopyOnWriteArrayList<>();
+
+		@Override
+		public CompletableFuture<Net.ResultOfBatchQuery> batchQuery(Net.ParamsOfQueryOperation[] operations) {
+			var reply = new CompletableFuture<Net.ResultOfBatchQuery>();
+			this.replies.add(reply);
+			this.batches.add(operations);
+			return reply;
+		}
+
+		private void awaitBatches(int count) throws InterruptedException {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (this.batches.size() < count && System.nanoTime() < deadline) {
+				Thread.sleep(5L);
+			}
+			assertEquals(count, this.batches.size());
+		}
+
+		private List<String> ids(int batch) {
+			return Arrays.stream(this.batches.get(batch)).map(QueryBatcherTests::id).toList();
+		}
+
+		// every query gets its own id as result
+		private void answer(int batch) {
+			var results = Arrays.stream(this.batches.get(batch))
+			                    .map(operation -> (JsonNode) JsonNodeFactory.instance.textNode(id(operation)))
+			                    .toArray(JsonNode[]::new);
+			this.replies.get(batch).complete(new Net.ResultOfBatchQuery(results));
+		}
+	}
+}
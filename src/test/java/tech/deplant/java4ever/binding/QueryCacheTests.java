@@ -0,0 +1,95 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class QueryCacheTests {
+
+	private static JsonNode json(String text) throws JsonProcessingException {
+		return JsonContext.SDK_JSON_MAPPER().readTree(text);
+	}
+
+	@Test
+	public void id_filters_of_immutable_collections_are_counted() throws JsonProcessingException {
+		assertEquals(1, QueryCache.idCount("blocks", json("{\"id\":{\"eq\":\"a\"}}")));
+		assertEquals(2, QueryCache.idCount("messages", json("{\"id\":{\"in\":[\"a\",\"b\",\"a\"]}}")));
+		assertEquals(0, QueryCache.idCount("accounts", json("{\"id\":{\"eq\":\"a\"}}")));
+		assertEquals(0, QueryCache.idCount("transactions", json("{\"id\":{\"in\":[]}}")));
+		assertEquals(0, QueryCache.idCount("transactions", json("{\"id\":{\"in\":[\"a\",1]}}")));
+		assertEquals(0, QueryCache.idCount("transactions", json("{\"id\":{\"gt\":\"a\"}}")));
+		assertEquals(0, QueryCache.idCount("transactions", json("{\"id\":{\"eq\":\"a\"},\"lt\":{\"gt\":\"1\"}}")));
+		assertEquals(0, QueryCache.idCount("transactions", null));
+	}
+
+	@Test
+	public void mutable_fields_and_joins_are_not_cached() {
+		assertTrue(QueryCache.immutableProjection("messages", "id boc created_at"));
+		assertTrue(QueryCache.immutableProjection("blocks", "id in_msg_descr { msg_type transaction_id }"));
+		assertTrue(QueryCache.immutableProjection("transactions", "id balance_delta(format: DEC)"));
+		assertFalse(QueryCache.immutableProjection("messages", "id status"));
+		assertFalse(QueryCache.immutableProjection("messages", "id st: status_name"));
+		assertFalse(QueryCache.immutableProjection("messages", "id dst_transaction { id aborted }"));
+		assertFalse(QueryCache.immutableProjection("transactions", "id\nout_messages{id}"));
+		assertFalse(QueryCache.immutableProjection("blocks", "status"));
+		assertFalse(QueryCache.immutableProjection("accounts", "id"));
+		assertFalse(QueryCache.immutableProjection("messages", " "));
+	}
+
+	@Test
+	public void equal_queries_have_equal_keys() throws JsonProcessingException {
+		var order = new Net.OrderBy[]{new Net.OrderBy("lt", Net.SortDirection.ASC)};
+		String key = QueryCache.key("messages", json("{\"id\":{\"in\":[\"b\",\"a\"]}}"), "id  boc", order, 2L);
+		assertEquals(key, QueryCache.key("messages", json("{\"id\":{\"in\":[\"a\",\"b\"]}}"), " id boc ", order, 2L));
+		assertNotEquals(key, QueryCache.key("messages", json("{\"id\":{\"in\":[\"a\",\"b\"]}}"), "id", order, 2L));
+		assertNotEquals(key, QueryCache.key("messages", json("{\"id\":{\"in\":[\"a\",\"b\"]}}"), "id boc", null, 2L));
+		assertNotEquals(key, QueryCache.key("messages", json("{\"id\":{\"in\":[\"a\",\"b\"]}}"), "id boc", order, 3L));
+	}
+
+	@Test
+	public void least_recently_used_entries_are_evicted() throws JsonProcessingException {
+		var cache = QueryCache.create(100L, Duration.ofHours(1));
+		var row = new JsonNode[]{json("{\"id\":\"0123456789012345678901234567\"}")};
+		cache.put("a", row);
+		cache.put("b", row);
+		assertNotNull(cache.get("a"));
+		cache.put("c", row);
+		assertNull(cache.get("b"));
+		assertNotNull(cache.get("a"));
+		assertNotNull(cache.get("c"));
+		assertEquals(1L, cache.evictions());
+		assertTrue(cache.bytes() <= 100L);
+
+		// entry bigger than the whole cache is skipped
+		cache.put("d", new JsonNode[]{json("{\"boc\":\"" + "x".repeat(200) + "\"}")});
+		assertNull(cache.get("d"));
+		cache.clear();
+		assertEquals(0L, cache.bytes());
+	}
+
+	@Test
+	public void entries_expire_after_ttl() throws JsonProcessingException, InterruptedException {
+		var cache = QueryCache.create(1024L, Duration.ofMillis(20));
+		cache.put("a", new JsonNode[]{json("{\"id\":\"a\"}")});
+		assertNotNull(cache.get("a"));
+		Thread.sleep(50);
+		assertNull(cache.get("a"));
+		assertEquals(0L, cache.bytes());
+	}
+
+	@Test
+	public void size_and_ttl_should_be_positive() {
+		assertThrows(IllegalArgumentException.class, () -> QueryCache.create(0L, Duration.ofHours(1)));
+		assertThrows(IllegalArgumentException.class, () -> QueryCache.create(1L, Duration.ZERO));
+	}
+}
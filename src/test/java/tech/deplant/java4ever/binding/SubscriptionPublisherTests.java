@@ -0,0 +1,145 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class SubscriptionPublisherTests {
+
+	private static JsonNode event(int n) {
+		return JsonNodeFactory.instance.objectNode().set("result", JsonNodeFactory.instance.numberNode(n));
+	}
+
+	@Test
+	public void non_positive_request_fails_and_unsubscribes() {
+		var sdk = new FakeSdk(CompletableFuture.completedFuture(new Net.ResultOfSubscribeCollection(7L)));
+		var subscriber = new RecordingSubscriber();
+		sdk.publisher(4, SubscriptionPublisher.Overflow.DROP_OLDEST).subscribe(subscriber);
+		subscriber.subscription.request(0);
+		assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+		assertEquals(List.of(7L), sdk.unsubscribed);
+
+		// later cancel doesn't unsubscribe twice
+		subscriber.subscription.cancel();
+		assertEquals(List.of(7L), sdk.unsubscribed);
+	}
+
+	@Test
+	public void subscription_failed_before_creation_is_unsubscribed_on_creation() {
+		var handle = new CompletableFuture<Net.ResultOfSubscribeCollection>();
+		var sdk = new FakeSdk(handle);
+		var subscriber = new RecordingSubscriber();
+		sdk.publisher(4, SubscriptionPublisher.Overflow.DROP_OLDEST).subscribe(subscriber);
+		subscriber.subscription.request(-1);
+		assertNotNull(subscriber.error);
+		assertTrue(sdk.unsubscribed.isEmpty());
+		handle.complete(new Net.ResultOfSubscribeCollection(8L));
+		assertEquals(List.of(8L), sdk.unsubscribed);
+	}
+
+	@Test
+	public void overflow_fail_mode_fails_and_unsubscribes() {
+		var sdk = new FakeSdk(CompletableFuture.completedFuture(new Net.ResultOfSubscribeCollection(9L)));
+		var subscriber = new RecordingSubscriber();
+		var publisher = sdk.publisher(2, SubscriptionPublisher.Overflow.FAIL);
+		publisher.subscribe(subscriber);
+		for (int i = 0; i < 3; i++) {
+			sdk.consumer.accept(event(i));
+		}
+		var error = assertInstanceOf(EverSdkException.class, subscriber.error);
+		assertEquals(-429L, error.errorResponse().code());
+		assertEquals(1L, publisher.dropped());
+		assertEquals(List.of(9L), sdk.unsubscribed);
+		// events after failure are ignored
+		sdk.consumer.accept(event(3));
+		assertTrue(subscriber.events.isEmpty());
+	}
+
+	@Test
+	public void events_are_delivered_up_to_demand() {
+		var sdk = new FakeSdk(CompletableFuture.completedFuture(new Net.ResultOfSubscribeCollection(1L)));
+		var subscriber = new RecordingSubscriber();
+		var publisher = sdk.publisher(4, SubscriptionPublisher.Overflow.DROP_OLDEST);
+		publisher.subscribe(subscriber);
+		for (int i = 0; i < 6; i++) {
+			sdk.consumer.accept(event(i));
+		}
+		assertTrue(subscriber.events.isEmpty());
+		subscriber.subscription.request(3);
+		// two oldest events were dropped from the buffer of four
+		assertEquals(List.of(2, 3, 4), subscriber.events);
+		assertEquals(2L, publisher.dropped());
+		subscriber.subscription.cancel();
+		assertEquals(List.of(1L), sdk.unsubscribed);
+	}
+
+	@Test
+	public void second_subscriber_is_rejected() {
+		var sdk = new FakeSdk(new CompletableFuture<>());
+		var publisher = sdk.publisher(4, SubscriptionPublisher.Overflow.DROP_OLDEST);
+		publisher.subscribe(new RecordingSubscriber());
+		var second = new RecordingSubscriber();
+		publisher.subscribe(second);
+		assertInstanceOf(IllegalStateException.class, second.error);
+		assertEquals(1, sdk.subscribeCalls.get());
+	}
+
+	private static final class FakeSdk {
+		private final CompletableFuture<Net.ResultOfSubscribeCollection> handle;
+		private final List<Long> unsubscribed = new ArrayList<>();
+		private final AtomicInteger subscribeCalls = new AtomicInteger();
+		private Consumer<JsonNode> consumer;
+
+		private FakeSdk(CompletableFuture<Net.ResultOfSubscribeCollection> handle) {
+			this.handle = handle;
+		}
+
+		private SubscriptionPublisher publisher(int capacity, SubscriptionPublisher.Overflow overflow) {
+			return new SubscriptionPublisher(0, (ctx, consumer) -> {
+				this.subscribeCalls.incrementAndGet();
+				this.consumer = consumer;
+				return this.handle;
+			}, (ctx, result) -> this.unsubscribed.add(result.handle()), capacity, overflow, Runnable::run);
+		}
+	}
+
+	private static final class RecordingSubscriber implements Flow.Subscriber<SubscribeEvent> {
+		private final List<Integer> events = new ArrayList<>();
+		private Flow.Subscription subscription;
+		private Throwable error;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(SubscribeEvent item) {
+			this.events.add(item.result().asInt());
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.EverSdk;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class AdmissionControllerTests {
+
+	private static AdmissionController asyncWait(int maxInFlight, Map<String, Integer> perGroup) {
+		return new AdmissionController(new EverSdk.AdmissionLimits(EverSdk.AdmissionMode.ASYNC_WAIT,
+		                                                           maxInFlight,
+		                                                           perGroup,
+		                                                           0,
+		                                                           0L));
+	}
+
+	@Test
+	public void busy_group_does_not_hold_other_groups() throws Exception {
+		var admission = asyncWait(0, Map.of("net", 1));
+		assertTrue(admission.admit("net", () -> fail("admitted right away")));
+		var netSent = new CountDownLatch(1);
+		assertFalse(admission.admit("net", netSent::countDown));
+		// queued net request doesn't make crypto wait
+		assertTrue(admission.admit("crypto", () -> fail("admitted right away")));
+
+		admission.release("net");
+		assertTrue(netSent.await(5, TimeUnit.SECONDS));
+		assertEquals(0, admission.stats(0).queued());
+	}
+
+	@Test
+	public void queued_requests_of_group_are_sent_in_order() throws Exception {
+		var admission = asyncWait(0, Map.of("net", 1));
+		admission.admit("net", () -> fail("admitted right away"));
+		var first = new CountDownLatch(1);
+		var second = new CountDownLatch(1);
+		admission.admit("net", first::countDown);
+		admission.admit("net", second::countDown);
+		assertEquals(2, admission.stats(0).queued());
+
+		admission.release("net");
+		assertTrue(first.await(5, TimeUnit.SECONDS));
+		assertEquals(1L, second.getCount());
+		admission.release("net");
+		assertTrue(second.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void context_permit_is_given_to_any_waiting_group() throws Exception {
+		var admission = asyncWait(1, Map.of());
+		admission.admit("net", () -> fail("admitted right away"));
+		var cryptoSent = new CountDownLatch(1);
+		assertFalse(admission.admit("crypto", cryptoSent::countDown));
+		admission.release("net");
+		assertTrue(cryptoSent.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void app_object_answers_are_exempt() {
+		assertTrue(AdmissionController.exempt("client.resolve_app_request"));
+		assertFalse(AdmissionController.exempt("client.version"));
+		assertFalse(AdmissionController.exempt("net.query_collection"));
+	}
+}
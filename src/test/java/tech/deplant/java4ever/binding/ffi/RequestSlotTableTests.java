@@ -0,0 +1,127 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class RequestSlotTableTests {
+
+	@Test
+	public void capacity_is_rounded_up_to_power_of_two() {
+		assertEquals(1, new RequestSlotTable<TestEntry>(1).capacity());
+		assertEquals(4, new RequestSlotTable<TestEntry>(3).capacity());
+		assertEquals(4096, new RequestSlotTable<TestEntry>(4096).capacity());
+		assertThrows(IllegalArgumentException.class, () -> new RequestSlotTable<TestEntry>(0));
+	}
+
+	@Test
+	public void ids_wrap_around_and_skip_zero() {
+		var table = new RequestSlotTable<TestEntry>(4, Integer.MAX_VALUE - 1);
+		var ids = new ArrayList<Integer>();
+		for (int i = 0; i < 3; i++) {
+			var entry = new TestEntry();
+			ids.add(table.register(entry));
+			assertSame(entry, table.get(entry.requestId()));
+			table.remove(entry);
+		}
+		assertEquals(List.of(Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 1), ids);
+
+		table = new RequestSlotTable<>(4, -2);
+		var first = new TestEntry();
+		var second = new TestEntry();
+		assertEquals(-1, table.register(first));
+		assertEquals(1, table.register(second));
+		assertNull(table.get(0));
+	}
+
+	@Test
+	public void finished_request_is_not_found_after_slot_reuse() {
+		var table = new RequestSlotTable<TestEntry>(4);
+		var old = new TestEntry();
+		int oldId = table.register(old);
+		table.remove(old);
+		assertNull(table.get(oldId));
+
+		// next ids take other slots, fifth id takes the slot of the finished one
+		var entries = new ArrayList<TestEntry>();
+		for (int i = 0; i < 4; i++) {
+			var entry = new TestEntry();
+			table.register(entry);
+			entries.add(entry);
+		}
+		var reused = entries.get(3);
+		assertEquals(oldId & 3, reused.requestId() & 3);
+		assertNull(table.get(oldId));
+		assertSame(reused, table.get(reused.requestId()));
+
+		// late remove of the finished entry doesn't free the slot of the new one
+		table.remove(old);
+		assertSame(reused, table.get(reused.requestId()));
+		assertEquals(4, table.inFlight());
+	}
+
+	@Test
+	public void full_table_moves_requests_to_overflow() {
+		var table = new RequestSlotTable<TestEntry>(2);
+		var entries = new ArrayList<TestEntry>();
+		var ids = new HashSet<Integer>();
+		for (int i = 0; i < 10; i++) {
+			var entry = new TestEntry();
+			int id = table.register(entry);
+			assertNotEquals(0, id);
+			assertTrue(ids.add(id));
+			entries.add(entry);
+		}
+		assertEquals(10, table.inFlight());
+		assertEquals(8, table.overflowed());
+		// no ids are burned while table is full
+		assertEquals(10, entries.get(9).requestId());
+		for (var entry : entries) {
+			assertSame(entry, table.get(entry.requestId()));
+		}
+
+		for (var entry : entries.subList(2, 10)) {
+			table.remove(entry);
+			assertNull(table.get(entry.requestId()));
+		}
+		assertEquals(0, table.overflowed());
+		assertEquals(2, table.inFlight());
+
+		table.remove(entries.get(0));
+		table.remove(entries.get(1));
+		assertEquals(0, table.inFlight());
+		var entry = new TestEntry();
+		int id = table.register(entry);
+		assertSame(entry, table.get(id));
+		assertEquals(0, table.overflowed());
+	}
+
+	@Test
+	public void slot_is_not_taken_by_id_that_is_in_overflow() {
+		var table = new RequestSlotTable<TestEntry>(1);
+		var first = new TestEntry();
+		var second = new TestEntry();
+		table.register(first);
+		table.register(second);
+		assertEquals(1, table.overflowed());
+		table.remove(first);
+		// second still resolves from overflow while slot is free
+		assertSame(second, table.get(second.requestId()));
+		table.remove(second);
+		assertEquals(0, table.inFlight());
+		assertEquals(0, table.overflowed());
+	}
+
+	static final class TestEntry extends RequestSlotTable.Entry {
+	}
+}
@@ -0,0 +1,84 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class SerialExecutorTests {
+
+	@Test
+	public void tasks_run_in_order_of_submission() throws InterruptedException {
+		try (var pool = Executors.newFixedThreadPool(4)) {
+			var serial = new SerialExecutor(pool, 16);
+			var order = Collections.synchronizedList(new ArrayList<Integer>());
+			var done = new CountDownLatch(1000);
+			for (int i = 0; i < 1000; i++) {
+				int n = i;
+				serial.execute(() -> {
+					order.add(n);
+					done.countDown();
+				});
+			}
+			assertTrue(done.await(10, TimeUnit.SECONDS));
+			assertEquals(IntStream.range(0, 1000).boxed().toList(), order);
+		}
+	}
+
+	@Test
+	public void full_queue_blocks_submitter_until_handler_runs() throws InterruptedException {
+		var release = new CountDownLatch(1);
+		var serial = new SerialExecutor(Thread::startVirtualThread, 2);
+		serial.execute(() -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		serial.execute(() -> { });
+		assertEquals(2, serial.queued());
+
+		var submitted = new CountDownLatch(1);
+		var producer = Thread.startVirtualThread(() -> {
+			serial.execute(() -> { });
+			submitted.countDown();
+		});
+		assertFalse(submitted.await(200, TimeUnit.MILLISECONDS));
+		release.countDown();
+		assertTrue(submitted.await(5, TimeUnit.SECONDS));
+		producer.join();
+	}
+
+	@Test
+	public void rejected_drain_runs_on_caller_thread() {
+		var serial = new SerialExecutor(task -> {
+			throw new RejectedExecutionException("closed");
+		}, 4);
+		var threads = new ArrayList<Thread>();
+		serial.execute(() -> threads.add(Thread.currentThread()));
+		serial.execute(() -> { throw new IllegalStateException("failing task"); });
+		serial.execute(() -> threads.add(Thread.currentThread()));
+		assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), threads);
+		assertEquals(0, serial.queued());
+	}
+
+	@Test
+	public void capacity_should_be_positive() {
+		assertThrows(IllegalArgumentException.class, () -> new SerialExecutor(Runnable::run, 0));
+	}
+}
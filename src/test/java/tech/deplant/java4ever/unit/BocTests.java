@@ -0,0 +1,137 @@
+package tech.deplant.java4ever.unit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.Boc;
+import tech.deplant.java4ever.binding.EverSdk;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.boc.BagOfCells;
+import tech.deplant.java4ever.binding.boc.Cell;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class BocTests {
+
+	@BeforeAll
+	public static void loadSdk() {
+		TestEnv.loadEverSdk();
+	}
+
+	@Test
+	public void empty_cell_has_known_hash_and_boc() {
+		Cell empty = BagOfCells.fromBase64("te6ccgEBAQEAAgAAAA==");
+		assertEquals("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", empty.hashHex());
+		assertEquals(0, empty.depth());
+		assertEquals("te6ccgEBAQEAAgAAAA==", BagOfCells.toBase64(Cell.EMPTY));
+	}
+
+	@Test
+	public void hashes_and_depths_match_sdk() throws EverSdkException {
+		int ctxId = TestEnv.newContextEmpty();
+		var leaf = new Boc.BuilderOp.Cell(new Boc.BuilderOp[]{new Boc.BuilderOp.BitString("x{2D9_}")});
+		String boc = EverSdk.await(Boc.encodeBoc(ctxId, new Boc.BuilderOp[]{
+				new Boc.BuilderOp.Integer(32L, "0x12345678"),
+				new Boc.BuilderOp.Cell(new Boc.BuilderOp[]{new Boc.BuilderOp.Integer(7L, "-3"), leaf, leaf}),
+				leaf,
+				new Boc.BuilderOp.Address("0:ece57bcc6c530283becbbd8a3b24d3c5987cdddc3c8b7b33be6e4a6312490415")
+		}, null)).boc();
+
+		Cell root = BagOfCells.fromBase64(boc);
+		assertEquals(EverSdk.await(Boc.getBocHash(ctxId, boc)).hash(), root.hashHex());
+		assertEquals(EverSdk.await(Boc.getBocDepth(ctxId, boc)).depth().intValue(), root.depth());
+
+		for (var options : List.of(BagOfCells.Options.DEFAULT, new BagOfCells.Options(true, true))) {
+			byte[] written = BagOfCells.serialize(List.of(root), options);
+			String ownBoc = Base64.getEncoder().encodeToString(written);
+			assertEquals(root.hashHex(), EverSdk.await(Boc.getBocHash(ctxId, ownBoc)).hash());
+			assertEquals(root, BagOfCells.fromBytes(written));
+		}
+	}
+
+	@Test
+	public void serialized_boc_is_byte_equal_to_sdk_boc() throws EverSdkException {
+		int ctxId = TestEnv.newContextEmpty();
+		var first = new Boc.BuilderOp.Cell(new Boc.BuilderOp[]{new Boc.BuilderOp.Integer(8L, "1")});
+		var second = new Boc.BuilderOp.Cell(new Boc.BuilderOp[]{new Boc.BuilderOp.Integer(8L, "2"), first});
+		var third = new Boc.BuilderOp.Cell(new Boc.BuilderOp[]{new Boc.BuilderOp.Integer(8L, "3"), second, first});
+		// distinct references at every level and cells shared between branches
+		for (var builder : List.of(new Boc.BuilderOp[]{first, second, third},
+		                           new Boc.BuilderOp[]{new Boc.BuilderOp.Integer(16L, "7"), third, third, first},
+		                           new Boc.BuilderOp[]{new Boc.BuilderOp.BitString("x{2D9_}"), second, second})) {
+			String boc = EverSdk.await(Boc.encodeBoc(ctxId, builder, null)).boc();
+			assertEquals(boc, BagOfCells.toBase64(BagOfCells.fromBase64(boc)));
+		}
+
+		// same tree built without SDK
+		var one = Cell.of(new byte[]{1}, 8);
+		var two = Cell.of(new byte[]{2}, 8, one);
+		var three = Cell.of(new byte[]{3}, 8, two, one);
+		String boc = EverSdk.await(Boc.encodeBoc(ctxId, new Boc.BuilderOp[]{first, second, third}, null)).boc();
+		assertEquals(boc, BagOfCells.toBase64(Cell.of(new byte[0], 0, one, two, three)));
+	}
+
+	@Test
+	public void every_option_is_read_back() {
+		var shared = Cell.of(new byte[]{0x55}, 8);
+		var root = Cell.of(new byte[]{0x12, 0x34}, 16, Cell.of(new byte[]{0x01}, 8, shared), shared);
+		for (var options : List.of(BagOfCells.Options.DEFAULT,
+		                           new BagOfCells.Options(true, false),
+		                           new BagOfCells.Options(false, true),
+		                           new BagOfCells.Options(true, true))) {
+			byte[] written = BagOfCells.serialize(List.of(root), options);
+			int flags = written[4] & 0xFF;
+			assertEquals(options.index(), (flags & 0x80) != 0);
+			assertEquals(options.crc(), (flags & 0x40) != 0);
+			assertEquals(root, BagOfCells.fromBytes(written));
+			// shared cell is written once
+			assertEquals(3, written[6]);
+		}
+	}
+
+	@Test
+	public void corrupted_crc_is_rejected() {
+		byte[] written = BagOfCells.serialize(List.of(Cell.of(new byte[]{0x12}, 8)), new BagOfCells.Options(false, true));
+		written[written.length - 1] ^= 1;
+		assertThrows(IllegalArgumentException.class, () -> BagOfCells.fromBytes(written));
+	}
+
+	@Test
+	public void legacy_magics_are_read() {
+		var root = Cell.of(new byte[]{0x12, 0x34}, 16, Cell.of(new byte[]{0x01}, 8), Cell.EMPTY);
+		assertEquals(root, BagOfCells.fromBytes(legacy(root, false)));
+		assertEquals(root, BagOfCells.fromBytes(legacy(root, true)));
+	}
+
+	// indexed generic BOC rewritten with 68ff65f3 or acc3a728 header, those have no flags and no root list
+	private static byte[] legacy(Cell root, boolean crc) {
+		byte[] generic = BagOfCells.serialize(List.of(root), new BagOfCells.Options(true, false));
+		int refSize = generic[4] & 0x07;
+		int offsetSize = generic[5];
+		int headerSize = 6 + 3 * refSize + offsetSize;
+		var out = ByteBuffer.allocate(generic.length - refSize + (crc ? 4 : 0));
+		out.putInt(crc ? 0xacc3a728 : 0x68ff65f3);
+		out.put((byte) refSize);
+		out.put(generic, 5, headerSize - 5);
+		out.put(generic, headerSize + refSize, generic.length - headerSize - refSize);
+		if (crc) {
+			var checksum = new CRC32C();
+			checksum.update(out.array(), 0, out.position());
+			out.order(ByteOrder.LITTLE_ENDIAN).putInt((int) checksum.getValue());
+		}
+		return Arrays.copyOf(out.array(), out.position());
+	}
+}
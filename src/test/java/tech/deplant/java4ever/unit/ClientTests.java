@@ -1,5 +1,6 @@
 package tech.deplant.java4ever.unit;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.yegor256.WeAreOnline;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -11,13 +12,16 @@ import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tech.deplant.java4ever.binding.Client;
+import tech.deplant.java4ever.binding.Crypto;
 import tech.deplant.java4ever.binding.EverSdk;
 import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.JsonContext;
 import tech.deplant.java4ever.binding.loader.DefaultLoader;
 
 import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @Execution(ExecutionMode.CONCURRENT)
@@ -51,6 +55,18 @@ public class ClientTests {
 		assertEquals(DefaultLoader.EVER_SDK_VERSION, Client.getApiReference(ctxId).get().api().get("version").asText());
 	}
 
+	@Test
+	public void generated_codecs_keep_sdk_field_names() throws JsonProcessingException {
+		var mapper = JsonContext.SDK_JSON_MAPPER();
+		var keys = new Crypto.KeyPair("aa", "bb");
+		assertEquals("{\"public\":\"aa\",\"secret\":\"bb\"}", mapper.writeValueAsString(keys));
+		assertEquals(keys, mapper.readValue("{\"secret\":\"bb\",\"public\":\"aa\"}", Crypto.KeyPair.class));
+		assertEquals("{\"dictionary\":1}",
+		             mapper.writeValueAsString(new Crypto.ParamsOfMnemonicWords(Crypto.MnemonicDictionary.English)));
+		assertThrows(JsonProcessingException.class,
+		             () -> mapper.readValue("{\"public\":\"aa\",\"unknown\":0}", Crypto.KeyPair.class));
+	}
+
 //	@Test
 //	public void api_reference_memory_consumption_should_be_stable() throws EverSdkException, InterruptedException {
 //		int ctxId = TestEnv.newContextEmpty();
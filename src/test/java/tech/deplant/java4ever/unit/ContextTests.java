@@ -18,7 +18,12 @@ import tech.deplant.java4ever.binding.loader.AbsolutePathLoader;
 import tech.deplant.java4ever.binding.loader.DefaultLoader;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -73,4 +78,110 @@ public class ContextTests {
 		assertEquals(DefaultLoader.BINDING_LIBRARY_NAME, EverSdk.await(Client.config(ctxId2)).binding().library());
 	}
 
+	@Test
+	public void native_request_buffers_are_reused_between_calls() throws EverSdkException {
+		int ctxId = TestEnv.newContextEmpty();
+		for (int i = 0; i < 10; i++) {
+			EverSdk.await(Client.version(ctxId));
+		}
+		var stats = EverSdk.nativeMemoryStats();
+		assertTrue(stats.poolHits() > 0);
+		assertTrue(stats.bytesReserved() > 0);
+		assertTrue(stats.internedFunctionNames() > 0);
+	}
+
+	@Test
+	public void fail_fast_admission_rejects_requests_over_group_limit() throws Exception {
+		int ctxId = TestEnv.newContextEmpty();
+		var keys = EverSdk.await(Crypto.generateRandomSignKeys(ctxId));
+		var signingStarted = new CountDownLatch(1);
+		var signingAllowed = new CountDownLatch(1);
+		long boxHandle = EverSdk.await(Crypto.registerSigningBox(ctxId, new AppSigningBox() {
+			@Override
+			public String getPublicKey() {
+				return keys.publicKey();
+			}
+
+			@Override
+			public String sign(String unsigned) {
+				signingStarted.countDown();
+				try {
+					signingAllowed.await();
+					return EverSdk.await(Crypto.sign(ctxId, unsigned, keys)).signature();
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}
+		})).handle();
+
+		// limits are set after registration, so only signing requests are counted
+		EverSdk.setAdmissionLimits(ctxId,
+		                           new EverSdk.AdmissionLimits(EverSdk.AdmissionMode.FAIL_FAST,
+		                                                       0,
+		                                                       Map.of("crypto", 1),
+		                                                       0,
+		                                                       0L));
+		var first = Crypto.signingBoxSign(ctxId, boxHandle, "te6ccgEBAQEAAgAAAA==");
+		assertTrue(signingStarted.await(10, TimeUnit.SECONDS));
+		var ex = assertThrows(EverSdkException.class,
+		                      () -> EverSdk.await(Crypto.signingBoxSign(ctxId, boxHandle, "te6ccgEBAQEAAgAAAA==")));
+		assertEquals(-429, ex.errorResponse().code());
+		assertEquals(1, EverSdk.admissionStats(ctxId).inFlightPerGroup().get("crypto"));
+		assertEquals(1, EverSdk.admissionStats(ctxId).rejected());
+
+		signingAllowed.countDown();
+		assertNotNull(EverSdk.await(first).signature());
+	}
+
+	@Test
+	public void app_object_callbacks_run_on_context_callback_executor() throws EverSdkException {
+		int ctxId = TestEnv.newContextEmpty();
+		var dispatched = new AtomicInteger();
+		EverSdk.setCallbackExecutor(ctxId, task -> {
+			dispatched.incrementAndGet();
+			Thread.ofPlatform().name("test-callbacks").start(task);
+		});
+		var keys = EverSdk.await(Crypto.generateRandomSignKeys(ctxId));
+		var signingThread = new AtomicReference<String>();
+		long boxHandle = EverSdk.await(Crypto.registerSigningBox(ctxId, new AppSigningBox() {
+			@Override
+			public String getPublicKey() {
+				return keys.publicKey();
+			}
+
+			@Override
+			public String sign(String unsigned) {
+				signingThread.set(Thread.currentThread().getName());
+				try {
+					return EverSdk.await(Crypto.sign(ctxId, unsigned, keys)).signature();
+				} catch (EverSdkException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		})).handle();
+		assertNotNull(EverSdk.await(Crypto.signingBoxSign(ctxId, boxHandle, "te6ccgEBAQEAAgAAAA==")).signature());
+		assertEquals("test-callbacks", signingThread.get());
+		assertTrue(dispatched.get() > 0);
+	}
+
+	@Test
+	public void context_pool_spreads_calls_and_pins_handles() throws EverSdkException {
+		try (var pool = ContextPool.create(new Client.ClientConfig(null, null, null, null, null, null, null),
+		                                   2,
+		                                   ContextPool.Dispatch.ROUND_ROBIN)) {
+			int[] ids = pool.contextIds();
+			assertEquals(2, ids.length);
+			assertNotEquals(ids[0], ids[1]);
+			assertNotEquals(pool.next(), pool.next());
+			assertNotNull(EverSdk.await(pool.call(Client::version)).version());
+
+			var keys = EverSdk.await(pool.call(Crypto::generateRandomSignKeys));
+			var box = EverSdk.await(pool.pin(ctx -> Crypto.getSigningBox(ctx, keys)));
+			assertTrue(box.contextId() == ids[0] || box.contextId() == ids[1]);
+			assertEquals(keys.publicKey(),
+			             EverSdk.await(box.call((ctx, handle) -> Crypto.signingBoxGetPublicKey(ctx, handle)))
+			                    .pubkey());
+		}
+	}
+
 }
@@ -15,12 +15,18 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tech.deplant.java4ever.binding.*;
+import tech.deplant.java4ever.binding.crypto.Ed25519;
+import tech.deplant.java4ever.binding.crypto.Hashes;
 
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Random;
 import java.util.concurrent.ExecutionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @Execution(ExecutionMode.CONCURRENT)
@@ -124,4 +130,42 @@ public class CryptoTests {
 		System.out.println(EverSdk.await(Crypto.encryptionBoxGetInfo(ctxId, boxHandle)).info());
 	}
 
+
+	@Test
+	public void sync_call_returns_completed_future_and_reports_errors() throws EverSdkException {
+		int ctxId = TestEnv.newContext();
+		var future = Crypto.sha256(ctxId, "TWVzc2FnZSB0byBoYXNoIHdpdGggc2hhIDI1Ng==");
+		assertEquals(true, future.isDone());
+		assertEquals("16fd057308dd358d5a9b3ba2de766b2dfd5e308478fc1f7ba5988db2493852f5", EverSdk.await(future).hash());
+		assertThrows(EverSdkException.class, () -> EverSdk.await(Crypto.sha256(ctxId, "not a base64!")));
+	}
+
+	@Test
+	public void local_ed25519_signs_like_sdk() throws EverSdkException {
+		int ctxId = TestEnv.newContextEmpty();
+		var keys = EverSdk.await(Crypto.generateRandomSignKeys(ctxId));
+		var local = Ed25519.of(keys);
+		String unsigned = "TWVzc2FnZSB0byBoYXNoIHdpdGggc2hhIDI1Ng==";
+		var signed = EverSdk.await(Crypto.sign(ctxId, unsigned, keys));
+		assertEquals(signed, local.signAttached(unsigned));
+		assertEquals(EverSdk.await(Crypto.naclSignDetached(ctxId, unsigned, keys.secretKey() + keys.publicKey()))
+		                    .signature(), local.signDetached(unsigned));
+		assertEquals(unsigned, Ed25519.verifySignature(signed.signed(), keys.publicKey()));
+		assertThrows(EverSdkException.class, () -> Ed25519.verifySignature(signed.signed(), "00".repeat(32)));
+	}
+
+	@Test
+	public void local_hashes_match_sdk_on_random_data() throws EverSdkException {
+		int ctxId = TestEnv.newContextEmpty();
+		var random = new Random(42);
+		for (int i = 0; i < 200; i++) {
+			byte[] data = new byte[random.nextInt(i < 100 ? 64 : 4096)];
+			random.nextBytes(data);
+			String base64 = Base64.getEncoder().encodeToString(data);
+			assertEquals(EverSdk.await(Crypto.sha256(ctxId, base64)).hash(), Hashes.sha256Hex(base64));
+			assertEquals(EverSdk.await(Crypto.sha512(ctxId, base64)).hash(), Hashes.sha512Hex(base64));
+			assertEquals(EverSdk.await(Crypto.tonCrc16(ctxId, base64)).crc().intValue(), Hashes.crc16(ByteBuffer.wrap(data)));
+		}
+	}
+
 }
@@ -0,0 +1,90 @@
+package tech.deplant.java4ever.unit;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.Crypto;
+import tech.deplant.java4ever.binding.LocalSigningBox;
+import tech.deplant.java4ever.binding.crypto.Ed25519;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class Ed25519Tests {
+
+	// RFC 8032, 7.1, tests 1 and 2
+	private static final Crypto.KeyPair KEYS_1 = new Crypto.KeyPair(
+			"d75a980182b10ab7d54bfed3c964073a0ee172f3daa62325af021a68f707511a",
+			"9d61b19deffd5a60ba844af492ec2cc44449c5697b326919703bac031cae7f60");
+	private static final String SIGNATURE_1 = "e5564300c360ac729086e2cc806e828a84877f1eb8e5d974d873e065224901555fb8821590a33bacc61e39701cf9b46bd25bf5f0595bbe24655141438e7a100b";
+	private static final Crypto.KeyPair KEYS_2 = new Crypto.KeyPair(
+			"3d4017c3e843895a92b70aa74d1b7ebc9c982ccf2ec4968cc0cd55f12af4660c",
+			"4ccd089b28ff96da9db6c346ec114e0f5b8a319f35aba624da8cf6ed4fb8a6fb");
+	private static final String SIGNATURE_2 = "92a009a9f0d4cab8720e820b5f642540a2b27b5416503f8fb3762223ebdb69da085ac1e43e15996e458f3613d0f11d8c387b2eaeb4302aeeb00d291612bb0c00";
+
+	@Test
+	public void signs_rfc_vectors() {
+		assertEquals(SIGNATURE_1, Ed25519.of(KEYS_1).signDetached(""));
+		assertEquals(SIGNATURE_2, Ed25519.of(KEYS_2).signDetached(Base64.getEncoder().encodeToString(new byte[]{0x72})));
+	}
+
+	@Test
+	public void public_key_of_another_secret_is_rejected() {
+		assertThrows(IllegalArgumentException.class,
+		             () -> Ed25519.of(new Crypto.KeyPair(KEYS_2.publicKey(), KEYS_1.secretKey())));
+		assertThrows(IllegalArgumentException.class,
+		             () -> Ed25519.of(new Crypto.KeyPair("00".repeat(32), KEYS_1.secretKey())));
+		assertThrows(IllegalArgumentException.class, () -> Ed25519.of(new Crypto.KeyPair(KEYS_1.publicKey(), "00")));
+		// NaCl secret carries its public key as well
+		assertThrows(IllegalArgumentException.class,
+		             () -> Ed25519.ofNaclSecret(KEYS_1.secretKey() + KEYS_2.publicKey()));
+		assertEquals(KEYS_1.publicKey(), Ed25519.ofNaclSecret(KEYS_1.secretKey() + KEYS_1.publicKey()).publicKey());
+	}
+
+	@Test
+	public void verify_all_keeps_order_of_signatures() {
+		var hex = HexFormat.of();
+		var signer = Ed25519.of(KEYS_2);
+		var signatures = new ArrayList<Ed25519.SignedMessage>();
+		for (int i = 0; i < 100; i++) {
+			byte[] message = new byte[]{(byte) i};
+			byte[] signature = signer.sign(message);
+			if (i % 3 == 0) {
+				signature[0] ^= 1;
+			}
+			signatures.add(new Ed25519.SignedMessage(hex.parseHex(KEYS_2.publicKey()), message, signature));
+		}
+		// malformed public key and signature are just invalid
+		signatures.add(new Ed25519.SignedMessage(new byte[3], new byte[0], hex.parseHex(SIGNATURE_1)));
+		signatures.add(new Ed25519.SignedMessage(hex.parseHex(KEYS_1.publicKey()), new byte[0], new byte[10]));
+		signatures.add(new Ed25519.SignedMessage(hex.parseHex(KEYS_1.publicKey()), new byte[0], hex.parseHex(SIGNATURE_1)));
+
+		boolean[] valid = Ed25519.verifyAll(signatures);
+		assertEquals(signatures.size(), valid.length);
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i % 3 != 0, valid[i]);
+		}
+		assertFalse(valid[100]);
+		assertFalse(valid[101]);
+		assertTrue(valid[102]);
+	}
+
+	@Test
+	public void local_signing_box_signs_with_its_keys() {
+		var box = new LocalSigningBox(KEYS_1);
+		assertEquals(KEYS_1.publicKey(), box.getPublicKey());
+		assertEquals(SIGNATURE_1, box.sign(""));
+		assertThrows(IllegalArgumentException.class,
+		             () -> new LocalSigningBox(new Crypto.KeyPair(KEYS_2.publicKey(), KEYS_1.secretKey())));
+	}
+}
@@ -0,0 +1,60 @@
+package tech.deplant.java4ever.unit;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.gql.AccountFields;
+import tech.deplant.java4ever.binding.gql.QueryExecutor;
+import tech.deplant.java4ever.binding.gql.SubscriptionExecutor;
+import tech.deplant.java4ever.binding.gql.TransactionFields;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class GqlFieldsTests {
+
+	@Test
+	public void nested_selection_is_rendered_in_order() {
+		var fields = TransactionFields.select()
+		                              .id()
+		                              .lt()
+		                              .inMessage(m -> m.id().srcTransaction(t -> t.id().aborted()))
+		                              .outMessages(m -> m.id());
+		assertEquals("id lt in_message { id src_transaction { id aborted } } out_messages { id }",
+		             fields.toGraphQL());
+	}
+
+	@Test
+	public void selection_is_passed_to_query() {
+		var query = QueryExecutor.transactions(TransactionFields.select().id().inMessage(m -> m.id()),
+		                                       null,
+		                                       null,
+		                                       1,
+		                                       null,
+		                                       null,
+		                                       null).toGraphQLQuery();
+		assertTrue(query.contains("id in_message { id }"));
+	}
+
+	@Test
+	public void object_without_fields_is_rejected() {
+		var error = assertThrows(IllegalArgumentException.class,
+		                         () -> TransactionFields.select().id().inMessage(m -> m));
+		assertTrue(error.getMessage().contains("in_message"));
+	}
+
+	@Test
+	public void empty_selection_is_rejected_by_executors() {
+		assertThrows(IllegalArgumentException.class,
+		             () -> QueryExecutor.accounts(AccountFields.select(), null, null, 1, null, null, null));
+		assertThrows(IllegalArgumentException.class,
+		             () -> SubscriptionExecutor.transactions(TransactionFields.select(), null, null));
+		assertThrows(IllegalArgumentException.class, () -> AccountFields.select().toFieldsTree());
+		assertEquals("id", AccountFields.select().id().toFieldsTree());
+	}
+}
@@ -0,0 +1,139 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.JsonContext;
+import tech.deplant.java4ever.binding.gql.Account;
+import tech.deplant.java4ever.binding.gql.AccountFields;
+import tech.deplant.java4ever.binding.gql.GqlClient;
+import tech.deplant.java4ever.binding.gql.GqlHttpClient;
+import tech.deplant.java4ever.binding.gql.HttpRequestHandle;
+import tech.deplant.java4ever.binding.gql.QueryExecutor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class GqlHttpClientTests {
+
+	private static final String RESPONSE = "{\"data\":{\"accounts\":[{\"id\":\"0:01\",\"balance\":\"0x10\"}]}}";
+	private static final AtomicInteger requests = new AtomicInteger();
+
+	private static HttpServer server;
+	private static String endpoint;
+
+	// stub GraphQL endpoint: gzipped response at /graphql, HTTP 500 at /broken
+	@BeforeAll
+	public static void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/graphql", exchange -> {
+			requests.incrementAndGet();
+			exchange.getRequestBody().readAllBytes();
+			var compressed = new ByteArrayOutputStream();
+			try (var gzip = new GZIPOutputStream(compressed)) {
+				gzip.write(RESPONSE.getBytes(StandardCharsets.UTF_8));
+			}
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+			exchange.sendResponseHeaders(200, compressed.size());
+			try (var body = exchange.getResponseBody()) {
+				compressed.writeTo(body);
+			}
+		});
+		server.createContext("/broken", exchange -> {
+			exchange.getRequestBody().readAllBytes();
+			exchange.sendResponseHeaders(500, -1);
+			exchange.close();
+		});
+		server.start();
+		endpoint = "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	@AfterAll
+	public static void stopServer() {
+		server.stop(0);
+	}
+
+	@Test
+	public void shared_client_decodes_gzip_and_parses_json() throws ExecutionException, InterruptedException {
+		var client = GqlHttpClient.shared(endpoint + "/graphql");
+		assertSame(client, GqlHttpClient.shared(endpoint + "/graphql"));
+		var response = client.queryAsync("accounts { id balance }").get();
+		assertEquals("0x10", response.get("data").get("accounts").get(0).get("balance").asText());
+	}
+
+	@Test
+	public void request_handle_reuses_shared_client() throws IOException, InterruptedException, ExecutionException {
+		var first = HttpRequestHandle.ofGraphQL(endpoint + "/graphql", "accounts { id }", HttpClient.Version.HTTP_1_1);
+		var second = HttpRequestHandle.ofGraphQL(endpoint + "/graphql", "accounts { id }", HttpClient.Version.HTTP_1_1);
+		assertSame(first.client(), second.client());
+		assertEquals(RESPONSE, first.send().body());
+		assertEquals("0:01", second.sendJsonAsync().get().get("data").get("accounts").get(0).get("id").asText());
+		assertTrue(requests.get() >= 2);
+	}
+
+	@Test
+	public void http_error_fails_future_with_sdk_exception() {
+		var client = GqlHttpClient.builder(endpoint + "/broken").build();
+		var ex = assertThrows(ExecutionException.class, () -> client.queryAsync("accounts { id }").get());
+		assertInstanceOf(EverSdkException.class, ex.getCause());
+	}
+
+	@Test
+	public void client_with_single_thread_executor_parses_responses() throws Exception {
+		var executor = Executors.newSingleThreadExecutor();
+		try {
+			var client = GqlHttpClient.builder(endpoint + "/graphql").executor(executor).build();
+			var response = client.queryAsync("accounts { id }").get(10, TimeUnit.SECONDS);
+			assertEquals("0:01", response.get("data").get("accounts").get(0).get("id").asText());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void gql_client_maps_collection_to_records() throws ExecutionException, InterruptedException {
+		var client = GqlClient.ofHttp(GqlHttpClient.shared(endpoint + "/graphql"));
+		var query = QueryExecutor.accounts(AccountFields.select().id().balance(), null, null, 1, null, null, null);
+		var accounts = client.query(query, Account.class).get();
+		assertEquals(1, accounts.size());
+		assertEquals("0:01", accounts.get(0).id());
+		assertEquals("0x10", accounts.get(0).balance());
+	}
+
+	@Test
+	public void query_template_is_cached_and_variables_are_json() throws JsonProcessingException {
+		var first = QueryExecutor.accounts("id", null, null, 10, null, null, null);
+		var second = QueryExecutor.accounts("id", null, null, 20, null, null, null);
+		assertSame(first.template(), second.template());
+		assertEquals("query($limit: Int){accounts(limit: $limit){id}}", first.template().document());
+		assertEquals("{\"limit\":20}", second.variablesJson());
+		// inline arguments don't reconfigure shared mapper
+		first.addToQuery("timeout", Map.of("seconds", 1));
+		assertEquals("{\"a\":1}", JsonContext.ABI_JSON_MAPPER().writeValueAsString(Map.of("a", 1)));
+	}
+}
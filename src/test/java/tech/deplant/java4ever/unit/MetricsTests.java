@@ -0,0 +1,69 @@
+package tech.deplant.java4ever.unit;
+
+import com.yegor256.WeAreOnline;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.Client;
+import tech.deplant.java4ever.binding.Crypto;
+import tech.deplant.java4ever.binding.EverSdk;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.metrics.LatencyHistogram;
+import tech.deplant.java4ever.binding.metrics.RecordingMetrics;
+import tech.deplant.java4ever.binding.metrics.RequestMetrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+@ExtendWith(WeAreOnline.class)
+public class MetricsTests {
+
+	@BeforeAll
+	public static void loadSdk() {
+		TestEnv.loadEverSdk();
+	}
+
+	@Test
+	public void histogram_percentiles_are_within_bucket_precision() {
+		var histogram = new LatencyHistogram();
+		for (long i = 1; i <= 100_000; i++) {
+			histogram.record(i);
+		}
+		assertEquals(100_000, histogram.count());
+		assertEquals(100_000, histogram.max());
+		assertEquals(50_000.5d, histogram.mean(), 0.001d);
+		assertEquals(50_000d, histogram.valueAtPercentile(50.0), 50_000d * 0.032d);
+		assertEquals(99_000d, histogram.valueAtPercentile(99.0), 99_000d * 0.032d);
+		assertEquals(100_000, histogram.valueAtPercentile(100.0));
+	}
+
+	@Test
+	public void recording_metrics_collect_latencies_and_errors_per_function() throws EverSdkException {
+		var metrics = new RecordingMetrics();
+		EverSdk.setMetrics(metrics);
+		try {
+			int ctxId = TestEnv.newContextEmpty();
+			EverSdk.await(Client.version(ctxId));
+			EverSdk.await(Crypto.sha256(ctxId, "TWVzc2FnZSB0byBoYXNoIHdpdGggc2hhIDI1Ng=="));
+			assertThrows(EverSdkException.class, () -> EverSdk.await(Crypto.sha256(ctxId, "not a base64!")));
+
+			var version = metrics.function(ctxId, "client.version");
+			assertEquals(1, version.finishedNanos().count());
+			assertEquals(1, version.firstUpcallNanos().count());
+			assertTrue(version.responseBytes().max() > 0);
+			assertEquals(0, version.inFlight());
+
+			var sha256 = metrics.function(ctxId, "crypto.sha256");
+			assertEquals(2, sha256.finishedNanos().count());
+			assertEquals(1, sha256.errorCounts().values().stream().mapToLong(Long::longValue).sum());
+			assertEquals(0, sha256.inFlight());
+		} finally {
+			EverSdk.setMetrics(RequestMetrics.NOOP);
+		}
+	}
+}
@@ -11,13 +11,24 @@ import tech.deplant.java4ever.binding.EverSdk;
 import tech.deplant.java4ever.binding.EverSdkException;
 import tech.deplant.java4ever.binding.JsonContext;
 import tech.deplant.java4ever.binding.Net;
+import tech.deplant.java4ever.binding.PrefetchingIterator;
+import tech.deplant.java4ever.binding.ResumeStateStore;
+import tech.deplant.java4ever.binding.SubscribeEvent;
+import tech.deplant.java4ever.binding.SubscriptionPublisher;
 import tech.deplant.java4ever.binding.ffi.EverSdkSubscription;
 import tech.deplant.java4ever.binding.loader.AbsolutePathLoader;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @Execution(ExecutionMode.CONCURRENT)
@@ -60,4 +71,60 @@ public class SubscribeTests {
 		Net.unsubscribe(ctxId, new Net.ResultOfSubscribeCollection(handle));
 
 	}
+
+	@Test
+	@OnlineMeans(url = TestEnv.NODESE_URL, connectTimeout = 500, readTimeout = 1500)
+	public void publisher_creates_and_cancels_subscription() throws ExecutionException, InterruptedException, TimeoutException {
+		int ctxId = TestEnv.newContext();
+		var publisher = SubscriptionPublisher.ofCollection(ctxId,
+		                                                   "blocks",
+		                                                   JsonContext.SDK_JSON_MAPPER().valueToTree(Map.of()),
+		                                                   "id",
+		                                                   16,
+		                                                   SubscriptionPublisher.Overflow.DROP_OLDEST);
+		publisher.subscribe(new Flow.Subscriber<>() {
+			private Flow.Subscription subscription;
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				this.subscription = subscription;
+				subscription.request(1);
+			}
+
+			@Override
+			public void onNext(SubscribeEvent item) {
+				this.subscription.cancel();
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				logger.log(System.Logger.Level.ERROR, throwable.toString());
+			}
+
+			@Override
+			public void onComplete() {
+			}
+		});
+		assertTrue(publisher.handle().get(30, TimeUnit.SECONDS).handle() > 0);
+		assertEquals(0, publisher.dropped());
+	}
+
+	@Test
+	@OnlineMeans(url = TestEnv.NODESE_URL, connectTimeout = 500, readTimeout = 1500)
+	public void prefetching_iterator_pages_blocks_and_saves_resume_state() throws EverSdkException, IOException {
+		int ctxId = TestEnv.newContext();
+		long now = System.currentTimeMillis() / 1000L;
+		var store = ResumeStateStore.inMemory();
+		var options = PrefetchingIterator.Options.of(5L, 2).withStore(store, 1);
+		long count;
+		try (var blocks = PrefetchingIterator.ofBlocks(ctxId,
+		                                               new Net.ParamsOfCreateBlockIterator(now - 600L, now, null, "id"),
+		                                               options)) {
+			count = blocks.stream().limit(12).count();
+		}
+		// quiet network may have less than a page of blocks, then there's nothing to check
+		assumeTrue(count > 5, "Less than a page of blocks in the last 10 minutes: " + count);
+		// first page is fully consumed, so its state is saved
+		assertNotNull(store.load());
+	}
 }
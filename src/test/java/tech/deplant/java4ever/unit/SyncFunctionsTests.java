@@ -0,0 +1,110 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.JsonContext;
+import tech.deplant.java4ever.binding.generator.jtype.SdkFunction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Functions generated with {@code EverSdk.sync()} run on the caller's thread and get no upcalls,
+ * so they must not take app objects, callbacks or handles of app object boxes.
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class SyncFunctionsTests {
+
+	// handles that may point to boxes implemented by app objects
+	private static final Set<String> APP_OBJECT_HANDLES = Set.of("crypto.SigningBoxHandle",
+	                                                             "crypto.EncryptionBoxHandle",
+	                                                             "crypto.CryptoBoxHandle",
+	                                                             "debot.DebotHandle");
+
+	private static final Map<String, JsonNode> functions = new HashMap<>();
+	private static final Map<String, JsonNode> types = new HashMap<>();
+
+	@BeforeAll
+	public static void readApi() throws IOException {
+		try (InputStream api = SyncFunctionsTests.class.getClassLoader().getResourceAsStream("api.json")) {
+			assertNotNull(api, "api.json isn't found in test resources");
+			for (JsonNode module : JsonContext.SDK_JSON_MAPPER().readTree(api).get("modules")) {
+				String moduleName = module.get("name").asText();
+				module.get("functions").forEach(f -> functions.put(moduleName + "." + f.get("name").asText(), f));
+				module.get("types").forEach(t -> types.put(moduleName + "." + t.get("name").asText(), t));
+			}
+		}
+	}
+
+	@Test
+	public void sync_functions_exist_in_api() {
+		for (String function : SdkFunction.SYNC_FUNCTIONS) {
+			assertTrue(functions.containsKey(function), function + " isn't in api.json");
+		}
+	}
+
+	@Test
+	public void sync_functions_take_no_app_objects_or_callbacks() {
+		for (String function : SdkFunction.SYNC_FUNCTIONS) {
+			var params = functions.get(function).get("params");
+			// first param is the context, the only other allowed one is ParamsOf... struct
+			for (int i = 1; i < params.size(); i++) {
+				assertEquals("Ref", params.get(i).get("type").asText(), function + " takes " + params.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void sync_functions_take_no_app_object_handles() {
+		for (String function : SdkFunction.SYNC_FUNCTIONS) {
+			var handles = new HashSet<String>();
+			collectHandles(functions.get(function).get("params"), new HashSet<>(), handles);
+			assertTrue(handles.isEmpty(), function + " params contain " + handles);
+		}
+	}
+
+	@Test
+	public void sync_functions_do_not_read_boc_cache() {
+		// these modules are async in EVER-SDK, tc_request_sync would block_on them
+		for (String function : SdkFunction.SYNC_FUNCTIONS) {
+			assertFalse(function.startsWith("boc.") || function.startsWith("abi."), function + " is async in SDK");
+		}
+	}
+
+	@Test
+	public void signer_is_recognized_as_app_object_handle() {
+		var handles = new HashSet<String>();
+		collectHandles(functions.get("abi.encode_message_body").get("params"), new HashSet<>(), handles);
+		assertTrue(handles.contains("crypto.SigningBoxHandle"));
+	}
+
+	// walks references of the type tree, every referenced type is visited once
+	private static void collectHandles(JsonNode node, Set<String> visited, Set<String> handles) {
+		if (node.isObject()) {
+			if ("Ref".equals(node.path("type").asText())) {
+				String ref = node.path("ref_name").asText();
+				if (APP_OBJECT_HANDLES.contains(ref)) {
+					handles.add(ref);
+				}
+				if (types.containsKey(ref) && visited.add(ref)) {
+					collectHandles(types.get(ref), visited, handles);
+				}
+			}
+			node.elements().forEachRemaining(child -> collectHandles(child, visited, handles));
+		} else if (node.isArray()) {
+			node.elements().forEachRemaining(child -> collectHandles(child, visited, handles));
+		}
+	}
+}